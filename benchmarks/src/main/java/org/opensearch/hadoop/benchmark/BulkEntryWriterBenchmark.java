@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.hadoop.cfg.ConfigurationOptions;
+import org.opensearch.hadoop.cfg.PropertiesSettings;
+import org.opensearch.hadoop.cfg.Settings;
+import org.opensearch.hadoop.mr.security.HadoopUserProvider;
+import org.opensearch.hadoop.rest.InitializationUtils;
+import org.opensearch.hadoop.serialization.JdkBytesConverter;
+import org.opensearch.hadoop.serialization.MapFieldExtractor;
+import org.opensearch.hadoop.serialization.builder.JdkValueWriter;
+import org.opensearch.hadoop.serialization.bulk.BulkCommands;
+import org.opensearch.hadoop.serialization.bulk.BulkEntryWriter;
+import org.opensearch.hadoop.util.BytesArray;
+import org.opensearch.hadoop.util.BytesRef;
+import org.opensearch.hadoop.util.ClusterInfo;
+import org.opensearch.hadoop.util.OpenSearchMajorVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization of a document into its bulk entry (action header and body) through the templated bulk command.
+ * <ul>
+ *     <li>{@code index} - plain index operation, id extracted from the document</li>
+ *     <li>{@code update} - partial document update</li>
+ *     <li>{@code update-script} - scripted update with parameters extracted from the document</li>
+ *     <li>{@code upsert-script} - scripted upsert, the document being used as the upsert body</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkEntryWriterBenchmark {
+
+    @Param({ "index", "update", "update-script", "upsert-script" })
+    public String operation;
+
+    private List<Map<String, Object>> docs;
+    private BulkEntryWriter writer;
+    private BytesArray scratch;
+    private int next;
+
+    @Setup
+    public void setup() {
+        docs = Fixtures.documents(1000);
+        scratch = new BytesArray(4096);
+
+        Settings settings = new PropertiesSettings();
+        settings.setInternalClusterInfo(ClusterInfo.unnamedLatest());
+        settings.setResourceWrite(Fixtures.INDEX);
+        InitializationUtils.setValueWriterIfNotSet(settings, JdkValueWriter.class, null);
+        InitializationUtils.setFieldExtractorIfNotSet(settings, MapFieldExtractor.class, null);
+        InitializationUtils.setBytesConverterIfNeeded(settings, JdkBytesConverter.class, null);
+        InitializationUtils.setUserProviderIfNotSet(settings, HadoopUserProvider.class, null);
+        settings.setProperty(ConfigurationOptions.OPENSEARCH_MAPPING_ID, "order_id");
+
+        if ("index".equals(operation)) {
+            settings.setProperty(ConfigurationOptions.OPENSEARCH_WRITE_OPERATION, ConfigurationOptions.OPENSEARCH_OPERATION_INDEX);
+        } else if ("update".equals(operation)) {
+            settings.setProperty(ConfigurationOptions.OPENSEARCH_WRITE_OPERATION, ConfigurationOptions.OPENSEARCH_OPERATION_UPDATE);
+        } else {
+            settings.setProperty(ConfigurationOptions.OPENSEARCH_WRITE_OPERATION, "upsert-script".equals(operation) ?
+                    ConfigurationOptions.OPENSEARCH_OPERATION_UPSERT : ConfigurationOptions.OPENSEARCH_OPERATION_UPDATE);
+            settings.setProperty(ConfigurationOptions.OPENSEARCH_UPDATE_RETRY_ON_CONFLICT, "3");
+            settings.setProperty(ConfigurationOptions.OPENSEARCH_UPDATE_SCRIPT_INLINE,
+                    "ctx._source.total += params.total; ctx._source.quantity += params.quantity");
+            settings.setProperty(ConfigurationOptions.OPENSEARCH_UPDATE_SCRIPT_LANG, "painless");
+            settings.setProperty(ConfigurationOptions.OPENSEARCH_UPDATE_SCRIPT_PARAMS, "total:total,quantity:quantity");
+        }
+
+        writer = new BulkEntryWriter(settings, BulkCommands.create(settings, null, OpenSearchMajorVersion.LATEST));
+    }
+
+    @TearDown
+    public void tearDown() {
+        writer.close();
+    }
+
+    @Benchmark
+    public int writeBulkEntry() {
+        if (next == docs.size()) {
+            next = 0;
+        }
+        BytesRef entry = writer.writeBulkEntry(docs.get(next++));
+        // copy the entry out, as the bulk processor does, since its backing buffers are reused
+        scratch.reset();
+        entry.copyTo(scratch);
+        return scratch.length();
+    }
+}
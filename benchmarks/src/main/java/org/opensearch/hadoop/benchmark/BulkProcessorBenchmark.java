@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.opensearch.hadoop.cfg.ConfigurationOptions;
+import org.opensearch.hadoop.cfg.PropertiesSettings;
+import org.opensearch.hadoop.cfg.Settings;
+import org.opensearch.hadoop.rest.Resource;
+import org.opensearch.hadoop.rest.RestClient;
+import org.opensearch.hadoop.rest.bulk.BulkProcessor;
+import org.opensearch.hadoop.rest.bulk.BulkResponse;
+import org.opensearch.hadoop.util.BytesArray;
+import org.opensearch.hadoop.util.BytesRef;
+import org.opensearch.hadoop.util.ClusterInfo;
+import org.opensearch.hadoop.util.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Buffering and flushing of a full batch through the bulk processor, against a local HTTP responder that drains
+ * the request and replies with a canned bulk response. The network is loopback only, hence the numbers mostly
+ * reflect the client side cost (copying, transport, response parsing).
+ * <p>
+ * {@code errors} controls the top level flag of the response - when set, the items are walked one by one even
+ * though all of them succeeded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkProcessorBenchmark {
+
+    @Param({ "100", "1000" })
+    public int batch;
+
+    @Param({ "false", "true" })
+    public boolean errors;
+
+    private HttpServer server;
+    private RestClient client;
+    private BulkProcessor processor;
+    private List<BytesRef> entries;
+
+    @Setup
+    public void setup() throws IOException {
+        final byte[] response = Fixtures.bulkResponse(batch, errors).bytes();
+        // otherwise the responder's writes get delayed by Nagle's algorithm, dwarfing the rest
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                InputStream in = exchange.getRequestBody();
+                byte[] buffer = new byte[8192];
+                while (in.read(buffer) >= 0) {
+                    // drain
+                }
+                in.close();
+                exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+                // the canned bulk response is only valid for bulk requests; anything else gets an empty object
+                boolean bulk = exchange.getRequestURI().getPath().endsWith("/_bulk");
+                byte[] body = (bulk ? response : StringUtils.toUTF("{}"));
+                exchange.sendResponseHeaders(200, body.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(body);
+                out.close();
+            }
+        });
+        server.start();
+
+        Settings settings = new PropertiesSettings();
+        settings.setInternalClusterInfo(ClusterInfo.unnamedLatest());
+        settings.setProperty(ConfigurationOptions.OPENSEARCH_NODES, "127.0.0.1:" + server.getAddress().getPort());
+        settings.setProperty(ConfigurationOptions.OPENSEARCH_NODES_WAN_ONLY, "true");
+        settings.setResourceWrite(Fixtures.INDEX);
+        // flushes are triggered by the benchmark only
+        settings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_SIZE_BYTES, "64mb");
+        settings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_SIZE_ENTRIES, String.valueOf(batch + 1));
+
+        client = new RestClient(settings);
+        processor = new BulkProcessor(client, new Resource(settings, false), settings);
+
+        entries = new ArrayList<BytesRef>(batch);
+        for (BytesArray entry : Fixtures.bulkEntries(batch)) {
+            BytesRef ref = new BytesRef();
+            ref.add(entry);
+            entries.add(ref);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        processor.close();
+        client.close();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public BulkResponse addAndFlush() {
+        for (BytesRef entry : entries) {
+            processor.add(entry);
+        }
+        return processor.tryFlush();
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import org.opensearch.hadoop.OpenSearchHadoopIllegalStateException;
+import org.opensearch.hadoop.cfg.PropertiesSettings;
+import org.opensearch.hadoop.serialization.builder.JdkValueWriter;
+import org.opensearch.hadoop.serialization.dto.mapping.FieldParser;
+import org.opensearch.hadoop.serialization.dto.mapping.Mapping;
+import org.opensearch.hadoop.serialization.json.JacksonJsonGenerator;
+import org.opensearch.hadoop.thirdparty.codehaus.jackson.map.ObjectMapper;
+import org.opensearch.hadoop.util.BytesArray;
+import org.opensearch.hadoop.util.FastByteArrayOutputStream;
+import org.opensearch.hadoop.util.StringUtils;
+
+/**
+ * Generates the documents (and their search responses) used across the benchmarks.
+ * <p>
+ * The documents mimic a typical order index: keyword, text, numeric, date and boolean fields, a couple of nested
+ * objects and arrays. The generator is seeded so every run (and every fork) sees the same data.
+ */
+public abstract class Fixtures {
+
+    public static final String INDEX = "orders";
+
+    private static final long SEED = 0x5EEDL;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String[] FIRST_NAMES = { "Ana", "Bogdan", "Chen", "Dmitri", "Elif", "Femi", "Greta", "Hiroshi", "Ines", "Jonas" };
+    private static final String[] LAST_NAMES = { "Silva", "Novak", "Wang", "Ivanov", "Yilmaz", "Okafor", "Berg", "Tanaka", "Garcia", "Muller" };
+    private static final String[] CITIES = { "Lisbon", "Prague", "Shanghai", "Moscow", "Istanbul", "Lagos", "Oslo", "Osaka", "Madrid", "Berlin" };
+    private static final String[] COUNTRIES = { "PT", "CZ", "CN", "RU", "TR", "NG", "NO", "JP", "ES", "DE" };
+    private static final String[] TIERS = { "bronze", "silver", "gold", "platinum" };
+    private static final String[] TAGS = { "promo", "gift", "express", "fragile", "bulk", "returning", "mobile", "web" };
+    private static final String[] WORDS = { "please", "leave", "the", "parcel", "at", "front", "door", "call", "before",
+            "delivery", "ring", "bell", "twice", "neighbour", "can", "accept", "package", "weekend", "only", "thanks" };
+
+    static final String MAPPING = "{\"" + INDEX + "\":{\"mappings\":{\"properties\":{"
+            + "\"order_id\":{\"type\":\"keyword\"},"
+            + "\"created_at\":{\"type\":\"date\"},"
+            + "\"total\":{\"type\":\"double\"},"
+            + "\"quantity\":{\"type\":\"integer\"},"
+            + "\"shipped\":{\"type\":\"boolean\"},"
+            + "\"tags\":{\"type\":\"keyword\"},"
+            + "\"notes\":{\"type\":\"text\"},"
+            + "\"customer\":{\"properties\":{"
+            +     "\"name\":{\"type\":\"text\"},"
+            +     "\"email\":{\"type\":\"keyword\"},"
+            +     "\"tier\":{\"type\":\"keyword\"},"
+            +     "\"address\":{\"properties\":{"
+            +         "\"city\":{\"type\":\"keyword\"},"
+            +         "\"country\":{\"type\":\"keyword\"},"
+            +         "\"location\":{\"type\":\"geo_point\"}}}}},"
+            + "\"items\":{\"properties\":{"
+            +     "\"sku\":{\"type\":\"keyword\"},"
+            +     "\"price\":{\"type\":\"float\"},"
+            +     "\"qty\":{\"type\":\"integer\"}}}"
+            + "}}}}";
+
+    /**
+     * @return the given number of documents, identical across invocations
+     */
+    public static List<Map<String, Object>> documents(int count) {
+        Random random = new Random(SEED);
+        List<Map<String, Object>> docs = new ArrayList<Map<String, Object>>(count);
+        for (int i = 0; i < count; i++) {
+            docs.add(document(random, i));
+        }
+        return docs;
+    }
+
+    private static Map<String, Object> document(Random random, int id) {
+        int person = random.nextInt(FIRST_NAMES.length);
+        int place = random.nextInt(CITIES.length);
+
+        Map<String, Object> location = new LinkedHashMap<String, Object>();
+        location.put("lat", round(random.nextDouble() * 180 - 90));
+        location.put("lon", round(random.nextDouble() * 360 - 180));
+
+        Map<String, Object> address = new LinkedHashMap<String, Object>();
+        address.put("city", CITIES[place]);
+        address.put("country", COUNTRIES[place]);
+        address.put("location", location);
+
+        String first = FIRST_NAMES[person];
+        String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        Map<String, Object> customer = new LinkedHashMap<String, Object>();
+        customer.put("name", first + " " + last);
+        customer.put("email", (first + "." + last + "@example.com").toLowerCase(Locale.ROOT));
+        customer.put("tier", TIERS[random.nextInt(TIERS.length)]);
+        customer.put("address", address);
+
+        List<Object> items = new ArrayList<Object>();
+        int quantity = 0;
+        double total = 0;
+        for (int i = 0, lines = 1 + random.nextInt(5); i < lines; i++) {
+            int qty = 1 + random.nextInt(4);
+            double price = round(1 + random.nextDouble() * 250);
+            Map<String, Object> item = new LinkedHashMap<String, Object>();
+            item.put("sku", String.format(Locale.ROOT, "SKU-%06d", random.nextInt(1000000)));
+            item.put("price", price);
+            item.put("qty", qty);
+            items.add(item);
+            quantity += qty;
+            total += qty * price;
+        }
+
+        List<Object> tags = new ArrayList<Object>();
+        for (int i = 0, count = random.nextInt(4); i < count; i++) {
+            tags.add(TAGS[random.nextInt(TAGS.length)]);
+        }
+
+        StringBuilder notes = new StringBuilder();
+        for (int i = 0, count = 5 + random.nextInt(20); i < count; i++) {
+            if (i > 0) {
+                notes.append(' ');
+            }
+            notes.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+
+        Map<String, Object> doc = new LinkedHashMap<String, Object>();
+        doc.put("order_id", String.format(Locale.ROOT, "ORD-%08d", id));
+        doc.put("created_at", String.format(Locale.ROOT, "2023-%02d-%02dT%02d:%02d:%02dZ", 1 + random.nextInt(12),
+                1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60)));
+        doc.put("total", round(total));
+        doc.put("quantity", quantity);
+        doc.put("shipped", random.nextBoolean());
+        doc.put("tags", tags);
+        doc.put("notes", notes.toString());
+        doc.put("customer", customer);
+        doc.put("items", items);
+        return doc;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0d;
+    }
+
+    /**
+     * @return a search (scroll) response holding the given documents
+     */
+    public static BytesArray searchResponse(List<Map<String, Object>> docs) {
+        List<Object> hits = new ArrayList<Object>(docs.size());
+        for (int i = 0; i < docs.size(); i++) {
+            Map<String, Object> hit = new LinkedHashMap<String, Object>();
+            hit.put("_index", INDEX);
+            hit.put("_id", String.valueOf(i));
+            hit.put("_score", 1.0d);
+            hit.put("_source", docs.get(i));
+            hits.add(hit);
+        }
+
+        Map<String, Object> total = new LinkedHashMap<String, Object>();
+        total.put("value", docs.size());
+        total.put("relation", "eq");
+
+        Map<String, Object> hitsSection = new LinkedHashMap<String, Object>();
+        hitsSection.put("total", total);
+        hitsSection.put("max_score", 1.0d);
+        hitsSection.put("hits", hits);
+
+        Map<String, Object> response = new LinkedHashMap<String, Object>();
+        response.put("_scroll_id", "FGluY2x1ZGVfY29udGV4dF91dWlkDXF1ZXJ5QW5kRmV0Y2gBFmJlbmNobWFyaw==");
+        response.put("took", 3);
+        response.put("timed_out", false);
+        response.put("_shards", shards(1));
+        response.put("hits", hitsSection);
+        return json(response);
+    }
+
+    /**
+     * @return index bulk entries (action header and source) for the given number of documents
+     */
+    public static List<BytesArray> bulkEntries(int count) {
+        JdkValueWriter writer = new JdkValueWriter();
+        writer.setSettings(new PropertiesSettings());
+
+        List<BytesArray> entries = new ArrayList<BytesArray>(count);
+        int id = 0;
+        for (Map<String, Object> doc : documents(count)) {
+            FastByteArrayOutputStream out = new FastByteArrayOutputStream(new BytesArray(1024));
+            byte[] header = StringUtils.toUTF("{\"index\":{\"_id\":\"" + (id++) + "\"}}\n");
+            out.write(header, 0, header.length);
+            JacksonJsonGenerator generator = new JacksonJsonGenerator(out);
+            writer.write(doc, generator);
+            generator.close();
+            out.write('\n');
+            entries.add(out.bytes());
+        }
+        return entries;
+    }
+
+    /**
+     * @return a bulk response acknowledging (as created) the given number of entries. When {@code errorsFlag} is set,
+     * the response claims errors occurred so the items end up being inspected one by one.
+     */
+    public static BytesArray bulkResponse(int entries, boolean errorsFlag) {
+        List<Object> items = new ArrayList<Object>(entries);
+        for (int i = 0; i < entries; i++) {
+            Map<String, Object> result = new LinkedHashMap<String, Object>();
+            result.put("_index", INDEX);
+            result.put("_id", String.valueOf(i));
+            result.put("_version", 1);
+            result.put("result", "created");
+            result.put("_shards", shards(2));
+            result.put("_seq_no", i);
+            result.put("_primary_term", 1);
+            result.put("status", 201);
+            items.add(singleton("index", result));
+        }
+
+        Map<String, Object> response = new LinkedHashMap<String, Object>();
+        response.put("took", 30);
+        response.put("errors", errorsFlag);
+        response.put("items", items);
+        return json(response);
+    }
+
+    /**
+     * @return the resolved mapping of the fixture index
+     */
+    public static Mapping mapping() {
+        Map<String, Object> content = map(MAPPING);
+        return FieldParser.parseTypelessMappings(content).getResolvedView();
+    }
+
+    private static Map<String, Object> shards(int total) {
+        Map<String, Object> shards = new LinkedHashMap<String, Object>();
+        shards.put("total", total);
+        shards.put("successful", total);
+        shards.put("failed", 0);
+        return shards;
+    }
+
+    private static Map<String, Object> singleton(String key, Object value) {
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        map.put(key, value);
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(String json) {
+        try {
+            return MAPPER.readValue(json, Map.class);
+        } catch (IOException ex) {
+            throw new OpenSearchHadoopIllegalStateException("Cannot parse fixture", ex);
+        }
+    }
+
+    private static BytesArray json(Object value) {
+        try {
+            return new BytesArray(MAPPER.writeValueAsBytes(value));
+        } catch (IOException ex) {
+            throw new OpenSearchHadoopIllegalStateException("Cannot generate fixture", ex);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.hadoop.cfg.ConfigurationOptions;
+import org.opensearch.hadoop.cfg.PropertiesSettings;
+import org.opensearch.hadoop.cfg.Settings;
+import org.opensearch.hadoop.serialization.Generator;
+import org.opensearch.hadoop.serialization.builder.JdkValueWriter;
+import org.opensearch.hadoop.serialization.json.JacksonJsonGenerator;
+import org.opensearch.hadoop.util.BytesArray;
+import org.opensearch.hadoop.util.FastByteArrayOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Conversion of a (JDK) document into json, the body of most bulk entries.
+ * {@code excludes} goes through the field filtering applied for {@code opensearch.mapping.exclude}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JdkValueWriterBenchmark {
+
+    @Param({ "all", "excludes" })
+    public String fields;
+
+    private List<Map<String, Object>> docs;
+    private JdkValueWriter writer;
+    private FastByteArrayOutputStream out;
+    private int next;
+
+    @Setup
+    public void setup() {
+        docs = Fixtures.documents(1000);
+        out = new FastByteArrayOutputStream(new BytesArray(4096));
+
+        Settings settings = new PropertiesSettings();
+        if ("excludes".equals(fields)) {
+            settings.setProperty(ConfigurationOptions.OPENSEARCH_MAPPING_EXCLUDE, "notes,customer.email,items.qty");
+        }
+        writer = new JdkValueWriter();
+        writer.setSettings(settings);
+    }
+
+    @Benchmark
+    public int write() {
+        if (next == docs.size()) {
+            next = 0;
+        }
+        out.reset();
+        Generator generator = new JacksonJsonGenerator(out);
+        writer.write(docs.get(next++), generator);
+        generator.close();
+        return out.bytes().length();
+    }
+}
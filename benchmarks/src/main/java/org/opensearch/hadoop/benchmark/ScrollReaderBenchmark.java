@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.benchmark;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.hadoop.cfg.PropertiesSettings;
+import org.opensearch.hadoop.cfg.Settings;
+import org.opensearch.hadoop.serialization.ScrollReader;
+import org.opensearch.hadoop.serialization.ScrollReaderConfigBuilder;
+import org.opensearch.hadoop.serialization.builder.JdkValueReader;
+import org.opensearch.hadoop.util.BytesArray;
+import org.opensearch.hadoop.util.FastByteArrayInputStream;
+import org.opensearch.hadoop.util.ObjectUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of a scroll page into hits, as done for every page on the read side.
+ * <ul>
+ *     <li>{@code map} - full documents, typed through the mapping</li>
+ *     <li>{@code json} - documents returned as raw json</li>
+ *     <li>{@code includes} - only a few fields picked through the field filter</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScrollReaderBenchmark {
+
+    @Param({ "map", "json", "includes" })
+    public String mode;
+
+    @Param({ "50", "1000" })
+    public int hits;
+
+    private ScrollReader reader;
+    private BytesArray page;
+
+    @Setup
+    public void setup() {
+        page = Fixtures.searchResponse(Fixtures.documents(hits));
+
+        Settings settings = new PropertiesSettings();
+        JdkValueReader valueReader = ObjectUtils.instantiate(JdkValueReader.class.getName(), settings);
+
+        List<String> includes = Collections.<String>emptyList();
+        if ("includes".equals(mode)) {
+            includes = Arrays.asList("order_id", "total", "customer.address.city", "items.sku");
+        }
+
+        reader = new ScrollReader(ScrollReaderConfigBuilder.builder(valueReader, Fixtures.mapping(), settings)
+                .setReturnRawJson("json".equals(mode))
+                .setIncludeFields(includes)
+                .setExcludeFields(Collections.<String>emptyList())
+                .setIncludeArrayFields(Arrays.asList("tags", "items")));
+    }
+
+    @Benchmark
+    public ScrollReader.Scroll read() throws IOException {
+        return reader.read(new FastByteArrayInputStream(page));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.hadoop.util.BytesArray;
+import org.opensearch.hadoop.util.TrackingBytesArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Operations on the bulk buffer, each starting from a freshly filled batch:
+ * <ul>
+ *     <li>{@code fill} - copying the entries in</li>
+ *     <li>{@code write} - sending the batch out</li>
+ *     <li>{@code retry} - processing a bulk response where every other entry failed and is kept for a retry,
+ *     then sending the leftovers out</li>
+ *     <li>{@code pop} - draining the entries one by one</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrackingBytesArrayBenchmark {
+
+    private static final OutputStream SINK = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    @Param({ "100", "1000" })
+    public int entries;
+
+    private List<BytesArray> docs;
+    private TrackingBytesArray data;
+
+    @Setup
+    public void setup() {
+        docs = Fixtures.bulkEntries(entries);
+        int size = 0;
+        for (BytesArray doc : docs) {
+            size += doc.length();
+        }
+        data = new TrackingBytesArray(new BytesArray(size), entries);
+    }
+
+    private void fillBuffer() {
+        data.reset();
+        for (BytesArray doc : docs) {
+            data.copyFrom(doc);
+        }
+    }
+
+    @Benchmark
+    public int fill() {
+        fillBuffer();
+        return data.length();
+    }
+
+    @Benchmark
+    public int write() throws IOException {
+        fillBuffer();
+        data.writeTo(SINK);
+        return data.length();
+    }
+
+    @Benchmark
+    public BitSet retry() throws IOException {
+        fillBuffer();
+        data.writeTo(SINK);
+        // walk the response in order, dropping the successful entries
+        int position = 0;
+        for (int i = 0; i < entries; i++) {
+            if ((i & 1) == 0) {
+                data.remove(position);
+            } else {
+                position++;
+            }
+        }
+        BitSet leftovers = data.leftoversPosition();
+        data.writeTo(SINK);
+        return leftovers;
+    }
+
+    @Benchmark
+    public int pop() {
+        fillBuffer();
+        int length = 0;
+        while (data.entries() > 0) {
+            length += data.pop().length();
+        }
+        return length;
+    }
+}
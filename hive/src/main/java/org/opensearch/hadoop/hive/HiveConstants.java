@@ -49,6 +49,9 @@ interface HiveConstants {
     String MAPPING_NAMES = "opensearch.mapping.names";
     String COLUMN_COMMENTS = "columns.comments";
 
+    /** Whether the predicates of Hive queries are translated into OpenSearch filters (true by default) */
+    String PUSHDOWN = "opensearch.hive.pushdown";
+
     String INPUT_TBL_PROPERTIES = "opensearch.internal.hive.input.tbl.properties";
     String OUTPUT_TBL_PROPERTIES = "opensearch.internal.hive.output.tbl.properties";
     String[] VIRTUAL_COLUMNS = new String[] { "INPUT__FILE__NAME", "BLOCK__OFFSET__INSIDE__FILE",
@@ -0,0 +1,367 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.hive;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hive.common.type.HiveVarchar;
+import org.apache.hadoop.hive.ql.exec.SerializationUtilities;
+import org.apache.hadoop.hive.ql.metadata.HiveStoragePredicateHandler.DecomposedPredicate;
+import org.apache.hadoop.hive.ql.plan.ExprNodeColumnDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeConstantDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDescUtils;
+import org.apache.hadoop.hive.ql.plan.ExprNodeGenericFuncDesc;
+import org.apache.hadoop.hive.ql.plan.TableScanDesc;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDF;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFBetween;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFBridge;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFIn;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPAnd;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqual;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqualOrGreaterThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqualOrLessThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPGreaterThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPLessThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPNot;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPNotEqual;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPNotNull;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPNull;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPOr;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector.PrimitiveCategory;
+import org.apache.hadoop.hive.serde2.typeinfo.PrimitiveTypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
+import org.opensearch.hadoop.cfg.Settings;
+import org.opensearch.hadoop.rest.MetadataCache;
+import org.opensearch.hadoop.rest.RestRepository;
+import org.opensearch.hadoop.rest.query.BoolQueryBuilder;
+import org.opensearch.hadoop.rest.query.ExistsQueryBuilder;
+import org.opensearch.hadoop.rest.query.PrefixQueryBuilder;
+import org.opensearch.hadoop.rest.query.QueryBuilder;
+import org.opensearch.hadoop.rest.query.RangeQueryBuilder;
+import org.opensearch.hadoop.rest.query.TermQueryBuilder;
+import org.opensearch.hadoop.rest.query.TermsQueryBuilder;
+import org.opensearch.hadoop.serialization.FieldType;
+import org.opensearch.hadoop.serialization.dto.mapping.Field;
+import org.opensearch.hadoop.serialization.dto.mapping.Mapping;
+import org.opensearch.hadoop.serialization.dto.mapping.MappingSet;
+import org.opensearch.hadoop.util.FieldAlias;
+import org.opensearch.hadoop.util.SettingsUtils;
+import org.opensearch.hadoop.util.StringUtils;
+import org.opensearch.hadoop.util.unit.Booleans;
+
+/**
+ * Translates the predicates of Hive queries into OpenSearch filters so that only the matching documents are read.
+ * <p>
+ * Hive still evaluates the whole predicate, yet it only sees the documents matched by the filters - these have to match
+ * (at least) the same documents. Hence only the comparisons on columns whose values are indexed as is get translated -
+ * {@code keyword}, numeric (but {@code double} for floating point) and {@code boolean} fields. {@code keyword} fields
+ * with an {@code ignore_above} or a normalizer are not translated either since some of their values are not indexed
+ * (or not as they are read), which no term, range, prefix or exists query can match.
+ */
+abstract class HivePredicates {
+
+    private static final Map<PrimitiveCategory, Set<FieldType>> EXACT_TYPES = new EnumMap<PrimitiveCategory, Set<FieldType>>(PrimitiveCategory.class);
+
+    static {
+        Set<FieldType> integers = EnumSet.of(FieldType.BYTE, FieldType.SHORT, FieldType.INTEGER, FieldType.LONG);
+        EXACT_TYPES.put(PrimitiveCategory.STRING, EnumSet.of(FieldType.KEYWORD));
+        EXACT_TYPES.put(PrimitiveCategory.VARCHAR, EnumSet.of(FieldType.KEYWORD));
+        EXACT_TYPES.put(PrimitiveCategory.BOOLEAN, EnumSet.of(FieldType.BOOLEAN));
+        EXACT_TYPES.put(PrimitiveCategory.BYTE, integers);
+        EXACT_TYPES.put(PrimitiveCategory.SHORT, integers);
+        EXACT_TYPES.put(PrimitiveCategory.INT, integers);
+        EXACT_TYPES.put(PrimitiveCategory.LONG, integers);
+        EXACT_TYPES.put(PrimitiveCategory.DOUBLE, EnumSet.of(FieldType.DOUBLE));
+    }
+
+    private static final String UDF_LIKE = "org.apache.hadoop.hive.ql.udf.UDFLike";
+
+    /**
+     * @return the conjuncts of the given predicate that can be translated (depending on the mapping of their
+     *         columns), or null if there are none
+     */
+    static DecomposedPredicate decompose(ExprNodeDesc predicate) {
+        if (!(predicate instanceof ExprNodeGenericFuncDesc)) {
+            return null;
+        }
+        List<ExprNodeDesc> pushed = new ArrayList<ExprNodeDesc>();
+        for (ExprNodeDesc conjunct : ExprNodeDescUtils.split(predicate)) {
+            if (translate(conjunct, null, null) != null) {
+                pushed.add(conjunct);
+            }
+        }
+        if (pushed.isEmpty()) {
+            return null;
+        }
+
+        DecomposedPredicate decomposed = new DecomposedPredicate();
+        decomposed.pushedPredicate = (ExprNodeGenericFuncDesc) ExprNodeDescUtils.mergePredicates(pushed);
+        // the pushed conjuncts are checked against the mapping only when reading, so Hive keeps evaluating them
+        decomposed.residualPredicate = (ExprNodeGenericFuncDesc) predicate;
+        return decomposed;
+    }
+
+    /**
+     * Turns the predicate pushed by Hive (if any) into filters of the query.
+     */
+    static void pushDown(Configuration cfg, Settings settings, Log log) {
+        String serialized = cfg.get(TableScanDesc.FILTER_EXPR_CONF_STR);
+        if (!StringUtils.hasText(serialized) || settings.getOutputAsJson()
+                || !Booleans.parseBoolean(settings.getProperty(HiveConstants.PUSHDOWN), true)) {
+            return;
+        }
+
+        Map<String, FieldType> fields = Collections.emptyMap();
+        RestRepository repository = new RestRepository(settings);
+        try {
+            if (MetadataCache.readResourceExists(repository, settings)) {
+                MappingSet mappings = MetadataCache.mappings(repository, settings);
+                if (mappings != null && !mappings.isEmpty()) {
+                    fields = indexedFields(mappings.getResolvedView());
+                }
+            }
+        } finally {
+            repository.close();
+        }
+
+        List<String> filters = filters(SerializationUtilities.deserializeExpression(serialized), HiveUtils.alias(settings), fields);
+        if (!filters.isEmpty()) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Pushing down Hive predicate [%s] as %s", serialized, filters));
+            }
+            SettingsUtils.setFilters(settings, filters.toArray(new String[filters.size()]));
+        }
+    }
+
+    /**
+     * @return the types of the fields (by full name) whose values are all indexed as they are in the source - fields
+     *         mapped with {@code "index": false} cannot be searched on and are left out
+     */
+    static Map<String, FieldType> indexedFields(Mapping mapping) {
+        Map<String, FieldType> fields = new LinkedHashMap<String, FieldType>();
+        for (Field field : mapping.getFields()) {
+            addIndexedField(field, null, fields);
+        }
+        return fields;
+    }
+
+    private static void addIndexedField(Field field, String parentName, Map<String, FieldType> fields) {
+        String fieldName = (parentName != null ? parentName + "." + field.name() : field.name());
+        if (FieldType.isCompound(field.type())) {
+            for (Field nestedField : field.properties()) {
+                addIndexedField(nestedField, fieldName, fields);
+            }
+        } else if (field.indexedAsIs() && field.isIndexed()) {
+            fields.put(fieldName, field.type());
+        }
+    }
+
+    static List<String> filters(ExprNodeDesc predicate, FieldAlias alias, Map<String, FieldType> fields) {
+        List<String> filters = new ArrayList<String>();
+        for (ExprNodeDesc conjunct : ExprNodeDescUtils.split(predicate)) {
+            QueryBuilder query = translate(conjunct, alias, fields);
+            if (query != null) {
+                filters.add(query.toString());
+            }
+        }
+        return filters;
+    }
+
+    /**
+     * @return the query matching the same documents as the given expression, or null if there is none - without
+     *         any mapping, only the Hive types of the columns are checked
+     */
+    private static QueryBuilder translate(ExprNodeDesc expr, FieldAlias alias, Map<String, FieldType> fields) {
+        if (!(expr instanceof ExprNodeGenericFuncDesc)) {
+            return null;
+        }
+        GenericUDF udf = ((ExprNodeGenericFuncDesc) expr).getGenericUDF();
+        List<ExprNodeDesc> children = expr.getChildren();
+
+        if (udf instanceof GenericUDFOPAnd || udf instanceof GenericUDFOPOr) {
+            BoolQueryBuilder bool = new BoolQueryBuilder();
+            for (ExprNodeDesc child : children) {
+                QueryBuilder query = translate(child, alias, fields);
+                if (query == null) {
+                    return null;
+                }
+                if (udf instanceof GenericUDFOPAnd) {
+                    bool.filter(query);
+                } else {
+                    bool.should(query);
+                }
+            }
+            return bool;
+        }
+        if (udf instanceof GenericUDFOPNot) {
+            QueryBuilder query = translate(children.get(0), alias, fields);
+            return (query != null ? new BoolQueryBuilder().mustNot(query) : null);
+        }
+        if (udf instanceof GenericUDFOPNull || udf instanceof GenericUDFOPNotNull) {
+            String field = field(children.get(0), alias, fields);
+            if (field == null) {
+                return null;
+            }
+            QueryBuilder exists = new ExistsQueryBuilder().field(field);
+            return (udf instanceof GenericUDFOPNull ? new BoolQueryBuilder().mustNot(exists) : exists);
+        }
+        if (udf instanceof GenericUDFIn) {
+            String field = field(children.get(0), alias, fields);
+            if (field == null) {
+                return null;
+            }
+            TermsQueryBuilder terms = new TermsQueryBuilder().field(field);
+            for (ExprNodeDesc child : children.subList(1, children.size())) {
+                String value = value(child);
+                if (value == null) {
+                    return null;
+                }
+                terms.term(value);
+            }
+            return terms;
+        }
+        if (udf instanceof GenericUDFBetween) {
+            // [NOT] BETWEEN - the first argument tells which
+            if (children.size() != 4 || !(children.get(0) instanceof ExprNodeConstantDesc)) {
+                return null;
+            }
+            String field = field(children.get(1), alias, fields);
+            String low = value(children.get(2));
+            String high = value(children.get(3));
+            if (field == null || low == null || high == null) {
+                return null;
+            }
+            QueryBuilder range = new RangeQueryBuilder().field(field).gte(low).lte(high);
+            boolean invert = Boolean.TRUE.equals(((ExprNodeConstantDesc) children.get(0)).getValue());
+            return (invert ? new BoolQueryBuilder().mustNot(range) : range);
+        }
+        if (udf instanceof GenericUDFBridge && UDF_LIKE.equals(((GenericUDFBridge) udf).getUdfClassName())) {
+            return like(children, alias, fields);
+        }
+        return comparison(udf, children, alias, fields);
+    }
+
+    private static QueryBuilder comparison(GenericUDF udf, List<ExprNodeDesc> children, FieldAlias alias, Map<String, FieldType> fields) {
+        if (children.size() != 2) {
+            return null;
+        }
+        // column on either side
+        boolean flipped = children.get(0) instanceof ExprNodeConstantDesc;
+        String field = field(children.get(flipped ? 1 : 0), alias, fields);
+        String value = value(children.get(flipped ? 0 : 1));
+        if (field == null || value == null) {
+            return null;
+        }
+
+        if (udf instanceof GenericUDFOPEqual) {
+            return new TermQueryBuilder().field(field).term(value);
+        }
+        if (udf instanceof GenericUDFOPNotEqual) {
+            return new BoolQueryBuilder().mustNot(new TermQueryBuilder().field(field).term(value));
+        }
+        if (udf instanceof GenericUDFOPLessThan) {
+            return (flipped ? new RangeQueryBuilder().field(field).gt(value) : new RangeQueryBuilder().field(field).lt(value));
+        }
+        if (udf instanceof GenericUDFOPEqualOrLessThan) {
+            return (flipped ? new RangeQueryBuilder().field(field).gte(value) : new RangeQueryBuilder().field(field).lte(value));
+        }
+        if (udf instanceof GenericUDFOPGreaterThan) {
+            return (flipped ? new RangeQueryBuilder().field(field).lt(value) : new RangeQueryBuilder().field(field).gt(value));
+        }
+        if (udf instanceof GenericUDFOPEqualOrGreaterThan) {
+            return (flipped ? new RangeQueryBuilder().field(field).lte(value) : new RangeQueryBuilder().field(field).gte(value));
+        }
+        return null;
+    }
+
+    private static QueryBuilder like(List<ExprNodeDesc> children, FieldAlias alias, Map<String, FieldType> fields) {
+        if (children.size() != 2) {
+            return null;
+        }
+        String field = field(children.get(0), alias, fields);
+        String pattern = value(children.get(1));
+        if (field == null || pattern == null || !isString(children.get(0))) {
+            return null;
+        }
+        // only exact values and prefixes - no single character wildcard nor escaping
+        if (pattern.indexOf('_') >= 0 || pattern.indexOf('\\') >= 0) {
+            return null;
+        }
+        String prefix = pattern;
+        while (prefix.endsWith("%")) {
+            prefix = prefix.substring(0, prefix.length() - 1);
+        }
+        if (prefix.indexOf('%') >= 0) {
+            return null;
+        }
+        if (prefix.length() == pattern.length()) {
+            return new TermQueryBuilder().field(field).term(pattern);
+        }
+        return (prefix.isEmpty() ? new ExistsQueryBuilder().field(field) : new PrefixQueryBuilder().field(field).prefix(prefix));
+    }
+
+    /**
+     * @return the OpenSearch field of the given column, provided its values are indexed as they are read
+     */
+    private static String field(ExprNodeDesc expr, FieldAlias alias, Map<String, FieldType> fields) {
+        if (!(expr instanceof ExprNodeColumnDesc)) {
+            return null;
+        }
+        ExprNodeColumnDesc column = (ExprNodeColumnDesc) expr;
+        Set<FieldType> exactTypes = exactTypes(column.getTypeInfo());
+        if (exactTypes == null) {
+            return null;
+        }
+        if (fields == null) {
+            return column.getColumn();
+        }
+        String field = alias.toES(column.getColumn());
+        FieldType type = fields.get(field);
+        return (type != null && exactTypes.contains(type) ? field : null);
+    }
+
+    private static Set<FieldType> exactTypes(TypeInfo typeInfo) {
+        if (typeInfo.getCategory() != ObjectInspector.Category.PRIMITIVE) {
+            return null;
+        }
+        return EXACT_TYPES.get(((PrimitiveTypeInfo) typeInfo).getPrimitiveCategory());
+    }
+
+    private static boolean isString(ExprNodeDesc expr) {
+        Set<FieldType> exactTypes = exactTypes(expr.getTypeInfo());
+        return exactTypes != null && exactTypes.contains(FieldType.KEYWORD);
+    }
+
+    private static String value(ExprNodeDesc expr) {
+        if (!(expr instanceof ExprNodeConstantDesc)) {
+            return null;
+        }
+        Object value = ((ExprNodeConstantDesc) expr).getValue();
+        if (value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        if (value instanceof HiveVarchar) {
+            return ((HiveVarchar) value).getValue();
+        }
+        return null;
+    }
+}
@@ -34,6 +34,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -41,6 +42,8 @@ import java.util.Properties;
 import java.util.Set;
 
 import org.apache.commons.logging.Log;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hive.serde2.ColumnProjectionUtils;
 import org.apache.hadoop.hive.serde2.io.TimestampWritable;
 import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspectorFactory;
@@ -111,6 +114,42 @@ abstract class HiveUtils {
         return columnNames;
     }
 
+    /**
+     * Same as {@link #columnToAlias(Settings)} but limited to the columns read by the query, as projected by Hive
+     * in the given configuration.
+     * @param settings Settings to pull hive column names and user name mappings from.
+     * @param cfg Configuration holding the projected columns (if any)
+     * @return A collection of OpenSearch field names
+     */
+    static Collection<String> readColumnToAlias(Settings settings, Configuration cfg) {
+        if (ColumnProjectionUtils.isReadAllColumns(cfg)) {
+            return columnToAlias(settings);
+        }
+
+        FieldAlias fa = alias(settings);
+        List<String> columnNames = StringUtils.tokenize(settings.getProperty(HiveConstants.COLUMNS), ",");
+        Set<String> virtualColumns = new HashSet<String>();
+        Collections.addAll(virtualColumns, HiveConstants.VIRTUAL_COLUMNS);
+
+        Set<String> fields = new LinkedHashSet<String>();
+        for (Integer id : ColumnProjectionUtils.getReadColumnIDs(cfg)) {
+            if (id < columnNames.size() && !virtualColumns.contains(columnNames.get(id))) {
+                String original = columnNames.get(id);
+                String alias = fa.toES(original);
+                fields.add(alias != null ? alias : original);
+            }
+        }
+
+        // no column needed (like when counting rows) - still ask for a single field instead of the whole source
+        if (fields.isEmpty()) {
+            Collection<String> all = columnToAlias(settings);
+            if (!all.isEmpty()) {
+                fields.add(all.iterator().next());
+            }
+        }
+        return fields;
+    }
+
     /**
      * Reads the current aliases, and then the set of hive column names. Remaps the raw hive column names (_col1, _col2)
      * to the names used in the hive table, or, if the mappings exist, the names in the mappings instead.
@@ -0,0 +1,321 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.hive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hadoop.hive.ql.exec.vector.BytesColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.DoubleColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.LongColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.VectorAssignRow;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
+import org.apache.hadoop.hive.ql.exec.vector.expressions.StringExpr;
+import org.apache.hadoop.hive.ql.metadata.HiveException;
+import org.apache.hadoop.hive.serde2.io.ByteWritable;
+import org.apache.hadoop.hive.serde2.io.ShortWritable;
+import org.apache.hadoop.hive.serde2.typeinfo.BaseCharTypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.CharTypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.PrimitiveTypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
+import org.apache.hadoop.io.BooleanWritable;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.DoubleWritable;
+import org.apache.hadoop.io.FloatWritable;
+import org.apache.hadoop.io.IntWritable;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.Writable;
+import org.opensearch.hadoop.OpenSearchHadoopException;
+import org.opensearch.hadoop.OpenSearchHadoopIllegalArgumentException;
+import org.opensearch.hadoop.util.FieldAlias;
+import org.opensearch.hadoop.util.StringUtils;
+
+/**
+ * Fills the column vectors of a {@link VectorizedRowBatch} with the hits of a scroll, one row per hit. Numbers,
+ * booleans, strings and binaries are copied straight into their vectors (char and varchar ones cut to their length);
+ * any other column (timestamps, decimals,
+ * nested structs, lists and maps) is converted as {@link OpenSearchSerDe} does and assigned through a
+ * {@link VectorAssignRow}.
+ * Hits read by the {@link HiveVectorValueReader} are looked up by slot, anything else (maps, raw JSON) by name.
+ */
+final class HiveVectorBatch {
+
+    private static final int LONG = 0;
+    private static final int DOUBLE = 1;
+    private static final int BYTES = 2;
+    private static final int OTHER = 3;
+
+    private final TypeInfo[] types;
+    private final int[] kinds;
+    // maximum length (in characters) of char/varchar columns, 0 otherwise
+    private final int[] maxLengths;
+    private final int[] columns;
+    // OpenSearch path of each column
+    private final Text[][] paths;
+    private final FieldAlias alias;
+    // column holding the whole hit when reading raw JSON, if any
+    private final int jsonColumn;
+
+    private VectorAssignRow assigner;
+
+    // slots of the columns, resolved against the rows of the value reader
+    private Text[] layout;
+    private final int[] slots;
+
+    /**
+     * @param names names of the data columns
+     * @param types types of the data columns
+     * @param readColumns data columns to fill in (or null for all)
+     * @param alias column aliases
+     * @param jsonField field holding the hit when reading raw JSON (or null)
+     */
+    HiveVectorBatch(String[] names, TypeInfo[] types, List<Integer> readColumns, FieldAlias alias, String jsonField) {
+        this.types = types;
+        this.alias = alias;
+
+        kinds = new int[types.length];
+        maxLengths = new int[types.length];
+        paths = new Text[types.length][];
+        int json = -1;
+        for (int i = 0; i < types.length; i++) {
+            kinds[i] = kind(types[i]);
+            if (types[i] instanceof BaseCharTypeInfo) {
+                maxLengths[i] = ((BaseCharTypeInfo) types[i]).getLength();
+            }
+            String field = alias.toES(names[i]);
+            if (field == null) {
+                field = names[i];
+            }
+            List<String> levels = StringUtils.tokenize(field, ".");
+            paths[i] = new Text[levels.size()];
+            for (int level = 0; level < levels.size(); level++) {
+                paths[i][level] = new Text(levels.get(level));
+            }
+            if (json < 0 && field.equals(jsonField)) {
+                json = i;
+            }
+        }
+        jsonColumn = json;
+
+        List<Integer> read = new ArrayList<Integer>();
+        for (int i = 0; i < types.length; i++) {
+            if (readColumns == null || readColumns.contains(i)) {
+                read.add(i);
+            }
+        }
+        columns = new int[read.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = read.get(i);
+        }
+        slots = new int[types.length];
+    }
+
+    private static int kind(TypeInfo type) {
+        if (type instanceof PrimitiveTypeInfo) {
+            switch (((PrimitiveTypeInfo) type).getPrimitiveCategory()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+                return LONG;
+            case FLOAT:
+            case DOUBLE:
+                return DOUBLE;
+            case STRING:
+            case VARCHAR:
+            case CHAR:
+            case BINARY:
+                return BYTES;
+            default:
+                return OTHER;
+            }
+        }
+        return OTHER;
+    }
+
+    /**
+     * Prepares the (reset) batch for a new round of hits.
+     */
+    void begin(VectorizedRowBatch batch) {
+        for (int column : columns) {
+            ColumnVector vector = batch.cols[column];
+            if (vector instanceof BytesColumnVector) {
+                ((BytesColumnVector) vector).initBuffer();
+            }
+        }
+    }
+
+    /**
+     * Appends the given hit to the batch.
+     */
+    void add(VectorizedRowBatch batch, Object hit) {
+        int row = batch.size;
+        for (int column : columns) {
+            ColumnVector vector = batch.cols[column];
+            // not needed by the query
+            if (vector == null) {
+                continue;
+            }
+
+            Writable value = value(hit, column);
+            if (value == null || value instanceof NullWritable) {
+                vector.noNulls = false;
+                vector.isNull[row] = true;
+                continue;
+            }
+
+            vector.isNull[row] = false;
+            switch (kinds[column]) {
+            case LONG:
+                ((LongColumnVector) vector).vector[row] = longValue(value, column);
+                break;
+            case DOUBLE:
+                ((DoubleColumnVector) vector).vector[row] = doubleValue(value, column);
+                break;
+            case BYTES:
+                setBytes((BytesColumnVector) vector, row, value, column);
+                break;
+            default:
+                assigner().assignRowColumn(batch, row, column, OpenSearchSerDe.hiveFromWritable(types[column], value, alias));
+            }
+        }
+        batch.size++;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Writable value(Object hit, int column) {
+        Text[] path = paths[column];
+        Object value;
+        int level;
+
+        if (hit instanceof HiveVectorValueReader.Row) {
+            HiveVectorValueReader.Row row = (HiveVectorValueReader.Row) hit;
+            if (row.names() != layout) {
+                layout = row.names();
+                for (int i = 0; i < paths.length; i++) {
+                    slots[i] = row.slot(paths[i][0]);
+                }
+            }
+            value = row.get(slots[column]);
+            level = 1;
+        }
+        else if (hit instanceof Map) {
+            value = hit;
+            level = 0;
+        }
+        else {
+            // raw JSON
+            return (column == jsonColumn && hit != null ? (hit instanceof Text ? (Text) hit : new Text(hit.toString())) : null);
+        }
+
+        // multi-level alias
+        for (; value != null && level < path.length; level++) {
+            value = (value instanceof Map ? ((Map) value).get(path[level]) : null);
+        }
+        return (Writable) value;
+    }
+
+    private VectorAssignRow assigner() {
+        if (assigner == null) {
+            List<String> typeNames = new ArrayList<String>(types.length);
+            for (TypeInfo type : types) {
+                typeNames.add(type.getTypeName());
+            }
+            try {
+                VectorAssignRow assignRow = new VectorAssignRow();
+                assignRow.init(typeNames);
+                assigner = assignRow;
+            } catch (HiveException ex) {
+                throw new OpenSearchHadoopException("Cannot assign values to columns of types " + typeNames, ex);
+            }
+        }
+        return assigner;
+    }
+
+    private long longValue(Writable value, int column) {
+        if (value instanceof LongWritable) {
+            return ((LongWritable) value).get();
+        }
+        if (value instanceof IntWritable) {
+            return ((IntWritable) value).get();
+        }
+        if (value instanceof ShortWritable) {
+            return ((ShortWritable) value).get();
+        }
+        if (value instanceof ByteWritable) {
+            return ((ByteWritable) value).get();
+        }
+        if (value instanceof BooleanWritable) {
+            return (((BooleanWritable) value).get() ? 1 : 0);
+        }
+        throw unsupported(value, column);
+    }
+
+    private double doubleValue(Writable value, int column) {
+        if (value instanceof DoubleWritable) {
+            return ((DoubleWritable) value).get();
+        }
+        if (value instanceof FloatWritable) {
+            return ((FloatWritable) value).get();
+        }
+        if (value instanceof LongWritable) {
+            return ((LongWritable) value).get();
+        }
+        if (value instanceof IntWritable) {
+            return ((IntWritable) value).get();
+        }
+        if (value instanceof ShortWritable) {
+            return ((ShortWritable) value).get();
+        }
+        if (value instanceof ByteWritable) {
+            return ((ByteWritable) value).get();
+        }
+        throw unsupported(value, column);
+    }
+
+    private void setBytes(BytesColumnVector vector, int row, Writable value, int column) {
+        byte[] bytes;
+        int length;
+        if (value instanceof Text) {
+            Text text = (Text) value;
+            bytes = text.getBytes();
+            length = text.getLength();
+        }
+        else if (value instanceof BytesWritable) {
+            BytesWritable writable = (BytesWritable) value;
+            bytes = writable.getBytes();
+            length = writable.getLength();
+        }
+        else {
+            bytes = StringUtils.toUTF(value.toString());
+            length = bytes.length;
+        }
+
+        int maxLength = maxLengths[column];
+        if (maxLength > 0) {
+            // same as Hive's own vectorized readers: char values are kept without their padding (added back when
+            // turned into a HiveChar) while varchar ones are only truncated
+            length = (types[column] instanceof CharTypeInfo ? StringExpr.rightTrimAndTruncate(bytes, 0, length, maxLength)
+                    : StringExpr.truncate(bytes, 0, length, maxLength));
+        }
+        vector.setVal(row, bytes, 0, length);
+    }
+
+    private OpenSearchHadoopIllegalArgumentException unsupported(Writable value, int column) {
+        return new OpenSearchHadoopIllegalArgumentException(String.format("Cannot read [%s] of type [%s] into column of type [%s]",
+                value, value.getClass().getName(), types[column].getTypeName()));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.hive;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.Writable;
+import org.opensearch.hadoop.cfg.Settings;
+import org.opensearch.hadoop.serialization.builder.ValueParsingCallback;
+import org.opensearch.hadoop.util.StringUtils;
+
+/**
+ * {@link HiveValueReader} used by the vectorized reads: the top-level fields of each hit are kept in an array, one
+ * slot per field backing a column of the table, instead of a map keyed by field name (fields not backing any column
+ * are dropped). Nested objects and arrays are read as usual.
+ */
+public class HiveVectorValueReader extends HiveValueReader implements ValueParsingCallback {
+
+    private Text[] names = new Text[0];
+    private final Map<Text, Integer> slots = new HashMap<Text, Integer>();
+
+    private boolean pendingRoot = false;
+    private boolean inMetadata = false;
+
+    @Override
+    public void setSettings(Settings settings) {
+        super.setSettings(settings);
+
+        slots.clear();
+        Collection<String> fields = HiveUtils.columnToAlias(settings);
+        for (String field : fields) {
+            Text name = new Text(StringUtils.tokenize(field, ".").get(0));
+            if (!slots.containsKey(name)) {
+                slots.put(name, slots.size());
+            }
+        }
+        names = new Text[slots.size()];
+        for (Map.Entry<Text, Integer> entry : slots.entrySet()) {
+            names[entry.getValue()] = entry.getKey();
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public Map createMap() {
+        // the first object outside the metadata is the document itself
+        if (pendingRoot && !inMetadata && names.length > 0) {
+            pendingRoot = false;
+            return new Row(names, slots);
+        }
+        return super.createMap();
+    }
+
+    @Override
+    public void addToMap(Object map, Object key, Object value) {
+        if (map instanceof Row) {
+            ((Row) map).set(key, value);
+        }
+        else {
+            super.addToMap(map, key, value);
+        }
+    }
+
+    @Override
+    public void beginDoc() {
+        pendingRoot = true;
+    }
+
+    @Override
+    public void beginLeadMetadata() {
+        inMetadata = true;
+    }
+
+    @Override
+    public void endLeadMetadata() {
+        inMetadata = false;
+    }
+
+    @Override
+    public void beginSource() {
+    }
+
+    @Override
+    public void endSource() {
+    }
+
+    @Override
+    public void excludeSource() {
+    }
+
+    @Override
+    public void beginTrailMetadata() {
+    }
+
+    @Override
+    public void endTrailMetadata() {
+    }
+
+    @Override
+    public void endDoc() {
+        pendingRoot = false;
+    }
+
+    @Override
+    public void beginGeoField() {
+    }
+
+    @Override
+    public void endGeoField() {
+    }
+
+    /**
+     * Top-level fields of a hit. The slots are shared by all the rows of a reader; the map view is read-only.
+     */
+    static final class Row extends AbstractMap<Writable, Writable> {
+
+        private final Text[] names;
+        private final Map<Text, Integer> slots;
+        private final Writable[] values;
+
+        Row(Text[] names, Map<Text, Integer> slots) {
+            this.names = names;
+            this.slots = slots;
+            this.values = new Writable[names.length];
+        }
+
+        Text[] names() {
+            return names;
+        }
+
+        /**
+         * @return the slot of the given top-level field or -1 if it does not back any column
+         */
+        int slot(Text name) {
+            Integer slot = slots.get(name);
+            return (slot != null ? slot.intValue() : -1);
+        }
+
+        Writable get(int slot) {
+            return (slot >= 0 ? values[slot] : null);
+        }
+
+        void set(Object key, Object value) {
+            Integer slot = slots.get(key instanceof Text ? (Text) key : new Text(key.toString()));
+            if (slot != null) {
+                values[slot.intValue()] = (Writable) value;
+            }
+        }
+
+        @Override
+        public Set<Entry<Writable, Writable>> entrySet() {
+            Map<Writable, Writable> map = new LinkedHashMap<Writable, Writable>();
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    map.put(names[i], values[i]);
+                }
+            }
+            return map.entrySet();
+        }
+    }
+}
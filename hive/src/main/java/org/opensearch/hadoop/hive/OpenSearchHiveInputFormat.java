@@ -31,10 +31,23 @@ package org.opensearch.hadoop.hive;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hive.ql.exec.Utilities;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedInputFormatInterface;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatchCtx;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedSupport;
+import org.apache.hadoop.hive.ql.plan.MapWork;
+import org.apache.hadoop.hive.ql.plan.PartitionDesc;
+import org.apache.hadoop.hive.ql.plan.VectorPartitionDesc;
+import org.apache.hadoop.hive.serde2.ColumnProjectionUtils;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
+import org.apache.hadoop.io.NullWritable;
 import org.apache.hadoop.io.Text;
 import org.apache.hadoop.io.Writable;
 import org.apache.hadoop.mapred.FileInputFormat;
@@ -42,23 +55,27 @@ import org.apache.hadoop.mapred.FileSplit;
 import org.apache.hadoop.mapred.InputSplit;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapred.Reporter;
+import org.opensearch.hadoop.OpenSearchHadoopIllegalStateException;
+import org.opensearch.hadoop.cfg.ConfigurationOptions;
 import org.opensearch.hadoop.cfg.HadoopSettingsManager;
 import org.opensearch.hadoop.cfg.InternalConfigurationOptions;
 import org.opensearch.hadoop.cfg.Settings;
 import org.opensearch.hadoop.mr.OpenSearchInputFormat;
 import org.opensearch.hadoop.mr.security.HadoopUserProvider;
 import org.opensearch.hadoop.rest.InitializationUtils;
+import org.opensearch.hadoop.util.FieldAlias;
 import org.opensearch.hadoop.util.StringUtils;
 
 /**
  * Hive specific InputFormat. Since Hive code base makes a lot of assumptions about the tables being actual files in HDFS (using instanceof checks without proper else) this class tries to 'fix' this by
  * adding a dummy {@link FileInputFormat} to ESInputFormat.
+ * When Hive vectorizes the table scan through this input format, the hits are read straight into {@link VectorizedRowBatch}es.
  */
 
 // A quick example would be {@link org.apache.hadoop.hive.ql.io.HiveInputFormat.HiveInputSplit#getPath()} which, in case the actual InputSplit is not a
 // {@link org.apache.hadoop.mapred.FileSplit}, returns an invalid Path.
 
-public class OpenSearchHiveInputFormat extends OpenSearchInputFormat<Text, Writable> {
+public class OpenSearchHiveInputFormat extends OpenSearchInputFormat<Text, Writable> implements VectorizedInputFormatInterface {
 
     static class OpenSearchHiveSplit extends FileSplit {
         InputSplit delegate;
@@ -75,8 +92,12 @@ public class OpenSearchHiveInputFormat extends OpenSearchInputFormat<Text, Writa
         }
 
         public long getLength() {
-            // TODO: can this be delegated?
-            return 1L;
+            // the store size of the shards behind the split - letting Hive group and combine splits by it
+            try {
+                return delegate.getLength();
+            } catch (IOException ex) {
+                throw new OpenSearchHadoopIllegalStateException("Cannot determine the length of split " + delegate, ex);
+            }
         }
 
         public String[] getLocations() throws IOException {
@@ -104,6 +125,72 @@ public class OpenSearchHiveInputFormat extends OpenSearchInputFormat<Text, Writa
         }
     }
 
+    /**
+     * Reads the hits of a split into {@link VectorizedRowBatch}es (one row per hit) through the {@link HiveVectorBatch},
+     * skipping the per hit maps and their conversion by the {@link OpenSearchSerDe}.
+     */
+    static class VectorizedOpenSearchHiveRecordReader extends OpenSearchInputRecordReader<NullWritable, VectorizedRowBatch> {
+
+        private final VectorizedRowBatchCtx context;
+        private final HiveVectorBatch rows;
+
+        VectorizedOpenSearchHiveRecordReader(InputSplit split, JobConf job, Reporter reporter) {
+            super(split, job, reporter);
+
+            context = Utilities.getVectorizedRowBatchCtx(job);
+            Settings settings = HadoopSettingsManager.loadFrom(job);
+            FieldAlias alias = HiveUtils.alias(settings);
+
+            // partition and virtual columns (if any) follow the data ones
+            int dataColumns = context.getDataColumnCount();
+            String[] names = Arrays.copyOf(context.getRowColumnNames(), dataColumns);
+            TypeInfo[] types = Arrays.copyOf(context.getRowColumnTypeInfos(), dataColumns);
+            List<Integer> readColumns = (ColumnProjectionUtils.isReadAllColumns(job) ? null : ColumnProjectionUtils.getReadColumnIDs(job));
+            String jsonField = (settings.getOutputAsJson() ? HiveUtils.discoverJsonFieldName(settings, alias) : null);
+            rows = new HiveVectorBatch(names, types, readColumns, alias, jsonField);
+        }
+
+        @Override
+        protected void configure(Settings settings) {
+            // custom value readers are left as they are
+            String valueReader = settings.getProperty(ConfigurationOptions.OPENSEARCH_SERIALIZATION_READER_VALUE_CLASS);
+            if (valueReader == null || HiveValueReader.class.getName().equals(valueReader)) {
+                settings.setProperty(ConfigurationOptions.OPENSEARCH_SERIALIZATION_READER_VALUE_CLASS, HiveVectorValueReader.class.getName());
+            }
+        }
+
+        @Override
+        public boolean next(NullWritable key, VectorizedRowBatch value) throws IOException {
+            value.reset();
+            rows.begin(value);
+            while (value.size < value.getMaxSize() && super.next(key, value)) {
+                // each hit is appended to the batch
+            }
+            return value.size > 0;
+        }
+
+        @Override
+        public NullWritable createKey() {
+            return NullWritable.get();
+        }
+
+        @Override
+        public VectorizedRowBatch createValue() {
+            return context.createVectorizedRowBatch();
+        }
+
+        @Override
+        protected NullWritable setCurrentKey(NullWritable hadoopKey, Object object) {
+            return hadoopKey;
+        }
+
+        @Override
+        protected VectorizedRowBatch setCurrentValue(VectorizedRowBatch hadoopValue, Object object) {
+            rows.add(hadoopValue, object);
+            return hadoopValue;
+        }
+    }
+
     @Override
     public FileSplit[] getSplits(JobConf job, int numSplits) throws IOException {
         // first, merge input table properties (since there's no access to them ...)
@@ -115,11 +202,12 @@ public class OpenSearchHiveInputFormat extends OpenSearchInputFormat<Text, Writa
         InitializationUtils.setValueReaderIfNotSet(settings, HiveValueReader.class, log);
         InitializationUtils.setUserProviderIfNotSet(settings, HadoopUserProvider.class, log);
         if (settings.getOutputAsJson() == false) {
-            // Only set the fields if we aren't asking for raw JSON
-            settings.setProperty(InternalConfigurationOptions.INTERNAL_OPENSEARCH_TARGET_FIELDS, StringUtils.concatenate(HiveUtils.columnToAlias(settings), ","));
+            // Only set the fields if we aren't asking for raw JSON - and only those backing the columns read by the query
+            settings.setProperty(InternalConfigurationOptions.INTERNAL_OPENSEARCH_TARGET_FIELDS, StringUtils.concatenate(HiveUtils.readColumnToAlias(settings, job), ","));
         }
 
         HiveUtils.init(settings, log);
+        HivePredicates.pushDown(job, settings, log);
 
         // decorate original splits as FileSplit
         InputSplit[] shardSplits = super.getSplits(job, numSplits);
@@ -133,8 +221,33 @@ public class OpenSearchHiveInputFormat extends OpenSearchInputFormat<Text, Writa
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
-    public AbstractWritableOpenSearchInputRecordReader getRecordReader(InputSplit split, JobConf job, Reporter reporter) {
+    public OpenSearchInputRecordReader getRecordReader(InputSplit split, JobConf job, Reporter reporter) {
         InputSplit delegate = ((OpenSearchHiveSplit) split).delegate;
+        if (Utilities.getIsVectorized(job) && readsVectorized(Utilities.getMapWork(job))) {
+            return new VectorizedOpenSearchHiveRecordReader(delegate, job, reporter);
+        }
         return isOutputAsJson(job) ? new JsonWritableOpenSearchInputRecordReader(delegate, job, reporter) : new WritableOpenSearchInputRecordReader(delegate, job, reporter);
     }
+
+    /**
+     * Whether the given map work reads this input format in vectorized mode - as opposed to vectorizing the rows
+     * it returns (think row or vector deserialize mode), in which case the rows are expected as usual.
+     */
+    static boolean readsVectorized(MapWork work) {
+        if (work == null || work.getPathToPartitionInfo() == null) {
+            return false;
+        }
+        for (PartitionDesc partition : work.getPathToPartitionInfo().values()) {
+            VectorPartitionDesc vector = partition.getVectorPartitionDesc();
+            if (vector != null && OpenSearchHiveInputFormat.class.getName().equals(vector.getInputFileFormatClassName())) {
+                return vector.getVectorMapOperatorReadType() == VectorPartitionDesc.VectorMapOperatorReadType.VECTORIZED_INPUT_FILE_FORMAT;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public VectorizedSupport.Support[] getSupportedFeatures() {
+        return new VectorizedSupport.Support[0];
+    }
 }
\ No newline at end of file
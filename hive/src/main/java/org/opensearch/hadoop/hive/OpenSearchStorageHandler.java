@@ -37,8 +37,11 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hive.metastore.HiveMetaHook;
 import org.apache.hadoop.hive.ql.metadata.DefaultStorageHandler;
+import org.apache.hadoop.hive.ql.metadata.HiveStoragePredicateHandler;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
 import org.apache.hadoop.hive.ql.plan.TableDesc;
 import org.apache.hadoop.hive.serde2.AbstractSerDe;
+import org.apache.hadoop.hive.serde2.Deserializer;
 import org.apache.hadoop.mapred.InputFormat;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapred.OutputFormat;
@@ -58,6 +61,7 @@ import org.opensearch.hadoop.security.User;
 import org.opensearch.hadoop.security.UserProvider;
 import org.opensearch.hadoop.util.Assert;
 import org.opensearch.hadoop.util.ClusterInfo;
+import org.opensearch.hadoop.util.unit.Booleans;
 
 import static org.opensearch.hadoop.hive.HiveConstants.COLUMNS;
 import static org.opensearch.hadoop.hive.HiveConstants.COLUMNS_TYPES;
@@ -68,9 +72,12 @@ import static org.opensearch.hadoop.hive.HiveConstants.TABLE_LOCATION;
  *
  * The OpenSearch host/port can be specified through Hadoop properties (see package description)
  * or passed to {@link OpenSearchStorageHandler} through Hive <tt>TBLPROPERTIES</tt>
+ *
+ * The predicates of the queries are translated into OpenSearch filters (unless <tt>opensearch.hive.pushdown</tt> is false)
+ * so that only the matching documents are read.
  */
 @SuppressWarnings({ "deprecation", "rawtypes" })
-public class OpenSearchStorageHandler extends DefaultStorageHandler {
+public class OpenSearchStorageHandler extends DefaultStorageHandler implements HiveStoragePredicateHandler {
 
     private static Log log = LogFactory.getLog(OpenSearchStorageHandler.class);
 
@@ -146,6 +153,15 @@ public class OpenSearchStorageHandler extends DefaultStorageHandler {
     }
 
 
+    @Override
+    public DecomposedPredicate decomposePredicate(JobConf jobConf, Deserializer deserializer, ExprNodeDesc predicate) {
+        // the job configuration holds the table properties
+        if (!Booleans.parseBoolean(jobConf.get(HiveConstants.PUSHDOWN), true)) {
+            return null;
+        }
+        return HivePredicates.decompose(predicate);
+    }
+
     @Override
     @Deprecated
     public void configureTableJobProperties(TableDesc tableDesc, Map<String, String> jobProperties) {
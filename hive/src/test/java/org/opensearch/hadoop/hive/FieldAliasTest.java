@@ -28,10 +28,14 @@
  */
 package org.opensearch.hadoop.hive;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Properties;
 
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hive.serde2.ColumnProjectionUtils;
 import org.opensearch.hadoop.cfg.PropertiesSettings;
 import org.opensearch.hadoop.hive.HiveConstants;
 import org.opensearch.hadoop.hive.HiveUtils;
@@ -77,4 +81,32 @@ public class FieldAliasTest {
         assertEquals("123foo", iterator.next());
         assertEquals("&foo", iterator.next());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testReadColumnToAlias() throws Exception {
+        Properties tableProperties = new Properties();
+        tableProperties.put(HiveConstants.MAPPING_NAMES, "timestamp:@timestamp , foo:123foo");
+        tableProperties.put(HiveConstants.COLUMNS, "id,name,timestamp,foo");
+        PropertiesSettings settings = new PropertiesSettings(tableProperties);
+
+        // no projection
+        Configuration cfg = new Configuration(false);
+        assertEquals(4, HiveUtils.readColumnToAlias(settings, cfg).size());
+
+        ColumnProjectionUtils.appendReadColumns(cfg, Arrays.asList(1, 2));
+        Collection<String> readColumnToAlias = HiveUtils.readColumnToAlias(settings, cfg);
+        assertEquals(2, readColumnToAlias.size());
+        Iterator<String> iterator = readColumnToAlias.iterator();
+        assertEquals("name", iterator.next());
+        assertEquals("@timestamp", iterator.next());
+    }
+
+    @Test
+    public void testReadNoColumnToAlias() throws Exception {
+        Properties tableProperties = new Properties();
+        tableProperties.put(HiveConstants.COLUMNS, "id,name");
+        Configuration cfg = new Configuration(false);
+        ColumnProjectionUtils.appendReadColumns(cfg, Collections.<Integer> emptyList());
+        assertEquals(Collections.singleton("id"), HiveUtils.readColumnToAlias(new PropertiesSettings(tableProperties), cfg));
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.hive;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hadoop.hive.ql.metadata.HiveStoragePredicateHandler.DecomposedPredicate;
+import org.apache.hadoop.hive.ql.plan.ExprNodeColumnDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeConstantDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeGenericFuncDesc;
+import org.apache.hadoop.hive.ql.udf.UDFLike;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDF;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFBridge;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFIn;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPAnd;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqual;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPGreaterThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPNotNull;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPOr;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoFactory;
+import org.opensearch.hadoop.serialization.FieldType;
+import org.opensearch.hadoop.serialization.dto.mapping.Field;
+import org.opensearch.hadoop.serialization.dto.mapping.FieldParser;
+import org.opensearch.hadoop.serialization.dto.mapping.Mapping;
+import org.opensearch.hadoop.util.FieldAlias;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class HivePredicatesTest {
+
+    private final Map<String, FieldType> fields = new LinkedHashMap<String, FieldType>();
+
+    {
+        fields.put("name", FieldType.KEYWORD);
+        fields.put("description", FieldType.TEXT);
+        fields.put("age", FieldType.LONG);
+        fields.put("score", FieldType.FLOAT);
+        fields.put("@timestamp", FieldType.KEYWORD);
+    }
+
+    private static ExprNodeDesc column(String name, TypeInfo type) {
+        return new ExprNodeColumnDesc(type, name, "t", false);
+    }
+
+    private static ExprNodeDesc constant(Object value, TypeInfo type) {
+        return new ExprNodeConstantDesc(type, value);
+    }
+
+    private static ExprNodeGenericFuncDesc call(GenericUDF udf, ExprNodeDesc... children) {
+        return new ExprNodeGenericFuncDesc(TypeInfoFactory.booleanTypeInfo, udf, new ArrayList<ExprNodeDesc>(Arrays.asList(children)));
+    }
+
+    private static ExprNodeDesc name() {
+        return column("name", TypeInfoFactory.stringTypeInfo);
+    }
+
+    private static ExprNodeDesc age() {
+        return column("age", TypeInfoFactory.longTypeInfo);
+    }
+
+    private List<String> filters(ExprNodeDesc predicate) {
+        return HivePredicates.filters(predicate, new FieldAlias(true), fields);
+    }
+
+    @Test
+    public void testComparisons() {
+        ExprNodeDesc predicate = call(new GenericUDFOPAnd(),
+                call(new GenericUDFOPEqual(), name(), constant("kimchy", TypeInfoFactory.stringTypeInfo)),
+                call(new GenericUDFOPGreaterThan(), constant(30L, TypeInfoFactory.longTypeInfo), age()));
+        assertEquals(Arrays.asList("{\"term\":{\"name\":\"kimchy\"}}", "{\"range\":{\"age\":{\"lt\":\"30\"}}}"), filters(predicate));
+    }
+
+    @Test
+    public void testInOrAndNull() {
+        ExprNodeDesc predicate = call(new GenericUDFOPOr(),
+                call(new GenericUDFIn(), age(), constant(1L, TypeInfoFactory.longTypeInfo), constant(2L, TypeInfoFactory.longTypeInfo)),
+                call(new GenericUDFOPNotNull(), name()));
+        assertEquals(Collections.singletonList("{\"bool\":{\"should\":[{\"terms\":{\"age\":[\"1\",\"2\"]}},{\"exists\":{\"field\":\"name\"}}]}}"),
+                filters(predicate));
+    }
+
+    @Test
+    public void testLikePrefix() {
+        GenericUDF like = new GenericUDFBridge("like", false, UDFLike.class.getName());
+        assertEquals(Collections.singletonList("{\"prefix\":{\"name\":\"kim\"}}"),
+                filters(call(like, name(), constant("kim%", TypeInfoFactory.stringTypeInfo))));
+        assertEquals(Collections.emptyList(), filters(call(like, name(), constant("k_m%", TypeInfoFactory.stringTypeInfo))));
+        assertEquals(Collections.emptyList(), filters(call(like, name(), constant("%chy", TypeInfoFactory.stringTypeInfo))));
+    }
+
+    @Test
+    public void testOnlyExactFieldsAreTranslated() {
+        // analyzed text
+        assertEquals(Collections.emptyList(), filters(call(new GenericUDFOPEqual(),
+                column("description", TypeInfoFactory.stringTypeInfo), constant("foo", TypeInfoFactory.stringTypeInfo))));
+        // float vs double
+        assertEquals(Collections.emptyList(), filters(call(new GenericUDFOPGreaterThan(),
+                column("score", TypeInfoFactory.doubleTypeInfo), constant(0.1d, TypeInfoFactory.doubleTypeInfo))));
+        // unmapped
+        assertEquals(Collections.emptyList(), filters(call(new GenericUDFOPEqual(),
+                column("unknown", TypeInfoFactory.stringTypeInfo), constant("foo", TypeInfoFactory.stringTypeInfo))));
+    }
+
+    @Test
+    public void testKeywordsNotIndexedAsIsAreNotTranslated() {
+        Mapping mapping = new Mapping("index", null, Arrays.asList(new Field("name", FieldType.KEYWORD),
+                new Field("code", FieldType.KEYWORD, false),
+                new Field("address", FieldType.OBJECT, Arrays.asList(new Field("city", FieldType.KEYWORD),
+                        new Field("street", FieldType.KEYWORD, false)))));
+        Map<String, FieldType> indexed = HivePredicates.indexedFields(mapping);
+        assertEquals(Arrays.asList("name", "address.city"), new ArrayList<String>(indexed.keySet()));
+
+        GenericUDF like = new GenericUDFBridge("like", false, UDFLike.class.getName());
+        ExprNodeDesc code = column("code", TypeInfoFactory.stringTypeInfo);
+        FieldAlias alias = new FieldAlias(true);
+        // values past ignore_above (or normalized) would not match, while Hive cannot bring them back
+        assertEquals(Collections.emptyList(), HivePredicates.filters(call(new GenericUDFOPEqual(), code,
+                constant("foo", TypeInfoFactory.stringTypeInfo)), alias, indexed));
+        assertEquals(Collections.emptyList(), HivePredicates.filters(call(new GenericUDFOPGreaterThan(), code,
+                constant("foo", TypeInfoFactory.stringTypeInfo)), alias, indexed));
+        assertEquals(Collections.emptyList(), HivePredicates.filters(call(like, code,
+                constant("foo%", TypeInfoFactory.stringTypeInfo)), alias, indexed));
+        assertEquals(Collections.emptyList(), HivePredicates.filters(call(new GenericUDFOPNotNull(), code), alias, indexed));
+        assertEquals(Collections.singletonList("{\"term\":{\"name\":\"foo\"}}"), HivePredicates.filters(call(new GenericUDFOPEqual(),
+                name(), constant("foo", TypeInfoFactory.stringTypeInfo)), alias, indexed));
+    }
+
+    @Test
+    public void testUnindexedFieldsAreNotTranslated() {
+        Map<String, Object> properties = new LinkedHashMap<String, Object>();
+        properties.put("name", Collections.singletonMap("type", "keyword"));
+        Map<String, Object> hidden = new LinkedHashMap<String, Object>();
+        hidden.put("type", "keyword");
+        hidden.put("index", false);
+        properties.put("hidden", hidden);
+        Map<String, Object> mappings = Collections.<String, Object>singletonMap("mappings",
+                Collections.singletonMap("properties", properties));
+        Mapping mapping = FieldParser.parseTypelessMappings(Collections.<String, Object>singletonMap("index", mappings))
+                .getResolvedView();
+
+        Map<String, FieldType> indexed = HivePredicates.indexedFields(mapping);
+        assertEquals(Arrays.asList("name"), new ArrayList<String>(indexed.keySet()));
+        // a term query on a field that is not indexed fails (or scans the doc values)
+        assertEquals(Collections.emptyList(), HivePredicates.filters(call(new GenericUDFOPEqual(),
+                column("hidden", TypeInfoFactory.stringTypeInfo), constant("foo", TypeInfoFactory.stringTypeInfo)),
+                new FieldAlias(true), indexed));
+    }
+
+    @Test
+    public void testAliasedColumn() {
+        Map<String, String> aliases = new LinkedHashMap<String, String>();
+        aliases.put("ts", "@timestamp");
+        ExprNodeDesc predicate = call(new GenericUDFOPEqual(),
+                column("ts", TypeInfoFactory.stringTypeInfo), constant("2020", TypeInfoFactory.stringTypeInfo));
+        assertEquals(Collections.singletonList("{\"term\":{\"@timestamp\":\"2020\"}}"),
+                HivePredicates.filters(predicate, new FieldAlias(aliases, true), fields));
+    }
+
+    @Test
+    public void testDecompose() {
+        ExprNodeGenericFuncDesc pushable = call(new GenericUDFOPEqual(), name(), constant("kimchy", TypeInfoFactory.stringTypeInfo));
+        ExprNodeGenericFuncDesc predicate = call(new GenericUDFOPAnd(), pushable,
+                call(new GenericUDFOPEqual(), column("tags", TypeInfoFactory.getListTypeInfo(TypeInfoFactory.stringTypeInfo)),
+                        constant(null, TypeInfoFactory.stringTypeInfo)));
+
+        DecomposedPredicate decomposed = HivePredicates.decompose(predicate);
+        assertEquals(pushable.getExprString(), decomposed.pushedPredicate.getExprString());
+        // Hive keeps checking the rows
+        assertSame(predicate, decomposed.residualPredicate);
+
+        assertNull(HivePredicates.decompose(call(new GenericUDFOPEqual(), age(), age())));
+    }
+}
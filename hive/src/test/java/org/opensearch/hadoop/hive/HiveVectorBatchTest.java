@@ -0,0 +1,199 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.hive;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hadoop.hive.ql.exec.vector.BytesColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.DoubleColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.LongColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
+import org.apache.hadoop.hive.serde2.io.ByteWritable;
+import org.apache.hadoop.hive.serde2.io.ShortWritable;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoFactory;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.Writable;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.opensearch.hadoop.cfg.Settings;
+import org.opensearch.hadoop.serialization.ScrollReader;
+import org.opensearch.hadoop.serialization.ScrollReaderConfigBuilder;
+import org.opensearch.hadoop.serialization.builder.JdkValueReader;
+import org.opensearch.hadoop.serialization.dto.mapping.FieldParser;
+import org.opensearch.hadoop.serialization.dto.mapping.Mapping;
+import org.opensearch.hadoop.util.StringUtils;
+import org.opensearch.hadoop.util.TestSettings;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class HiveVectorBatchTest {
+
+    private static final String MAPPING = "{ \"people\" : { \"mappings\" : { \"properties\" : {"
+            + " \"name\" : { \"type\" : \"keyword\" }, \"age\" : { \"type\" : \"integer\" }, \"score\" : { \"type\" : \"double\" },"
+            + " \"address\" : { \"properties\" : { \"city\" : { \"type\" : \"keyword\" } } }, \"comment\" : { \"type\" : \"text\" } } } } }";
+
+    private static final String HITS = "{ \"_scroll_id\" : \"c2Nhbg==\", \"hits\" : { \"total\" : 2, \"hits\" : ["
+            + " { \"_index\" : \"people\", \"_id\" : \"1\", \"_score\" : 1.0, \"_source\" : { \"name\" : \"kimchy\", \"age\" : 42,"
+            + " \"score\" : 1.5, \"address\" : { \"city\" : \"Amsterdam\" }, \"comment\" : \"not a column\" } },"
+            + " { \"_index\" : \"people\", \"_id\" : \"2\", \"_score\" : 1.0, \"_source\" : { \"name\" : \"costin\" } } ] } }";
+
+    private static final String[] NAMES = { "name", "age", "score", "city" };
+    private static final TypeInfo[] TYPES = { TypeInfoFactory.stringTypeInfo, TypeInfoFactory.intTypeInfo,
+            TypeInfoFactory.doubleTypeInfo, TypeInfoFactory.stringTypeInfo };
+
+    @Test
+    public void testTopLevelFieldsAreKeptBySlot() throws Exception {
+        List<Object[]> hits = read(new HiveVectorValueReader());
+        assertEquals(2, hits.size());
+        assertTrue(hits.get(0)[1] instanceof HiveVectorValueReader.Row);
+
+        HiveVectorValueReader.Row row = (HiveVectorValueReader.Row) hits.get(0)[1];
+        assertEquals(new Text("kimchy"), row.get(row.slot(new Text("name"))));
+        assertTrue(row.get(row.slot(new Text("address"))) instanceof Map);
+        // fields not backing any column are dropped
+        assertEquals(-1, row.slot(new Text("comment")));
+        assertEquals(4, row.size());
+        assertFalse(row.containsKey(new Text("comment")));
+    }
+
+    @Test
+    public void testFillBatch() throws Exception {
+        VectorizedRowBatch batch = fill(new HiveVectorValueReader(), null);
+        assertEquals(2, batch.size);
+
+        assertEquals("kimchy", string(batch, 0, 0));
+        assertEquals(42, ((LongColumnVector) batch.cols[1]).vector[0]);
+        assertEquals(1.5d, ((DoubleColumnVector) batch.cols[2]).vector[0], 0.0d);
+        // multi-level alias
+        assertEquals("Amsterdam", string(batch, 3, 0));
+
+        // missing fields are null
+        assertEquals("costin", string(batch, 0, 1));
+        assertTrue(batch.cols[1].isNull[1]);
+        assertTrue(batch.cols[2].isNull[1]);
+        assertTrue(batch.cols[3].isNull[1]);
+        assertFalse(batch.cols[0].isNull[1]);
+    }
+
+    @Test
+    public void testFillProjectedColumnsOnly() throws Exception {
+        VectorizedRowBatch batch = fill(new HiveVectorValueReader(), Collections.singletonList(1));
+        assertEquals(2, batch.size);
+        assertEquals(42, ((LongColumnVector) batch.cols[1]).vector[0]);
+        assertTrue(batch.cols[1].isNull[1]);
+        assertEquals(0, ((BytesColumnVector) batch.cols[0]).length[0]);
+        assertTrue(batch.cols[0].noNulls);
+    }
+
+    @Test
+    public void testFillFromMaps() throws Exception {
+        // custom value readers return maps
+        VectorizedRowBatch batch = fill(new HiveValueReader(), null);
+        assertEquals(2, batch.size);
+        assertEquals("kimchy", string(batch, 0, 0));
+        assertEquals(42, ((LongColumnVector) batch.cols[1]).vector[0]);
+        assertEquals("Amsterdam", string(batch, 3, 0));
+        assertTrue(batch.cols[3].isNull[1]);
+    }
+
+    @Test
+    public void testCharAndVarcharAreCutToTheirLength() throws Exception {
+        String[] names = { "code", "label" };
+        TypeInfo[] types = { TypeInfoFactory.getCharTypeInfo(3), TypeInfoFactory.getVarcharTypeInfo(4) };
+        VectorizedRowBatch batch = new VectorizedRowBatch(names.length);
+        batch.cols[0] = new BytesColumnVector();
+        batch.cols[1] = new BytesColumnVector();
+        batch.reset();
+
+        HiveVectorBatch rows = new HiveVectorBatch(names, types, null, HiveUtils.alias(new TestSettings()), null);
+        rows.begin(batch);
+        rows.add(batch, hit("code", new Text("abcdef"), "label", new Text("été en mer")));
+        rows.add(batch, hit("code", new Text("a  "), "label", new Text("ab  ")));
+
+        assertEquals("abc", string(batch, 0, 0));
+        assertEquals("été ", string(batch, 1, 0));
+        // char values are kept without their padding, as Hive does
+        assertEquals("a", string(batch, 0, 1));
+        assertEquals("ab  ", string(batch, 1, 1));
+    }
+
+    @Test
+    public void testSmallIntegersIntoDoubleColumn() throws Exception {
+        String[] names = { "a", "b" };
+        TypeInfo[] types = { TypeInfoFactory.doubleTypeInfo, TypeInfoFactory.floatTypeInfo };
+        VectorizedRowBatch batch = new VectorizedRowBatch(names.length);
+        batch.cols[0] = new DoubleColumnVector();
+        batch.cols[1] = new DoubleColumnVector();
+        batch.reset();
+
+        HiveVectorBatch rows = new HiveVectorBatch(names, types, null, HiveUtils.alias(new TestSettings()), null);
+        rows.begin(batch);
+        rows.add(batch, hit("a", new ShortWritable((short) 7), "b", new ByteWritable((byte) -3)));
+
+        assertEquals(7d, ((DoubleColumnVector) batch.cols[0]).vector[0], 0.0d);
+        assertEquals(-3d, ((DoubleColumnVector) batch.cols[1]).vector[0], 0.0d);
+    }
+
+    private static Map<Text, Writable> hit(String name, Writable value, String otherName, Writable otherValue) {
+        Map<Text, Writable> hit = new HashMap<Text, Writable>();
+        hit.put(new Text(name), value);
+        hit.put(new Text(otherName), otherValue);
+        return hit;
+    }
+
+    private VectorizedRowBatch fill(JdkValueReader valueReader, List<Integer> readColumns) throws Exception {
+        VectorizedRowBatch batch = new VectorizedRowBatch(NAMES.length);
+        batch.cols[0] = new BytesColumnVector();
+        batch.cols[1] = new LongColumnVector();
+        batch.cols[2] = new DoubleColumnVector();
+        batch.cols[3] = new BytesColumnVector();
+        batch.reset();
+
+        HiveVectorBatch rows = new HiveVectorBatch(NAMES, TYPES, readColumns, HiveUtils.alias(settings()), null);
+        rows.begin(batch);
+        for (Object[] hit : read(valueReader)) {
+            rows.add(batch, hit[1]);
+        }
+        return batch;
+    }
+
+    private static String string(VectorizedRowBatch batch, int column, int row) {
+        BytesColumnVector vector = (BytesColumnVector) batch.cols[column];
+        return new String(vector.vector[row], vector.start[row], vector.length[row], StandardCharsets.UTF_8);
+    }
+
+    private List<Object[]> read(JdkValueReader valueReader) throws Exception {
+        Settings settings = settings();
+        valueReader.setSettings(settings);
+        ScrollReader reader = new ScrollReader(ScrollReaderConfigBuilder.builder(valueReader, mapping(), settings));
+        return reader.read(new ByteArrayInputStream(StringUtils.toUTF(HITS))).getHits();
+    }
+
+    private static Settings settings() {
+        Settings settings = new TestSettings();
+        settings.setProperty(HiveConstants.COLUMNS, StringUtils.concatenate(NAMES, ","));
+        settings.setProperty(HiveConstants.MAPPING_NAMES, "city:address.city");
+        return settings;
+    }
+
+    private static Mapping mapping() throws Exception {
+        return FieldParser.parseTypelessMappings(new ObjectMapper().readValue(MAPPING, Map.class)).getResolvedView();
+    }
+}
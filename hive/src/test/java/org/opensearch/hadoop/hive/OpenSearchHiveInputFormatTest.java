@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.hive;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.hive.ql.plan.MapWork;
+import org.apache.hadoop.hive.ql.plan.PartitionDesc;
+import org.apache.hadoop.hive.ql.plan.VectorPartitionDesc;
+import org.apache.hadoop.hive.serde2.lazy.LazySimpleSerDe;
+import org.apache.hadoop.mapred.InputSplit;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class OpenSearchHiveInputFormatTest {
+
+    private static final String INPUT_FORMAT = OpenSearchHiveInputFormat.class.getName();
+
+    @Test
+    public void testReadsVectorized() {
+        assertTrue(OpenSearchHiveInputFormat.readsVectorized(
+                work(VectorPartitionDesc.createVectorizedInputFileFormat(INPUT_FORMAT, false))));
+    }
+
+    @Test
+    public void testRowsAreVectorizedByHive() {
+        // the rows returned by the input format are turned into batches by Hive
+        assertFalse(OpenSearchHiveInputFormat.readsVectorized(
+                work(VectorPartitionDesc.createRowDeserialize(INPUT_FORMAT, false, LazySimpleSerDe.class.getName()))));
+        assertFalse(OpenSearchHiveInputFormat.readsVectorized(work(null)));
+        assertFalse(OpenSearchHiveInputFormat.readsVectorized(null));
+    }
+
+    @Test
+    public void testSplitLengthIsThePartitionSize() {
+        // the size of the shards packed together
+        InputSplit partition = new InputSplit() {
+            @Override
+            public long getLength() {
+                return 4096L;
+            }
+
+            @Override
+            public String[] getLocations() {
+                return new String[0];
+            }
+
+            @Override
+            public void write(DataOutput out) {
+            }
+
+            @Override
+            public void readFields(DataInput in) {
+            }
+        };
+        assertEquals(4096L, new OpenSearchHiveInputFormat.OpenSearchHiveSplit(partition, new Path("/opensearch/table")).getLength());
+    }
+
+    private static MapWork work(VectorPartitionDesc vectorPartition) {
+        PartitionDesc partition = new PartitionDesc();
+        partition.setVectorPartitionDesc(vectorPartition);
+        MapWork work = new MapWork();
+        work.addPathToPartitionInfo(new Path("/opensearch/table"), partition);
+        return work;
+    }
+}
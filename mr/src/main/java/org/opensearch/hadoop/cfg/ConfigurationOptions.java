@@ -77,6 +77,10 @@ public interface ConfigurationOptions {
 
     String OPENSEARCH_NODES_RESOLVE_HOST_NAME = "opensearch.nodes.resolve.hostname";
 
+    /** How long the cluster metadata discovered when setting up a job (version, nodes, shards, mappings) is reused by the following jobs */
+    String OPENSEARCH_METADATA_CACHE_TTL = "opensearch.metadata.cache.ttl";
+    String OPENSEARCH_METADATA_CACHE_TTL_DEFAULT = "0";
+
     /** Secure Settings Keystore */
     String OPENSEARCH_KEYSTORE_LOCATION = "opensearch.keystore.location";
 
@@ -88,6 +92,21 @@ public interface ConfigurationOptions {
     String OPENSEARCH_BATCH_SIZE_ENTRIES = "opensearch.batch.size.entries";
     String OPENSEARCH_BATCH_SIZE_ENTRIES_DEFAULT = "1000";
 
+    /** Whether the batch size is adjusted at runtime based on the bulk latency and rejections (auto-flush only) */
+    String OPENSEARCH_BATCH_SIZE_ADAPTIVE = "opensearch.batch.size.adaptive";
+    String OPENSEARCH_BATCH_SIZE_ADAPTIVE_DEFAULT = "false";
+
+    /** Bounds of the adaptive batch size, in bytes (the entries limit is scaled along) */
+    String OPENSEARCH_BATCH_SIZE_ADAPTIVE_MIN_BYTES = "opensearch.batch.size.adaptive.min.bytes";
+    String OPENSEARCH_BATCH_SIZE_ADAPTIVE_MIN_BYTES_DEFAULT = "128kb";
+
+    String OPENSEARCH_BATCH_SIZE_ADAPTIVE_MAX_BYTES = "opensearch.batch.size.adaptive.max.bytes";
+    String OPENSEARCH_BATCH_SIZE_ADAPTIVE_MAX_BYTES_DEFAULT = "16mb";
+
+    /** Bulk latency under which the adaptive batch size keeps growing */
+    String OPENSEARCH_BATCH_SIZE_ADAPTIVE_TARGET_LATENCY = "opensearch.batch.size.adaptive.target.latency";
+    String OPENSEARCH_BATCH_SIZE_ADAPTIVE_TARGET_LATENCY_DEFAULT = "1s";
+
     /** OpenSearch disable auto-flush on batch overflow */
     String OPENSEARCH_BATCH_FLUSH_MANUAL = "opensearch.batch.flush.manual";
     String OPENSEARCH_BATCH_FLUSH_MANUAL_DEFAULT = "false";
@@ -111,6 +130,14 @@ public interface ConfigurationOptions {
     String OPENSEARCH_BATCH_WRITE_RETRY_POLICY_SIMPLE = "simple";
     String OPENSEARCH_BATCH_WRITE_RETRY_POLICY_DEFAULT = OPENSEARCH_BATCH_WRITE_RETRY_POLICY_SIMPLE;
 
+    /** Number of bulk requests sent at the same time (each over its own connection) while the next batch is being filled (0 means synchronous flushing) */
+    String OPENSEARCH_BATCH_WRITE_CONCURRENCY = "opensearch.batch.write.concurrency";
+    String OPENSEARCH_BATCH_WRITE_CONCURRENCY_DEFAULT = "0";
+
+    /** Whether each document is sent directly to the node holding its primary shard (single index writes only) */
+    String OPENSEARCH_BATCH_WRITE_SHARD_ROUTING = "opensearch.batch.write.shard.routing";
+    String OPENSEARCH_BATCH_WRITE_SHARD_ROUTING_DEFAULT = "false";
+
     /** HTTP connection timeout */
     String OPENSEARCH_HTTP_TIMEOUT = "opensearch.http.timeout";
     String OPENSEARCH_HTTP_TIMEOUT_DEFAULT = "1m";
@@ -118,6 +145,10 @@ public interface ConfigurationOptions {
     String OPENSEARCH_HTTP_RETRIES = "opensearch.http.retries";
     String OPENSEARCH_HTTP_RETRIES_DEFAULT = "3";
 
+    /** Whether to gzip bulk request bodies and ask for compressed responses (to all requests) */
+    String OPENSEARCH_HTTP_COMPRESSION = "opensearch.http.compression";
+    String OPENSEARCH_HTTP_COMPRESSION_DEFAULT = "false";
+
     /** Scroll keep-alive */
     String OPENSEARCH_SCROLL_KEEPALIVE = "opensearch.scroll.keepalive";
     String OPENSEARCH_SCROLL_KEEPALIVE_DEFAULT = "5m";
@@ -130,6 +161,17 @@ public interface ConfigurationOptions {
     String OPENSEARCH_SCROLL_LIMIT = "opensearch.scroll.limit";
     String OPENSEARCH_SCROLL_LIMIT_DEFAULT = "-1";
 
+    /** Number of scroll pages fetched ahead in the background while the current one is consumed (0 disables read-ahead) */
+    String OPENSEARCH_SCROLL_PREFETCH = "opensearch.scroll.prefetch";
+    String OPENSEARCH_SCROLL_PREFETCH_DEFAULT = "0";
+
+    /** How documents are read - through a scroll or a point in time paged with search_after (requires 2.4 or higher and, for
+     * partitions spanning several shards, 3.3 or higher - falls back to scroll otherwise) */
+    String OPENSEARCH_READ_STRATEGY = "opensearch.read.strategy";
+    String OPENSEARCH_READ_STRATEGY_SCROLL = "scroll";
+    String OPENSEARCH_READ_STRATEGY_PIT = "pit";
+    String OPENSEARCH_READ_STRATEGY_DEFAULT = OPENSEARCH_READ_STRATEGY_SCROLL;
+
     /** Scroll fields */
 
     String OPENSEARCH_HEART_BEAT_LEAD = "opensearch.action.heart.beat.lead";
@@ -140,6 +182,9 @@ public interface ConfigurationOptions {
     /** Value writer - setup automatically; can be overridden for custom types */
     String OPENSEARCH_SERIALIZATION_WRITER_VALUE_CLASS = "opensearch.ser.writer.value.class";
 
+    /** Writers of custom types used by the default value writers - comma-separated list of <type>:<value writer class> */
+    String OPENSEARCH_SERIALIZATION_WRITER_VALUE_TYPES = "opensearch.ser.writer.value.types";
+
     /** JSON/Bytes writer - setup automatically; can be overridden for custom types */
     String OPENSEARCH_SERIALIZATION_WRITER_BYTES_CLASS = "opensearch.ser.writer.bytes.class";
 
@@ -148,6 +193,8 @@ public interface ConfigurationOptions {
 
     /** Input options **/
     String OPENSEARCH_MAX_DOCS_PER_PARTITION = "opensearch.input.max.docs.per.partition";
+    /** Target (store) size of each input partition - large shards are sliced and small ones (of the same index) read together */
+    String OPENSEARCH_MAX_BYTES_PER_PARTITION = "opensearch.input.max.bytes.per.partition";
 
     String OPENSEARCH_INPUT_JSON = "opensearch.input.json";
     String OPENSEARCH_INPUT_JSON_DEFAULT = "no";
@@ -216,6 +263,12 @@ public interface ConfigurationOptions {
     /** Technology Specific **/
     String OPENSEARCH_SPARK_DATAFRAME_WRITE_NULL_VALUES = "opensearch.spark.dataframe.write.null";
     String OPENSEARCH_SPARK_DATAFRAME_WRITE_NULL_VALUES_DEFAULT = "false";
+    /** Whether the connector stats (the same as the Hadoop counters) are exposed as Spark accumulators */
+    String OPENSEARCH_SPARK_METRICS_ACCUMULATORS = "opensearch.spark.metrics.accumulators";
+    String OPENSEARCH_SPARK_METRICS_ACCUMULATORS_DEFAULT = "false";
+    /** Whether Spark SQL (DataSource V2) scans return column batches instead of rows - only applies to schemas of atomic types */
+    String OPENSEARCH_SPARK_DATAFRAME_READ_COLUMNAR = "opensearch.spark.dataframe.read.columnar";
+    String OPENSEARCH_SPARK_DATAFRAME_READ_COLUMNAR_DEFAULT = "false";
 
     /** Read settings */
 
@@ -235,6 +288,9 @@ public interface ConfigurationOptions {
     String OPENSEARCH_READ_FIELD_AS_ARRAY_EXCLUDE = "opensearch.read.field.as.array.exclude";
 
     String OPENSEARCH_READ_SOURCE_FILTER = "opensearch.read.source.filter";
+    /** Whether projections made only of top-level keyword (without ignore_above nor normalizer), integral, double, date or boolean fields are read from doc values instead of _source */
+    String OPENSEARCH_READ_SOURCE_DOCVALUES = "opensearch.read.source.docvalues";
+    String OPENSEARCH_READ_SOURCE_DOCVALUES_DEFAULT = "false";
 
     /** Metadata */
     String OPENSEARCH_READ_METADATA = "opensearch.read.metadata";
@@ -51,4 +51,17 @@ public interface InternalConfigurationOptions extends ConfigurationOptions {
     // don't fetch _source field during scroll queries
     String INTERNAL_OPENSEARCH_EXCLUDE_SOURCE = "opensearch.internal.exclude.source";
     String INTERNAL_OPENSEARCH_EXCLUDE_SOURCE_DEFAULT = "false";
+
+    // parse each page in full before handing out its hits (instead of handing them out as they are parsed)
+    String INTERNAL_OPENSEARCH_READ_WHOLE_PAGES = "opensearch.internal.read.whole.pages";
+    String INTERNAL_OPENSEARCH_READ_WHOLE_PAGES_DEFAULT = "false";
+
+    // order of the hits (instead of the index order), as comma separated field:asc|desc:_first|_last entries
+    String INTERNAL_OPENSEARCH_READ_SORT = "opensearch.internal.read.sort";
+
+    // primary shards (and their nodes) of the write index, discovered once by the driver
+    String INTERNAL_OPENSEARCH_WRITE_TARGET_SHARDS = "opensearch.internal.write.target.shards";
+
+    // shard layout (number of shards, routing shards and routing partition size) of the write index, discovered once by the driver
+    String INTERNAL_OPENSEARCH_WRITE_SHARD_LAYOUT = "opensearch.internal.write.shard.layout";
 }
\ No newline at end of file
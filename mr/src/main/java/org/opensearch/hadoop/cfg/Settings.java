@@ -145,6 +145,10 @@ public abstract class Settings {
         return Booleans.parseBoolean(getProperty(OPENSEARCH_NODES_DISCOVERY), !getNodesWANOnly());
     }
 
+    public long getMetadataCacheTtl() {
+        return TimeValue.parseTimeValue(getProperty(OPENSEARCH_METADATA_CACHE_TTL, OPENSEARCH_METADATA_CACHE_TTL_DEFAULT)).getMillis();
+    }
+
     public String getShardPreference() { return getProperty(OPENSEARCH_READ_SHARD_PREFERENCE, OPENSEARCH_READ_SHARD_PREFERENCE_DEFAULT); }
 
     public String getNodesPathPrefix() {
@@ -176,6 +180,10 @@ public abstract class Settings {
         return Integer.valueOf(getProperty(OPENSEARCH_HTTP_RETRIES, OPENSEARCH_HTTP_RETRIES_DEFAULT));
     }
 
+    public boolean getHttpCompression() {
+        return Booleans.parseBoolean(getProperty(OPENSEARCH_HTTP_COMPRESSION, OPENSEARCH_HTTP_COMPRESSION_DEFAULT));
+    }
+
     public int getBatchSizeInBytes() {
         return ByteSizeValue.parseBytesSizeValue(getProperty(OPENSEARCH_BATCH_SIZE_BYTES, OPENSEARCH_BATCH_SIZE_BYTES_DEFAULT)).bytesAsInt();
     }
@@ -184,6 +192,22 @@ public abstract class Settings {
         return Integer.valueOf(getProperty(OPENSEARCH_BATCH_SIZE_ENTRIES, OPENSEARCH_BATCH_SIZE_ENTRIES_DEFAULT));
     }
 
+    public boolean getBatchSizeAdaptive() {
+        return Booleans.parseBoolean(getProperty(OPENSEARCH_BATCH_SIZE_ADAPTIVE, OPENSEARCH_BATCH_SIZE_ADAPTIVE_DEFAULT));
+    }
+
+    public int getBatchSizeAdaptiveMinBytes() {
+        return ByteSizeValue.parseBytesSizeValue(getProperty(OPENSEARCH_BATCH_SIZE_ADAPTIVE_MIN_BYTES, OPENSEARCH_BATCH_SIZE_ADAPTIVE_MIN_BYTES_DEFAULT)).bytesAsInt();
+    }
+
+    public int getBatchSizeAdaptiveMaxBytes() {
+        return ByteSizeValue.parseBytesSizeValue(getProperty(OPENSEARCH_BATCH_SIZE_ADAPTIVE_MAX_BYTES, OPENSEARCH_BATCH_SIZE_ADAPTIVE_MAX_BYTES_DEFAULT)).bytesAsInt();
+    }
+
+    public long getBatchSizeAdaptiveTargetLatency() {
+        return TimeValue.parseTimeValue(getProperty(OPENSEARCH_BATCH_SIZE_ADAPTIVE_TARGET_LATENCY, OPENSEARCH_BATCH_SIZE_ADAPTIVE_TARGET_LATENCY_DEFAULT)).getMillis();
+    }
+
     public int getBatchWriteRetryCount() {
         return Integer.parseInt(getProperty(OPENSEARCH_BATCH_WRITE_RETRY_COUNT, OPENSEARCH_BATCH_WRITE_RETRY_COUNT_DEFAULT));
     }
@@ -200,6 +224,14 @@ public abstract class Settings {
         return getProperty(OPENSEARCH_BATCH_WRITE_RETRY_POLICY, OPENSEARCH_BATCH_WRITE_RETRY_POLICY_DEFAULT);
     }
 
+    public int getBatchWriteConcurrency() {
+        return Integer.parseInt(getProperty(OPENSEARCH_BATCH_WRITE_CONCURRENCY, OPENSEARCH_BATCH_WRITE_CONCURRENCY_DEFAULT));
+    }
+
+    public boolean getBatchWriteShardRouting() {
+        return Booleans.parseBoolean(getProperty(OPENSEARCH_BATCH_WRITE_SHARD_ROUTING, OPENSEARCH_BATCH_WRITE_SHARD_ROUTING_DEFAULT));
+    }
+
     public boolean getBatchRefreshAfterWrite() {
         return Booleans.parseBoolean(getProperty(OPENSEARCH_BATCH_WRITE_REFRESH, OPENSEARCH_BATCH_WRITE_REFRESH_DEFAULT));
     }
@@ -220,6 +252,14 @@ public abstract class Settings {
         return Long.valueOf(getProperty(OPENSEARCH_SCROLL_LIMIT, OPENSEARCH_SCROLL_LIMIT_DEFAULT));
     }
 
+    public int getScrollPrefetch() {
+        return Integer.parseInt(getProperty(OPENSEARCH_SCROLL_PREFETCH, OPENSEARCH_SCROLL_PREFETCH_DEFAULT));
+    }
+
+    public String getReadStrategy() {
+        return getProperty(OPENSEARCH_READ_STRATEGY, OPENSEARCH_READ_STRATEGY_DEFAULT).toLowerCase(Locale.ROOT);
+    }
+
     public String getScrollFields() {
         return getProperty(INTERNAL_OPENSEARCH_TARGET_FIELDS);
     }
@@ -228,10 +268,22 @@ public abstract class Settings {
         return Booleans.parseBoolean(getProperty(INTERNAL_OPENSEARCH_EXCLUDE_SOURCE, INTERNAL_OPENSEARCH_EXCLUDE_SOURCE_DEFAULT));
     }
 
+    public boolean getReadWholePages() {
+        return Booleans.parseBoolean(getProperty(INTERNAL_OPENSEARCH_READ_WHOLE_PAGES, INTERNAL_OPENSEARCH_READ_WHOLE_PAGES_DEFAULT));
+    }
+
+    public String getReadSort() {
+        return getProperty(INTERNAL_OPENSEARCH_READ_SORT);
+    }
+
     public String getSerializerValueWriterClassName() {
         return getProperty(OPENSEARCH_SERIALIZATION_WRITER_VALUE_CLASS);
     }
 
+    public String getSerializerValueWriterTypes() {
+        return getProperty(OPENSEARCH_SERIALIZATION_WRITER_VALUE_TYPES);
+    }
+
 
     public String getSerializerBytesConverterClassName() {
         return getProperty(OPENSEARCH_SERIALIZATION_WRITER_BYTES_CLASS);
@@ -465,6 +517,10 @@ public abstract class Settings {
         return getProperty(OPENSEARCH_READ_SOURCE_FILTER, StringUtils.EMPTY);
     }
 
+    public boolean getReadSourceDocValues() {
+        return Booleans.parseBoolean(getProperty(OPENSEARCH_READ_SOURCE_DOCVALUES, OPENSEARCH_READ_SOURCE_DOCVALUES_DEFAULT));
+    }
+
     public TimeValue getHeartBeatLead() {
         return TimeValue.parseTimeValue(getProperty(OPENSEARCH_HEART_BEAT_LEAD, OPENSEARCH_HEART_BEAT_LEAD_DEFAULT));
     }
@@ -672,6 +728,14 @@ public abstract class Settings {
         return null;
     }
 
+    public Long getMaxBytesPerPartition() {
+        String value = getProperty(OPENSEARCH_MAX_BYTES_PER_PARTITION);
+        if (StringUtils.hasText(value)) {
+            return ByteSizeValue.parseBytesSizeValue(value).getBytes();
+        }
+        return null;
+    }
+
     public boolean getReadMetadata() {
         return Booleans.parseBoolean(getProperty(OPENSEARCH_READ_METADATA, OPENSEARCH_READ_METADATA_DEFAULT));
     }
@@ -692,6 +756,14 @@ public abstract class Settings {
         return Booleans.parseBoolean(getProperty(OPENSEARCH_SPARK_DATAFRAME_WRITE_NULL_VALUES, OPENSEARCH_SPARK_DATAFRAME_WRITE_NULL_VALUES_DEFAULT));
     }
 
+    public boolean getDataFrameReadColumnar() {
+        return Booleans.parseBoolean(getProperty(OPENSEARCH_SPARK_DATAFRAME_READ_COLUMNAR, OPENSEARCH_SPARK_DATAFRAME_READ_COLUMNAR_DEFAULT));
+    }
+
+    public boolean getSparkMetricsAccumulators() {
+        return Booleans.parseBoolean(getProperty(OPENSEARCH_SPARK_METRICS_ACCUMULATORS, OPENSEARCH_SPARK_METRICS_ACCUMULATORS_DEFAULT));
+    }
+
     public AuthenticationMethod getSecurityAuthenticationMethod() {
         AuthenticationMethod authMode = null;
         String authSetting = getProperty(ConfigurationOptions.OPENSEARCH_SECURITY_AUTHENTICATION);
@@ -110,6 +110,18 @@ public enum Counter {
             return stats.netRetries;
         }
     },
+    NET_BYTES_SENT {
+        @Override
+        public long get(Stats stats) {
+            return stats.netBytesSent;
+        }
+    },
+    NET_BYTES_RECEIVED {
+        @Override
+        public long get(Stats stats) {
+            return stats.netBytesReceived;
+        }
+    },
     NET_TOTAL_TIME_MS {
         @Override
         public long get(Stats stats) {
@@ -139,6 +151,104 @@ public enum Counter {
         public long get(Stats stats) {
             return stats.scrollTotalTime;
         }
+    },
+    SERIALIZATION_TOTAL_TIME_MS {
+        @Override
+        public long get(Stats stats) {
+            return stats.serializationTotalTime;
+        }
+    },
+    DESERIALIZATION_TOTAL_TIME_MS {
+        @Override
+        public long get(Stats stats) {
+            return stats.deserializationTotalTime;
+        }
+    },
+    BULK_THROTTLE_TIME_MS {
+        @Override
+        public long get(Stats stats) {
+            return stats.bulkThrottleTime;
+        }
+    },
+    // latency distributions - the number of requests (within ~6%) under each threshold
+    BULK_LATENCY_UNDER_10MS {
+        @Override
+        public long get(Stats stats) {
+            return stats.bulkLatency.countAtOrBelow(10);
+        }
+    },
+    BULK_LATENCY_UNDER_100MS {
+        @Override
+        public long get(Stats stats) {
+            return stats.bulkLatency.countAtOrBelow(100);
+        }
+    },
+    BULK_LATENCY_UNDER_1S {
+        @Override
+        public long get(Stats stats) {
+            return stats.bulkLatency.countAtOrBelow(1000);
+        }
+    },
+    BULK_LATENCY_UNDER_10S {
+        @Override
+        public long get(Stats stats) {
+            return stats.bulkLatency.countAtOrBelow(10000);
+        }
+    },
+    BULK_LATENCY_OVER_10S {
+        @Override
+        public long get(Stats stats) {
+            return stats.bulkLatency.getCount() - stats.bulkLatency.countAtOrBelow(10000);
+        }
+    },
+    SCROLL_LATENCY_UNDER_10MS {
+        @Override
+        public long get(Stats stats) {
+            return stats.scrollLatency.countAtOrBelow(10);
+        }
+    },
+    SCROLL_LATENCY_UNDER_100MS {
+        @Override
+        public long get(Stats stats) {
+            return stats.scrollLatency.countAtOrBelow(100);
+        }
+    },
+    SCROLL_LATENCY_UNDER_1S {
+        @Override
+        public long get(Stats stats) {
+            return stats.scrollLatency.countAtOrBelow(1000);
+        }
+    },
+    SCROLL_LATENCY_UNDER_10S {
+        @Override
+        public long get(Stats stats) {
+            return stats.scrollLatency.countAtOrBelow(10000);
+        }
+    },
+    SCROLL_LATENCY_OVER_10S {
+        @Override
+        public long get(Stats stats) {
+            return stats.scrollLatency.getCount() - stats.scrollLatency.countAtOrBelow(10000);
+        }
+    },
+    // bulk entries failures, per kind
+    BULK_REJECTIONS {
+        @Override
+        public long get(Stats stats) {
+            return stats.bulkErrors(Stats.REJECTION_ERRORS);
+        }
+    },
+    BULK_VERSION_CONFLICTS {
+        @Override
+        public long get(Stats stats) {
+            return stats.bulkErrors(Stats.VERSION_CONFLICT_ERRORS);
+        }
+    },
+    BULK_OTHER_ERRORS {
+        @Override
+        public long get(Stats stats) {
+            return stats.bulkErrorsTotal() - stats.bulkErrors(Stats.REJECTION_ERRORS) - stats.bulkErrors(Stats.VERSION_CONFLICT_ERRORS);
+        }
     };
 
     public static final Set<Counter> ALL = EnumSet.allOf(Counter.class);
@@ -86,8 +86,8 @@ public class OpenSearchInputFormat<K, V> extends InputFormat<K, V> implements or
 
         @Override
         public long getLength() {
-            // TODO: can this be computed easily?
-            return 1l;
+            // known when partitioning by size
+            return (partition.getSize() >= 0 ? partition.getSize() : 1l);
         }
 
         @Override
@@ -164,6 +164,7 @@ public class OpenSearchInputFormat<K, V> extends InputFormat<K, V> implements or
             }
 
             this.esSplit = esSplit;
+            configure(settings);
 
             // initialize mapping/ scroll reader
             InitializationUtils.setValueReaderIfNotSet(settings, WritableValueReader.class, log);
@@ -188,6 +189,14 @@ public class OpenSearchInputFormat<K, V> extends InputFormat<K, V> implements or
             }
         }
 
+        /**
+         * Hook for customizing the settings of the split (such as the value reader) before its reader is created.
+         *
+         * @param settings split settings
+         */
+        protected void configure(Settings settings) {
+        }
+
         @Override
         public boolean nextKeyValue() throws IOException {
             // new API call routed to old API
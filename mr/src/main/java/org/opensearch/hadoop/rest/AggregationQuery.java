@@ -0,0 +1,322 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest;
+
+import java.io.Closeable;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.opensearch.hadoop.OpenSearchHadoopIllegalArgumentException;
+import org.opensearch.hadoop.rest.query.QueryBuilder;
+import org.opensearch.hadoop.serialization.Generator;
+import org.opensearch.hadoop.serialization.json.JacksonJsonGenerator;
+import org.opensearch.hadoop.util.BytesArray;
+import org.opensearch.hadoop.util.FastByteArrayOutputStream;
+
+/**
+ * Computes simple aggregates (count, min, max, sum) on the cluster instead of reading the matching documents.
+ * <p>
+ * Without grouping, a single request returns a single row. Otherwise the groups are the buckets of a
+ * {@code composite} aggregation (with a {@code terms} source per column, nulls forming their own bucket) which
+ * are paged through, one row per bucket.
+ * <p>
+ * Each row contains the group values (as returned by the cluster) followed by the aggregates: counts as
+ * {@link Long}, min/max/sum as {@link Double} (as computed by the cluster, hence not exact for integral values
+ * past 2^53) or {@code null} if the group has no value for the field.
+ */
+public class AggregationQuery implements Iterator<Object[]>, Closeable {
+
+    public enum Function {
+        COUNT, MIN, MAX, SUM
+    }
+
+    public static class Metric implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Function function;
+        private final String field;
+
+        /**
+         * @param field the field to aggregate - {@code null} for counting the documents
+         */
+        public Metric(Function function, String field) {
+            if (field == null && function != Function.COUNT) {
+                throw new OpenSearchHadoopIllegalArgumentException(String.format("No field specified for [%s]", function));
+            }
+            this.function = function;
+            this.field = field;
+        }
+
+        public Function getFunction() {
+            return function;
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        @Override
+        public String toString() {
+            return function + "(" + (field != null ? field : "*") + ")";
+        }
+    }
+
+    private static final String GROUPS = "groups";
+
+    private final RestRepository repository;
+    private final String index;
+    private final QueryBuilder query;
+    private final List<String> groupBy;
+    private final List<Metric> metrics;
+    private final int pageSize;
+
+    private List<Object[]> page = Collections.emptyList();
+    private int position = 0;
+    private Map<String, Object> afterKey;
+    private boolean finished = false;
+    private boolean closed = false;
+
+    public AggregationQuery(RestRepository repository, String index, QueryBuilder query, List<String> groupBy,
+                            List<Metric> metrics, int pageSize) {
+        this.repository = repository;
+        this.index = index;
+        this.query = query;
+        this.groupBy = groupBy;
+        this.metrics = metrics;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (position == page.size()) {
+            if (finished) {
+                return false;
+            }
+            page = nextPage();
+            position = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public Object[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more groups");
+        }
+        return page.get(position++);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("read-only operator");
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            repository.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> nextPage() {
+        Map<String, Object> response = repository.getRestClient().search(uri(), request(afterKey));
+        Map<String, Object> aggregations = (Map<String, Object>) response.get("aggregations");
+
+        if (groupBy.isEmpty()) {
+            finished = true;
+            Object total = ((Map<String, Object>) response.get("hits")).get("total");
+            return Collections.singletonList(row(Collections.emptyList(), RestClient.totalHits(total), aggregations));
+        }
+
+        Map<String, Object> groups = (Map<String, Object>) aggregations.get(GROUPS);
+        List<Map<String, Object>> buckets = (List<Map<String, Object>>) groups.get("buckets");
+        afterKey = (Map<String, Object>) groups.get("after_key");
+        if (buckets == null || buckets.isEmpty() || afterKey == null) {
+            finished = true;
+        }
+        if (buckets == null) {
+            return Collections.emptyList();
+        }
+
+        List<Object[]> rows = new ArrayList<Object[]>(buckets.size());
+        for (Map<String, Object> bucket : buckets) {
+            Map<String, Object> key = (Map<String, Object>) bucket.get("key");
+            List<Object> values = new ArrayList<Object>(groupBy.size());
+            for (int i = 0; i < groupBy.size(); i++) {
+                values.add(key.get(group(i)));
+            }
+            rows.add(row(values, ((Number) bucket.get("doc_count")).longValue(), bucket));
+        }
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object[] row(List<Object> groupValues, long docCount, Map<String, Object> aggregations) {
+        Object[] row = new Object[groupValues.size() + metrics.size()];
+        int i = 0;
+        for (Object value : groupValues) {
+            row[i++] = value;
+        }
+        for (int m = 0; m < metrics.size(); m++) {
+            Metric metric = metrics.get(m);
+            if (metric.getField() == null) {
+                row[i++] = docCount;
+                continue;
+            }
+            Map<String, Object> result = (Map<String, Object>) aggregations.get(metric(m));
+            if (metric.getFunction() == Function.COUNT) {
+                row[i++] = ((Number) result.get("doc_count")).longValue();
+                continue;
+            }
+            // no value in the group (hence no min/max and a sum of 0) is null, as in SQL
+            Number count = (Number) result.get("count");
+            Number value = (Number) result.get(metric.getFunction().name().toLowerCase(Locale.ROOT));
+            row[i++] = (count == null || count.longValue() == 0 || value == null ? null : value.doubleValue());
+        }
+        return row;
+    }
+
+    private String uri() {
+        return index + "/_search?size=0" + (groupBy.isEmpty() ? "&track_total_hits=true" : "");
+    }
+
+    BytesArray request(Map<String, Object> after) {
+        FastByteArrayOutputStream out = new FastByteArrayOutputStream(256);
+        JacksonJsonGenerator generator = new JacksonJsonGenerator(out);
+        try {
+            generator.writeBeginObject();
+            generator.writeFieldName("query");
+            generator.writeBeginObject();
+            query.toJson(generator);
+            generator.writeEndObject();
+
+            if (groupBy.isEmpty()) {
+                if (hasFieldMetrics()) {
+                    generator.writeFieldName("aggs");
+                    generator.writeBeginObject();
+                    writeMetrics(generator);
+                    generator.writeEndObject();
+                }
+            } else {
+                generator.writeFieldName("aggs");
+                generator.writeBeginObject();
+                generator.writeFieldName(GROUPS);
+                generator.writeBeginObject();
+                generator.writeFieldName("composite");
+                generator.writeBeginObject();
+                generator.writeFieldName("size").writeNumber(pageSize);
+                generator.writeFieldName("sources");
+                generator.writeBeginArray();
+                for (int i = 0; i < groupBy.size(); i++) {
+                    generator.writeBeginObject();
+                    generator.writeFieldName(group(i));
+                    generator.writeBeginObject();
+                    generator.writeFieldName("terms");
+                    generator.writeBeginObject();
+                    generator.writeFieldName("field").writeString(groupBy.get(i));
+                    generator.writeFieldName("missing_bucket").writeBoolean(true);
+                    generator.writeEndObject();
+                    generator.writeEndObject();
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+                if (after != null) {
+                    generator.writeFieldName("after");
+                    generator.writeBeginObject();
+                    for (Map.Entry<String, Object> entry : after.entrySet()) {
+                        generator.writeFieldName(entry.getKey());
+                        writeValue(generator, entry.getValue());
+                    }
+                    generator.writeEndObject();
+                }
+                generator.writeEndObject();
+                generator.writeFieldName("aggs");
+                generator.writeBeginObject();
+                writeMetrics(generator);
+                generator.writeEndObject();
+                generator.writeEndObject();
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+        } finally {
+            generator.close();
+        }
+        return out.bytes();
+    }
+
+    private boolean hasFieldMetrics() {
+        for (Metric metric : metrics) {
+            if (metric.getField() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeMetrics(Generator generator) {
+        for (int m = 0; m < metrics.size(); m++) {
+            Metric metric = metrics.get(m);
+            // document counts come with the response
+            if (metric.getField() == null) {
+                continue;
+            }
+            generator.writeFieldName(metric(m));
+            generator.writeBeginObject();
+            if (metric.getFunction() == Function.COUNT) {
+                generator.writeFieldName("filter");
+                generator.writeBeginObject();
+                generator.writeFieldName("exists");
+                generator.writeBeginObject();
+                generator.writeFieldName("field").writeString(metric.getField());
+                generator.writeEndObject();
+                generator.writeEndObject();
+            } else {
+                // stats, since its count tells apart an empty group from a sum of 0
+                generator.writeFieldName("stats");
+                generator.writeBeginObject();
+                generator.writeFieldName("field").writeString(metric.getField());
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeValue(Generator generator, Object value) {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            generator.writeNumber(((Number) value).doubleValue());
+        } else if (value instanceof Number) {
+            generator.writeNumber(((Number) value).longValue());
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+
+    private static String group(int i) {
+        return "g" + i;
+    }
+
+    private static String metric(int i) {
+        return "m" + i;
+    }
+}
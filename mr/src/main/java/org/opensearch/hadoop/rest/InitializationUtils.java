@@ -105,7 +105,7 @@ public abstract class InitializationUtils {
             RestClient bootstrap = new RestClient(settings);
 
             try {
-                List<NodeInfo> discoveredNodes = bootstrap.getHttpNodes(false);
+                List<NodeInfo> discoveredNodes = MetadataCache.httpNodes(bootstrap, settings);
                 if (log.isDebugEnabled()) {
                     log.debug(String.format("Nodes discovery enabled - found %s", discoveredNodes));
                 }
@@ -128,7 +128,7 @@ public abstract class InitializationUtils {
         RestClient bootstrap = new RestClient(settings);
         try {
             String message = "Client-only routing specified but no client nodes with HTTP-enabled available";
-            List<NodeInfo> clientNodes = bootstrap.getHttpClientNodes();
+            List<NodeInfo> clientNodes = MetadataCache.httpClientNodes(bootstrap, settings);
             if (clientNodes.isEmpty()) {
                 throw new OpenSearchHadoopIllegalArgumentException(message);
             }
@@ -174,7 +174,7 @@ public abstract class InitializationUtils {
         RestClient bootstrap = new RestClient(settings);
         try {
             String message = "No data nodes with HTTP-enabled available";
-            List<NodeInfo> dataNodes = bootstrap.getHttpDataNodes();
+            List<NodeInfo> dataNodes = MetadataCache.httpDataNodes(bootstrap, settings);
             if (dataNodes.isEmpty()) {
                 throw new OpenSearchHadoopIllegalArgumentException(message);
             }
@@ -220,7 +220,7 @@ public abstract class InitializationUtils {
         RestClient bootstrap = new RestClient(settings);
         try {
             String message = "Ingest-only routing specified but no ingest nodes with HTTP-enabled available";
-            List<NodeInfo> clientNodes = bootstrap.getHttpIngestNodes();
+            List<NodeInfo> clientNodes = MetadataCache.httpIngestNodes(bootstrap, settings);
             if (clientNodes.isEmpty()) {
                 throw new OpenSearchHadoopIllegalArgumentException(message);
             }
@@ -427,7 +427,7 @@ public abstract class InitializationUtils {
         RestClient bootstrap = new RestClient(settings);
         // first get OpenSearch main action info
         try {
-            ClusterInfo mainInfo = bootstrap.mainInfo();
+            ClusterInfo mainInfo = MetadataCache.mainInfo(bootstrap, settings);
             if (log.isDebugEnabled()) {
                 log.debug(String.format("Discovered OpenSearch cluster [%s/%s], version [%s]",
                         mainInfo.getClusterName().getName(),
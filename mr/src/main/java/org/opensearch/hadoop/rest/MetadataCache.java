@@ -0,0 +1,291 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivilegedExceptionAction;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.opensearch.hadoop.OpenSearchHadoopException;
+import org.opensearch.hadoop.cfg.ConfigurationOptions;
+import org.opensearch.hadoop.cfg.Settings;
+import org.opensearch.hadoop.security.OpenSearchToken;
+import org.opensearch.hadoop.security.SecureSettings;
+import org.opensearch.hadoop.security.User;
+import org.opensearch.hadoop.security.UserProvider;
+import org.opensearch.hadoop.serialization.dto.NodeInfo;
+import org.opensearch.hadoop.serialization.dto.mapping.MappingSet;
+import org.opensearch.hadoop.util.ClusterInfo;
+import org.opensearch.hadoop.util.SettingsUtils;
+import org.opensearch.hadoop.util.StringUtils;
+
+/**
+ * Cluster metadata (version, nodes, shards and mappings) discovered when setting up a job, reused by the jobs
+ * started in the same JVM for {@link Settings#getMetadataCacheTtl()} - by default nothing is cached.
+ * Entries are keyed by the declared nodes of the cluster and the credentials used to reach it, along with the
+ * target resource - jobs authenticating differently do not share entries.
+ * The cached values are shared and must not be modified.
+ */
+public abstract class MetadataCache {
+
+    private static final int MAX_ENTRIES = 1024;
+
+    private static final ConcurrentMap<String, Entry> CACHE = new ConcurrentHashMap<String, Entry>();
+
+    private static final ExecutorService DISCOVERY = Executors.newCachedThreadPool(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "opensearch-hadoop-discovery");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private static class Entry {
+        private final Object value;
+        private final long expires;
+
+        Entry(Object value, long expires) {
+            this.value = value;
+            this.expires = expires;
+        }
+    }
+
+    public static ClusterInfo mainInfo(final RestClient client, Settings settings) {
+        return get(settings, "main", new Callable<ClusterInfo>() {
+            @Override
+            public ClusterInfo call() {
+                return client.mainInfo();
+            }
+        });
+    }
+
+    public static List<NodeInfo> httpNodes(final RestClient client, Settings settings) {
+        return get(settings, "nodes", new Callable<List<NodeInfo>>() {
+            @Override
+            public List<NodeInfo> call() {
+                return client.getHttpNodes(false);
+            }
+        });
+    }
+
+    public static List<NodeInfo> httpClientNodes(final RestClient client, Settings settings) {
+        return get(settings, "nodes.client", new Callable<List<NodeInfo>>() {
+            @Override
+            public List<NodeInfo> call() {
+                return client.getHttpClientNodes();
+            }
+        });
+    }
+
+    public static List<NodeInfo> httpDataNodes(final RestClient client, Settings settings) {
+        return get(settings, "nodes.data", new Callable<List<NodeInfo>>() {
+            @Override
+            public List<NodeInfo> call() {
+                return client.getHttpDataNodes();
+            }
+        });
+    }
+
+    public static List<NodeInfo> httpIngestNodes(final RestClient client, Settings settings) {
+        return get(settings, "nodes.ingest", new Callable<List<NodeInfo>>() {
+            @Override
+            public List<NodeInfo> call() {
+                return client.getHttpIngestNodes();
+            }
+        });
+    }
+
+    public static boolean readResourceExists(final RestRepository repository, Settings settings) {
+        return get(settings, "exists:" + settings.getResourceRead(), new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                return repository.resourceExists(true);
+            }
+        });
+    }
+
+    public static List<List<Map<String, Object>>> readTargetShards(final RestRepository repository, Settings settings) {
+        return get(settings, "shards:" + settings.getResourceRead() + "?routing=" + SettingsUtils.getFixedRouting(settings),
+                new Callable<List<List<Map<String, Object>>>>() {
+            @Override
+            public List<List<Map<String, Object>>> call() {
+                return repository.getReadTargetShards();
+            }
+        });
+    }
+
+    public static MappingSet mappings(final RestRepository repository, Settings settings) {
+        return get(settings, "mappings:" + settings.getResourceRead(), new Callable<MappingSet>() {
+            @Override
+            public MappingSet call() {
+                return repository.getMappings();
+            }
+        });
+    }
+
+    /**
+     * @return the cached value of the given metadata of the cluster, loading it if needed
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T get(Settings settings, String key, Callable<T> loader) {
+        long ttl = settings.getMetadataCacheTtl();
+        if (ttl <= 0) {
+            return call(loader);
+        }
+
+        String cacheKey = cluster(settings) + "|" + key;
+        long now = System.currentTimeMillis();
+        Entry entry = CACHE.get(cacheKey);
+        if (entry != null && entry.expires > now) {
+            return (T) entry.value;
+        }
+
+        T value = call(loader);
+        // missing values are looked up again - a resource reported as missing might be created in the meantime
+        if (value != null && !Boolean.FALSE.equals(value)) {
+            if (CACHE.size() >= MAX_ENTRIES) {
+                evict(now);
+            }
+            CACHE.put(cacheKey, new Entry(value, now + ttl));
+        }
+        return value;
+    }
+
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    private static void evict(long now) {
+        for (Iterator<Entry> it = CACHE.values().iterator(); it.hasNext();) {
+            if (it.next().expires <= now) {
+                it.remove();
+            }
+        }
+        // still full - start over
+        if (CACHE.size() >= MAX_ENTRIES) {
+            CACHE.clear();
+        }
+    }
+
+    private static String cluster(Settings settings) {
+        return settings.getNodes() + ":" + settings.getPort() + settings.getNodesPathPrefix() + "|" + credentials(settings);
+    }
+
+    /**
+     * @return a digest of everything the job authenticates with - kept as such to not hold on to the secrets themselves
+     */
+    private static String credentials(Settings settings) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(settings.getSecurityAuthenticationMethod()).append('|');
+        sb.append(settings.getNetworkHttpAuthUser()).append('|');
+        sb.append(new SecureSettings(settings).getSecureProperty(ConfigurationOptions.OPENSEARCH_NET_HTTP_AUTH_PASS)).append('|');
+
+        // custom headers (such as bearer tokens)
+        Map<String, String> headers = new TreeMap<String, String>();
+        for (Map.Entry<Object, Object> prop : settings.asProperties().entrySet()) {
+            String key = prop.getKey().toString();
+            if (key.startsWith(ConfigurationOptions.OPENSEARCH_NET_HTTP_HEADER_PREFIX)
+                    && !key.equals(ConfigurationOptions.OPENSEARCH_NET_HTTP_HEADER_OPAQUE_ID)
+                    && !key.equals(ConfigurationOptions.OPENSEARCH_NET_HTTP_HEADER_USER_AGENT)) {
+                headers.put(key, String.valueOf(prop.getValue()));
+            }
+        }
+        sb.append(headers).append('|');
+
+        if (settings.getAwsSigV4Enabled()) {
+            sb.append(settings.getAwsSigV4Region()).append(':').append(settings.getAwsSigV4ServiceName());
+        }
+        sb.append('|');
+
+        // the (Kerberos) user and its API keys
+        User user = user(settings);
+        if (user != null) {
+            sb.append(user.getUserName());
+            for (OpenSearchToken token : user.getAllOpenSearchTokens()) {
+                sb.append('|').append(token.getClusterName()).append(':').append(token.getId()).append(':').append(token.getApiKey());
+            }
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return new BigInteger(1, digest.digest(StringUtils.toUTF(sb.toString()))).toString(16);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new OpenSearchHadoopException("Cannot digest the job credentials", ex);
+        }
+    }
+
+    private static User user(Settings settings) {
+        return (StringUtils.hasText(settings.getSecurityUserProviderClass()) ? UserProvider.create(settings).getUser() : null);
+    }
+
+    /**
+     * Runs the given discovery call in the background, as the user of the job (if any).
+     */
+    static <T> Future<T> submit(Settings settings, final Callable<T> loader) {
+        // the (Kerberos) credentials are bound to the calling thread - resolve the user before handing off
+        final User user = user(settings);
+        return DISCOVERY.submit(new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                if (user == null) {
+                    return loader.call();
+                }
+                return user.doAs(new PrivilegedExceptionAction<T>() {
+                    @Override
+                    public T run() throws Exception {
+                        return loader.call();
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * @return the result of the given background discovery call, rethrowing its failure if any
+     */
+    static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new OpenSearchHadoopException("Interrupted while discovering the cluster metadata", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new OpenSearchHadoopException("Cannot discover the cluster metadata", ex.getCause());
+        }
+    }
+
+    private static <T> T call(Callable<T> loader) {
+        try {
+            return loader.call();
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new OpenSearchHadoopException(ex);
+        }
+    }
+}
@@ -123,7 +123,9 @@ public class NetworkClient implements StatsAware, Closeable {
 
             newNode = false;
             try {
+                long start = System.currentTimeMillis();
                 response = currentTransport.execute(routedRequest);
+                stats.nodeLatency(currentNode).record(System.currentTimeMillis() - start);
                 ByteSequence body = routedRequest.body();
                 if (body != null) {
                     stats.bytesSent += body.length();
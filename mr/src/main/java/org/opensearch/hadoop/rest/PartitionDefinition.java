@@ -48,9 +48,13 @@ import static org.opensearch.hadoop.util.StringUtils.EMPTY_ARRAY;
 public class PartitionDefinition implements Serializable, Comparable<PartitionDefinition> {
     private final String index;
     private final int shardId;
+    // all the shards read by the partition (small ones can be read together), starting with shardId
+    private final int[] shardIds;
     private final Slice slice;
     private final String serializedSettings, serializedMapping;
     private final String[] locations;
+    // estimated (store) size of the partition or -1 if unknown
+    private final long size;
 
     public static class PartitionDefinitionBuilder {
         private final String serializedSettings, serializedMapping;
@@ -61,19 +65,23 @@ public class PartitionDefinition implements Serializable, Comparable<PartitionDe
         }
 
         public PartitionDefinition build(String index, int shardId) {
-            return new PartitionDefinition(serializedSettings, serializedMapping, index, shardId, null, EMPTY_ARRAY);
+            return build(index, shardId, null, EMPTY_ARRAY);
         }
 
         public PartitionDefinition build(String index, int shardId, String[] locations) {
-            return new PartitionDefinition(serializedSettings, serializedMapping, index, shardId, null, locations);
+            return build(index, shardId, null, locations);
         }
 
         public PartitionDefinition build(String index, int shardId, Slice slice) {
-            return new PartitionDefinition(serializedSettings, serializedMapping, index, shardId, slice, EMPTY_ARRAY);
+            return build(index, shardId, slice, EMPTY_ARRAY);
         }
 
         public PartitionDefinition build(String index, int shardId, Slice slice, String[] locations) {
-            return new PartitionDefinition(serializedSettings, serializedMapping, index, shardId, slice, locations);
+            return build(index, new int[] { shardId }, slice, locations, -1);
+        }
+
+        public PartitionDefinition build(String index, int[] shardIds, Slice slice, String[] locations, long size) {
+            return new PartitionDefinition(serializedSettings, serializedMapping, index, shardIds, slice, locations, size);
         }
     }
 
@@ -86,17 +94,21 @@ public class PartitionDefinition implements Serializable, Comparable<PartitionDe
      * @param settings The settings for the partition reader
      * @param mapping The mapping of the index
      * @param index The index name the partition will be executed on
-     * @param shardId The shard id the partition will be executed on
+     * @param shardIds The shard ids the partition will be executed on
      * @param slice The slice the partition will be executed on or null
      * @param locations The locations where to find nodes (hostname:port or ip:port) that can execute the partition locally
+     * @param size The estimated size of the partition or -1 if unknown
      */
-    private PartitionDefinition(String serializedSettings, String serializedMapping, String index, int shardId, Slice slice, String[] locations) {
+    private PartitionDefinition(String serializedSettings, String serializedMapping, String index, int[] shardIds, Slice slice,
+                                String[] locations, long size) {
         this.index = index;
-        this.shardId = shardId;
+        this.shardId = shardIds[0];
+        this.shardIds = shardIds;
         this.serializedSettings = serializedSettings;
         this.serializedMapping = serializedMapping;
         this.slice = slice;
         this.locations = locations;
+        this.size = size;
     }
 
     public PartitionDefinition(DataInput in) throws IOException {
@@ -130,6 +142,12 @@ public class PartitionDefinition implements Serializable, Comparable<PartitionDe
         for (int i = 0; i < length; i++) {
             locations[i] = in.readUTF();
         }
+
+        shardIds = new int[in.readInt()];
+        for (int i = 0; i < shardIds.length; i++) {
+            shardIds[i] = in.readInt();
+        }
+        size = in.readLong();
     }
 
     public void write(DataOutput out) throws IOException {
@@ -160,6 +178,12 @@ public class PartitionDefinition implements Serializable, Comparable<PartitionDe
         for (String location : locations) {
             out.writeUTF(location);
         }
+
+        out.writeInt(shardIds.length);
+        for (int id : shardIds) {
+            out.writeInt(id);
+        }
+        out.writeLong(size);
     }
 
     public String getIndex() {
@@ -170,6 +194,17 @@ public class PartitionDefinition implements Serializable, Comparable<PartitionDe
         return shardId;
     }
 
+    public int[] getShardIds() {
+        return shardIds;
+    }
+
+    /**
+     * @return the estimated (store) size of the partition, in bytes, or -1 if unknown
+     */
+    public long getSize() {
+        return size;
+    }
+
     public Slice getSlice() {
         return slice;
     }
@@ -209,6 +244,10 @@ public class PartitionDefinition implements Serializable, Comparable<PartitionDe
         if (cmp != 0) {
             return cmp;
         }
+        cmp = shardIds.length - o.shardIds.length;
+        if (cmp != 0) {
+            return cmp;
+        }
         if (slice != null) {
             return slice.compareTo(o.slice);
         }
@@ -223,6 +262,7 @@ public class PartitionDefinition implements Serializable, Comparable<PartitionDe
         PartitionDefinition that = (PartitionDefinition) o;
 
         if (shardId != that.shardId) return false;
+        if (!Arrays.equals(shardIds, that.shardIds)) return false;
         if (!index.equals(that.index)) return false;
         return slice != null ? slice.equals(that.slice) : that.slice == null;
 
@@ -231,7 +271,7 @@ public class PartitionDefinition implements Serializable, Comparable<PartitionDe
     @Override
     public int hashCode() {
         int result = index.hashCode();
-        result = 31 * result + shardId;
+        result = 31 * result + Arrays.hashCode(shardIds);
         result = 31 * result + (slice != null ? slice.hashCode() : 0);
         return result;
     }
@@ -240,9 +280,10 @@ public class PartitionDefinition implements Serializable, Comparable<PartitionDe
     public String toString() {
         return "PartitionDefinition{" +
                 "index=" + index +
-                ", shardId=" + shardId +
+                (shardIds.length > 1 ? ", shardIds=" + Arrays.toString(shardIds) : ", shardId=" + shardId) +
                 (slice != null ? ", slice=" + slice.id + "/" + slice.max : "") +
                 ", locations=" + Arrays.toString(locations) +
+                (size >= 0 ? ", size=" + size : "") +
                 '}';
     }
 
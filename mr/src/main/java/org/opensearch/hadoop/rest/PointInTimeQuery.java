@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest;
+
+import java.io.IOException;
+
+import org.opensearch.hadoop.serialization.ScrollReader;
+import org.opensearch.hadoop.serialization.ScrollReader.Scroll;
+import org.opensearch.hadoop.util.BytesArray;
+import org.opensearch.hadoop.util.StringUtils;
+
+/**
+ * Reads the results of a query through a point in time, paging with {@code search_after} over the
+ * {@code _doc} tie-breaker (the query targets a single shard) instead of keeping a scroll open.
+ * <p>
+ * Unlike scroll requests, each page is a regular (stateless) search which can be retried against any node.
+ */
+class PointInTimeQuery extends ScrollQuery {
+
+    private final SearchRequestBuilder request;
+    // the id is refreshed by every response; keep the latest one around for cleanup
+    private volatile String pitId;
+
+    PointInTimeQuery(RestRepository client, SearchRequestBuilder request, long size, ScrollReader reader, int prefetch) {
+        super(client, request.assemblePointInTime(), null, size, reader, prefetch);
+        this.request = request;
+    }
+
+    @Override
+    Scroll openScroll(String query, BytesArray body) throws IOException {
+        pitId = repository.getRestClient().createPointInTime(query);
+        return track(repository.searchAfter(request.assemblePointInTimeSearch(),
+                request.assemblePointInTimeBody(pitId, null), reader));
+    }
+
+    @Override
+    Scroll continueScroll(Scroll previous) throws IOException {
+        if (previous.getSearchAfter() == null) {
+            return new Scroll(previous.getScrollId(), previous.getTotalHits(), true);
+        }
+        return track(repository.searchAfter(request.assemblePointInTimeSearch(),
+                request.assemblePointInTimeBody(previous.getScrollId(), previous.getSearchAfter()), reader));
+    }
+
+    @Override
+    void closeScroll(String scrollId) {
+        String id = (StringUtils.hasText(scrollId) ? scrollId : pitId);
+        if (StringUtils.hasText(id)) {
+            repository.getRestClient().deletePointInTime(id);
+        }
+    }
+
+    private Scroll track(Scroll scroll) {
+        if (scroll != null && StringUtils.hasText(scroll.getScrollId())) {
+            pitId = scroll.getScrollId();
+        }
+        return scroll;
+    }
+}
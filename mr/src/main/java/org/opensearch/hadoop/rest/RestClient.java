@@ -36,18 +36,15 @@ import org.opensearch.hadoop.OpenSearchHadoopIllegalStateException;
 import org.opensearch.hadoop.cfg.ConfigurationOptions;
 import org.opensearch.hadoop.cfg.Settings;
 import org.opensearch.hadoop.rest.Request.Method;
+import org.opensearch.hadoop.rest.bulk.BulkResponseParser;
 import org.opensearch.hadoop.rest.query.QueryBuilder;
 import org.opensearch.hadoop.rest.stats.Stats;
 import org.opensearch.hadoop.rest.stats.StatsAware;
 import org.opensearch.hadoop.security.OpenSearchToken;
-import org.opensearch.hadoop.serialization.ParsingUtils;
 import org.opensearch.hadoop.serialization.dto.NodeInfo;
 import org.opensearch.hadoop.serialization.dto.mapping.FieldParser;
 import org.opensearch.hadoop.serialization.dto.mapping.MappingSet;
 import org.opensearch.hadoop.serialization.json.JacksonJsonGenerator;
-import org.opensearch.hadoop.serialization.json.JacksonJsonParser;
-import org.opensearch.hadoop.serialization.json.JsonFactory;
-import org.opensearch.hadoop.serialization.json.ObjectReader;
 import org.opensearch.hadoop.util.OpenSearchMajorVersion;
 import org.opensearch.hadoop.thirdparty.codehaus.jackson.JsonParser;
 import org.opensearch.hadoop.thirdparty.codehaus.jackson.map.DeserializationConfig;
@@ -95,6 +92,7 @@ public class RestClient implements Closeable, StatsAware {
     private final HttpRetryPolicy retryPolicy;
     final ClusterInfo clusterInfo;
     private final ErrorExtractor errorExtractor;
+    private final BulkResponseParser bulkResponseParser;
 
     {
         mapper = new ObjectMapper();
@@ -130,6 +128,7 @@ public class RestClient implements Closeable, StatsAware {
         // already present in the settings
         this.clusterInfo = settings.getClusterInfoOrUnnamedLatest();
         this.errorExtractor = new ErrorExtractor();
+        this.bulkResponseParser = new BulkResponseParser(mapper, errorExtractor);
     }
 
     public List<NodeInfo> getHttpNodes(boolean clientNodeOnly) {
@@ -199,17 +198,20 @@ public class RestClient implements Closeable, StatsAware {
     }
 
     public static class BulkActionResponse {
-        private Iterator<Map> entries;
+        private Iterator<BulkResponseParser.Item> entries;
         private long timeSpent;
         private int responseCode;
 
-        public BulkActionResponse(Iterator<Map> entries, int responseCode, long timeSpent) {
+        public BulkActionResponse(Iterator<BulkResponseParser.Item> entries, int responseCode, long timeSpent) {
             this.entries = entries;
             this.timeSpent = timeSpent;
             this.responseCode = responseCode;
         }
 
-        public Iterator<Map> getEntries() {
+        /**
+         * @return the items of the bulk response. Empty if all the documents in the request were accepted.
+         */
+        public Iterator<BulkResponseParser.Item> getEntries() {
             return entries;
         }
 
@@ -244,29 +246,71 @@ public class RestClient implements Closeable, StatsAware {
         stats.bulkTotal++;
         stats.docsSent += data.entries();
         stats.bulkTotalTime += spent;
+        stats.bulkLatency.record(spent);
         // bytes will be counted by the transport layer
 
         return new BulkActionResponse(parseBulkActionResponse(response), response.status(), spent);
     }
 
-    @SuppressWarnings("rawtypes")
-    Iterator<Map> parseBulkActionResponse(Response response) {
+    Iterator<BulkResponseParser.Item> parseBulkActionResponse(Response response) {
         InputStream content = response.body();
         // Check for failed writes
+        Iterator<BulkResponseParser.Item> items;
         try {
-            ObjectReader r = JsonFactory.objectReader(mapper, Map.class);
-            JsonParser parser = mapper.getJsonFactory().createJsonParser(content);
+            items = bulkResponseParser.parse(content);
+        } catch (RuntimeException ex) {
+            countStreamStats(content);
+            throw ex;
+        }
+        if (!items.hasNext()) {
+            countStreamStats(content);
+            return items;
+        }
+        // the items are parsed as they are iterated over - the response is only read in full past the last one
+        return new CountingItemIterator(items, content);
+    }
+
+    /**
+     * Counts the bytes of a bulk response once its items have all been read (or reading them failed).
+     */
+    private class CountingItemIterator implements Iterator<BulkResponseParser.Item> {
+        private final Iterator<BulkResponseParser.Item> items;
+        private InputStream content;
+
+        CountingItemIterator(Iterator<BulkResponseParser.Item> items, InputStream content) {
+            this.items = items;
+            this.content = content;
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean hasNext = items.hasNext();
+            if (!hasNext) {
+                count();
+            }
+            return hasNext;
+        }
+
+        @Override
+        public BulkResponseParser.Item next() {
             try {
-                if (ParsingUtils.seek(new JacksonJsonParser(parser), "items") == null) {
-                    return Collections.<Map>emptyList().iterator();
-                } else {
-                    return r.readValues(parser);
-                }
-            } finally {
+                return items.next();
+            } catch (RuntimeException ex) {
+                count();
+                throw ex;
+            }
+        }
+
+        private void count() {
+            if (content != null) {
                 countStreamStats(content);
+                content = null;
             }
-        } catch (IOException ex) {
-            throw new OpenSearchHadoopParsingException(ex);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("read-only operator");
         }
     }
 
@@ -312,6 +356,33 @@ public class RestClient implements Closeable, StatsAware {
         return shardsJson;
     }
 
+    /**
+     * @return the statistics (document count and store size) of each shard copy of the given indices, as returned
+     * under {@code indices} by the index stats API
+     */
+    public Map<String, Object> shardStats(String index) {
+        String target = index + "/_stats/docs,store?level=shards";
+        if (indexReadMissingAsEmpty) {
+            target += "&ignore_unavailable=true";
+        }
+        Map<String, Object> indices = get(target, "indices");
+        return (indices != null ? indices : Collections.<String, Object>emptyMap());
+    }
+
+    /**
+     * @return the cluster state metadata (flat settings, routing_num_shards, etc...) of the given index, or null if
+     * the expression does not resolve to a single index
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getIndexMetadata(String index) {
+        Map<String, Object> metadata = get("_cluster/state/metadata/" + index + "?flat_settings=true", "metadata");
+        Map<String, Object> indices = (metadata != null ? (Map<String, Object>) metadata.get("indices") : null);
+        if (indices == null || indices.size() != 1) {
+            return null;
+        }
+        return (Map<String, Object>) indices.values().iterator().next();
+    }
+
     public MappingSet getMappings(Resource indexResource) {
         if (indexResource.isTyped()) {
             return getMappings(indexResource.index() + "/_mapping/" + indexResource.type(), true);
@@ -489,10 +560,51 @@ public class RestClient implements Closeable, StatsAware {
             stats.scrollTotal++;
             return is;
         } finally {
-            stats.scrollTotalTime += network.transportStats().netTotalTime - start;
+            long spent = network.transportStats().netTotalTime - start;
+            stats.scrollTotalTime += spent;
+            stats.scrollLatency.record(spent);
+        }
+    }
+
+    /**
+     * Opens a point in time.
+     * @param uri the point in time creation request (index and parameters)
+     * @return the id of the point in time
+     */
+    public String createPointInTime(String uri) {
+        Response response = execute(POST, uri, true);
+        Object id = parseContent(response.body(), "pit_id");
+        if (id == null || !StringUtils.hasText(id.toString())) {
+            throw new OpenSearchHadoopInvalidRequest(
+                    String.format("Could not create point in time for [%s]; no id returned by [%s]", uri, response.uri()));
+        }
+        return id.toString();
+    }
+
+    /**
+     * Executes a point in time search. Unlike scrolls, the request is not bound to a node and can be retried.
+     */
+    public InputStream searchAfter(String uri, BytesArray body) {
+        // NB: dynamically get the stats since the transport can change
+        long start = network.transportStats().netTotalTime;
+        try {
+            InputStream is = execute(POST, uri, body).body();
+            stats.scrollTotal++;
+            return is;
+        } finally {
+            long spent = network.transportStats().netTotalTime - start;
+            stats.scrollTotalTime += spent;
+            stats.scrollLatency.record(spent);
         }
     }
 
+    public boolean deletePointInTime(String pitId) {
+        BytesArray body = new BytesArray(("{\"pit_id\":[\"" + pitId + "\"]}").getBytes(StringUtils.UTF_8));
+        Request req = new SimpleRequest(DELETE, null, "_search/point_in_time", body);
+        Response res = executeNotFoundAllowed(req);
+        return (res.status() == HttpStatus.OK ? true : false);
+    }
+
     public boolean delete(String indexOrType) {
         Request req = new SimpleRequest(DELETE, null, indexOrType);
         Response res = executeNotFoundAllowed(req);
@@ -571,9 +683,11 @@ public class RestClient implements Closeable, StatsAware {
         }
         Response response = execute(GET, uri.toString(), searchRequest(query));
         Map<String, Object> content = parseContent(response.body(), "hits");
+        return totalHits(content.get("total"));
+    }
 
+    static long totalHits(Object total) {
         long finalCount;
-        Object total = content.get("total");
         if (total instanceof Number) {
             Number count = (Number) total;
             finalCount = count.longValue();
@@ -596,6 +710,16 @@ public class RestClient implements Closeable, StatsAware {
         return finalCount;
     }
 
+    /**
+     * Executes a search request.
+     * @param uri the search request (index and parameters)
+     * @return the parsed response
+     */
+    public Map<String, Object> search(String uri, BytesArray body) {
+        Response response = execute(POST, uri, body);
+        return parseContent(response.body(), null);
+    }
+
     static BytesArray searchRequest(QueryBuilder query) {
         FastByteArrayOutputStream out = new FastByteArrayOutputStream(256);
         JacksonJsonGenerator generator = new JacksonJsonGenerator(out);
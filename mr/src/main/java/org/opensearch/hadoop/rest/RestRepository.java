@@ -30,10 +30,12 @@ package org.opensearch.hadoop.rest;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.opensearch.hadoop.OpenSearchHadoopException;
 import org.opensearch.hadoop.OpenSearchHadoopIllegalStateException;
 import org.opensearch.hadoop.cfg.Settings;
 import org.opensearch.hadoop.rest.bulk.BulkProcessor;
 import org.opensearch.hadoop.rest.bulk.BulkResponse;
+import org.opensearch.hadoop.rest.bulk.ShardRouter;
 import org.opensearch.hadoop.rest.query.QueryUtils;
 import org.opensearch.hadoop.rest.stats.Stats;
 import org.opensearch.hadoop.rest.stats.StatsAware;
@@ -69,6 +71,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Rest client performing high-level operations using buffers to improve performance. Stateful in that once created, it
@@ -88,6 +91,8 @@ public class RestRepository implements Closeable, StatsAware {
 
     private BulkEntryWriter bulkEntryWriter;
     private BulkProcessor bulkProcessor;
+    // optional per-document routing of bulk entries to their primary shard
+    private ShardRouter shardRouter;
 
     // Internal
     private static class Resources {
@@ -121,6 +126,9 @@ public class RestRepository implements Closeable, StatsAware {
     private final Settings settings;
     private Resources resources;
     private final Stats stats = new Stats();
+    // measured in nanos since a single document takes (way) less than a milli
+    private long serializationTime;
+    private long deserializationTime;
 
     public RestRepository(Settings settings) {
         this.settings = settings;
@@ -140,7 +148,7 @@ public class RestRepository implements Closeable, StatsAware {
     private void lazyInitWriting() {
         if (!writeInitialized) {
             this.writeInitialized = true;
-            this.bulkProcessor = new BulkProcessor(client, resources.getResourceWrite(), settings);
+            this.bulkProcessor = new BulkProcessor(client, resources.getResourceWrite(), settings, shardRouter);
             this.trivialBytesRef = new BytesRef();
             this.bulkEntryWriter = new BulkEntryWriter(settings, BulkCommands.create(settings, metaExtractor, client.clusterInfo.getMajorVersion()));
         }
@@ -158,7 +166,57 @@ public class RestRepository implements Closeable, StatsAware {
      * @return a scroll query
      */
     ScrollQuery scanLimit(String query, BytesArray body, long limit, ScrollReader reader) {
-        return new ScrollQuery(this, query, body, limit, reader);
+        return new ScrollQuery(this, query, body, limit, reader, settings.getScrollPrefetch());
+    }
+
+    /**
+     * Returns the result of a search fitting in a single page, without opening a scroll.
+     *
+     * @param query search query
+     * @param reader scroll reader
+     * @return a single page query
+     */
+    ScrollQuery searchLimit(String query, BytesArray body, long limit, ScrollReader reader) {
+        return new SinglePageQuery(this, query, body, limit, reader);
+    }
+
+    /**
+     * Returns a pageable result to the given search, using a point in time and search_after instead of a scroll.
+     *
+     * @param request search request
+     * @param reader scroll reader
+     * @return a point in time query
+     */
+    ScrollQuery searchAfterLimit(SearchRequestBuilder request, long limit, ScrollReader reader) {
+        return new PointInTimeQuery(this, request, limit, reader, settings.getScrollPrefetch());
+    }
+
+    /**
+     * Sends each document directly to the node hosting its primary shard, instead of going through the node the
+     * client is pinned to. Documents that cannot be routed upfront (such as those without an id) still go to the
+     * pinned node. Needs to be called before writing.
+     * The shard layout is the one discovered by the driver, if any, and otherwise read from the cluster state.
+     *
+     * @param primaries the (publish) address of the node holding each primary shard of the write index
+     */
+    public void enableShardRouting(Map<Integer, String> primaries) {
+        String index = resources.getResourceWrite().index();
+        int[] layout = SettingsUtils.getWriteShardLayout(settings, index);
+        if (layout == null) {
+            try {
+                layout = ShardRouter.layout(client.getIndexMetadata(index));
+            } catch (OpenSearchHadoopException ex) {
+                log.warn(String.format("Cannot retrieve the shard layout of [%s]; writing through the pinned node only. Reason: [%s]",
+                        index, ex.getMessage()));
+                return;
+            }
+        }
+        ShardRouter router = ShardRouter.create(layout, primaries);
+        if (router == null || router.getNumberOfShards() != primaries.size()) {
+            log.warn(String.format("Cannot determine the shard layout of [%s]; writing through the pinned node only", index));
+            return;
+        }
+        this.shardRouter = router;
     }
 
     public void addRuntimeFieldExtractor(MetadataExtractor metaExtractor) {
@@ -174,7 +232,9 @@ public class RestRepository implements Closeable, StatsAware {
         Assert.notNull(object, "no object data given");
 
         lazyInitWriting();
+        long start = System.nanoTime();
         BytesRef serialized = bulkEntryWriter.writeBulkEntry(object);
+        serializationTime += System.nanoTime() - start;
         if (serialized != null) {
             doWriteToIndex(serialized);
         }
@@ -245,6 +305,15 @@ public class RestRepository implements Closeable, StatsAware {
             // Aggregate stats before discarding them.
             stats.aggregate(client.stats());
             client = null;
+
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Bulk latency [%s]; scroll latency [%s]; bulk errors %s",
+                        stats.bulkLatency, stats.scrollLatency, stats.bulkErrors));
+                if (stats.bulkSizeBytes > 0) {
+                    log.debug(String.format("Adaptive batch size settled at [%s] bytes/[%s] entries; throttled for [%s]ms",
+                            stats.bulkSizeBytes, stats.bulkSizeEntries, stats.bulkThrottleTime));
+                }
+            }
         }
     }
 
@@ -323,28 +392,57 @@ public class RestRepository implements Closeable, StatsAware {
     // used to initialize a scroll (based on a query)
     Scroll scroll(String query, BytesArray body, ScrollReader reader) throws IOException {
         InputStream scroll = client.execute(Request.Method.POST, query, body).body();
-        try {
-            Scroll scrollResult = reader.read(scroll);
-            if (scrollResult == null) {
-                log.info(String.format("No scroll for query [%s/%s], likely because the index is frozen", query, body));
-            }
-            return scrollResult;
-        } finally {
-            if (scroll != null && scroll instanceof StatsAware) {
-                stats.aggregate(((StatsAware) scroll).stats());
-            }
+        Scroll scrollResult = read(reader, scroll, Page.SCROLL);
+        if (scrollResult == null) {
+            log.info(String.format("No scroll for query [%s/%s], likely because the index is frozen", query, body));
         }
+        return scrollResult;
     }
     
+    // a plain search, returning all its hits at once
+    Scroll search(String query, BytesArray body, ScrollReader reader) throws IOException {
+        return read(reader, client.execute(Request.Method.POST, query, body).body(), Page.SEARCH);
+    }
+
     // consume the scroll
     Scroll scroll(String scrollId, ScrollReader reader) throws IOException {
-        InputStream scroll = client.scroll(scrollId);
+        return read(reader, client.scroll(scrollId), Page.SCROLL);
+    }
+
+    // consume a point in time page
+    Scroll searchAfter(String uri, BytesArray body, ScrollReader reader) throws IOException {
+        // paged like a scroll - the sort values of the last hit are captured while parsing
+        return read(reader, client.searchAfter(uri, body), Page.SCROLL);
+    }
+
+    private enum Page {
+        SCROLL, SEARCH
+    }
+
+    /**
+     * Parses the given page - which also covers reading its body off the wire. Unless pages are read ahead in the
+     * background, the hits are handed out as they are parsed and the page accounted for once it is closed.
+     */
+    private Scroll read(ScrollReader reader, final InputStream content, Page page) throws IOException {
+        ScrollReader.PageListener listener = new ScrollReader.PageListener() {
+            @Override
+            public void pageRead(long parseNanos) {
+                deserializationTime += parseNanos;
+                if (content instanceof StatsAware) {
+                    stats.aggregate(((StatsAware) content).stats());
+                }
+            }
+        };
+
+        if (settings.getScrollPrefetch() == 0) {
+            return (page == Page.SCROLL ? reader.streamScroll(content, listener) : reader.streamSearch(content, listener));
+        }
+
+        long start = System.nanoTime();
         try {
-            return reader.read(scroll);
+            return (page == Page.SCROLL ? reader.readScroll(content) : reader.readSearch(content));
         } finally {
-            if (scroll instanceof StatsAware) {
-                stats.aggregate(((StatsAware) scroll).stats());
-            }
+            listener.pageRead(System.nanoTime() - start);
         }
     }
 
@@ -488,6 +586,8 @@ public class RestRepository implements Closeable, StatsAware {
             // Aggregate stats if it's not already discarded
             copy.aggregate(bulkProcessor.stats());
         }
+        copy.serializationTotalTime += TimeUnit.NANOSECONDS.toMillis(serializationTime);
+        copy.deserializationTotalTime += TimeUnit.NANOSECONDS.toMillis(deserializationTime);
         return copy;
     }
 
@@ -29,10 +29,12 @@
 package org.opensearch.hadoop.rest;
 
 import org.apache.commons.logging.Log;
+import org.opensearch.hadoop.OpenSearchHadoopException;
 import org.opensearch.hadoop.OpenSearchHadoopIllegalArgumentException;
 import org.opensearch.hadoop.cfg.ConfigurationOptions;
 import org.opensearch.hadoop.cfg.FieldPresenceValidation;
 import org.opensearch.hadoop.cfg.Settings;
+import org.opensearch.hadoop.rest.bulk.ShardRouter;
 import org.opensearch.hadoop.rest.query.BoolQueryBuilder;
 import org.opensearch.hadoop.rest.query.QueryBuilder;
 import org.opensearch.hadoop.rest.query.QueryUtils;
@@ -64,14 +66,21 @@ import java.net.InetAddress;
 import java.net.SocketException;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 public abstract class RestService implements Serializable {
     public static class PartitionReader implements Closeable {
@@ -235,7 +244,21 @@ public abstract class RestService implements Serializable {
 
         RestRepository client = new RestRepository(settings);
         try {
-            boolean allIndicesExist = client.resourceExists(true);
+            // the shards and the mapping are independent - ask for them both while checking the indices
+            Future<List<List<Map<String, Object>>>> targetShards = discover(settings, new Discovery<List<List<Map<String, Object>>>>() {
+                @Override
+                List<List<Map<String, Object>>> discover(RestRepository repository, Settings settings) {
+                    return MetadataCache.readTargetShards(repository, settings);
+                }
+            });
+            Future<MappingSet> mappings = discover(settings, new Discovery<MappingSet>() {
+                @Override
+                MappingSet discover(RestRepository repository, Settings settings) {
+                    return MetadataCache.mappings(repository, settings);
+                }
+            });
+
+            boolean allIndicesExist = MetadataCache.readResourceExists(client, settings);
 
             if (!allIndicesExist && !settings.getIndexReadMissingAsEmpty()) {
                 throw new OpenSearchHadoopIllegalArgumentException(
@@ -246,7 +269,7 @@ public abstract class RestService implements Serializable {
              * false, we have knowing if any index exists so we have to make the following requests regardless. They will return empty if
              * none of the indices exist, so there's no harm other than the wasted time.
              */
-            final List<List<Map<String, Object>>> shards = client.getReadTargetShards();
+            final List<List<Map<String, Object>>> shards = MetadataCache.await(targetShards);
             if (log.isTraceEnabled()) {
                 log.trace("Creating splits for shards " + shards);
             }
@@ -255,7 +278,7 @@ public abstract class RestService implements Serializable {
 
             MappingSet mapping = null;
             if (!shards.isEmpty()) {
-                mapping = client.getMappings();
+                mapping = MetadataCache.await(mappings);
                 if (log.isDebugEnabled()) {
                     log.debug(String.format("Discovered resolved mapping {%s} for [%s]", mapping.getResolvedView(), settings.getResourceRead()));
                 }
@@ -272,7 +295,9 @@ public abstract class RestService implements Serializable {
                 }
             }
             final List<PartitionDefinition> partitions;
-            if (settings.getMaxDocsPerPartition() != null) {
+            if (settings.getMaxBytesPerPartition() != null) {
+                partitions = findSizedPartitions(client.getRestClient(), settings, mapping, nodesMap, shards, log);
+            } else if (settings.getMaxDocsPerPartition() != null) {
                 partitions = findSlicePartitions(client.getRestClient(), settings, mapping, nodesMap, shards, log);
             } else {
                 partitions = findShardPartitions(settings, mapping, nodesMap, shards, log);
@@ -284,6 +309,25 @@ public abstract class RestService implements Serializable {
         }
     }
 
+    private abstract static class Discovery<T> {
+        abstract T discover(RestRepository repository, Settings settings);
+    }
+
+    // runs the given call in the background, through its own client
+    private static <T> Future<T> discover(final Settings settings, final Discovery<T> discovery) {
+        return MetadataCache.submit(settings, new Callable<T>() {
+            @Override
+            public T call() {
+                RestRepository repository = new RestRepository(settings);
+                try {
+                    return discovery.discover(repository, settings);
+                } finally {
+                    repository.close();
+                }
+            }
+        });
+    }
+
     /**
      * Create one {@link PartitionDefinition} per shard for each requested index.
      */
@@ -376,6 +420,141 @@ public abstract class RestService implements Serializable {
         return partitions;
     }
 
+    /**
+     * Partitions the query based on the store size of the shards and the target size of a partition
+     * {@link Settings#getMaxBytesPerPartition()}: larger shards are sliced while smaller ones of the same index are
+     * read together. The shard sizes are retrieved in one call and kept as the estimated size of each partition.
+     */
+    static List<PartitionDefinition> findSizedPartitions(RestClient client, Settings settings, MappingSet mappingSet,
+                                                         Map<String, NodeInfo> nodes, List<List<Map<String, Object>>> shards, Log log) {
+        Long maxBytesPerPartition = settings.getMaxBytesPerPartition();
+        Assert.notNull(maxBytesPerPartition, "Attempting to find sized partitions but maximum bytes per partition is not set.");
+        Assert.isTrue(maxBytesPerPartition > 0, "Maximum bytes per partition must be positive");
+        Resource readResource = new Resource(settings, true);
+        Mapping resolvedMapping = mappingSet == null ? null : mappingSet.getResolvedView();
+        PartitionDefinition.PartitionDefinitionBuilder partitionBuilder = PartitionDefinition.builder(settings, resolvedMapping);
+
+        Map<String, Object> stats = (shards.isEmpty() ? Collections.<String, Object>emptyMap() : client.shardStats(readResource.index()));
+
+        List<PartitionDefinition> partitions = new ArrayList<PartitionDefinition>(shards.size());
+        // shards smaller than a partition, per index
+        Map<String, List<ShardSize>> smallShards = new LinkedHashMap<String, List<ShardSize>>();
+        for (List<Map<String, Object>> group : shards) {
+            String index = null;
+            int shardId = -1;
+            List<String> locationList = new ArrayList<String> ();
+            for (Map<String, Object> replica : group) {
+                ShardInfo shard = new ShardInfo(replica);
+                index = shard.getIndex();
+                shardId = shard.getName();
+                if (nodes.containsKey(shard.getNode())) {
+                    locationList.add(nodes.get(shard.getNode()).getPublishAddress());
+                }
+            }
+            String[] locations = locationList.toArray(new String[0]);
+            if (index == null) {
+                // Could not find shards for this partition. Continue anyway?
+                if (settings.getIndexReadAllowRedStatus()) {
+                    log.warn("Shard information is missing from an index and will not be reached during job execution. " +
+                            "Assuming shard is unavailable and cluster is red! Continuing with read operation by " +
+                            "skipping this shard! This may result in incomplete data retrieval!");
+                } else {
+                    throw new IllegalStateException("Could not locate shard information for one of the read indices. " +
+                            "Check your cluster status to see if it is unstable!");
+                }
+            } else {
+                long size = primaryStoreSize(stats, index, shardId);
+                if (size < 0) {
+                    // no stats (yet) - read the shard on its own
+                    partitions.add(partitionBuilder.build(index, shardId, locations));
+                } else if (size > maxBytesPerPartition) {
+                    int numPartitions = (int) Math.min(Integer.MAX_VALUE, (size + maxBytesPerPartition - 1) / maxBytesPerPartition);
+                    for (int i = 0; i < numPartitions; i++) {
+                        PartitionDefinition.Slice slice = new PartitionDefinition.Slice(i, numPartitions);
+                        partitions.add(partitionBuilder.build(index, new int[] { shardId }, slice, locations, size / numPartitions));
+                    }
+                } else {
+                    List<ShardSize> indexShards = smallShards.get(index);
+                    if (indexShards == null) {
+                        indexShards = new ArrayList<ShardSize>();
+                        smallShards.put(index, indexShards);
+                    }
+                    indexShards.add(new ShardSize(shardId, locations, size));
+                }
+            }
+        }
+
+        // first fit, largest shards first
+        for (Map.Entry<String, List<ShardSize>> entry : smallShards.entrySet()) {
+            List<ShardSize> indexShards = entry.getValue();
+            Collections.sort(indexShards);
+            List<List<ShardSize>> bins = new ArrayList<List<ShardSize>>();
+            List<Long> binSizes = new ArrayList<Long>();
+            for (ShardSize shard : indexShards) {
+                int bin = 0;
+                while (bin < bins.size() && binSizes.get(bin) + shard.size > maxBytesPerPartition) {
+                    bin++;
+                }
+                if (bin == bins.size()) {
+                    bins.add(new ArrayList<ShardSize>());
+                    binSizes.add(0L);
+                }
+                bins.get(bin).add(shard);
+                binSizes.set(bin, binSizes.get(bin) + shard.size);
+            }
+            for (int bin = 0; bin < bins.size(); bin++) {
+                List<ShardSize> binShards = bins.get(bin);
+                int[] shardIds = new int[binShards.size()];
+                Set<String> locations = new LinkedHashSet<String>();
+                for (int i = 0; i < shardIds.length; i++) {
+                    shardIds[i] = binShards.get(i).shardId;
+                    locations.addAll(Arrays.asList(binShards.get(i).locations));
+                }
+                partitions.add(partitionBuilder.build(entry.getKey(), shardIds, null, locations.toArray(new String[0]), binSizes.get(bin)));
+            }
+        }
+        return partitions;
+    }
+
+    /**
+     * @return the store size of the primary copy of the given shard, as returned by the index stats API, or -1 if unknown
+     */
+    @SuppressWarnings("unchecked")
+    static long primaryStoreSize(Map<String, Object> stats, String index, int shardId) {
+        Map<String, Object> indexStats = (Map<String, Object>) stats.get(index);
+        Map<String, Object> shardStats = (indexStats != null ? (Map<String, Object>) indexStats.get("shards") : null);
+        List<Map<String, Object>> copies = (shardStats != null ? (List<Map<String, Object>>) shardStats.get(Integer.toString(shardId)) : null);
+        if (copies != null) {
+            for (Map<String, Object> copy : copies) {
+                Map<String, Object> routing = (Map<String, Object>) copy.get("routing");
+                Map<String, Object> store = (Map<String, Object>) copy.get("store");
+                if (routing != null && Boolean.TRUE.equals(routing.get("primary")) && store != null
+                        && store.get("size_in_bytes") instanceof Number) {
+                    return ((Number) store.get("size_in_bytes")).longValue();
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static class ShardSize implements Comparable<ShardSize> {
+        private final int shardId;
+        private final String[] locations;
+        private final long size;
+
+        ShardSize(int shardId, String[] locations, long size) {
+            this.shardId = shardId;
+            this.locations = locations;
+            this.size = size;
+        }
+
+        @Override
+        public int compareTo(ShardSize o) {
+            // largest first
+            return (size == o.size ? shardId - o.shardId : (size > o.size ? -1 : 1));
+        }
+    }
+
     /**
      * Returns the first address in {@code locations} that is equals to a public IP of the system
      * @param locations The list of address (hostname:port or ip:port) to check
@@ -434,7 +613,13 @@ public abstract class RestService implements Serializable {
             log.warn(String.format("No mapping found for [%s] - either no index exists or the partition configuration has been corrupted", partition));
         }
 
-        ScrollReader scrollReader = new ScrollReader(ScrollReaderConfigBuilder.builder(reader, fieldMapping, settings));
+        String sourceFields = SettingsUtils.determineSourceFields(settings);
+        // a projection of doc values fields does not need the _source to be loaded at all
+        boolean docValues = settings.getReadSourceDocValues() && !settings.getOutputAsJson() && StringUtils.hasText(sourceFields)
+                && MappingUtils.readableFromDocValues(fieldMapping, StringUtils.tokenize(sourceFields));
+
+        ScrollReader scrollReader = new ScrollReader(ScrollReaderConfigBuilder.builder(reader, fieldMapping, settings)
+                .setReadDocValues(docValues));
         if (settings.getNodesClientOnly()) {
             String clientNode = repository.getRestClient().getCurrentNode();
             if (log.isDebugEnabled()) {
@@ -456,9 +641,11 @@ public abstract class RestService implements Serializable {
                         .scroll(settings.getScrollKeepAlive())
                         .size(settings.getScrollSize())
                         .limit(settings.getScrollLimit())
-                        .fields(SettingsUtils.determineSourceFields(settings))
+                        .sort(settings.getReadSort())
+                        .fields(sourceFields)
+                        .docValues(docValues)
                         .filters(QueryUtils.parseFilters(settings))
-                        .shard(Integer.toString(partition.getShardId()))
+                        .shard(shards(partition))
                         .readMetadata(settings.getReadMetadata())
                         .local(true)
                         .preference(settings.getShardPreference())
@@ -466,6 +653,27 @@ public abstract class RestService implements Serializable {
         if (partition.getSlice() != null && partition.getSlice().max > 1) {
             requestBuilder.slice(partition.getSlice().id, partition.getSlice().max);
         }
+        String readStrategy = settings.getReadStrategy();
+        if (ConfigurationOptions.OPENSEARCH_READ_STRATEGY_PIT.equals(readStrategy)) {
+            if (!supportsPointInTime(clusterInfo.getMajorVersion())) {
+                log.warn(String.format("Read strategy [%s] requires OpenSearch 2.4 or higher; detected [%s] - using [%s] instead",
+                        readStrategy, clusterInfo.getMajorVersion(), ConfigurationOptions.OPENSEARCH_READ_STRATEGY_SCROLL));
+            } else if (supportsShardDoc(clusterInfo.getMajorVersion())) {
+                requestBuilder.pointInTime(true).shardDoc(true);
+            } else if (partition.getShardIds().length > 1) {
+                // the _doc tie-breaker is only unique within a shard
+                log.warn(String.format("Read strategy [%s] over several shards requires OpenSearch 3.3 or higher; partition [%s] " +
+                        "spans %d on [%s] - using [%s] instead", readStrategy, partition, partition.getShardIds().length,
+                        clusterInfo.getMajorVersion(), ConfigurationOptions.OPENSEARCH_READ_STRATEGY_SCROLL));
+            } else {
+                requestBuilder.pointInTime(true);
+            }
+        } else if (!ConfigurationOptions.OPENSEARCH_READ_STRATEGY_SCROLL.equals(readStrategy)) {
+            throw new OpenSearchHadoopIllegalArgumentException(String.format(
+                    "Invalid value [%s] for [%s]; expected one of [%s, %s]", readStrategy,
+                    ConfigurationOptions.OPENSEARCH_READ_STRATEGY, ConfigurationOptions.OPENSEARCH_READ_STRATEGY_SCROLL,
+                    ConfigurationOptions.OPENSEARCH_READ_STRATEGY_PIT));
+        }
         String[] indices = read.index().split(",");
         if (QueryUtils.isExplicitlyRequested(partition.getIndex(), indices) == false) {
             IndicesAliases indicesAliases =
@@ -480,6 +688,44 @@ public abstract class RestService implements Serializable {
         return new PartitionReader(scrollReader, repository, requestBuilder);
     }
 
+    // point in time searches are available from OpenSearch 2.4
+    static boolean supportsPointInTime(OpenSearchMajorVersion version) {
+        if (version.on(OpenSearchMajorVersion.V_2_X)) {
+            try {
+                return version.parseMinorVersion(version.toString()) >= 4;
+            } catch (OpenSearchHadoopIllegalArgumentException ex) {
+                // no minor version to go by (think 2.x)
+                return false;
+            }
+        }
+        return version.onOrAfter(OpenSearchMajorVersion.V_3_X) && version.notOn(OpenSearchMajorVersion.V_7_X);
+    }
+
+    // the _shard_doc sort (unique across shards) is available from OpenSearch 3.3
+    static boolean supportsShardDoc(OpenSearchMajorVersion version) {
+        if (version.on(OpenSearchMajorVersion.V_3_X)) {
+            try {
+                return version.parseMinorVersion(version.toString()) >= 3;
+            } catch (OpenSearchHadoopIllegalArgumentException ex) {
+                // no minor version to go by (think 3.x)
+                return false;
+            }
+        }
+        return version.after(OpenSearchMajorVersion.V_3_X) && version.notOn(OpenSearchMajorVersion.V_7_X);
+    }
+
+    // the shard(s) of the partition, as expected by the _shards preference
+    private static String shards(PartitionDefinition partition) {
+        StringBuilder sb = new StringBuilder();
+        for (int shardId : partition.getShardIds()) {
+            if (sb.length() > 0) {
+                sb.append(",");
+            }
+            sb.append(shardId);
+        }
+        return sb.toString();
+    }
+
     /**
      * Check if the index name is part of the requested indices or the result of an alias.
      * If the index is the result of an alias, the filters and routing values of the alias are added in the
@@ -618,28 +864,106 @@ public abstract class RestService implements Serializable {
                 throw new OpenSearchHadoopIllegalArgumentException("Illegal write index name [" + resource.index() + "]. Write resources must " +
                         "be lowercase singular index names, with no illegal pattern characters except for multi-resource writes.");
             }
-            // Determine if the configured index is an alias.
-            RestClient bootstrap = new RestClient(settings);
-            GetAliasesRequestBuilder.Response response = null;
-            try {
-                response = new GetAliasesRequestBuilder(bootstrap).aliases(resource.index()).execute();
-            } catch (OpenSearchHadoopInvalidRequest remoteException) {
-                // For now, the get alias call throws if it does not find an alias that matches. Just log and continue.
-                if (log.isDebugEnabled()) {
-                    log.debug(String.format("Provided index name [%s] is not an alias. Reason: [%s]",
-                            resource.index(), remoteException.getMessage()));
+            if (SettingsUtils.getWriteTargetShards(settings, resource.index()) != null) {
+                // the driver already found the index (and its shards)
+                repository = initSingleIndex(settings, currentSplit, resource, log);
+            } else {
+                // Determine if the configured index is an alias.
+                GetAliasesRequestBuilder.Response response = getAliases(settings, resource, log);
+                // Validate the alias for writing, or pin to a single index shard.
+                if (response != null && response.hasAliases()) {
+                    repository = initAliasWrite(response, settings, currentSplit, resource, log);
+                } else {
+                    repository = initSingleIndex(settings, currentSplit, resource, log);
                 }
-            } finally {
-                bootstrap.close();
             }
-            // Validate the alias for writing, or pin to a single index shard.
+        }
+        return new PartitionWriter(settings, currentSplit, totalSplits, repository);
+    }
+
+    // the aliases of the given write resource, if any
+    private static GetAliasesRequestBuilder.Response getAliases(Settings settings, Resource resource, Log log) {
+        RestClient bootstrap = new RestClient(settings);
+        try {
+            return new GetAliasesRequestBuilder(bootstrap).aliases(resource.index()).execute();
+        } catch (OpenSearchHadoopInvalidRequest remoteException) {
+            // For now, the get alias call throws if it does not find an alias that matches. Just log and continue.
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Provided index name [%s] is not an alias. Reason: [%s]",
+                        resource.index(), remoteException.getMessage()));
+            }
+            return null;
+        } finally {
+            bootstrap.close();
+        }
+    }
+
+    /**
+     * Discovers (on the driver) the primary shards of an existing, single write index and saves them in the settings,
+     * sparing each partition writer the lookup of the aliases, the index and its shards - as well as the shard layout
+     * when routing each document to its primary shard.
+     * Nothing is saved for index patterns, aliases, missing indices or when the writers do not target the
+     * primary shards (WAN or client-only nodes) - the partition writers take care of those as before.
+     *
+     * @param settings Job settings, as shipped to the partition writers
+     * @param log Logger to use
+     */
+    public static void discoverWriteTargetShards(Settings settings, Log log) {
+        if (settings.getNodesWANOnly() || settings.getNodesClientOnly()) {
+            return;
+        }
+        Resource resource = new Resource(settings, false);
+        IndexExtractor iformat = ObjectUtils.instantiate(settings.getMappingIndexExtractorClassName(), settings);
+        iformat.compile(resource.toString());
+        if (iformat.hasPattern() || !StringUtils.isValidSingularIndexName(resource.index())) {
+            return;
+        }
+
+        RestRepository repository = new RestRepository(settings);
+        try {
+            if (!repository.resourceExists(false)) {
+                return;
+            }
+            GetAliasesRequestBuilder.Response response = getAliases(settings, resource, log);
             if (response != null && response.hasAliases()) {
-                repository = initAliasWrite(response, settings, currentSplit, resource, log);
-            } else {
-                repository = initSingleIndex(settings, currentSplit, resource, log);
+                return;
+            }
+            Map<Integer, String> primaries = primaryNodes(repository.getWriteTargetPrimaryShards(false));
+            if (!primaries.isEmpty()) {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Discovered primary shards %s of [%s]", primaries, resource));
+                }
+                SettingsUtils.setWriteTargetShards(settings, resource.index(), primaries);
+                if (settings.getBatchWriteShardRouting()) {
+                    discoverWriteShardLayout(settings, repository, resource, log);
+                }
             }
+        } finally {
+            repository.close();
         }
-        return new PartitionWriter(settings, currentSplit, totalSplits, repository);
+    }
+
+    private static void discoverWriteShardLayout(Settings settings, RestRepository repository, Resource resource, Log log) {
+        int[] layout;
+        try {
+            layout = ShardRouter.layout(repository.getRestClient().getIndexMetadata(resource.index()));
+        } catch (OpenSearchHadoopException ex) {
+            // the writers try again (and fall back to their pinned node)
+            log.warn(String.format("Cannot retrieve the shard layout of [%s]. Reason: [%s]", resource, ex.getMessage()));
+            return;
+        }
+        if (layout != null) {
+            SettingsUtils.setWriteShardLayout(settings, resource.index(), layout);
+        }
+    }
+
+    // the (publish) address of the node holding each primary shard, ordered by shard
+    private static SortedMap<Integer, String> primaryNodes(Map<ShardInfo, NodeInfo> targetShards) {
+        SortedMap<Integer, String> primaries = new TreeMap<Integer, String>();
+        for (Map.Entry<ShardInfo, NodeInfo> entry : targetShards.entrySet()) {
+            primaries.put(entry.getKey().getName(), entry.getValue().getPublishAddress());
+        }
+        return primaries;
     }
 
     /**
@@ -659,8 +983,10 @@ public abstract class RestService implements Serializable {
         }
 
         RestRepository repository = new RestRepository(settings);
+        // primary shards discovered upfront (by the driver), if any
+        SortedMap<Integer, String> primaries = SettingsUtils.getWriteTargetShards(settings, resource.index());
         // create the index if needed
-        if (repository.touch()) {
+        if (primaries == null && repository.touch()) {
             if (repository.waitForYellow()) {
                 log.warn(String.format("Timed out waiting for index [%s] to reach yellow health", resource));
             }
@@ -688,36 +1014,40 @@ public abstract class RestService implements Serializable {
         }
 
         // no routing necessary; select the relevant target shard/node
-        Map<ShardInfo, NodeInfo> targetShards = repository.getWriteTargetPrimaryShards(settings.getNodesClientOnly());
+        if (primaries == null) {
+            primaries = primaryNodes(repository.getWriteTargetPrimaryShards(settings.getNodesClientOnly()));
+        }
         repository.close();
 
-        Assert.isTrue(!targetShards.isEmpty(),
+        Assert.isTrue(!primaries.isEmpty(),
                 String.format("Cannot determine write shards for [%s]; likely its format is incorrect (maybe it contains illegal characters? or all shards failed?)", resource));
 
 
-        List<ShardInfo> orderedShards = new ArrayList<ShardInfo>(targetShards.keySet());
-        // make sure the order is strict
-        Collections.sort(orderedShards);
+        // the order is strict
+        List<Integer> orderedShards = new ArrayList<Integer>(primaries.keySet());
         if (log.isTraceEnabled()) {
             log.trace(String.format("Partition writer instance [%s] discovered [%s] primary shards %s", currentInstance, orderedShards.size(), orderedShards));
         }
 
         // if there's no task info, just pick a random bucket
         if (currentInstance <= 0) {
-            currentInstance = new Random().nextInt(targetShards.size()) + 1;
+            currentInstance = new Random().nextInt(primaries.size()) + 1;
         }
-        int bucket = (int)(currentInstance % targetShards.size());
-        ShardInfo chosenShard = orderedShards.get(bucket);
-        NodeInfo targetNode = targetShards.get(chosenShard);
+        int bucket = (int)(currentInstance % primaries.size());
+        Integer chosenShard = orderedShards.get(bucket);
+        String targetNode = primaries.get(chosenShard);
 
         // pin settings
-        SettingsUtils.pinNode(settings, targetNode.getPublishAddress());
+        SettingsUtils.pinNode(settings, targetNode);
         String node = SettingsUtils.getPinnedNode(settings);
         repository = new RestRepository(settings);
+        if (settings.getBatchWriteShardRouting()) {
+            repository.enableShardRouting(primaries);
+        }
 
         if (log.isDebugEnabled()) {
             log.debug(String.format("Partition writer instance [%s] assigned to primary shard [%s] at address [%s]",
-                    currentInstance, chosenShard.getName(), node));
+                    currentInstance, chosenShard, node));
         }
 
         return repository;
@@ -32,10 +32,19 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.opensearch.hadoop.OpenSearchHadoopIllegalArgumentException;
 import org.opensearch.hadoop.OpenSearchHadoopIllegalStateException;
+import org.opensearch.hadoop.cfg.ConfigurationOptions;
 import org.opensearch.hadoop.rest.stats.Stats;
 import org.opensearch.hadoop.rest.stats.StatsAware;
 import org.opensearch.hadoop.serialization.ScrollReader;
@@ -48,17 +57,21 @@ import org.opensearch.hadoop.util.StringUtils;
  */
 public class ScrollQuery implements Iterator<Object>, Closeable, StatsAware {
 
-    private RestRepository repository;
+    private static final Log log = LogFactory.getLog(ScrollQuery.class);
+
+    final RestRepository repository;
     private String scrollId;
-    private List<Object[]> batch = Collections.emptyList();
+    // last page retrieved - the next one continues from it
+    private Scroll last;
+    // hits of the last page - parsed as they are consumed when the page is streamed
+    private Iterator<Object[]> batch = Collections.<Object[]> emptyList().iterator();
     private boolean finished = false;
 
-    private int batchIndex = 0;
     private long read = 0;
     // how many docs to read - in most cases, all the docs that match
     private long size;
 
-    private final ScrollReader reader;
+    final ScrollReader reader;
 
     private final Stats stats = new Stats();
 
@@ -67,12 +80,26 @@ public class ScrollQuery implements Iterator<Object>, Closeable, StatsAware {
     private String query;
     private BytesArray body;
 
+    // number of pages read ahead in the background - 0 means the scroll is fetched on demand
+    private final int prefetch;
+    private ScrollPrefetcher prefetcher;
+
     ScrollQuery(RestRepository client, String query, BytesArray body, long size, ScrollReader reader) {
+        this(client, query, body, size, reader, 0);
+    }
+
+    ScrollQuery(RestRepository client, String query, BytesArray body, long size, ScrollReader reader, int prefetch) {
+        if (prefetch < 0) {
+            throw new OpenSearchHadoopIllegalArgumentException(String.format(
+                    "Invalid value [%s] for [%s]; expected a non-negative number",
+                    prefetch, ConfigurationOptions.OPENSEARCH_SCROLL_PREFETCH));
+        }
         this.repository = client;
         this.size = size;
         this.reader = reader;
         this.query = query;
         this.body = body;
+        this.prefetch = prefetch;
     }
 
     @Override
@@ -80,13 +107,18 @@ public class ScrollQuery implements Iterator<Object>, Closeable, StatsAware {
         if (!closed) {
             closed = true;
             finished = true;
-            batch = Collections.emptyList();
-            reader.close();
-            // typically the scroll is closed after it is consumed so this will trigger a 404
-            // however we're closing it either way
-            if (StringUtils.hasText(scrollId)) {
-                repository.getRestClient().deleteScroll(scrollId);
+            batch = Collections.<Object[]> emptyList().iterator();
+            if (last != null) {
+                // release the response of a page still being streamed
+                last.close();
+            }
+            if (prefetcher != null) {
+                // the rest client is not thread-safe; make sure the read-ahead is done with it
+                scrollId = prefetcher.stop();
+                prefetcher = null;
             }
+            reader.close();
+            closeScroll(scrollId);
             repository.close();
         }
     }
@@ -101,54 +133,86 @@ public class ScrollQuery implements Iterator<Object>, Closeable, StatsAware {
             initialized = true;
             
             try {
-                Scroll scroll = repository.scroll(query, body, reader);
+                Scroll scroll = openScroll(query, body);
                 if (scroll == null) {
                     finished = true;
                     return false;
                 }
                 // size is passed as a limit (since we can't pass it directly into the request) - if it's not specified (<1) just scroll the whole index
                 size = (size < 1 ? scroll.getTotalHits() : size);
+                last = scroll;
                 scrollId = scroll.getScrollId();
-                batch = scroll.getHits();
-                finished = scroll.isConcluded();
+                batch = scroll.iterator();
             } catch (IOException ex) {
                 throw new OpenSearchHadoopIllegalStateException(String.format("Cannot create scroll for query [%s/%s]", query, body), ex);
             }
-            read += batch.size();
-            stats.docsReceived += batch.size();
             // no longer needed
             body = null;
             query = null;
+
+            // start reading ahead while the first batch is consumed (pages read ahead are never streamed)
+            if (prefetch > 0 && !last.isConcluded() && last.getHits().size() < size) {
+                prefetcher = new ScrollPrefetcher(last, last.getHits().size());
+            }
         }
 
-        while (!finished && (batch.isEmpty() || batchIndex >= batch.size())) {
-            if (read >= size) {
+        // the end of a (streamed) page is only known once its hits are consumed
+        while (!finished && !batch.hasNext()) {
+            if (last.isConcluded() || read >= size) {
                 finished = true;
                 return false;
             }
 
             try {
-                Scroll scroll = repository.scroll(scrollId, reader);
+                Scroll scroll = nextScroll();
                 if (scroll == null) {
                     finished = true;
                     return false;
                 }
+                last = scroll;
                 scrollId = scroll.getScrollId();
-                batch = scroll.getHits();
-                finished = scroll.isConcluded();
+                batch = scroll.iterator();
             } catch (IOException ex) {
                 throw new OpenSearchHadoopIllegalStateException("Cannot retrieve scroll [" + scrollId + "]", ex);
             }
-            read += batch.size();
-            stats.docsReceived += batch.size();
-
-            // reset index
-            batchIndex = 0;
         }
 
         return !finished;
     }
 
+    private Scroll nextScroll() throws IOException {
+        if (prefetch == 0) {
+            return continueScroll(last);
+        }
+        return prefetcher.take();
+    }
+
+    /**
+     * Executes the initial search.
+     * @return the first page or null if no scroll could be created
+     */
+    Scroll openScroll(String query, BytesArray body) throws IOException {
+        return repository.scroll(query, body, reader);
+    }
+
+    /**
+     * Retrieves the page following the given one.
+     */
+    Scroll continueScroll(Scroll previous) throws IOException {
+        return repository.scroll(previous.getScrollId(), reader);
+    }
+
+    /**
+     * Releases the server side search context.
+     */
+    void closeScroll(String scrollId) {
+        // typically the scroll is closed after it is consumed so this will trigger a 404
+        // however we're closing it either way
+        if (StringUtils.hasText(scrollId)) {
+            repository.getRestClient().deleteScroll(scrollId);
+        }
+    }
+
     public long getSize() {
         return size;
     }
@@ -162,7 +226,9 @@ public class ScrollQuery implements Iterator<Object>, Closeable, StatsAware {
         if (!hasNext()) {
             throw new NoSuchElementException("No more documents available");
         }
-        return batch.get(batchIndex++);
+        read++;
+        stats.docsReceived++;
+        return batch.next();
     }
 
     @Override
@@ -186,4 +252,118 @@ public class ScrollQuery implements Iterator<Object>, Closeable, StatsAware {
         builder.append("ScrollQuery [scrollId=").append(scrollId).append("]");
         return builder.toString();
     }
+
+    /**
+     * Result of a background scroll call - either a scroll or the failure that occurred while retrieving it.
+     * A page with neither marks the end of the scroll.
+     */
+    private static class Page {
+        private static final Page END = new Page(null, null);
+
+        private final Scroll scroll;
+        private final Exception error;
+
+        Page(Scroll scroll, Exception error) {
+            this.scroll = scroll;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Reads the scroll ahead on a background thread, keeping up to {@link #prefetch} pages buffered.
+     * Only this thread talks to the repository until {@link #stop()} returns.
+     */
+    private class ScrollPrefetcher implements Runnable {
+
+        private final BlockingQueue<Page> pages = new ArrayBlockingQueue<Page>(prefetch);
+        private final ExecutorService executor;
+        private volatile Scroll previous;
+        private long fetched;
+
+        ScrollPrefetcher(Scroll previous, long fetched) {
+            this.previous = previous;
+            this.fetched = fetched;
+            this.executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "opensearch-hadoop-scroll-prefetch");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            executor.execute(this);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    if (fetched >= size) {
+                        pages.put(Page.END);
+                        return;
+                    }
+                    Scroll scroll;
+                    try {
+                        scroll = continueScroll(previous);
+                    } catch (Exception ex) {
+                        pages.put(new Page(null, ex));
+                        return;
+                    }
+                    if (scroll == null) {
+                        pages.put(Page.END);
+                        return;
+                    }
+                    previous = scroll;
+                    fetched += scroll.getHits().size();
+                    pages.put(new Page(scroll, null));
+                    if (scroll.isConcluded()) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException ex) {
+                // closed while waiting for the consumer
+            }
+        }
+
+        Scroll take() throws IOException {
+            Page page;
+            try {
+                page = pages.take();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new OpenSearchHadoopIllegalStateException("Interrupted while waiting for scroll [" + previous.getScrollId() + "]", ex);
+            }
+            if (page.error != null) {
+                if (page.error instanceof IOException) {
+                    throw (IOException) page.error;
+                }
+                if (page.error instanceof RuntimeException) {
+                    throw (RuntimeException) page.error;
+                }
+                throw new OpenSearchHadoopIllegalStateException("Cannot retrieve scroll [" + previous.getScrollId() + "]", page.error);
+            }
+            return page.scroll;
+        }
+
+        /**
+         * Cancels the read-ahead and waits for any in-flight scroll call to complete.
+         * @return the latest scroll id or null if the background thread could not be stopped
+         */
+        String stop() {
+            executor.shutdownNow();
+            try {
+                while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Waiting for in-flight scroll [" + previous.getScrollId() + "] to complete");
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                // the scroll will expire on its own
+                return null;
+            }
+            pages.clear();
+            return previous.getScrollId();
+        }
+    }
 }
\ No newline at end of file
@@ -62,6 +62,18 @@ public class SearchRequestBuilder {
         }
     }
 
+    private static class Sort {
+        final String field;
+        final String order;
+        final String missing;
+
+        Sort(String field, String order, String missing) {
+            this.field = field;
+            this.order = order;
+            this.missing = missing;
+        }
+    }
+
     private final boolean includeVersion;
     private TimeValue scroll = TimeValue.timeValueMinutes(10);
     private long size = 50;
@@ -74,10 +86,14 @@ public class SearchRequestBuilder {
     private final List<QueryBuilder> filters = new ArrayList<QueryBuilder> ();
     private String routing;
     private Slice slice;
+    private final List<Sort> sorts = new ArrayList<Sort>();
     private boolean local = false;
     private String preference = "";
     private boolean excludeSource = false;
+    private boolean docValues = false;
     private boolean readMetadata = false;
+    private boolean pointInTime = false;
+    private boolean shardDoc = false;
 
     public SearchRequestBuilder(boolean includeVersion) {
         this.includeVersion = includeVersion;
@@ -147,6 +163,14 @@ public class SearchRequestBuilder {
         return this;
     }
 
+    /**
+     * Reads the requested fields from their doc values (returned in the fields section of each hit) instead of the _source.
+     */
+    public SearchRequestBuilder docValues(boolean value) {
+        this.docValues = value;
+        return this;
+    }
+
     public SearchRequestBuilder filter(QueryBuilder filter) {
         this.filters.add(filter);
         return this;
@@ -172,6 +196,27 @@ public class SearchRequestBuilder {
         return this;
     }
 
+    /**
+     * Orders the hits by the given fields instead of the index order.
+     *
+     * @param sortCSV comma separated {@code field:asc|desc:_first|_last} entries, the last part placing the documents
+     * without a value
+     */
+    public SearchRequestBuilder sort(String sortCSV) {
+        if (!StringUtils.hasText(sortCSV)) {
+            return this;
+        }
+        for (String entry : StringUtils.tokenize(sortCSV, StringUtils.DEFAULT_DELIMITER)) {
+            List<String> parts = StringUtils.tokenize(entry, ":");
+            Assert.isTrue(parts.size() == 3
+                    && ("asc".equals(parts.get(1)) || "desc".equals(parts.get(1)))
+                    && ("_first".equals(parts.get(2)) || "_last".equals(parts.get(2))),
+                    String.format("Invalid sort [%s]; expected field:asc|desc:_first|_last", entry));
+            sorts.add(new Sort(parts.get(0), parts.get(1), parts.get(2)));
+        }
+        return this;
+    }
+
     public SearchRequestBuilder local(boolean value) {
         this.local = value;
         return this;
@@ -182,6 +227,27 @@ public class SearchRequestBuilder {
         return this;
     }
 
+    /**
+     * Reads through a point in time with search_after instead of a scroll.
+     */
+    public SearchRequestBuilder pointInTime(boolean value) {
+        this.pointInTime = value;
+        return this;
+    }
+
+    /**
+     * Breaks the ties between the point in time hits on {@code _shard_doc} - unique across shards - instead of
+     * {@code _doc}, which is only unique within a shard.
+     */
+    public SearchRequestBuilder shardDoc(boolean value) {
+        this.shardDoc = value;
+        return this;
+    }
+
+    public boolean isPointInTime() {
+        return pointInTime;
+    }
+
     public SearchRequestBuilder excludeSource(boolean value) {
         if (value) {
             Assert.hasNoText(this.fields, String.format("_source section can't be excluded if fields [%s] are requested", this.fields));
@@ -190,6 +256,14 @@ public class SearchRequestBuilder {
         return this;
     }
 
+    /**
+     * @return whether all the hits fit in the first page, in which case a plain search is enough. Slices are only
+     * available to scrolls (and points in time) though.
+     */
+    private boolean singlePage() {
+        return limit > 0 && limit <= size && (slice == null || slice.max <= 1);
+    }
+
     private String assemble() {
         if (limit > 0) {
             if (size > limit) {
@@ -207,13 +281,73 @@ public class SearchRequestBuilder {
 
         // scan type was removed
         // default to sorting by indexing/doc order
-        uriParams.put("sort", "_doc");
-        uriParams.put("scroll", String.valueOf(scroll.toString()));
+        if (sorts.isEmpty()) {
+            uriParams.put("sort", "_doc");
+        }
+        if (!singlePage()) {
+            uriParams.put("scroll", String.valueOf(scroll.toString()));
+        }
+        uriParams.put("size", String.valueOf(size));
+        if (includeVersion) {
+            uriParams.put("version", "true");
+        }
+
+        addTargetParams(uriParams);
+
+        // Always track total hits
+        uriParams.put("track_total_hits", "true");
+
+        if (readMetadata) {
+            uriParams.put("track_scores", "true");
+        }
+
+        appendParams(sb, uriParams);
+        return sb.toString();
+    }
+
+    /**
+     * @return the request opening a point in time on the target indices. Shard preference and routing only apply
+     * here since a point in time search cannot specify them.
+     */
+    String assemblePointInTime() {
+        Map<String, String> uriParams = new LinkedHashMap<String, String>();
+        StringBuilder sb = new StringBuilder();
+        sb.append(indices);
+        sb.append("/_search/point_in_time?");
+        uriParams.put("keep_alive", scroll.toString());
+        addTargetParams(uriParams);
+        appendParams(sb, uriParams);
+        return sb.toString();
+    }
+
+    /**
+     * @return the request paging through a point in time. The indices are part of the point in time.
+     */
+    String assemblePointInTimeSearch() {
+        if (limit > 0) {
+            if (size > limit) {
+                size = limit;
+            }
+        }
+        Map<String, String> uriParams = new LinkedHashMap<String, String>();
+        StringBuilder sb = new StringBuilder("_search?");
         uriParams.put("size", String.valueOf(size));
         if (includeVersion) {
             uriParams.put("version", "true");
         }
+        uriParams.put("track_total_hits", "true");
+        if (readMetadata) {
+            uriParams.put("track_scores", "true");
+        }
+        appendParams(sb, uriParams);
+        return sb.toString();
+    }
 
+    BytesArray assemblePointInTimeBody(String pitId, List<Object> searchAfter) {
+        return assembleBody(pitId, searchAfter);
+    }
+
+    private void addTargetParams(Map<String, String> uriParams) {
         // set shard preference
         StringBuilder pref = new StringBuilder();
         if (StringUtils.hasText(shard)) {
@@ -239,15 +373,9 @@ public class SearchRequestBuilder {
         if (routing != null) {
             uriParams.put("routing", HttpEncodingTools.encode(routing));
         }
+    }
 
-        // Always track total hits
-        uriParams.put("track_total_hits", "true");
-
-        if (readMetadata) {
-            uriParams.put("track_scores", "true");
-        }
-
-        // append params
+    private static void appendParams(StringBuilder sb, Map<String, String> uriParams) {
         for (Iterator<Entry<String, String>> it = uriParams.entrySet().iterator(); it.hasNext();) {
             Entry<String, String> entry = it.next();
             sb.append(entry.getKey());
@@ -259,11 +387,13 @@ public class SearchRequestBuilder {
                 sb.append("&");
             }
         }
-
-        return sb.toString();
     }
 
     private BytesArray assembleBody() {
+        return assembleBody(null, null);
+    }
+
+    private BytesArray assembleBody(String pitId, List<Object> searchAfter) {
         QueryBuilder root = query;
         if (root == null) {
             root = MatchAllQueryBuilder.MATCH_ALL;
@@ -275,6 +405,38 @@ public class SearchRequestBuilder {
         JacksonJsonGenerator generator = new JacksonJsonGenerator(out);
         try {
             generator.writeBeginObject();
+            if (pitId != null) {
+                generator.writeFieldName("pit");
+                generator.writeBeginObject();
+                generator.writeFieldName("id");
+                generator.writeString(pitId);
+                generator.writeFieldName("keep_alive");
+                generator.writeString(scroll.toString());
+                generator.writeEndObject();
+                // cheapest sort that is stable across pages (as a tie breaker for the requested one) - _doc is only
+                // unique within a shard, hence used on the clusters without _shard_doc for single shard searches only
+                generator.writeFieldName("sort");
+                generator.writeBeginArray();
+                writeSorts(generator);
+                generator.writeBeginObject();
+                generator.writeFieldName(shardDoc ? "_shard_doc" : "_doc");
+                generator.writeString("asc");
+                generator.writeEndObject();
+                generator.writeEndArray();
+                if (searchAfter != null) {
+                    generator.writeFieldName("search_after");
+                    generator.writeBeginArray();
+                    for (Object value : searchAfter) {
+                        writeSortValue(generator, value);
+                    }
+                    generator.writeEndArray();
+                }
+            } else if (!sorts.isEmpty()) {
+                generator.writeFieldName("sort");
+                generator.writeBeginArray();
+                writeSorts(generator);
+                generator.writeEndArray();
+            }
             if (slice != null && slice.max > 1) {
                 generator.writeFieldName("slice");
                 generator.writeBeginObject();
@@ -289,7 +451,16 @@ public class SearchRequestBuilder {
             root.toJson(generator);
             generator.writeEndObject();
             // override fields
-            if (StringUtils.hasText(fields)) {
+            if (StringUtils.hasText(fields) && docValues) {
+                generator.writeFieldName("_source");
+                generator.writeBoolean(false);
+                generator.writeFieldName("docvalue_fields");
+                generator.writeBeginArray();
+                for (String field : StringUtils.tokenize(fields, StringUtils.DEFAULT_DELIMITER)) {
+                    generator.writeString(field);
+                }
+                generator.writeEndArray();
+            } else if (StringUtils.hasText(fields)) {
                 generator.writeFieldName("_source");
                 generator.writeBeginArray();
                 final List<String> fieldsArray = StringUtils.tokenize(fields, StringUtils.DEFAULT_DELIMITER);
@@ -308,14 +479,51 @@ public class SearchRequestBuilder {
         return out.bytes();
     }
 
+    private void writeSorts(JacksonJsonGenerator generator) {
+        for (Sort sort : sorts) {
+            generator.writeBeginObject();
+            generator.writeFieldName(sort.field);
+            generator.writeBeginObject();
+            generator.writeFieldName("order");
+            generator.writeString(sort.order);
+            generator.writeFieldName("missing");
+            generator.writeString(sort.missing);
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeSortValue(JacksonJsonGenerator generator, Object value) {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            generator.writeNumber(((Number) value).doubleValue());
+        } else if (value instanceof Number) {
+            generator.writeNumber(((Number) value).longValue());
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+
     public ScrollQuery build(RestRepository client, ScrollReader reader) {
+        if (pointInTime) {
+            return client.searchAfterLimit(this, limit, reader);
+        }
         String scrollUri = assemble();
         BytesArray requestBody = assembleBody();
+        if (singlePage()) {
+            return client.searchLimit(scrollUri, requestBody, limit, reader);
+        }
         return client.scanLimit(scrollUri, requestBody, limit, reader);
     }
 
     @Override
     public String toString() {
+        if (pointInTime) {
+            return "QueryBuilder [" + assemblePointInTime() + "][" + assemblePointInTimeSearch() + "][" + assembleBody() + "]";
+        }
         return "QueryBuilder [" + assemble() + "][" + assembleBody() + "]";
     }
 }
\ No newline at end of file
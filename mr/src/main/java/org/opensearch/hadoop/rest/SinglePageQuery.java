@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest;
+
+import java.io.IOException;
+
+import org.opensearch.hadoop.serialization.ScrollReader;
+import org.opensearch.hadoop.serialization.ScrollReader.Scroll;
+import org.opensearch.hadoop.util.BytesArray;
+
+/**
+ * Query whose results fit in its first page (the limit not exceeding the page size). It is sent as a plain search,
+ * so no search context is kept open on the cluster - nor has to be released afterwards.
+ */
+class SinglePageQuery extends ScrollQuery {
+
+    SinglePageQuery(RestRepository client, String query, BytesArray body, long size, ScrollReader reader) {
+        super(client, query, body, size, reader);
+    }
+
+    @Override
+    Scroll openScroll(String query, BytesArray body) throws IOException {
+        return repository.search(query, body, reader);
+    }
+
+    @Override
+    Scroll continueScroll(Scroll previous) throws IOException {
+        // fewer hits than the limit - there's nothing else to read
+        return new Scroll(null, previous.getTotalHits(), true);
+    }
+}
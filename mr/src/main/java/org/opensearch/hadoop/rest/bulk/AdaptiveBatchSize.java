@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest.bulk;
+
+import org.opensearch.hadoop.OpenSearchHadoopIllegalArgumentException;
+import org.opensearch.hadoop.cfg.ConfigurationOptions;
+import org.opensearch.hadoop.cfg.Settings;
+
+/**
+ * Batch size controller driven by the outcome of the bulk requests (additive increase, multiplicative decrease).
+ * <p>
+ * Starting from the configured batch size, the size grows by a fixed step after every (reasonably full) request
+ * that completes under the target latency. A slow request shrinks it in proportion to how much the target was missed
+ * (by half at most) while rejected entries halve it and also make the sender pause before each following batch. The
+ * pause doubles on every rejection and decays on every clean request. The size is kept within the configured bounds
+ * and the entries limit follows it proportionally.
+ * <p>
+ * Updated by the thread sending the bulk requests and read by the one filling them, hence thread-safe.
+ */
+class AdaptiveBatchSize {
+
+    static final long MIN_PAUSE = 100;
+
+    private final int initialBytes;
+    private final int initialEntries;
+    private final int minBytes;
+    private final int maxBytes;
+    private final int step;
+    private final long targetLatency;
+    private final long maxPause;
+
+    private volatile int bytes;
+    private volatile int entries;
+    private volatile long pause;
+
+    AdaptiveBatchSize(Settings settings) {
+        this(settings.getBatchSizeInBytes(), settings.getBatchSizeInEntries(), settings.getBatchSizeAdaptiveMinBytes(),
+                settings.getBatchSizeAdaptiveMaxBytes(), settings.getBatchSizeAdaptiveTargetLatency(),
+                settings.getBatchWriteRetryWait());
+    }
+
+    AdaptiveBatchSize(int initialBytes, int initialEntries, int minBytes, int maxBytes, long targetLatency, long maxPause) {
+        if (minBytes <= 0 || minBytes > maxBytes) {
+            throw new OpenSearchHadoopIllegalArgumentException(String.format(
+                    "Invalid adaptive batch size bounds [%s]/[%s] specified through [%s]/[%s]; expected a positive minimum not above the maximum",
+                    minBytes, maxBytes, ConfigurationOptions.OPENSEARCH_BATCH_SIZE_ADAPTIVE_MIN_BYTES,
+                    ConfigurationOptions.OPENSEARCH_BATCH_SIZE_ADAPTIVE_MAX_BYTES));
+        }
+        if (targetLatency <= 0) {
+            throw new OpenSearchHadoopIllegalArgumentException(String.format(
+                    "Invalid value [%sms] for [%s]; expected a positive latency",
+                    targetLatency, ConfigurationOptions.OPENSEARCH_BATCH_SIZE_ADAPTIVE_TARGET_LATENCY));
+        }
+        this.initialBytes = Math.min(Math.max(initialBytes, minBytes), maxBytes);
+        this.initialEntries = initialEntries;
+        this.minBytes = minBytes;
+        this.maxBytes = maxBytes;
+        this.step = Math.max(this.initialBytes / 4, 1);
+        this.targetLatency = targetLatency;
+        this.maxPause = maxPause;
+        resize(this.initialBytes);
+    }
+
+    /**
+     * @return the current limit of a batch, in bytes
+     */
+    int bytes() {
+        return bytes;
+    }
+
+    /**
+     * @return the current limit of a batch, in entries (0 or less meaning no limit, as with the static setting)
+     */
+    int entries() {
+        return entries;
+    }
+
+    /**
+     * @return the time (in millis) to wait before sending the next batch
+     */
+    long pause() {
+        return pause;
+    }
+
+    /**
+     * Adjusts the batch size based on the outcome of a bulk request.
+     *
+     * @param sentBytes  size of the request
+     * @param latency    time (in millis) the request took
+     * @param rejections number of entries rejected by the cluster for being overloaded
+     */
+    synchronized void onResponse(long sentBytes, long latency, int rejections) {
+        if (rejections > 0) {
+            resize(bytes / 2);
+            pause = Math.min(Math.max(pause * 2, MIN_PAUSE), maxPause);
+            return;
+        }
+
+        long decayed = pause / 2;
+        pause = (decayed < MIN_PAUSE ? 0 : decayed);
+
+        if (latency > targetLatency) {
+            resize((int) (bytes * Math.max(0.5d, (double) targetLatency / latency)));
+        }
+        // small requests (the last one of a task or leftovers being retried) tell little about the cluster capacity
+        else if (sentBytes >= bytes / 2) {
+            resize((int) Math.min((long) bytes + step, maxBytes));
+        }
+    }
+
+    private void resize(int size) {
+        bytes = Math.min(Math.max(size, minBytes), maxBytes);
+        entries = (initialEntries > 0 ? (int) Math.max(1L, (long) initialEntries * bytes / initialBytes) : initialEntries);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s] bytes/[%s] entries, pausing [%s]ms", bytes, entries, pause);
+    }
+}
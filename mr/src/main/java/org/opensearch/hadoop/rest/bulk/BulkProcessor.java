@@ -31,9 +31,22 @@ package org.opensearch.hadoop.rest.bulk;
 
 import java.io.Closeable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -44,7 +57,7 @@ import org.opensearch.hadoop.cfg.ConfigurationOptions;
 import org.opensearch.hadoop.cfg.Settings;
 import org.opensearch.hadoop.handler.OpenSearchHadoopAbortHandlerException;
 import org.opensearch.hadoop.handler.HandlerResult;
-import org.opensearch.hadoop.rest.ErrorExtractor;
+import org.opensearch.hadoop.rest.OpenSearchHadoopRemoteException;
 import org.opensearch.hadoop.rest.Resource;
 import org.opensearch.hadoop.rest.RestClient;
 import org.opensearch.hadoop.rest.bulk.handler.BulkWriteErrorCollector;
@@ -59,6 +72,7 @@ import org.opensearch.hadoop.util.ArrayUtils;
 import org.opensearch.hadoop.util.Assert;
 import org.opensearch.hadoop.util.BytesArray;
 import org.opensearch.hadoop.util.BytesRef;
+import org.opensearch.hadoop.util.SettingsUtils;
 import org.opensearch.hadoop.util.TrackingBytesArray;
 import org.opensearch.hadoop.util.unit.TimeValue;
 
@@ -70,40 +84,75 @@ public class BulkProcessor implements Closeable, StatsAware {
 
     private static Log LOG = LogFactory.getLog(BulkProcessor.class);
 
+    private static final int ROUTED_BUFFER_INITIAL_SIZE = 64 * 1024;
+
     private final RestClient restClient;
     private final Resource resource;
     private final Settings settings;
     private final Stats stats = new Stats();
-    private final ErrorExtractor errorExtractor;
 
-    // Buffers and state of content
-    private BytesArray ba;
-    private TrackingBytesArray data;
-    private int dataEntries = 0;
+    // Buffer currently being filled
+    private BulkBuffer buffer;
+
+    // Shard-aware routing - one buffer (and client) per node hosting primary shards
+    private final ShardRouter shardRouter;
+    private final Map<String, BulkBuffer> routedBuffers = new LinkedHashMap<String, BulkBuffer>();
+    private final Map<String, RestClient> nodeClients = new LinkedHashMap<String, RestClient>();
 
     // Configs
     private int bufferEntriesThreshold;
+    // null unless the batch size is adjusted at runtime
+    private final AdaptiveBatchSize adaptiveBatchSize;
     private boolean autoFlush = true;
     private int retryLimit;
+    private int writeConcurrency;
+
+    // Background flushing state (only used when write concurrency is enabled)
+    private ExecutorService sender;
+    private final LinkedList<BackgroundFlush> inFlight = new LinkedList<BackgroundFlush>();
+    private final Queue<BulkBuffer> spareBuffers = new ConcurrentLinkedQueue<BulkBuffer>();
+    // a client serves one request at a time - the idle clients of the background requests, by node ("" for the default one)
+    private final Map<String, Queue<RestClient>> idleSenderClients = new HashMap<String, Queue<RestClient>>();
+    private final List<RestClient> senderClients = new ArrayList<RestClient>();
 
     // Processor writing state flags
-    private boolean executedBulkWrite = false;
-    private boolean hadWriteErrors = false;
+    private volatile boolean executedBulkWrite = false;
+    private volatile boolean hadWriteErrors = false;
     private boolean requiresRefreshAfterBulk = false;
 
     // Bulk write error handlers.
     private List<IBulkWriteErrorHandler> documentBulkErrorHandlers;
 
     public BulkProcessor(RestClient restClient, Resource resource, Settings settings) {
+        this(restClient, resource, settings, null);
+    }
+
+    /**
+     * @param shardRouter if not null, entries are grouped by the node holding their primary shard and each group is
+     *                    sent directly to that node. Entries that cannot be routed go through the given client.
+     */
+    public BulkProcessor(RestClient restClient, Resource resource, Settings settings, ShardRouter shardRouter) {
         this.restClient = restClient;
         this.resource = resource;
         this.settings = settings;
+        this.shardRouter = shardRouter;
 
         // Flushing bounds
         this.autoFlush = !settings.getBatchFlushManual();
         this.bufferEntriesThreshold = settings.getBatchSizeInEntries();
         this.requiresRefreshAfterBulk = settings.getBatchRefreshAfterWrite();
 
+        if (settings.getBatchSizeAdaptive()) {
+            if (!autoFlush) {
+                throw new OpenSearchHadoopIllegalArgumentException(String.format(
+                        "[%s] requires auto-flush; disable [%s] or the adaptive batch size",
+                        ConfigurationOptions.OPENSEARCH_BATCH_SIZE_ADAPTIVE, ConfigurationOptions.OPENSEARCH_BATCH_FLUSH_MANUAL));
+            }
+            this.adaptiveBatchSize = new AdaptiveBatchSize(settings);
+        } else {
+            this.adaptiveBatchSize = null;
+        }
+
         // Negative retry count means that we're going to retry forever in the retry handler.
         int retryCount = settings.getBatchWriteRetryCount();
         // Negative retry limit means that we'll let retry handlers retry forever if need be.
@@ -111,9 +160,16 @@ public class BulkProcessor implements Closeable, StatsAware {
         // Set the processors retry limit to a smart value based on both the configured limit and the configured retry count.
         this.retryLimit = (limit < retryCount || retryCount < 0) ? retryCount : limit;
 
+        // Number of bulk requests that can be sent in the background while the next one is being filled
+        this.writeConcurrency = settings.getBatchWriteConcurrency();
+        if (writeConcurrency < 0) {
+            throw new OpenSearchHadoopIllegalArgumentException(String.format(
+                    "Invalid value [%s] for [%s]; expected a non-negative number",
+                    writeConcurrency, ConfigurationOptions.OPENSEARCH_BATCH_WRITE_CONCURRENCY));
+        }
+
         // Backing data array
-        this.ba = new BytesArray(new byte[settings.getBatchSizeInBytes()], 0);
-        this.data = new TrackingBytesArray(ba);
+        this.buffer = newBuffer(restClient, null);
 
         // Create error handlers
         BulkWriteErrorHandler httpRetryHandler = new HttpRetryHandler(settings);
@@ -124,10 +180,6 @@ public class BulkProcessor implements Closeable, StatsAware {
         this.documentBulkErrorHandlers = new ArrayList<IBulkWriteErrorHandler>();
         this.documentBulkErrorHandlers.add(httpRetryHandler);
         this.documentBulkErrorHandlers.addAll(handlerLoader.loadHandlers());
-
-        // Error Extractor
-        this.errorExtractor = new ErrorExtractor();
-
     }
 
     /**
@@ -135,29 +187,37 @@ public class BulkProcessor implements Closeable, StatsAware {
      * @param payload the entire bulk entry in JSON format, including the header and payload.
      */
     public void add(BytesRef payload) {
+        BulkBuffer target = buffer;
+        if (shardRouter != null) {
+            // the header is needed to pick the target buffer
+            target = routedBuffer(shardRouter.targetNode(payload));
+        }
+
         // check space first
-        // ba is the backing array for data
-        if (payload.length() > ba.available()) {
+        // ba is the backing array for data - with an adaptive batch size it grows as needed and the limit is checked instead
+        int available = (adaptiveBatchSize != null ? adaptiveBatchSize.bytes() - target.ba.length() : target.available());
+        if (payload.length() > available) {
             if (autoFlush) {
-                flush();
+                target = autoFlush(target);
             }
             else {
                 throw new OpenSearchHadoopIllegalStateException(
                         String.format("Auto-flush disabled and bulk buffer full; disable manual flush or increase " +
-                                "capacity [current size %s]; bailing out", ba.capacity()));
+                                "capacity [current size %s]; bailing out", target.ba.capacity()));
             }
         }
 
-        data.copyFrom(payload);
+        target.data.copyFrom(payload);
 
-        dataEntries++;
-        if (bufferEntriesThreshold > 0 && dataEntries >= bufferEntriesThreshold) {
+        target.entries++;
+        int entriesThreshold = (adaptiveBatchSize != null ? adaptiveBatchSize.entries() : bufferEntriesThreshold);
+        if (entriesThreshold > 0 && target.entries >= entriesThreshold) {
             if (autoFlush) {
-                flush();
+                autoFlush(target);
             }
             else {
                 // handle the corner case of manual flush that occurs only after the buffer is completely full (think size of 1)
-                if (dataEntries > bufferEntriesThreshold) {
+                if (target.entries > bufferEntriesThreshold) {
                     throw new OpenSearchHadoopIllegalStateException(
                             String.format(
                                     "Auto-flush disabled and maximum number of entries surpassed; disable manual " +
@@ -168,6 +228,218 @@ public class BulkProcessor implements Closeable, StatsAware {
         }
     }
 
+    /**
+     * Returns the buffer collecting the entries for the given node, or the default buffer if no node is given.
+     */
+    private BulkBuffer routedBuffer(String node) {
+        if (node == null) {
+            return buffer;
+        }
+        BulkBuffer routed = routedBuffers.get(node);
+        if (routed == null) {
+            RestClient client = nodeClients.get(node);
+            if (client == null) {
+                client = createNodeClient(node);
+                nodeClients.put(node, client);
+            }
+            routed = newBuffer(client, node);
+            routedBuffers.put(node, routed);
+        }
+        return routed;
+    }
+
+    RestClient createNodeClient(String node) {
+        Settings nodeSettings = settings.copy();
+        SettingsUtils.pinNode(nodeSettings, node);
+        return new RestClient(nodeSettings);
+    }
+
+    RestClient createSenderClient() {
+        return new RestClient(settings);
+    }
+
+    /**
+     * Returns the idle clients for background requests to the given node (or to the node of the default client if no
+     * node is given), adding one if they are all busy. A client is handed back to the queue once its request is done.
+     */
+    private Queue<RestClient> idleClients(String node) {
+        String key = (node != null ? node : "");
+        Queue<RestClient> idle = idleSenderClients.get(key);
+        if (idle == null) {
+            idle = new ConcurrentLinkedQueue<RestClient>();
+            idleSenderClients.put(key, idle);
+        }
+        if (idle.isEmpty()) {
+            RestClient client = (node != null ? createNodeClient(node) : createSenderClient());
+            senderClients.add(client);
+            idle.add(client);
+        }
+        return idle;
+    }
+
+    private BulkBuffer newBuffer(RestClient client, String node) {
+        BulkBuffer fresh = spareBuffers.poll();
+        if (fresh == null) {
+            // most documents go through the node buffers so these start small and grow up to the batch size as needed
+            fresh = new BulkBuffer(bufferSize(), (node != null ? ROUTED_BUFFER_INITIAL_SIZE : bufferSize()), bufferEntriesThreshold);
+        }
+        fresh.client = client;
+        fresh.node = node;
+        return fresh;
+    }
+
+    private int bufferSize() {
+        return (adaptiveBatchSize != null ? adaptiveBatchSize.bytes() : settings.getBatchSizeInBytes());
+    }
+
+    /**
+     * Swaps the given buffer out for the one that takes its place.
+     */
+    private void replace(BulkBuffer current, BulkBuffer replacement) {
+        if (current == buffer) {
+            buffer = replacement;
+        } else {
+            routedBuffers.put(current.node, replacement);
+        }
+    }
+
+    /**
+     * Flushes the given buffer once it reaches capacity. If write concurrency is enabled, the buffer is handed off
+     * to the background sender and a fresh buffer is used for the following entries, otherwise the flush is
+     * performed in place.
+     * @return the buffer to use for the following entries
+     */
+    private BulkBuffer autoFlush(BulkBuffer full) {
+        if (writeConcurrency > 0) {
+            return flushInBackground(full);
+        }
+        checkDocumentErrors(flushBuffer(full));
+        return (full == buffer || full.node == null ? buffer : routedBuffers.get(full.node));
+    }
+
+    /**
+     * Submits the given buffer to the background senders and swaps in an empty one. Blocks if the maximum number
+     * of bulk requests are already in flight, until the oldest one completes. Requests in flight at the same time
+     * are sent over separate connections and may be applied in any order.
+     * @return the buffer that took the place of the submitted one
+     * @throws OpenSearchHadoopException if any of the previously submitted bulk requests failed.
+     */
+    private BulkBuffer flushInBackground(final BulkBuffer full) {
+        // surface any failure from the requests that already completed
+        while (!inFlight.isEmpty() && inFlight.peek().response.isDone()) {
+            awaitFlush(inFlight.poll());
+        }
+        // back-pressure: wait on the oldest request if the window is full
+        while (inFlight.size() >= writeConcurrency) {
+            awaitFlush(inFlight.poll());
+        }
+
+        if (sender == null) {
+            sender = Executors.newFixedThreadPool(writeConcurrency, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "opensearch-hadoop-bulk-sender[" + resource + "]");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+
+        BulkBuffer fresh = newBuffer(full.client, full.node);
+        replace(full, fresh);
+
+        // the clients of the buffers being filled stay with the task thread
+        final Queue<RestClient> idle = idleClients(full.node);
+        final RestClient client = idle.poll();
+        full.client = client;
+
+        final BackgroundFlush flush = new BackgroundFlush();
+        flush.response = sender.submit(new Callable<BulkResponse>() {
+            @Override
+            public BulkResponse call() {
+                try {
+                    BulkResponse response = doFlush(full, flush.stats);
+                    checkDocumentErrors(response);
+                    if (!full.expanded) {
+                        spareBuffers.add(full);
+                    }
+                    return response;
+                } finally {
+                    idle.add(client);
+                }
+            }
+        });
+        inFlight.add(flush);
+        return fresh;
+    }
+
+    /**
+     * Waits for all the bulk requests sent in the background to complete.
+     * @throws OpenSearchHadoopException if any of them failed.
+     */
+    private void awaitPendingFlushes() {
+        while (!inFlight.isEmpty()) {
+            awaitFlush(inFlight.poll());
+        }
+    }
+
+    private void awaitFlush(BackgroundFlush flush) {
+        try {
+            flush.response.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            hadWriteErrors = true;
+            throw new OpenSearchHadoopException("Thread interrupted while waiting for background bulk request to complete", ex);
+        } catch (ExecutionException ex) {
+            hadWriteErrors = true;
+            Throwable cause = ex.getCause();
+            if (cause instanceof OpenSearchHadoopException) {
+                throw (OpenSearchHadoopException) cause;
+            }
+            throw new OpenSearchHadoopException("Background bulk request failed", cause);
+        } finally {
+            // the sender is done with the stats once the request completed (or failed)
+            if (flush.response.isDone()) {
+                stats.aggregate(flush.stats);
+            }
+        }
+    }
+
+    /**
+     * A bulk request sent in the background along with the stats it records - kept apart from the processor stats
+     * (only updated by the task thread) until the request completes.
+     */
+    private static class BackgroundFlush {
+        private final Stats stats = new Stats();
+        private Future<BulkResponse> response;
+    }
+
+    /**
+     * The backing array of a bulk request along with the entries tracked on top of it.
+     */
+    private static class BulkBuffer {
+        // the batch size - the backing array may start smaller and grow up to it
+        private final int limit;
+        private final BytesArray ba;
+        private final TrackingBytesArray data;
+        private int entries = 0;
+        // set when retried (edited) entries grew the backing array past the configured batch size
+        private boolean expanded = false;
+        // where the buffer is sent to - the node is null for the default (pinned) client
+        private RestClient client;
+        private String node;
+
+        BulkBuffer(int limit, int initialSize, int expectedEntries) {
+            this.limit = limit;
+            this.ba = new BytesArray(new byte[Math.min(initialSize, limit)], 0);
+            this.data = new TrackingBytesArray(ba, expectedEntries);
+        }
+
+        int available() {
+            return limit - ba.length();
+        }
+    }
+
     /**
      * Keeps track of a given document entry's position in the original bulk request, as well as how many
      * attempts to write the entry have been performed.
@@ -189,9 +461,49 @@ public class BulkProcessor implements Closeable, StatsAware {
      * @throws OpenSearchHadoopException in the event that the bulk operation fails or is aborted.
      */
     public BulkResponse tryFlush() {
+        // keep the write order - any requests still in flight need to complete first
+        awaitPendingFlushes();
+
+        BulkResponse bulkResult = flushBuffer(buffer);
+        for (BulkBuffer routed : new ArrayList<BulkBuffer>(routedBuffers.values())) {
+            bulkResult = BulkResponse.combine(bulkResult, flushBuffer(routed));
+        }
+        return bulkResult;
+    }
+
+    private static String errorType(OpenSearchHadoopException error, int status) {
+        if (error instanceof OpenSearchHadoopRemoteException && ((OpenSearchHadoopRemoteException) error).getType() != null) {
+            return ((OpenSearchHadoopRemoteException) error).getType();
+        }
+        return (status > 0 ? "http_" + status : "unknown");
+    }
+
+    private static boolean isRejection(String errorType, int status) {
+        return status == 429 || Arrays.asList(Stats.REJECTION_ERRORS).contains(errorType);
+    }
+
+    private BulkResponse flushBuffer(BulkBuffer target) {
+        BulkResponse bulkResult = doFlush(target, stats);
+        // during retry operations, the tracking bytes array may grow. In that case, do a hard reset.
+        if (target.expanded) {
+            BulkBuffer fresh = new BulkBuffer(bufferSize(), Math.min(target.ba.capacity(), bufferSize()), bufferEntriesThreshold);
+            fresh.client = target.client;
+            fresh.node = target.node;
+            replace(target, fresh);
+        }
+        return bulkResult;
+    }
+
+    /**
+     * Sends the contents of the given buffer to OpenSearch, handling failed documents based on configured error
+     * listeners, and clears the buffer on completion.
+     * @param stats where the outcome of the request is recorded
+     */
+    private BulkResponse doFlush(BulkBuffer buffer, Stats stats) {
         BulkResponse bulkResult = null;
         boolean trackingArrayExpanded = false;
         String bulkLoggingID = createDebugTxnID();
+        TrackingBytesArray data = buffer.data;
 
         try {
             // double check data - it might be a false flush (called on clean-up)
@@ -218,11 +530,13 @@ public class BulkProcessor implements Closeable, StatsAware {
                     }
 
                     // Log messages, and if wait time is set, perform the thread sleep.
-                    initFlushOperation(bulkLoggingID, retryOperation, retries.size(), waitTime);
+                    initFlushOperation(bulkLoggingID, buffer, retryOperation, retries.size(), waitTime, stats);
 
                     // Exec bulk operation to OpenSearch, get response.
                     debugLog(bulkLoggingID, "Submitting request");
-                    RestClient.BulkActionResponse bar = restClient.bulk(resource, data);
+                    int requestBytes = data.length();
+                    int rejections = 0;
+                    RestClient.BulkActionResponse bar = buffer.client.bulk(resource, data);
                     debugLog(bulkLoggingID, "Response received");
                     totalAttempts++;
                     totalTime += bar.getTimeSpent();
@@ -237,14 +551,20 @@ public class BulkProcessor implements Closeable, StatsAware {
                     executedBulkWrite = true;
 
                     // Handle bulk write failures
-                    if (!bar.getEntries().hasNext()) {
-                        // Legacy Case:
-                        // If no items on response, assume all documents made it in.
+                    Iterator<BulkResponseParser.Item> items = bar.getEntries();
+                    if (!items.hasNext()) {
+                        // Fast Case:
+                        // No errors reported (or no items on response), all documents in this round made it in.
                         // Recorded bytes are ack'd here
                         stats.bytesAccepted += data.length();
                         stats.docsAccepted += data.entries();
+                        docsSent += data.entries();
                         retryOperation = false;
-                        bulkResult = BulkResponse.complete(bar.getResponseCode(), totalTime, totalDocs, totalDocs, 0);
+                        if (docsAborted > 0) {
+                            bulkResult = BulkResponse.partial(bar.getResponseCode(), totalTime, totalDocs, docsSent, docsSkipped, docsAborted, abortErrors);
+                        } else {
+                            bulkResult = BulkResponse.complete(bar.getResponseCode(), totalTime, totalDocs, docsSent, docsSkipped);
+                        }
                     } else {
                         // Base Case:
                         // Iterate over the response and the data in the tracking bytes array at the same time, passing
@@ -264,14 +584,9 @@ public class BulkProcessor implements Closeable, StatsAware {
                         BulkWriteErrorCollector errorCollector = new BulkWriteErrorCollector();
 
                         // Iterate over all entries, and for each error found, attempt to handle the problem.
-                        for (Iterator<Map> iterator = bar.getEntries(); iterator.hasNext(); ) {
-
-                            // The array of maps are (operation -> document info) maps
-                            Map map = iterator.next();
-                            // Get the underlying document information as a map and extract the error information.
-                            Map values = (Map) map.values().iterator().next();
-                            Integer docStatus = (Integer) values.get("status");
-                            OpenSearchHadoopException error = errorExtractor.extractError(values);
+                        while (items.hasNext()) {
+                            BulkResponseParser.Item item = items.next();
+                            OpenSearchHadoopException error = item.getError();
 
                             if (error == null){
                                 // Write operation for this entry succeeded
@@ -284,7 +599,12 @@ public class BulkProcessor implements Closeable, StatsAware {
                                 BytesArray document = data.entry(trackingBytesPosition);
 
                                 // In pre-2.x ES versions, the status is not included.
-                                int status = docStatus == null ? -1 : docStatus;
+                                int status = item.getStatus();
+                                String errorType = errorType(error, status);
+                                stats.recordBulkErrors(errorType, 1);
+                                if (isRejection(errorType, status)) {
+                                    rejections++;
+                                }
 
                                 // Figure out which attempt number sending this document was and which position the doc was in
                                 BulkAttempt previousAttempt;
@@ -312,7 +632,10 @@ public class BulkProcessor implements Closeable, StatsAware {
                                 handlerLoop: for (IBulkWriteErrorHandler errorHandler : documentBulkErrorHandlers) {
                                     HandlerResult result;
                                     try {
-                                        result = errorHandler.onError(failure, errorCollector);
+                                        // background requests might fail at the same time - the handlers are not expected to be thread-safe
+                                        synchronized (documentBulkErrorHandlers) {
+                                            result = errorHandler.onError(failure, errorCollector);
+                                        }
                                     } catch (OpenSearchHadoopAbortHandlerException ahe) {
                                         // Count this as an abort operation, but capture the error message from the
                                         // exception as the reason. Log any cause since it will be swallowed.
@@ -353,7 +676,7 @@ public class BulkProcessor implements Closeable, StatsAware {
                                                         data.remove(trackingBytesPosition);
                                                         data.copyFrom(newEntry);
                                                         // Determine if our tracking bytes array is going to expand.
-                                                        if (ba.available() < newEntry.length()) {
+                                                        if (buffer.available() < newEntry.length()) {
                                                             trackingArrayExpanded = true;
                                                         }
                                                         previousAttempt.attemptNumber = 0;
@@ -399,6 +722,10 @@ public class BulkProcessor implements Closeable, StatsAware {
                             }
                         }
                     }
+
+                    if (adaptiveBatchSize != null) {
+                        adaptiveBatchSize.onResponse(requestBytes, bar.getTimeSpent(), rejections);
+                    }
                 } while (retryOperation);
 
                 debugLog(bulkLoggingID, "Completed. [%d] Original Entries. [%d] Attempts. [%d/%d] Docs Sent. [%d/%d] Docs Skipped. [%d/%d] Docs Aborted.",
@@ -418,14 +745,13 @@ public class BulkProcessor implements Closeable, StatsAware {
         }
 
         // always discard data since there's no code path that uses the in flight data
-        // during retry operations, the tracking bytes array may grow. In that case, do a hard reset.
+        // during retry operations, the tracking bytes array may grow. In that case, the owner does a hard reset.
         // TODO: Perhaps open an issue to limit the expansion of a single byte array (for repeated rewrite-retries)
         if (trackingArrayExpanded) {
-            ba = new BytesArray(new byte[settings.getBatchSizeInBytes()], 0);
-            data = new TrackingBytesArray(ba);
+            buffer.expanded = true;
         } else {
             data.reset();
-            dataEntries = 0;
+            buffer.entries = 0;
         }
 
         return bulkResult;
@@ -478,7 +804,8 @@ public class BulkProcessor implements Closeable, StatsAware {
     /**
      * Logs flushing messages and performs backoff waiting if there is a wait time for retry.
      */
-    private void initFlushOperation(String bulkLoggingID, boolean retryOperation, long retriedDocs, long waitTime) {
+    private void initFlushOperation(String bulkLoggingID, BulkBuffer buffer, boolean retryOperation, long retriedDocs, long waitTime,
+                                    Stats stats) {
         if (retryOperation) {
             if (waitTime > 0L) {
                 debugLog(bulkLoggingID, "Retrying [%d] entries after backing off for [%s] ms",
@@ -493,7 +820,18 @@ public class BulkProcessor implements Closeable, StatsAware {
                 debugLog(bulkLoggingID, "Retrying [%d] entries immediately (without backoff)", retriedDocs);
             }
         } else {
-            debugLog(bulkLoggingID, "Sending batch of [%d] bytes/[%s] entries", data.length(), dataEntries);
+            if (adaptiveBatchSize != null && adaptiveBatchSize.pause() > 0L) {
+                long pause = adaptiveBatchSize.pause();
+                debugLog(bulkLoggingID, "Cluster rejecting entries; pausing for [%s] ms before sending the batch", pause);
+                try {
+                    Thread.sleep(pause);
+                } catch (InterruptedException e) {
+                    debugLog(bulkLoggingID, "Thread interrupted - giving up on sending...");
+                    throw new OpenSearchHadoopException("Thread interrupted - giving up on sending...", e);
+                }
+                stats.bulkThrottleTime += pause;
+            }
+            debugLog(bulkLoggingID, "Sending batch of [%d] bytes/[%s] entries", buffer.data.length(), buffer.entries);
         }
     }
 
@@ -525,7 +863,10 @@ public class BulkProcessor implements Closeable, StatsAware {
      * @throws OpenSearchHadoopException in the event that the bulk operation fails, is aborted, or its errors could not be handled.
      */
     public void flush() {
-        BulkResponse bulk = tryFlush();
+        checkDocumentErrors(tryFlush());
+    }
+
+    private void checkDocumentErrors(BulkResponse bulk) {
         if (!bulk.getDocumentErrors().isEmpty()) {
             int maxErrors = 5;
             String header = String.format("Could not write all entries for bulk operation [%s/%s]. Error " +
@@ -583,14 +924,57 @@ public class BulkProcessor implements Closeable, StatsAware {
                 }
             }
         } finally {
+            if (sender != null) {
+                // only left with work on a dirty close
+                sender.shutdownNow();
+                awaitSender();
+                sender = null;
+            }
+            for (RestClient senderClient : senderClients) {
+                senderClient.close();
+                stats.aggregate(senderClient.stats());
+            }
+            senderClients.clear();
+            idleSenderClients.clear();
+            for (RestClient nodeClient : nodeClients.values()) {
+                nodeClient.close();
+                stats.aggregate(nodeClient.stats());
+            }
+            nodeClients.clear();
             for (IBulkWriteErrorHandler handler : documentBulkErrorHandlers) {
                 handler.close();
             }
         }
     }
 
+    /**
+     * Waits for the (interrupted) background requests to stop before the clients they use are closed - up to the
+     * HTTP timeout, after which the request is given up on - and collects the stats of the completed ones.
+     */
+    private void awaitSender() {
+        try {
+            if (!sender.awaitTermination(settings.getHttpTimeout(), TimeUnit.MILLISECONDS)) {
+                LOG.warn(String.format("Background bulk request to [%s] did not stop within [%s]; closing regardless",
+                        resource, TimeValue.timeValueMillis(settings.getHttpTimeout())));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        for (BackgroundFlush flush : inFlight) {
+            if (flush.response.isDone()) {
+                stats.aggregate(flush.stats);
+            }
+        }
+        inFlight.clear();
+    }
+
     @Override
     public Stats stats() {
-        return new Stats(stats);
+        Stats copy = new Stats(stats);
+        if (adaptiveBatchSize != null) {
+            copy.bulkSizeBytes = adaptiveBatchSize.bytes();
+            copy.bulkSizeEntries = adaptiveBatchSize.entries();
+        }
+        return copy;
     }
 }
\ No newline at end of file
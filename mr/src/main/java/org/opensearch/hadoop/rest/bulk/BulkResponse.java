@@ -29,6 +29,7 @@
 
 package org.opensearch.hadoop.rest.bulk;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -55,6 +56,25 @@ public class BulkResponse {
         return new BulkResponse(BulkStatus.PARTIAL, httpStatus, spent, totalWrites, docsSent, docsSkipped, docsAborted, errors);
     }
 
+    /**
+     * Sums up the responses of bulk requests sent for the same flush (for example, to different nodes).
+     * The positions of the document errors are relative to the request they were part of.
+     */
+    static BulkResponse combine(BulkResponse first, BulkResponse second) {
+        int httpStatus = (first.httpStatus != HttpStatus.OK ? first.httpStatus : second.httpStatus);
+        long spent = first.spent + second.spent;
+        int totalDocs = first.totalDocs + second.totalDocs;
+        int docsSent = first.docsSent + second.docsSent;
+        int docsSkipped = first.docsSkipped + second.docsSkipped;
+        if (first.status == BulkStatus.COMPLETE && second.status == BulkStatus.COMPLETE) {
+            return complete(httpStatus, spent, totalDocs, docsSent, docsSkipped);
+        }
+        List<BulkError> errors = new ArrayList<BulkError>(first.documentErrors.size() + second.documentErrors.size());
+        errors.addAll(first.documentErrors);
+        errors.addAll(second.documentErrors);
+        return partial(httpStatus, spent, totalDocs, docsSent, docsSkipped, first.docsAborted + second.docsAborted, errors);
+    }
+
     public enum BulkStatus {
         /**
          * The bulk operation was completed successfully with all documents accepted
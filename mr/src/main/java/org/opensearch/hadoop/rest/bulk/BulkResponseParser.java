@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest.bulk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.opensearch.hadoop.OpenSearchHadoopException;
+import org.opensearch.hadoop.rest.ErrorExtractor;
+import org.opensearch.hadoop.rest.OpenSearchHadoopParsingException;
+import org.opensearch.hadoop.thirdparty.codehaus.jackson.JsonParser;
+import org.opensearch.hadoop.thirdparty.codehaus.jackson.JsonToken;
+import org.opensearch.hadoop.thirdparty.codehaus.jackson.map.ObjectMapper;
+
+/**
+ * Streaming parser for bulk responses.
+ * <p>
+ * The top level {@code errors} flag is checked first: when it is {@code false} every document was accepted and the
+ * {@code items} array is not parsed at all. Otherwise the items are walked lazily, one {@link Item} at a time,
+ * reading only the status and (for failed documents) the error of each entry instead of materializing it into a map.
+ */
+public class BulkResponseParser {
+
+    private static final String ERRORS = "errors";
+    private static final String ITEMS = "items";
+    private static final String STATUS = "status";
+    private static final String ERROR = "error";
+
+    /**
+     * The outcome of a single bulk entry. Instances are reused by the iterator returned from
+     * {@link BulkResponseParser#parse(InputStream)} - read the values before advancing it.
+     */
+    public static class Item {
+        private int position = -1;
+        private int status = -1;
+        private OpenSearchHadoopException error;
+
+        /**
+         * @return the position of the entry in the bulk request.
+         */
+        public int getPosition() {
+            return position;
+        }
+
+        /**
+         * @return the HTTP status of the entry, or -1 if the response did not include one.
+         */
+        public int getStatus() {
+            return status;
+        }
+
+        /**
+         * @return the error of the entry, or null if the entry was written successfully.
+         */
+        public OpenSearchHadoopException getError() {
+            return error;
+        }
+
+        private void reset(int position) {
+            this.position = position;
+            this.status = -1;
+            this.error = null;
+        }
+    }
+
+    private final ObjectMapper mapper;
+    private final ErrorExtractor errorExtractor;
+
+    public BulkResponseParser(ObjectMapper mapper, ErrorExtractor errorExtractor) {
+        this.mapper = mapper;
+        this.errorExtractor = errorExtractor;
+    }
+
+    /**
+     * Parses the given bulk response.
+     * @param content the bulk response body
+     * @return an iterator over the response items. If the response reported no errors (or has no items), the
+     * iterator is empty meaning all the documents in the request have been accepted.
+     */
+    public Iterator<Item> parse(InputStream content) {
+        try {
+            JsonParser parser = mapper.getJsonFactory().createJsonParser(content);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return Collections.<Item>emptyList().iterator();
+            }
+
+            for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                String name = parser.getCurrentName();
+                token = parser.nextToken();
+                if (ERRORS.equals(name)) {
+                    if (token == JsonToken.VALUE_FALSE) {
+                        // everything made it in - no need to look at the items
+                        return Collections.<Item>emptyList().iterator();
+                    }
+                } else if (ITEMS.equals(name) && token == JsonToken.START_ARRAY) {
+                    return new ItemIterator(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return Collections.<Item>emptyList().iterator();
+        } catch (IOException ex) {
+            throw new OpenSearchHadoopParsingException(ex);
+        }
+    }
+
+    private class ItemIterator implements Iterator<Item> {
+        private final JsonParser parser;
+        private final Item item = new Item();
+        private int position = 0;
+        private JsonToken next;
+
+        ItemIterator(JsonParser parser) throws IOException {
+            this.parser = parser;
+            this.next = parser.nextToken();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next == JsonToken.START_OBJECT;
+        }
+
+        @Override
+        public Item next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more bulk response items");
+            }
+            try {
+                item.reset(position++);
+                // { "<operation>" : { ... } }
+                for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                    if (parser.nextToken() == JsonToken.START_OBJECT) {
+                        readOperation();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                next = parser.nextToken();
+                return item;
+            } catch (IOException ex) {
+                throw new OpenSearchHadoopParsingException(ex);
+            }
+        }
+
+        private void readOperation() throws IOException {
+            for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                String name = parser.getCurrentName();
+                token = parser.nextToken();
+                if (STATUS.equals(name) && token == JsonToken.VALUE_NUMBER_INT) {
+                    item.status = parser.getIntValue();
+                } else if (ERROR.equals(name) && token != JsonToken.VALUE_NULL) {
+                    // failures are the exception so materializing the error body is fine
+                    Object error = mapper.readValue(parser, Object.class);
+                    item.error = errorExtractor.extractError(Collections.<String, Object>singletonMap(ERROR, error));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("read-only operator");
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest.bulk;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.opensearch.hadoop.OpenSearchHadoopIllegalArgumentException;
+import org.opensearch.hadoop.thirdparty.codehaus.jackson.JsonFactory;
+import org.opensearch.hadoop.thirdparty.codehaus.jackson.JsonParser;
+import org.opensearch.hadoop.thirdparty.codehaus.jackson.JsonToken;
+import org.opensearch.hadoop.util.BytesRef;
+import org.opensearch.hadoop.util.MurmurHash3;
+
+/**
+ * Determines the node holding the primary shard a bulk entry is routed to, following the same
+ * (murmur3 based) routing OpenSearch applies to the entry's {@code routing} or {@code _id}.
+ * <p>
+ * Entries without either value (auto-generated ids) cannot be routed upfront.
+ */
+public class ShardRouter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final int numberOfShards;
+    private final int routingNumShards;
+    private final int routingFactor;
+    private final int routingPartitionSize;
+    private final String[] shardNodes;
+
+    public ShardRouter(int numberOfShards, int routingNumShards, int routingPartitionSize, Map<Integer, String> shardNodes) {
+        if (numberOfShards < 1 || routingNumShards < numberOfShards || routingNumShards % numberOfShards != 0) {
+            throw new OpenSearchHadoopIllegalArgumentException(String.format(
+                    "Invalid shard layout; [%s] shards with [%s] routing shards", numberOfShards, routingNumShards));
+        }
+        this.numberOfShards = numberOfShards;
+        this.routingNumShards = routingNumShards;
+        this.routingFactor = routingNumShards / numberOfShards;
+        this.routingPartitionSize = routingPartitionSize;
+        this.shardNodes = new String[numberOfShards];
+        for (Map.Entry<Integer, String> entry : shardNodes.entrySet()) {
+            int shard = entry.getKey();
+            if (shard >= 0 && shard < numberOfShards) {
+                this.shardNodes[shard] = entry.getValue();
+            }
+        }
+    }
+
+    /**
+     * Creates a router out of the index metadata (as returned by the cluster state) and the (publish) address of the
+     * node holding each primary shard.
+     * @return the router or null if the metadata does not describe the shard layout
+     */
+    public static ShardRouter create(Map<String, Object> indexMetadata, Map<Integer, String> primaries) {
+        return create(layout(indexMetadata), primaries);
+    }
+
+    /**
+     * @param layout the number of shards, routing shards and routing partition size, as returned by {@link #layout(Map)}
+     * @return the router or null if there is no layout
+     */
+    public static ShardRouter create(int[] layout, Map<Integer, String> primaries) {
+        if (layout == null || layout.length != 3) {
+            return null;
+        }
+        return new ShardRouter(layout[0], layout[1], layout[2], primaries);
+    }
+
+    /**
+     * @return the number of shards, routing shards and routing partition size out of the index metadata (as returned by
+     *         the cluster state), or null if the metadata does not describe them
+     */
+    public static int[] layout(Map<String, Object> indexMetadata) {
+        if (indexMetadata == null) {
+            return null;
+        }
+        Object routingShards = indexMetadata.get("routing_num_shards");
+        Object settings = indexMetadata.get("settings");
+        if (!(routingShards instanceof Number) || !(settings instanceof Map)) {
+            return null;
+        }
+        Map<?, ?> indexSettings = (Map<?, ?>) settings;
+        Object shards = indexSettings.get("index.number_of_shards");
+        if (shards == null) {
+            return null;
+        }
+        Object partitionSize = indexSettings.get("index.routing_partition_size");
+
+        return new int[] { Integer.parseInt(shards.toString()), ((Number) routingShards).intValue(),
+                (partitionSize != null ? Integer.parseInt(partitionSize.toString()) : 1) };
+    }
+
+    /**
+     * @return the shard the document with the given id and routing is stored in, or -1 if it cannot be determined
+     */
+    public int shardId(String id, String routing) {
+        int partitionOffset = 0;
+        if (routingPartitionSize > 1 && routing != null) {
+            if (id == null) {
+                return -1;
+            }
+            partitionOffset = Math.floorMod(MurmurHash3.hash(id), routingPartitionSize);
+        }
+        String effectiveRouting = (routing != null ? routing : id);
+        if (effectiveRouting == null) {
+            return -1;
+        }
+        int hash = MurmurHash3.hash(effectiveRouting) + partitionOffset;
+        return Math.floorMod(hash, routingNumShards) / routingFactor;
+    }
+
+    /**
+     * Looks at the action header of the given bulk entry - only the header is read, straight from the referenced bytes.
+     * @return the address of the node holding the target primary shard, or null if it cannot be determined
+     */
+    public String targetNode(BytesRef entry) {
+        String id = null;
+        String routing = null;
+        try {
+            JsonParser parser = JSON_FACTORY.createJsonParser(entry.firstLine());
+            try {
+                // { "<operation>" : { "_id" : ..., "routing" : ... } }
+                if (parser.nextToken() != JsonToken.START_OBJECT || parser.nextToken() != JsonToken.FIELD_NAME
+                        || parser.nextToken() != JsonToken.START_OBJECT) {
+                    return null;
+                }
+                for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                    String name = parser.getCurrentName();
+                    token = parser.nextToken();
+                    if ("_id".equals(name) && token.isScalarValue()) {
+                        id = parser.getText();
+                    } else if (("routing".equals(name) || "_routing".equals(name)) && token.isScalarValue()) {
+                        routing = parser.getText();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } finally {
+                parser.close();
+            }
+        } catch (IOException ex) {
+            // leave it to the default node (and OpenSearch) to report malformed entries
+            return null;
+        }
+
+        int shard = shardId(id, routing);
+        return (shard >= 0 ? shardNodes[shard] : null);
+    }
+
+    public int getNumberOfShards() {
+        return numberOfShards;
+    }
+}
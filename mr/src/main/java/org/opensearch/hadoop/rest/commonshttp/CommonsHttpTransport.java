@@ -86,6 +86,7 @@ import org.opensearch.hadoop.thirdparty.apache.commons.httpclient.protocol.Proto
 import org.opensearch.hadoop.thirdparty.apache.commons.httpclient.protocol.ProtocolSocketFactory;
 import org.opensearch.hadoop.thirdparty.apache.commons.httpclient.protocol.SecureProtocolSocketFactory;
 import org.opensearch.hadoop.util.ByteSequence;
+import org.opensearch.hadoop.util.IOUtils;
 import org.opensearch.hadoop.util.ReflectionUtils;
 import org.opensearch.hadoop.util.StringUtils;
 import org.opensearch.hadoop.util.encoding.HttpEncodingTools;
@@ -96,8 +97,10 @@ import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 import javax.security.auth.kerberos.KerberosPrincipal;
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.lang.reflect.Method;
 import java.net.Socket;
 import java.security.PrivilegedExceptionAction;
@@ -106,6 +109,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 import java.io.ByteArrayOutputStream;
 
 /**
@@ -146,16 +151,64 @@ public class CommonsHttpTransport implements Transport, StatsAware {
      * SecureProtocolSocketFactory
      */
     private boolean isSecure = false;
+    private final boolean compressRequests;
+    private final boolean acceptCompressed;
 
     private static class ResponseInputStream extends DelegatingInputStream implements ReusableInputStream {
 
         private final HttpMethod method;
         private final boolean reusable;
+        private final WireCountingInputStream wire;
 
         public ResponseInputStream(HttpMethod http) throws IOException {
-            super(http.getResponseBodyAsStream());
+            this(http, http.getResponseBodyAsStream());
+        }
+
+        private ResponseInputStream(HttpMethod http, InputStream body) throws IOException {
+            this(http, body, (body != null ? new WireCountingInputStream(body) : null));
+        }
+
+        private ResponseInputStream(HttpMethod http, InputStream body, WireCountingInputStream wire) throws IOException {
+            super(decode(http, wire));
             this.method = http;
-            reusable = (delegate() instanceof ByteArrayInputStream);
+            this.wire = wire;
+            reusable = (body instanceof ByteArrayInputStream);
+        }
+
+        // undo the content encoding (if any) negotiated through Accept-Encoding
+        private static InputStream decode(HttpMethod http, InputStream body) throws IOException {
+            if (body == null) {
+                return null;
+            }
+            Header encoding = http.getResponseHeader("Content-Encoding");
+            Header length = http.getResponseHeader("Content-Length");
+            // bodiless responses (HEAD, 204, 304) may still advertise the encoding
+            if (encoding != null && (length == null || !"0".equals(length.getValue().trim()))) {
+                String value = encoding.getValue().trim().toLowerCase(Locale.ROOT);
+                if ("gzip".equals(value)) {
+                    return new DecodingInputStream(body, true);
+                }
+                if ("deflate".equals(value)) {
+                    return new DecodingInputStream(body, false);
+                }
+            }
+            return body;
+        }
+
+        // the body as logged when tracing - buffered (and hence still readable afterwards) and decoded
+        private static String decodedBody(HttpMethod http) throws IOException {
+            byte[] body = http.getResponseBody();
+            if (body == null) {
+                return null;
+            }
+            return IOUtils.asString(decode(http, new ByteArrayInputStream(body)));
+        }
+
+        @Override
+        public Stats stats() {
+            Stats stats = super.stats();
+            stats.netBytesReceived = (wire != null ? wire.count : 0);
+            return stats;
         }
 
         @Override
@@ -171,7 +224,7 @@ public class CommonsHttpTransport implements Transport, StatsAware {
         @Override
         public InputStream copy() {
             try {
-                return (reusable ? method.getResponseBodyAsStream() : null);
+                return (reusable ? decode(method, method.getResponseBodyAsStream()) : null);
             } catch (IOException ex) {
                 throw new OpenSearchHadoopIllegalStateException(ex);
             }
@@ -190,6 +243,90 @@ public class CommonsHttpTransport implements Transport, StatsAware {
         }
     }
 
+    private static class WireCountingInputStream extends FilterInputStream {
+        private long count = 0;
+
+        WireCountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int result = in.read();
+            if (result >= 0) {
+                count++;
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int result = in.read(b, off, len);
+            if (result > 0) {
+                count += result;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Decodes the body on first read, as opposed to upfront - {@link GZIPInputStream} reads the gzip header on creation
+     * which fails on empty bodies (whose length is not always known in advance). Empty bodies are returned as such.
+     */
+    private static class DecodingInputStream extends FilterInputStream {
+        private final boolean gzip;
+        private boolean decoding = false;
+
+        DecodingInputStream(InputStream body, boolean gzip) {
+            super(body);
+            this.gzip = gzip;
+        }
+
+        private void decode() throws IOException {
+            if (decoding) {
+                return;
+            }
+            decoding = true;
+            PushbackInputStream body = new PushbackInputStream(in, 1);
+            int first = body.read();
+            if (first < 0) {
+                in = body;
+                return;
+            }
+            body.unread(first);
+            in = (gzip ? new GZIPInputStream(body) : new InflaterInputStream(body));
+        }
+
+        @Override
+        public int read() throws IOException {
+            decode();
+            return in.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            decode();
+            return in.read(b, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            decode();
+            return in.skip(n);
+        }
+
+        @Override
+        public int available() throws IOException {
+            // the encoded bytes available say nothing about the decoded ones
+            return (decoding ? in.available() : 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
     private class SocketTrackingConnectionManager extends SimpleHttpConnectionManager {
 
         @Override
@@ -232,6 +369,13 @@ public class CommonsHttpTransport implements Transport, StatsAware {
         httpInfo = host;
         sslEnabled = settings.getNetworkSSLEnabled();
 
+        acceptCompressed = settings.getHttpCompression();
+        // the SigV4 signature covers the payload as is - don't compress it underneath
+        compressRequests = acceptCompressed && !settings.getAwsSigV4Enabled();
+        if (acceptCompressed && !compressRequests && log.isDebugEnabled()) {
+            log.debug("Request compression is not supported with AWS SigV4 signing; only responses will be compressed");
+        }
+
         String pathPref = settings.getNodesPathPrefix();
         pathPrefix = (StringUtils.hasText(pathPref) ? addLeadingSlashIfNeeded(StringUtils.trimWhitespace(pathPref))
                 : StringUtils.trimWhitespace(pathPref));
@@ -668,18 +812,30 @@ public class CommonsHttpTransport implements Transport, StatsAware {
         }
 
         ByteSequence ba = request.body();
+        GzipRequestEntity compressedEntity = null;
         if (ba != null && ba.length() > 0) {
             if (!(http instanceof EntityEnclosingMethod)) {
                 throw new IllegalStateException(
                         String.format("Method %s cannot contain body - implementation bug", request.method().name()));
             }
             EntityEnclosingMethod entityMethod = (EntityEnclosingMethod) http;
-            entityMethod.setRequestEntity(new BytesArrayRequestEntity(ba));
-            entityMethod.setContentChunked(false);
+            if (compressRequests && isBulk(request)) {
+                compressedEntity = new GzipRequestEntity(ba);
+                entityMethod.setRequestEntity(compressedEntity);
+                entityMethod.setContentChunked(true);
+                http.setRequestHeader("Content-Encoding", GzipRequestEntity.ENCODING);
+            } else {
+                entityMethod.setRequestEntity(new BytesArrayRequestEntity(ba));
+                entityMethod.setContentChunked(false);
+            }
         }
 
         headers.applyTo(http);
 
+        if (acceptCompressed) {
+            http.setRequestHeader("Accept-Encoding", "gzip, deflate");
+        }
+
         // We don't want a token added from a proxy user to collide with the
         // run_as mechanism from a real user impersonating said proxy, so
         // make these conditions mutually exclusive.
@@ -740,11 +896,15 @@ public class CommonsHttpTransport implements Transport, StatsAware {
             doExecute(http);
         }
 
+        if (ba != null && ba.length() > 0) {
+            stats.netBytesSent += (compressedEntity != null ? compressedEntity.getBytesWritten() : ba.length());
+        }
+
         if (log.isTraceEnabled()) {
             Socket sk = ReflectionUtils.invoke(GET_SOCKET, conn, (Object[]) null);
             String addr = sk.getLocalAddress().getHostAddress();
             log.trace(String.format("Rx %s@[%s] [%s-%s] [%s]", proxyInfo, addr, http.getStatusCode(),
-                    HttpStatus.getStatusText(http.getStatusCode()), http.getResponseBodyAsString()));
+                    HttpStatus.getStatusText(http.getStatusCode()), ResponseInputStream.decodedBody(http)));
         }
 
         // Parse headers
@@ -759,6 +919,13 @@ public class CommonsHttpTransport implements Transport, StatsAware {
         return new SimpleResponse(http.getStatusCode(), new ResponseInputStream(http), httpInfo, headers);
     }
 
+    // only the bulk bodies are compressed - the other ones (search, scroll, mapping, etc...) are small
+    private static boolean isBulk(Request request) {
+        String path = (request.path() != null ? request.path().toString() : "");
+        int params = path.indexOf('?');
+        return (params >= 0 ? path.substring(0, params) : path).endsWith("_bulk");
+    }
+
     /**
      * Actually perform the request
      * 
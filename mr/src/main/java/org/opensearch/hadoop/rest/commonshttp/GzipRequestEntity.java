@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest.commonshttp;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.opensearch.hadoop.thirdparty.apache.commons.httpclient.methods.RequestEntity;
+import org.opensearch.hadoop.util.ByteSequence;
+
+/**
+ * Request entity that gzips the given bytes while they are written to the connection.
+ * As the compressed size is not known upfront, the content is sent chunked.
+ */
+class GzipRequestEntity implements RequestEntity {
+
+    static final String ENCODING = "gzip";
+
+    private final ByteSequence bs;
+    private long bytesWritten = 0;
+
+    GzipRequestEntity(ByteSequence bs) {
+        this.bs = bs;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public void writeRequest(OutputStream out) throws IOException {
+        CountingOutputStream counting = new CountingOutputStream(out);
+        GZIPOutputStream gzip = new GZIPOutputStream(counting, 8192);
+        bs.writeTo(gzip);
+        // finish but do not close the connection stream
+        gzip.finish();
+        counting.flush();
+        bytesWritten = counting.count;
+    }
+
+    /**
+     * @return the number of compressed bytes written by the last {@link #writeRequest(OutputStream)} call.
+     */
+    long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public String getContentType() {
+        return "application/json; charset=UTF-8";
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count = 0;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
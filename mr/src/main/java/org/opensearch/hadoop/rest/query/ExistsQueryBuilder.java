@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest.query;
+
+import org.opensearch.hadoop.serialization.Generator;
+
+/**
+ * A Query that matches documents with a value for the given field.
+ */
+public class ExistsQueryBuilder extends QueryBuilder {
+    /** Name of field to check. */
+    private String field;
+
+    public ExistsQueryBuilder field(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("inner clause [field] cannot be null");
+        }
+        this.field = value;
+        return this;
+    }
+
+    @Override
+    public void toJson(Generator out) {
+        if (field == null) {
+            throw new IllegalArgumentException("inner clause [field] cannot be null");
+        }
+        out.writeFieldName("exists")
+                .writeBeginObject()
+                    .writeFieldName("field")
+                    .writeString(field)
+                .writeEndObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ExistsQueryBuilder that = (ExistsQueryBuilder) o;
+
+        return field != null ? field.equals(that.field) : that.field == null;
+    }
+
+    @Override
+    public int hashCode() {
+        return field != null ? field.hashCode() : 0;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest.query;
+
+import org.opensearch.hadoop.serialization.Generator;
+
+/**
+ * A Query that matches documents containing a term starting with the given prefix.
+ */
+public class PrefixQueryBuilder extends QueryBuilder {
+    /** Name of field to match against. */
+    private String field;
+    /** Prefix to find matches for. */
+    private String prefix;
+
+    public PrefixQueryBuilder field(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("inner clause [field] cannot be null");
+        }
+        this.field = value;
+        return this;
+    }
+
+    public PrefixQueryBuilder prefix(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("inner clause [prefix] cannot be null");
+        }
+        this.prefix = value;
+        return this;
+    }
+
+    @Override
+    public void toJson(Generator out) {
+        if (field == null) {
+            throw new IllegalArgumentException("inner clause [field] cannot be null");
+        }
+        if (prefix == null) {
+            throw new IllegalArgumentException("inner clause [prefix] cannot be null");
+        }
+        out.writeFieldName("prefix")
+                .writeBeginObject()
+                    .writeFieldName(field)
+                    .writeString(prefix)
+                .writeEndObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        PrefixQueryBuilder that = (PrefixQueryBuilder) o;
+
+        if (field != null ? !field.equals(that.field) : that.field != null) return false;
+        return prefix != null ? prefix.equals(that.prefix) : that.prefix == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = field != null ? field.hashCode() : 0;
+        result = 31 * result + (prefix != null ? prefix.hashCode() : 0);
+        return result;
+    }
+}
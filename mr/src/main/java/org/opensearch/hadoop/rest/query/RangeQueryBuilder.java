@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest.query;
+
+import org.opensearch.hadoop.serialization.Generator;
+
+/**
+ * A Query that matches documents with a term within the given bounds.
+ */
+public class RangeQueryBuilder extends QueryBuilder {
+    /** Name of field to match against. */
+    private String field;
+    /** Bounds, each one optional. */
+    private String gt;
+    private String gte;
+    private String lt;
+    private String lte;
+
+    public RangeQueryBuilder field(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("inner clause [field] cannot be null");
+        }
+        this.field = value;
+        return this;
+    }
+
+    public RangeQueryBuilder gt(String value) {
+        this.gt = value;
+        return this;
+    }
+
+    public RangeQueryBuilder gte(String value) {
+        this.gte = value;
+        return this;
+    }
+
+    public RangeQueryBuilder lt(String value) {
+        this.lt = value;
+        return this;
+    }
+
+    public RangeQueryBuilder lte(String value) {
+        this.lte = value;
+        return this;
+    }
+
+    @Override
+    public void toJson(Generator out) {
+        if (field == null) {
+            throw new IllegalArgumentException("inner clause [field] cannot be null");
+        }
+        out.writeFieldName("range")
+                .writeBeginObject()
+                    .writeFieldName(field)
+                    .writeBeginObject();
+        if (gt != null) {
+            out.writeFieldName("gt").writeString(gt);
+        }
+        if (gte != null) {
+            out.writeFieldName("gte").writeString(gte);
+        }
+        if (lt != null) {
+            out.writeFieldName("lt").writeString(lt);
+        }
+        if (lte != null) {
+            out.writeFieldName("lte").writeString(lte);
+        }
+        out.writeEndObject()
+                .writeEndObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        RangeQueryBuilder that = (RangeQueryBuilder) o;
+
+        if (field != null ? !field.equals(that.field) : that.field != null) return false;
+        if (gt != null ? !gt.equals(that.gt) : that.gt != null) return false;
+        if (gte != null ? !gte.equals(that.gte) : that.gte != null) return false;
+        if (lt != null ? !lt.equals(that.lt) : that.lt != null) return false;
+        return lte != null ? lte.equals(that.lte) : that.lte == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = field != null ? field.hashCode() : 0;
+        result = 31 * result + (gt != null ? gt.hashCode() : 0);
+        result = 31 * result + (gte != null ? gte.hashCode() : 0);
+        result = 31 * result + (lt != null ? lt.hashCode() : 0);
+        result = 31 * result + (lte != null ? lte.hashCode() : 0);
+        return result;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.opensearch.hadoop.serialization.Generator;
+
+/**
+ * A Query that matches documents containing any of the given terms.
+ */
+public class TermsQueryBuilder extends QueryBuilder {
+    /** Name of field to match against. */
+    private String field;
+    /** Values to find matches for. */
+    private final List<String> terms = new ArrayList<String>();
+
+    public TermsQueryBuilder field(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("inner clause [field] cannot be null");
+        }
+        this.field = value;
+        return this;
+    }
+
+    public TermsQueryBuilder term(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("inner clause [term] cannot be null");
+        }
+        terms.add(value);
+        return this;
+    }
+
+    public TermsQueryBuilder terms(Collection<String> values) {
+        for (String value : values) {
+            term(value);
+        }
+        return this;
+    }
+
+    @Override
+    public void toJson(Generator out) {
+        if (field == null) {
+            throw new IllegalArgumentException("inner clause [field] cannot be null");
+        }
+        out.writeFieldName("terms")
+                .writeBeginObject()
+                    .writeFieldName(field)
+                    .writeBeginArray();
+        for (String term : terms) {
+            out.writeString(term);
+        }
+        out.writeEndArray()
+                .writeEndObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        TermsQueryBuilder that = (TermsQueryBuilder) o;
+
+        if (field != null ? !field.equals(that.field) : that.field != null) return false;
+        return terms.equals(that.terms);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = field != null ? field.hashCode() : 0;
+        result = 31 * result + terms.hashCode();
+        return result;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest.stats;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Compact (HDR-like) histogram of latencies, in millis.
+ * <p>
+ * Values are grouped in buckets that grow exponentially: every power of two is divided into 16 linear sub-buckets,
+ * hence values below 16 are recorded exactly while the others are kept with a relative precision of about 6%.
+ * Percentiles report the highest value of the bucket they fall in (capped to the recorded maximum).
+ * Histograms can be merged, which is what allows per-task distributions to be combined.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // ~35 years in millis - anything above is clamped
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    // allocated on first use since most instances (per node, per operation type) stay empty
+    private long[] counts;
+    private long count;
+    private long total;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    public LatencyHistogram() {}
+
+    public LatencyHistogram(LatencyHistogram other) {
+        aggregate(other);
+    }
+
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        if (counts == null) {
+            counts = new long[BUCKETS];
+        }
+        counts[bucket(value)]++;
+        count++;
+        total += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_EXPONENT);
+        int subBucket = (int) (Math.min(value >>> (exponent - SUB_BUCKET_BITS), 2 * SUB_BUCKETS - 1) & (SUB_BUCKETS - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValue(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+        return lowest + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    public LatencyHistogram aggregate(LatencyHistogram other) {
+        if (other == null || other.count == 0) {
+            return this;
+        }
+        if (counts == null) {
+            counts = Arrays.copyOf(other.counts, BUCKETS);
+        } else {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += other.counts[i];
+            }
+        }
+        count += other.count;
+        total += other.total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the latency below which the given percentage of the recorded values fall, or 0 if nothing was recorded
+     */
+    public long percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(Math.max(0d, Math.min(percentile, 100d)) / 100d * count);
+        rank = Math.max(rank, 1);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                // the last bucket holds the clamped values, hence has no upper bound
+                return (i == BUCKETS - 1 ? max : Math.min(highestValue(i), max));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * @return the number of recorded values that are (within the bucket precision) at most the given latency
+     */
+    public long countAtOrBelow(long value) {
+        if (count == 0 || value < 0) {
+            return 0;
+        }
+        if (value >= max) {
+            return count;
+        }
+        long matching = 0;
+        for (int i = 0, last = bucket(value); i <= last; i++) {
+            matching += counts[i];
+        }
+        return matching;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getMin() {
+        return (count == 0 ? 0 : min);
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return (count == 0 ? 0d : (double) total / count);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "count=%d, min=%dms, mean=%.1fms, p50=%dms, p90=%dms, p99=%dms, max=%dms",
+                count, getMin(), getMean(), percentile(50), percentile(90), percentile(99), max);
+    }
+}
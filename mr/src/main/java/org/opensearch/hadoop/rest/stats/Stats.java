@@ -28,6 +28,9 @@
  */
 package org.opensearch.hadoop.rest.stats;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.opensearch.hadoop.rest.RestRepository;
 
 /**
@@ -46,6 +49,9 @@ public class Stats {
     /** reads */
     public long bytesReceived;
     public long docsReceived;
+    /** bytes on the wire (differ from the bytes above when http compression is used) */
+    public long netBytesSent;
+    public long netBytesReceived;
     /** bulk */
     public long bulkTotal;
     public long bulkRetries;
@@ -59,6 +65,26 @@ public class Stats {
     /** scroll */
     public long scrollTotalTime;
     public long scrollTotal;
+    /** time (in millis) spent turning documents into bulk entries and parsing the read responses */
+    public long serializationTotalTime;
+    public long deserializationTotalTime;
+    /** time (in millis) the sender paused because of rejected bulk entries */
+    public long bulkThrottleTime;
+    /** current batch size when adjusted at runtime (gauges - the largest is kept when aggregating) */
+    public long bulkSizeBytes;
+    public long bulkSizeEntries;
+    /** latency distributions (in millis) */
+    public final LatencyHistogram bulkLatency = new LatencyHistogram();
+    public final LatencyHistogram scrollLatency = new LatencyHistogram();
+    /** latency of all requests, per node */
+    public final Map<String, LatencyHistogram> nodeLatency = new LinkedHashMap<String, LatencyHistogram>();
+    /** bulk entries rejected, per error type */
+    public final Map<String, Long> bulkErrors = new LinkedHashMap<String, Long>();
+
+    /** error types counted as rejections (the node being overloaded) */
+    public static final String[] REJECTION_ERRORS = { "opensearch_rejected_execution_exception", "rejected_execution_exception",
+            "es_rejected_execution_exception", "http_429" };
+    public static final String[] VERSION_CONFLICT_ERRORS = { "version_conflict_engine_exception", "http_409" };
 
     public Stats() {};
 
@@ -81,6 +107,9 @@ public class Stats {
         this.bytesReceived = stats.bytesReceived;
         this.docsReceived = stats.docsReceived;
 
+        this.netBytesSent = stats.netBytesSent;
+        this.netBytesReceived = stats.netBytesReceived;
+
         this.nodeRetries = stats.nodeRetries;
         this.netRetries = stats.netRetries;
 
@@ -90,6 +119,15 @@ public class Stats {
 
         this.scrollTotal = stats.scrollTotal;
         this.scrollTotalTime = stats.scrollTotalTime;
+
+        this.serializationTotalTime = stats.serializationTotalTime;
+        this.deserializationTotalTime = stats.deserializationTotalTime;
+
+        this.bulkThrottleTime = stats.bulkThrottleTime;
+        this.bulkSizeBytes = stats.bulkSizeBytes;
+        this.bulkSizeEntries = stats.bulkSizeEntries;
+
+        aggregateDistributions(stats);
     }
 
     public Stats aggregate(Stats other) {
@@ -109,6 +147,9 @@ public class Stats {
         bytesReceived += other.bytesReceived;
         docsReceived += other.docsReceived;
 
+        netBytesSent += other.netBytesSent;
+        netBytesReceived += other.netBytesReceived;
+
         nodeRetries += other.nodeRetries;
         netRetries += other.netRetries;
 
@@ -119,6 +160,81 @@ public class Stats {
         scrollTotal += other.scrollTotal;
         scrollTotalTime += other.scrollTotalTime;
 
+        serializationTotalTime += other.serializationTotalTime;
+        deserializationTotalTime += other.deserializationTotalTime;
+
+        bulkThrottleTime += other.bulkThrottleTime;
+        bulkSizeBytes = Math.max(bulkSizeBytes, other.bulkSizeBytes);
+        bulkSizeEntries = Math.max(bulkSizeEntries, other.bulkSizeEntries);
+
+        aggregateDistributions(other);
+
         return this;
     }
+
+    private void aggregateDistributions(Stats other) {
+        bulkLatency.aggregate(other.bulkLatency);
+        scrollLatency.aggregate(other.scrollLatency);
+        for (Map.Entry<String, LatencyHistogram> entry : other.nodeLatency.entrySet()) {
+            nodeLatency(entry.getKey()).aggregate(entry.getValue());
+        }
+        for (Map.Entry<String, Long> entry : other.bulkErrors.entrySet()) {
+            recordBulkErrors(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public LatencyHistogram nodeLatency(String node) {
+        LatencyHistogram histogram = nodeLatency.get(node);
+        if (histogram == null) {
+            histogram = new LatencyHistogram();
+            nodeLatency.put(node, histogram);
+        }
+        return histogram;
+    }
+
+    public void recordBulkErrors(String type, long count) {
+        Long current = bulkErrors.get(type);
+        bulkErrors.put(type, (current != null ? current + count : count));
+    }
+
+    public long bulkErrors(String... types) {
+        long sum = 0;
+        for (String type : types) {
+            Long count = bulkErrors.get(type);
+            if (count != null) {
+                sum += count;
+            }
+        }
+        return sum;
+    }
+
+    public long bulkErrorsTotal() {
+        long sum = 0;
+        for (Long count : bulkErrors.values()) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    /** bulk throughput, based on the time spent in bulk requests */
+    public double bulkBytesPerSecond() {
+        return rate(bytesSent, bulkTotalTime);
+    }
+
+    public double bulkDocsPerSecond() {
+        return rate(docsSent, bulkTotalTime);
+    }
+
+    /** read throughput, based on the time spent in scroll requests */
+    public double scrollBytesPerSecond() {
+        return rate(bytesReceived, scrollTotalTime);
+    }
+
+    public double scrollDocsPerSecond() {
+        return rate(docsReceived, scrollTotalTime);
+    }
+
+    private static double rate(long amount, long millis) {
+        return (millis > 0 ? amount * 1000d / millis : 0d);
+    }
 }
\ No newline at end of file
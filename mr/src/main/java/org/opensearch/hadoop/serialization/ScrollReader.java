@@ -33,9 +33,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -53,6 +56,7 @@ import org.opensearch.hadoop.serialization.field.FieldFilter;
 import org.opensearch.hadoop.serialization.handler.read.DeserializationFailure;
 import org.opensearch.hadoop.serialization.handler.SerdeErrorCollector;
 import org.opensearch.hadoop.serialization.handler.read.IDeserializationErrorHandler;
+import org.opensearch.hadoop.serialization.handler.read.impl.DeserializationHandlerLoader;
 import org.opensearch.hadoop.serialization.json.BlockAwareJsonParser;
 import org.opensearch.hadoop.serialization.json.JacksonJsonParser;
 import org.opensearch.hadoop.util.Assert;
@@ -156,6 +160,7 @@ public class ScrollReader implements Closeable {
         private final boolean concluded;
         private final int numberOfHits;
         private final int numberOfSkippedHits;
+        private final List<Object> searchAfter;
 
         public Scroll(String scrollId, long total, boolean concluded) {
             this.scrollId = scrollId;
@@ -164,15 +169,21 @@ public class ScrollReader implements Closeable {
             this.concluded = concluded;
             this.numberOfHits = 0;
             this.numberOfSkippedHits = 0;
+            this.searchAfter = null;
         }
 
         public Scroll(String scrollId, long total, List<Object[]> hits, int responseHits, int skippedHits) {
+            this(scrollId, total, hits, responseHits, skippedHits, null);
+        }
+
+        public Scroll(String scrollId, long total, List<Object[]> hits, int responseHits, int skippedHits, List<Object> searchAfter) {
             this.scrollId = scrollId;
             this.hits = hits;
             this.total = total;
             this.concluded = false;
             this.numberOfHits = responseHits;
             this.numberOfSkippedHits = skippedHits;
+            this.searchAfter = searchAfter;
         }
 
         public String getScrollId() {
@@ -198,6 +209,227 @@ public class ScrollReader implements Closeable {
         public int getNumberOfSkippedHits() {
             return numberOfSkippedHits;
         }
+
+        /**
+         * @return the sort values of the last hit in a point-in-time search, to be used as {@code search_after}
+         * for the next page. null for regular scrolls.
+         */
+        public List<Object> getSearchAfter() {
+            return searchAfter;
+        }
+
+        /**
+         * @return the hits of the page - those of a streamed page are parsed as they are iterated over
+         */
+        public Iterator<Object[]> iterator() {
+            return hits.iterator();
+        }
+
+        /**
+         * Releases the response a streamed page is parsed from. Nothing to do for pages read in full.
+         */
+        public void close() {
+        }
+    }
+
+    /**
+     * Notified once a streamed page is read (or closed), along with the time spent parsing it.
+     */
+    public interface PageListener {
+        void pageRead(long parseNanos);
+    }
+
+    /**
+     * Page whose hits are parsed off the response as they are iterated over. The counts, the sort values of the
+     * last hit and whether the scroll concluded are only known once its hits are exhausted.
+     */
+    private final class StreamedScroll extends Scroll {
+        private final PageParser page;
+        private final PageListener listener;
+        private long parseTime;
+        private boolean closed = false;
+        // hit parsed ahead of being returned
+        private Object[] next;
+
+        StreamedScroll(PageParser page, PageListener listener, long parseTime) {
+            super(page.scrollId, page.totalHits, false);
+            this.page = page;
+            this.listener = listener;
+            this.parseTime = parseTime;
+        }
+
+        private Object[] parseNext() {
+            if (closed) {
+                return null;
+            }
+            long start = System.nanoTime();
+            boolean parsed = false;
+            try {
+                Object[] hit = page.nextHit();
+                parsed = true;
+                return hit;
+            } finally {
+                parseTime += System.nanoTime() - start;
+                // release the response as soon as it is read (or cannot be read any further)
+                if (!parsed || page.exhausted) {
+                    close();
+                }
+            }
+        }
+
+        @Override
+        public Iterator<Object[]> iterator() {
+            return new Iterator<Object[]>() {
+                @Override
+                public boolean hasNext() {
+                    if (next == null) {
+                        next = parseNext();
+                    }
+                    return next != null;
+                }
+
+                @Override
+                public Object[] next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException("No more hits available");
+                    }
+                    Object[] hit = next;
+                    next = null;
+                    return hit;
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException("read-only operator");
+                }
+            };
+        }
+
+        /**
+         * @return the hits not iterated over yet, parsing the rest of the page
+         */
+        @Override
+        public List<Object[]> getHits() {
+            List<Object[]> hits = new ArrayList<Object[]>();
+            for (Iterator<Object[]> it = iterator(); it.hasNext(); ) {
+                hits.add(it.next());
+            }
+            return hits;
+        }
+
+        @Override
+        public boolean isConcluded() {
+            return page.exhausted && page.responseHits == 0;
+        }
+
+        @Override
+        public int getNumberOfHits() {
+            return page.responseHits;
+        }
+
+        @Override
+        public int getNumberOfSkippedHits() {
+            return page.skippedHits;
+        }
+
+        @Override
+        public List<Object> getSearchAfter() {
+            return page.searchAfter();
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                // closing the parser closes (and drains) the content as well
+                page.parser.close();
+                listener.pageRead(parseTime);
+            }
+        }
+    }
+
+    /**
+     * Parses a page - its header first, then its hits one at a time.
+     */
+    private final class PageParser {
+        private final Parser parser;
+        private final BytesArray input;
+        private String scrollId;
+        private boolean pointInTime = false;
+        private long totalHits;
+        private int responseHits = 0;
+        private int skippedHits = 0;
+        private List<Object> lastSortValues;
+        private boolean exhausted = false;
+
+        PageParser(Parser parser, BytesArray input) {
+            this.parser = parser;
+            this.input = input;
+        }
+
+        /**
+         * Reads the id and total hits of the page, moving on to its hits.
+         * @return false if the page has no id (while one is expected)
+         */
+        boolean readHeader(boolean paged) {
+            Token token;
+            if (paged) {
+                // get scroll_id (or pit_id for point-in-time searches)
+                token = ParsingUtils.seek(parser, SCROLL_ID, PIT_ID);
+                if (token == null) { // no scroll id is returned for frozen indices
+                    if (log.isTraceEnabled()) {
+                        log.info("No scroll id found, likely because the index is frozen");
+                    }
+                    return false;
+                }
+                Assert.isTrue(token == Token.VALUE_STRING, "invalid response");
+                pointInTime = PIT_ID_FIELD.equals(parser.currentName());
+                scrollId = parser.text();
+            }
+
+            totalHits = hitsTotal(parser);
+            // check hits/total
+            if (totalHits == 0) {
+                exhausted = true;
+                return true;
+            }
+
+            // move to hits/hits
+            token = ParsingUtils.seek(parser, HITS);
+
+            // move through the list and for each hit, extract the _id and _source
+            Assert.isTrue(token == Token.START_ARRAY, "invalid response");
+            return true;
+        }
+
+        /**
+         * @return the next hit (those skipped by the error handlers aside) or null once the hits are exhausted
+         */
+        Object[] nextHit() {
+            while (!exhausted) {
+                if (parser.nextToken() == Token.END_ARRAY) {
+                    exhausted = true;
+                    // the next page of a point-in-time search starts after the sort values of the last hit
+                    if (pointInTime && responseHits > 0 && lastSortValues == null) {
+                        throw new OpenSearchHadoopParsingException("Point-in-time search hit is missing its sort values; cannot continue the search");
+                    }
+                    return null;
+                }
+                responseHits++;
+                hitSortValues = null;
+                Object[] hit = readHit(parser, input);
+                lastSortValues = hitSortValues;
+                if (hit != null) {
+                    return hit;
+                }
+                skippedHits++;
+            }
+            return null;
+        }
+
+        List<Object> searchAfter() {
+            return (pointInTime ? lastSortValues : null);
+        }
     }
 
     private static final Log log = LogFactory.getLog(ScrollReader.class);
@@ -211,6 +443,14 @@ public class ScrollReader implements Closeable {
     private final String metadataField;
     private final boolean returnRawJson;
     private final boolean ignoreUnmappedFields;
+    // parse responses off the wire instead of copying them first
+    private final boolean streaming;
+    // hand out the hits of a page only once all of them are parsed
+    private final boolean readWholePages;
+    private final boolean readDocValues;
+    private boolean inDocValues = false;
+    // sort values of the hit being read - the next page of a point in time search starts after those of the last one
+    private List<Object> hitSortValues;
 
     private boolean insideGeo = false;
 
@@ -218,8 +458,13 @@ public class ScrollReader implements Closeable {
     private final List<String> excludeFields;
     private final List<FieldFilter.NumberedInclude> includeArrayFields;
     private List<IDeserializationErrorHandler> deserializationErrorHandlers;
+    // the fields met so far, resolved against the mapping and the filters
+    private final FieldNode root = new FieldNode(null);
 
     private static final String[] SCROLL_ID = new String[] { "_scroll_id" };
+    private static final String PIT_ID_FIELD = "pit_id";
+    private static final String[] PIT_ID = new String[] { PIT_ID_FIELD };
+    private static final String SORT_FIELD = "sort";
     private static final String[] HITS = new String[] { "hits" };
     private static final String ID_FIELD = "_id";
     private static final String[] ID = new String[] { ID_FIELD };
@@ -235,6 +480,7 @@ public class ScrollReader implements Closeable {
         this.metadataField = scrollConfig.getMetadataName();
         this.returnRawJson = scrollConfig.getReturnRawJson();
         this.ignoreUnmappedFields = scrollConfig.getIgnoreUnmappedFields();
+        this.readDocValues = scrollConfig.getReadDocValues() && !returnRawJson;
         this.includeFields = FieldFilter.toNumberedFilter(scrollConfig.getIncludeFields());
         this.excludeFields = scrollConfig.getExcludeFields();
         this.includeArrayFields = FieldFilter.toNumberedFilter(scrollConfig.getIncludeArrayFields());
@@ -251,11 +497,101 @@ public class ScrollReader implements Closeable {
         }
 
         this.deserializationErrorHandlers = scrollConfig.getErrorHandlerLoader().loadHandlers();
+        // the raw bytes are only needed for returning the hits as JSON or for handing a failed one to the error handlers
+        this.streaming = !returnRawJson && DeserializationHandlerLoader.abortsOnError(deserializationErrorHandlers);
+        this.readWholePages = scrollConfig.getReadWholePages();
+    }
+
+    /**
+     * @return the value reader the hits are built with
+     */
+    public ValueReader getValueReader() {
+        return reader;
     }
 
     public Scroll read(InputStream content) throws IOException {
+        return read(content, true, false);
+    }
+
+    /**
+     * Reads the response of a scroll request. Unless the hits are returned as JSON or their errors handed to handlers
+     * other than the failure one, the response is parsed as it is received instead of being copied in memory first.
+     */
+    public Scroll readScroll(InputStream content) throws IOException {
+        return read(content, true, streaming);
+    }
+
+    /**
+     * Reads the response of a plain search - which, unlike a scroll or point in time one, carries no id to continue from.
+     */
+    public Scroll readSearch(InputStream content) throws IOException {
+        return read(content, false, streaming);
+    }
+
+    /**
+     * Same as {@link #readScroll(InputStream)} but hands out the hits as they are parsed: only the header of the page
+     * (its id and total hits) is read upfront, the hits being parsed off the content as the page is
+     * {@link Scroll#iterator() iterated} over. The content is closed, and the listener notified, once they are
+     * exhausted or the page is {@link Scroll#close() closed}.
+     * Responses that cannot be streamed, or all of them when {@link ScrollReaderConfigBuilder#getReadWholePages() whole pages}
+     * are requested, are read in full upfront.
+     */
+    public Scroll streamScroll(InputStream content, PageListener listener) throws IOException {
+        return stream(content, true, listener);
+    }
+
+    /**
+     * Same as {@link #streamScroll(InputStream, PageListener)} for the response of a plain search.
+     */
+    public Scroll streamSearch(InputStream content, PageListener listener) throws IOException {
+        return stream(content, false, listener);
+    }
+
+    private Scroll stream(InputStream content, boolean paged, PageListener listener) throws IOException {
+        Assert.notNull(content);
+        long start = System.nanoTime();
+
+        if (!streaming || readWholePages) {
+            try {
+                return read(content, paged, streaming);
+            } finally {
+                listener.pageRead(System.nanoTime() - start);
+            }
+        }
+
+        Parser parser = new JacksonJsonParser(content);
+        PageParser page = new PageParser(parser, null);
+        boolean streamed = false;
+        try {
+            if (!page.readHeader(paged)) {
+                return null;
+            }
+            if (page.exhausted) {
+                return Scroll.empty(page.scrollId);
+            }
+            streamed = true;
+            return new StreamedScroll(page, listener, System.nanoTime() - start);
+        } finally {
+            if (!streamed) {
+                parser.close();
+                listener.pageRead(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private Scroll read(InputStream content, boolean paged, boolean stream) throws IOException {
         Assert.notNull(content);
 
+        if (stream) {
+            // closing the parser closes (and drains) the content as well
+            Parser parser = new JacksonJsonParser(content);
+            try {
+                return read(parser, null, paged);
+            } finally {
+                parser.close();
+            }
+        }
+
         //copy content
         BytesArray copy = IOUtils.asBytes(content);
         content = new FastByteArrayInputStream(copy);
@@ -267,49 +603,24 @@ public class ScrollReader implements Closeable {
         Parser parser = new JacksonJsonParser(content);
 
         try {
-            return read(parser, copy);
+            return read(parser, copy, paged);
         } finally {
             parser.close();
         }
     }
 
-    private Scroll read(Parser parser, BytesArray input) {
-        // get scroll_id
-        Token token = ParsingUtils.seek(parser, SCROLL_ID);
-        if (token == null) { // no scroll id is returned for frozen indices
-            if (log.isTraceEnabled()) {
-                log.info("No scroll id found, likely because the index is frozen");
-            }
+    private Scroll read(Parser parser, BytesArray input, boolean paged) {
+        PageParser page = new PageParser(parser, input);
+        if (!page.readHeader(paged)) {
             return null;
         }
-        Assert.isTrue(token == Token.VALUE_STRING, "invalid response");
-        String scrollId = parser.text();
-
-        long totalHits = hitsTotal(parser);
-        // check hits/total
-        if (totalHits == 0) {
-            return Scroll.empty(scrollId);
+        if (page.exhausted) {
+            return Scroll.empty(page.scrollId);
         }
 
-        // move to hits/hits
-        token = ParsingUtils.seek(parser, HITS);
-
-        // move through the list and for each hit, extract the _id and _source
-        Assert.isTrue(token == Token.START_ARRAY, "invalid response");
-
         List<Object[]> results = new ArrayList<Object[]>();
-        int responseHits = 0;
-        int skippedHits = 0;
-        int readHits = 0;
-        for (token = parser.nextToken(); token != Token.END_ARRAY; token = parser.nextToken()) {
-            responseHits++;
-            Object[] hit = readHit(parser, input);
-            if (hit != null) {
-                readHits++;
-                results.add(hit);
-            } else {
-                skippedHits++;
-            }
+        for (Object[] hit = page.nextHit(); hit != null; hit = page.nextHit()) {
+            results.add(hit);
         }
 
         // convert the char positions into actual content
@@ -408,14 +719,59 @@ public class ScrollReader implements Closeable {
             }
         }
 
-        if (responseHits > 0) {
-            return new Scroll(scrollId, totalHits, results, responseHits, skippedHits);
+        if (page.responseHits > 0) {
+            return new Scroll(page.scrollId, page.totalHits, results, page.responseHits, page.skippedHits, page.searchAfter());
         } else {
             // Scroll had no hits in the response, it must have concluded.
-            return new Scroll(scrollId, totalHits, true);
+            return new Scroll(page.scrollId, page.totalHits, true);
         }
     }
 
+    /**
+     * Reads the {@code sort} values of the current hit, leaving the parser on the closing array token.
+     */
+    private static List<Object> readSortValues(Parser parser) {
+        Token token = parser.currentToken();
+        Assert.isTrue(token == Token.START_ARRAY, "expected array, found " + token);
+        List<Object> values = new ArrayList<Object>(2);
+        for (token = parser.nextToken(); token != Token.END_ARRAY; token = parser.nextToken()) {
+            switch (token) {
+                case VALUE_NULL:
+                    values.add(null);
+                    break;
+                case VALUE_BOOLEAN:
+                    values.add(parser.booleanValue());
+                    break;
+                case VALUE_NUMBER:
+                    values.add(parser.numberValue());
+                    break;
+                default:
+                    values.add(parser.text());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Same as seeking the {@code _source} or {@code fields} of the current hit, but captures its sort values on the way.
+     */
+    private Token seekSource(Parser parser) {
+        for (Token token = parser.nextToken(); token == Token.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            if (SOURCE[0].equals(name) || FIELDS[0].equals(name)) {
+                return parser.nextToken();
+            }
+            parser.nextToken();
+            if (SORT_FIELD.equals(name)) {
+                hitSortValues = readSortValues(parser);
+            }
+            else {
+                parser.skipChildren();
+            }
+        }
+        return null;
+    }
+
     private Object[] readHit(Parser parser, BytesArray input) {
         Token t = parser.currentToken();
         Assert.isTrue(t == Token.START_OBJECT, "expected object, found " + t);
@@ -447,6 +803,14 @@ public class ScrollReader implements Closeable {
                     Assert.isTrue(t == Token.END_OBJECT, "expected end of object, found " + t);
                 }
 
+                // streamed content - nothing to hand to the error handlers, the failure one aborting regardless
+                if (input == null) {
+                    if (deserializationException instanceof OpenSearchHadoopParsingException) {
+                        throw (OpenSearchHadoopParsingException) deserializationException;
+                    }
+                    throw new OpenSearchHadoopParsingException(deserializationException);
+                }
+
                 // slice input data to create an input stream for the handler event
                 int hitEndPos = parser.tokenCharOffset();
                 BytesArray hitSection = new BytesArray(input.bytes(), hitStartPos, hitEndPos - hitStartPos + 1);
@@ -568,9 +932,14 @@ public class ScrollReader implements Closeable {
                 Object value = null;
 
                 if (t == Token.FIELD_NAME) {
-                    if (!("fields".equals(name) || "_source".equals(name))) {
+                    if (SORT_FIELD.equals(name)) {
+                        parser.nextToken();
+                        hitSortValues = readSortValues(parser);
+                        parser.nextToken();
+                    }
+                    else if (!("fields".equals(name) || "_source".equals(name))) {
                         reader.beginField(absoluteName);
-                        value = read(absoluteName, parser.nextToken(), null, parser);
+                        value = read(absoluteName, parser.nextToken(), root, parser);
                         if (ID_FIELD.equals(name)) {
                             id = value;
                         }
@@ -602,7 +971,7 @@ public class ScrollReader implements Closeable {
         else {
             Assert.notNull(ParsingUtils.seek(parser, ID), "no id found");
             result[0] = reader.wrapString(parser.text());
-            t = ParsingUtils.seek(parser, SOURCE, FIELDS);
+            t = seekSource(parser);
         }
 
         // no fields found
@@ -613,7 +982,12 @@ public class ScrollReader implements Closeable {
                 parsingCallback.beginSource();
             }
 
-            data = read(StringUtils.EMPTY, t, null, parser);
+            inDocValues = readDocValues && FIELDS[0].equals(parser.currentName());
+            try {
+                data = read(StringUtils.EMPTY, t, root, parser);
+            } finally {
+                inDocValues = false;
+            }
 
             if (parsingCallback != null) {
                 parsingCallback.endSource();
@@ -647,16 +1021,14 @@ public class ScrollReader implements Closeable {
         while (parser.currentToken() == Token.FIELD_NAME) {
             String name = parser.currentName();
             String absoluteName = StringUtils.stripFieldNameSourcePrefix(parser.absoluteName());
-            if (readMetadata) {
-                // skip sort (useless and is an array which triggers the row mapping which does not apply)
-                if (!"sort".equals(name)) {
-                    reader.addToMap(data, reader.wrapString(name), read(absoluteName, parser.nextToken(), null, parser));
-                }
-                else {
-                    parser.nextToken();
-                    parser.skipChildren();
-                    parser.nextToken();
-                }
+            // keep sort out of the metadata (useless and is an array which triggers the row mapping which does not apply)
+            if (SORT_FIELD.equals(name)) {
+                parser.nextToken();
+                hitSortValues = readSortValues(parser);
+                parser.nextToken();
+            }
+            else if (readMetadata) {
+                reader.addToMap(data, reader.wrapString(name), read(absoluteName, parser.nextToken(), root, parser));
             }
             else {
                 parser.nextToken();
@@ -683,19 +1055,55 @@ public class ScrollReader implements Closeable {
         return result;
     }
 
-    private boolean shouldSkip(String absoluteName) {
+    private boolean shouldSkip(FieldNode field) {
         // when parsing geo structures, ignore filtering as depending on the
         // type, JSON can have an object structure
         // especially for geo shapes
-        if (insideGeo) {
-            return false;
-        }
-        // if ignoring unmapped fields, the filters are already applied
-        if (ignoreUnmappedFields) {
-            return !esMapping.containsKey(absoluteName);
+        return !insideGeo && field.filtered;
+    }
+
+    /**
+     * A field of the hits, resolved once against the mapping, the include/exclude filters and the array hints
+     * instead of on every value read. Its children are resolved the first time they are met.
+     */
+    private final class FieldNode {
+        // past this many children (typically documents with arbitrary keys), new ones are not kept around
+        private static final int MAX_CHILDREN = 1024;
+
+        private final String name;
+        private final FieldType mapping;
+        private final boolean filtered;
+        private final boolean array;
+        private Map<String, FieldNode> children;
+
+        FieldNode(String name) {
+            this.name = name;
+            if (name == null) {
+                mapping = null;
+                filtered = false;
+                array = false;
+            }
+            else {
+                mapping = esMapping.get(name);
+                // if ignoring unmapped fields, the filters are already applied
+                filtered = (ignoreUnmappedFields ? !esMapping.containsKey(name) : !FieldFilter.filter(name, includeFields, excludeFields).matched);
+                array = (includeArrayFields != null && !includeArrayFields.isEmpty()
+                        && FieldFilter.filter(name, includeArrayFields, null, false).matched);
+            }
         }
-        else {
-            return !FieldFilter.filter(absoluteName, includeFields, excludeFields).matched;
+
+        FieldNode child(String childName) {
+            FieldNode child = (children != null ? children.get(childName) : null);
+            if (child == null) {
+                child = new FieldNode(name != null ? name + "." + childName : childName);
+                if (children == null) {
+                    children = new HashMap<String, FieldNode>();
+                }
+                if (children.size() < MAX_CHILDREN) {
+                    children.put(childName, child);
+                }
+            }
+            return child;
         }
     }
 
@@ -777,7 +1185,7 @@ public class ScrollReader implements Closeable {
             result[0] = reader.wrapString(parser.text());
             reader.endField(absoluteName);
 
-            t = ParsingUtils.seek(parser, SOURCE, FIELDS);
+            t = seekSource(parser);
         }
 
         // no fields found
@@ -811,8 +1219,14 @@ public class ScrollReader implements Closeable {
 
         // in case of additional fields (matched_query), add them to the metadata
         while ((t = parser.currentToken()) == Token.FIELD_NAME) {
+            boolean sort = SORT_FIELD.equals(parser.currentName());
             t = parser.nextToken();
-            ParsingUtils.skipCurrentBlock(parser);
+            if (sort) {
+                hitSortValues = readSortValues(parser);
+            }
+            else {
+                ParsingUtils.skipCurrentBlock(parser);
+            }
             t = parser.nextToken();
 
             if (readMetadata) {
@@ -885,80 +1299,69 @@ public class ScrollReader implements Closeable {
         return hits;
     }
 
-    protected Object read(String fieldName, Token t, String fieldMapping, Parser parser) {
+    private Object read(String fieldName, Token t, FieldNode field, Parser parser) {
         if (t == Token.START_ARRAY) {
-            return list(fieldName, fieldMapping, parser);
+            return list(fieldName, field, parser);
         }
 
         // handle nested nodes first
         else if (t == Token.START_OBJECT) {
             // Check if the object field is a nested object or a field that should be considered an array.
-            FieldType esType = mapping(fieldMapping, parser);
-            if ((esType != null && esType.equals(FieldType.NESTED)) || isArrayField(fieldMapping)) {
+            FieldType esType = mapping(field, parser);
+            if ((esType != null && esType.equals(FieldType.NESTED)) || field.array) {
                 // If this field has the nested data type, then this object we are
                 // about to read is using the abbreviated single value syntax (no array brackets needed for nested fields
                 // that only have one nested element.)
-                return singletonList(fieldMapping, map(fieldMapping, parser), parser);
+                return singletonList(field, map(field, parser), parser);
             } else {
-                return map(fieldMapping, parser);
+                return map(field, parser);
             }
         }
-        FieldType esType = mapping(fieldMapping, parser);
+        FieldType esType = mapping(field, parser);
 
         if (t.isValue()) {
-            String rawValue = parser.text();
             try {
-                if (isArrayField(fieldMapping)) {
+                if (field.array) {
                     Object parsedValue = parseValue(parser, esType);
                     if (parsedValue == null) {
                         return null; //There is not a null element in the array. The array itself is null.
                     } else {
-                        return singletonList(fieldMapping, parsedValue, parser);
+                        return singletonList(field, parsedValue, parser);
                     }
                 } else {
                     return parseValue(parser, esType);
                 }
             } catch (Exception ex) {
-                throw new OpenSearchHadoopParsingException(String.format(Locale.ROOT, "Cannot parse value [%s] for field [%s]", rawValue, fieldName), ex);
+                // the parser is still on the value that failed
+                throw new OpenSearchHadoopParsingException(String.format(Locale.ROOT, "Cannot parse value [%s] for field [%s]", parser.text(), fieldName), ex);
             }
         }
         return null;
     }
 
-    // Same as read(String, Token, String) above, but does not include checking the current field name to see if it's an array.
-    protected Object readListItem(String fieldName, Token t, String fieldMapping, Parser parser) {
+    // Same as read(String, Token, FieldNode) above, but does not include checking the current field to see if it's an array.
+    private Object readListItem(String fieldName, Token t, FieldNode field, Parser parser) {
         if (t == Token.START_ARRAY) {
-            return list(fieldName, fieldMapping, parser);
+            return list(fieldName, field, parser);
         }
 
         // handle nested nodes first
         else if (t == Token.START_OBJECT) {
             // Don't need special handling for nested fields since this field is already in an array.
-            return map(fieldMapping, parser);
+            return map(field, parser);
         }
-        FieldType esType = mapping(fieldMapping, parser);
+        FieldType esType = mapping(field, parser);
 
         if (t.isValue()) {
-            String rawValue = parser.text();
             try {
                 return parseValue(parser, esType);
             } catch (Exception ex) {
-                throw new OpenSearchHadoopParsingException(String.format(Locale.ROOT, "Cannot parse value [%s] for field [%s]", rawValue, fieldName), ex);
+                throw new OpenSearchHadoopParsingException(String.format(Locale.ROOT, "Cannot parse value [%s] for field [%s]", parser.text(), fieldName), ex);
             }
         }
         return null;
     }
 
-    private boolean isArrayField(String fieldName) {
-        // Test if the current field is marked as an array field in the include array property
-        if (fieldName != null) {
-            if (includeArrayFields != null && !includeArrayFields.isEmpty()) {
-                return FieldFilter.filter(fieldName, includeArrayFields, null, false).matched;
-            }
-        }
-        return false;
-    }
-
     private Object parseValue(Parser parser, FieldType esType) {
         Object obj;
         // special case of handing null (as text() will return "null")
@@ -972,7 +1375,7 @@ public class ScrollReader implements Closeable {
         return obj;
     }
 
-    protected Object list(String fieldName, String fieldMapping, Parser parser) {
+    private Object list(String fieldName, FieldNode field, Parser parser) {
         Token t = parser.currentToken();
 
         if (t == null) {
@@ -982,11 +1385,11 @@ public class ScrollReader implements Closeable {
             t = parser.nextToken();
         }
 
-        Object array = reader.createArray(mapping(fieldMapping, parser));
+        Object array = reader.createArray(mapping(field, parser));
         // create only one element since with fields, we always get arrays which create unneeded allocations
         List<Object> content = new ArrayList<Object>(1);
         for (; parser.currentToken() != Token.END_ARRAY;) {
-            content.add(readListItem(fieldName, parser.currentToken(), fieldMapping, parser));
+            content.add(readListItem(fieldName, parser.currentToken(), field, parser));
         }
 
         // eliminate END_ARRAY
@@ -996,8 +1399,26 @@ public class ScrollReader implements Closeable {
         return array;
     }
 
-    protected Object singletonList(String fieldMapping, Object value, Parser parser) {
-        Object array = reader.createArray(mapping(fieldMapping, parser));
+    // doc values always come as an array - a single one is returned as is, as it would be from _source
+    private Object docValue(FieldNode field, Parser parser) {
+        // move past START_ARRAY
+        parser.nextToken();
+
+        Object array = reader.createArray(mapping(field, parser));
+        List<Object> content = new ArrayList<Object>(1);
+        for (; parser.currentToken() != Token.END_ARRAY;) {
+            content.add(readListItem(field.name, parser.currentToken(), field, parser));
+        }
+
+        // eliminate END_ARRAY
+        parser.nextToken();
+
+        array = reader.addToArray(array, content);
+        return (content.size() == 1 ? content.get(0) : array);
+    }
+
+    private Object singletonList(FieldNode field, Object value, Parser parser) {
+        Object array = reader.createArray(mapping(field, parser));
         // create only one element since with fields, we always get arrays which create unneeded allocations
         List<Object> content = new ArrayList<Object>(1);
         content.add(value);
@@ -1005,7 +1426,7 @@ public class ScrollReader implements Closeable {
         return array;
     }
 
-    protected Object map(String fieldMapping, Parser parser) {
+    private Object map(FieldNode field, Parser parser) {
         Token t = parser.currentToken();
 
         if (t == null) {
@@ -1017,9 +1438,9 @@ public class ScrollReader implements Closeable {
 
         boolean toggleGeo = false;
 
-        if (fieldMapping != null) {
+        if (field.name != null) {
             // parse everything underneath without mapping
-            if (FieldType.isGeo(mapping(fieldMapping, parser))) {
+            if (FieldType.isGeo(mapping(field, parser))) {
                 toggleGeo = true;
                 insideGeo = true;
                 if (parsingCallback != null) {
@@ -1031,22 +1452,10 @@ public class ScrollReader implements Closeable {
 
         for (; parser.currentToken() != Token.END_OBJECT;) {
             String currentName = parser.currentName();
-            String nodeMapping = fieldMapping;
-
-            if (nodeMapping != null) {
-                nodeMapping = fieldMapping + "." + currentName;
-            }
-            else {
-                nodeMapping = currentName;
-            }
-
-            String absoluteName = StringUtils.stripFieldNameSourcePrefix(parser.absoluteName());
-
-            if (!absoluteName.equals(nodeMapping)) {
-                throw new OpenSearchHadoopParsingException("Different node mapping " + absoluteName + "|" + nodeMapping);
-            }
+            // the node stands for the absolute name of the field, minus the _source/fields prefix
+            FieldNode node = field.child(currentName);
 
-            if (shouldSkip(absoluteName)) {
+            if (shouldSkip(node)) {
                 Token nt = parser.nextToken();
                 if (nt.isValue()) {
                     // consume and move on
@@ -1058,13 +1467,16 @@ public class ScrollReader implements Closeable {
                 }
             }
             else {
-                reader.beginField(absoluteName);
+                reader.beginField(node.name);
 
                 // Must point to field name
                 Object fieldName = reader.readValue(parser, currentName, FieldType.STRING);
                 // And then the value...
-                reader.addToMap(map, fieldName, read(absoluteName, parser.nextToken(), nodeMapping, parser));
-                reader.endField(absoluteName);
+                Token valueToken = parser.nextToken();
+                Object value = (inDocValues && field == root && valueToken == Token.START_ARRAY && !node.array ?
+                        docValue(node, parser) : read(node.name, valueToken, node, parser));
+                reader.addToMap(map, fieldName, value);
+                reader.endField(node.name);
             }
         }
 
@@ -1082,8 +1494,8 @@ public class ScrollReader implements Closeable {
         return map;
     }
 
-    private FieldType mapping(String fieldMapping, Parser parser) {
-        FieldType esType = esMapping.get(fieldMapping);
+    private FieldType mapping(FieldNode field, Parser parser) {
+        FieldType esType = field.mapping;
 
         if (esType != null) {
             return esType;
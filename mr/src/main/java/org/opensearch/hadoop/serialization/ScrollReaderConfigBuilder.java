@@ -59,6 +59,10 @@ public class ScrollReaderConfigBuilder {
     // Mappings
     private Mapping resolvedMapping;
     private boolean ignoreUnmappedFields;
+    private boolean readDocValues;
+
+    // Paging
+    private boolean readWholePages;
 
     // Metadata Fields
     private boolean readMetadata;
@@ -76,6 +80,7 @@ public class ScrollReaderConfigBuilder {
 
         // Source defaults from Settings
         this.returnRawJson = settings.getOutputAsJson();
+        this.readWholePages = settings.getReadWholePages();
         this.ignoreUnmappedFields = settings.getReadMappingMissingFieldsIgnore();
         this.readMetadata = settings.getReadMetadata();
         this.metadataName = settings.getReadMetadataField();
@@ -122,6 +127,27 @@ public class ScrollReaderConfigBuilder {
         return this;
     }
 
+    public boolean getReadDocValues() {
+        return readDocValues;
+    }
+
+    /**
+     * The fields are read from doc values - their single values are returned as is instead of within an array.
+     */
+    public ScrollReaderConfigBuilder setReadDocValues(boolean readDocValues) {
+        this.readDocValues = readDocValues;
+        return this;
+    }
+
+    public boolean getReadWholePages() {
+        return readWholePages;
+    }
+
+    public ScrollReaderConfigBuilder setReadWholePages(boolean readWholePages) {
+        this.readWholePages = readWholePages;
+        return this;
+    }
+
     public boolean getReadMetadata() {
         return readMetadata;
     }
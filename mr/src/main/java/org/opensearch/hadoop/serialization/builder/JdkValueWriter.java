@@ -28,8 +28,11 @@
  */
 package org.opensearch.hadoop.serialization.builder;
 
+import org.opensearch.hadoop.OpenSearchHadoopIllegalArgumentException;
+import org.opensearch.hadoop.cfg.Settings;
 import org.opensearch.hadoop.serialization.Generator;
 import org.opensearch.hadoop.util.ObjectUtils;
+import org.opensearch.hadoop.util.StringUtils;
 
 import javax.xml.bind.DatatypeConverter;
 import java.sql.Timestamp;
@@ -39,16 +42,95 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
 /**
  * Value writer for JDK types.
+ * <p>
+ * The way a value is written is resolved once per (concrete) class instead of testing each value against every
+ * supported type. Writers for custom types can be registered through {@link #register(Class, ValueWriter)} or
+ * {@link org.opensearch.hadoop.cfg.ConfigurationOptions#OPENSEARCH_SERIALIZATION_WRITER_VALUE_TYPES} and take
+ * precedence over the built-in ones.
  */
 public class JdkValueWriter extends FilteringValueWriter<Object> {
 
+    private enum Kind {
+        STRING, INTEGER, LONG, FLOAT, DOUBLE, SHORT, BYTE, NUMBER, BOOLEAN, BINARY, ARRAY, MAP, ITERABLE, TIMESTAMP, DATE, CALENDAR, UNKNOWN
+    }
+
+    private static final ClassValue<Kind> KINDS = new ClassValue<Kind>() {
+        @Override
+        protected Kind computeValue(Class<?> type) {
+            // same order as the checks made on each value
+            if (type == String.class) {
+                return Kind.STRING;
+            }
+            if (type == Integer.class) {
+                return Kind.INTEGER;
+            }
+            if (type == Long.class) {
+                return Kind.LONG;
+            }
+            if (type == Float.class) {
+                return Kind.FLOAT;
+            }
+            if (type == Double.class) {
+                return Kind.DOUBLE;
+            }
+            if (type == Short.class) {
+                return Kind.SHORT;
+            }
+            if (type == Byte.class) {
+                return Kind.BYTE;
+            }
+            // Big Decimal/Integer
+            if (Number.class.isAssignableFrom(type)) {
+                return Kind.NUMBER;
+            }
+            if (type == Boolean.class) {
+                return Kind.BOOLEAN;
+            }
+            if (type == byte[].class) {
+                return Kind.BINARY;
+            }
+            if (type.isArray()) {
+                return Kind.ARRAY;
+            }
+            if (Map.class.isAssignableFrom(type)) {
+                return Kind.MAP;
+            }
+            if (Iterable.class.isAssignableFrom(type)) {
+                return Kind.ITERABLE;
+            }
+            if (Timestamp.class.isAssignableFrom(type)) {
+                return Kind.TIMESTAMP;
+            }
+            if (Date.class.isAssignableFrom(type)) {
+                return Kind.DATE;
+            }
+            if (Calendar.class.isAssignableFrom(type)) {
+                return Kind.CALENDAR;
+            }
+            return Kind.UNKNOWN;
+        }
+    };
+
+    // marks the classes without a custom writer
+    private static final ValueWriter<Object> NO_WRITER = new ValueWriter<Object>() {
+        @Override
+        public Result write(Object object, Generator generator) {
+            return Result.FAILED(object);
+        }
+    };
+
     protected final boolean writeUnknownTypes;
 
+    private final Map<Class<?>, ValueWriter<Object>> customWriters = new LinkedHashMap<Class<?>, ValueWriter<Object>>();
+    private final Map<Class<?>, ValueWriter<Object>> resolvedWriters = new HashMap<Class<?>, ValueWriter<Object>>();
+
     public JdkValueWriter() {
         writeUnknownTypes = false;
     }
@@ -57,6 +139,52 @@ public class JdkValueWriter extends FilteringValueWriter<Object> {
         this.writeUnknownTypes = writeUnknownTypes;
     }
 
+    @Override
+    public void setSettings(Settings settings) {
+        super.setSettings(settings);
+        for (String entry : StringUtils.tokenize(settings.getSerializerValueWriterTypes())) {
+            int separator = entry.indexOf(':');
+            if (separator <= 0 || separator == entry.length() - 1) {
+                throw new OpenSearchHadoopIllegalArgumentException(String.format(
+                        "Invalid value writer [%s] - expected <type>:<writer class>", entry));
+            }
+            Class<?> type = ObjectUtils.loadClass(entry.substring(0, separator).trim(), JdkValueWriter.class.getClassLoader());
+            ValueWriter<?> writer = ObjectUtils.instantiate(entry.substring(separator + 1).trim(), settings);
+            register(type, writer);
+        }
+    }
+
+    /**
+     * Writes the values of the given type (and its subtypes) with the given writer. Types registered first win
+     * when a value matches several of them.
+     */
+    @SuppressWarnings("unchecked")
+    public void register(Class<?> type, ValueWriter<?> writer) {
+        customWriters.put(type, (ValueWriter<Object>) writer);
+        resolvedWriters.clear();
+    }
+
+    /**
+     * @return the custom writer registered for the given class, if any
+     */
+    protected ValueWriter<Object> customWriter(Class<?> type) {
+        if (customWriters.isEmpty()) {
+            return null;
+        }
+        ValueWriter<Object> writer = resolvedWriters.get(type);
+        if (writer == null) {
+            writer = NO_WRITER;
+            for (Entry<Class<?>, ValueWriter<Object>> entry : customWriters.entrySet()) {
+                if (entry.getKey().isAssignableFrom(type)) {
+                    writer = entry.getValue();
+                    break;
+                }
+            }
+            resolvedWriters.put(type, writer);
+        }
+        return (writer == NO_WRITER ? null : writer);
+    }
+
     @Override
     public Result write(Object value, Generator generator) {
         return doWrite(value, generator, null);
@@ -65,30 +193,37 @@ public class JdkValueWriter extends FilteringValueWriter<Object> {
     protected Result doWrite(Object value, Generator generator, String parentField) {
         if (value == null) {
             generator.writeNull();
+            return Result.SUCCESFUL();
         }
-        else if (value instanceof String) {
-            generator.writeString((String) value);
+
+        ValueWriter<Object> custom = customWriter(value.getClass());
+        if (custom != null) {
+            return custom.write(value, generator);
         }
-        else if (value instanceof Integer) {
+
+        switch (KINDS.get(value.getClass())) {
+        case STRING:
+            generator.writeString((String) value);
+            break;
+        case INTEGER:
             generator.writeNumber(((Integer) value).intValue());
-        }
-        else if (value instanceof Long) {
+            break;
+        case LONG:
             generator.writeNumber(((Long) value).longValue());
-        }
-        else if (value instanceof Float) {
+            break;
+        case FLOAT:
             generator.writeNumber(((Float) value).floatValue());
-        }
-        else if (value instanceof Double) {
+            break;
+        case DOUBLE:
             generator.writeNumber(((Double) value).doubleValue());
-        }
-        else if (value instanceof Short) {
+            break;
+        case SHORT:
             generator.writeNumber(((Short) value).shortValue());
-        }
-        else if (value instanceof Byte) {
+            break;
+        case BYTE:
             generator.writeNumber(((Byte) value).byteValue());
-        }
-        // Big Decimal/Integer
-        else if (value instanceof Number) {
+            break;
+        case NUMBER: {
             // check double vs long
             Number n = ((Number) value);
             double d = n.doubleValue();
@@ -98,14 +233,15 @@ public class JdkValueWriter extends FilteringValueWriter<Object> {
             else {
                 generator.writeNumber(d);
             }
+            break;
         }
-        else if (value instanceof Boolean) {
+        case BOOLEAN:
             generator.writeBoolean(((Boolean) value).booleanValue());
-        }
-        else if (value instanceof byte[]) {
+            break;
+        case BINARY:
             generator.writeBinary((byte[]) value);
-        }
-        else if (value.getClass().isArray()) {
+            break;
+        case ARRAY: {
             generator.writeBeginArray();
             for (Object o : ObjectUtils.toObjectArray(value)) {
                 Result result = doWrite(o, generator, parentField);
@@ -114,8 +250,9 @@ public class JdkValueWriter extends FilteringValueWriter<Object> {
                 }
             }
             generator.writeEndArray();
+            break;
         }
-        else if (value instanceof Map) {
+        case MAP: {
             generator.writeBeginObject();
             for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
                 String fieldName = entry.getKey().toString();
@@ -129,8 +266,9 @@ public class JdkValueWriter extends FilteringValueWriter<Object> {
                 }
             }
             generator.writeEndObject();
+            break;
         }
-        else if (value instanceof Iterable) {
+        case ITERABLE: {
             generator.writeBeginArray();
             for (Object o : (Iterable<?>) value) {
                 Result result = doWrite(o, generator, parentField);
@@ -139,23 +277,26 @@ public class JdkValueWriter extends FilteringValueWriter<Object> {
                 }
             }
             generator.writeEndArray();
+            break;
         }
-        else if (value instanceof Timestamp) {
+        case TIMESTAMP: {
             Timestamp timestamp = (Timestamp) value;
             long epochSeconds = timestamp.getTime() / 1000; // Getting rid of millisconds because they're captured in timestamp.getNanos()
             Instant instant = Instant.ofEpochSecond(epochSeconds, timestamp.getNanos());
             OffsetDateTime offsetDateTime = OffsetDateTime.ofInstant(instant, ZoneId.systemDefault());
             generator.writeString(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(offsetDateTime));
+            break;
         }
-        else if (value instanceof Date) {
+        case DATE: {
             Calendar cal = Calendar.getInstance();
             cal.setTime((Date) value);
             generator.writeString(DatatypeConverter.printDateTime(cal));
+            break;
         }
-        else if (value instanceof Calendar) {
+        case CALENDAR:
             generator.writeString(DatatypeConverter.printDateTime((Calendar) value));
-        }
-        else {
+            break;
+        default:
             if (writeUnknownTypes) {
                 return handleUnknown(value, generator);
             }
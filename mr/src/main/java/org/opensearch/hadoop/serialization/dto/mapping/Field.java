@@ -46,20 +46,40 @@ public class Field implements Serializable {
     private final String name;
     private final FieldType type;
     private final Field[] properties;
+    private final boolean indexedAsIs;
+    private final boolean docValues;
+    private final boolean indexed;
 
     public Field(String name, FieldType type) {
         this(name, type, NO_FIELDS);
     }
 
+    /**
+     * @param indexedAsIs whether the values are indexed (and stored as doc values) as they are in the source - which is
+     *                    not the case for keywords longer than their {@code ignore_above} or with a normalizer
+     */
+    public Field(String name, FieldType type, boolean indexedAsIs) {
+        this(name, type, NO_FIELDS, indexedAsIs, true, true);
+    }
+
     public Field(String name, FieldType type, Collection<Field> properties) {
         this(name, type, (properties != null ? properties.toArray(new Field[properties.size()]) : NO_FIELDS));
     }
 
+    Field(String name, FieldType type, Field[] properties) {
+        this(name, type, properties, true, true, true);
+    }
+
     @JsonCreator
-    Field(@JsonProperty("name") String name, @JsonProperty("type") FieldType type, @JsonProperty("properties") Field[] properties) {
+    Field(@JsonProperty("name") String name, @JsonProperty("type") FieldType type, @JsonProperty("properties") Field[] properties,
+          @JsonProperty("indexed_as_is") Boolean indexedAsIs, @JsonProperty("doc_values") Boolean docValues,
+          @JsonProperty("indexed") Boolean indexed) {
         this.name = name;
         this.type = type;
         this.properties = properties;
+        this.indexedAsIs = (indexedAsIs == null || indexedAsIs);
+        this.docValues = (docValues == null || docValues);
+        this.indexed = (indexed == null || indexed);
     }
 
     @JsonProperty("properties")
@@ -77,6 +97,27 @@ public class Field implements Serializable {
         return name;
     }
 
+    @JsonProperty("indexed_as_is")
+    public boolean indexedAsIs() {
+        return indexedAsIs;
+    }
+
+    /**
+     * @return whether the field has doc values - false when mapped with {@code "doc_values": false}
+     */
+    @JsonProperty("doc_values")
+    public boolean hasDocValues() {
+        return docValues;
+    }
+
+    /**
+     * @return whether the field can be searched on - false when mapped with {@code "index": false}
+     */
+    @JsonProperty("indexed")
+    public boolean isIndexed() {
+        return indexed;
+    }
+
     @Override
     public String toString() {
         return String.format("%s=%s", name,
@@ -91,6 +132,9 @@ public class Field implements Serializable {
         Field other = (Field) o;
         return Objects.equals(this.name, other.name) &&
                 Objects.equals(this.type, other.type) &&
+                this.indexedAsIs == other.indexedAsIs &&
+                this.docValues == other.docValues &&
+                this.indexed == other.indexed &&
                 Objects.deepEquals(this.properties, other.properties);
     }
 }
\ No newline at end of file
@@ -141,7 +141,8 @@ public final class FieldParser {
                     // primitive types are handled on the spot
                     // while compound ones are not
                     if (!FieldType.isCompound(fieldType)) {
-                        return new Field(key, fieldType);
+                        return new Field(key, fieldType, Field.NO_FIELDS, isIndexedAsIs(fieldType, content), hasDocValues(content),
+                                isIndexed(content));
                     }
                 }
                 else {
@@ -175,6 +176,21 @@ public final class FieldParser {
         throw new OpenSearchHadoopIllegalArgumentException("invalid map received " + entry);
     }
 
+    // keywords past their ignore_above are not indexed while a normalizer transforms them
+    private static boolean isIndexedAsIs(FieldType fieldType, Map<String, Object> content) {
+        return !(FieldType.KEYWORD == fieldType && (content.containsKey("ignore_above") || content.containsKey("normalizer")));
+    }
+
+    private static boolean hasDocValues(Map<String, Object> content) {
+        return !"false".equals(String.valueOf(content.get("doc_values")));
+    }
+
+    // "no" being the legacy form of false
+    private static boolean isIndexed(Map<String, Object> content) {
+        Object index = content.get("index");
+        return !("false".equals(String.valueOf(index)) || "no".equals(index));
+    }
+
     private static boolean isFieldNamedProperties(Object fieldValue){
         if(fieldValue instanceof Map){
             Map<String,Object> fieldValueAsMap = ((Map<String, Object>)fieldValue);
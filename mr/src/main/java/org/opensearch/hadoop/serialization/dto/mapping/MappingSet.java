@@ -126,14 +126,23 @@ public class MappingSet implements Serializable {
             // We've seen this field before.
             Field previousField = (Field)entry[0];
             // ensure that it doesn't conflict
+            FieldType resolvedType = previousField.type();
             if (!previousField.type().equals(field.type())) {
                 // Attempt to resolve field type conflicts by upcasting fields to a common "super type"
-                FieldType resolvedType = resolveTypeConflict(fullName, previousField.type(), field.type());
-                // If successful, update the previous field entry with the updated field type
-                if (!previousField.type().equals(resolvedType)) {
-                    previousField = new Field(previousField.name(), resolvedType, previousField.properties());
-                    entry[0] = previousField;
-                }
+                resolvedType = resolveTypeConflict(fullName, previousField.type(), field.type());
+            }
+            // the values are only indexed as is if they are in every mapping
+            boolean indexedAsIs = previousField.indexedAsIs() && field.indexedAsIs();
+            // and only have doc values if they do in every mapping
+            boolean docValues = previousField.hasDocValues() && field.hasDocValues();
+            // and are only searchable if they are in every mapping
+            boolean indexed = previousField.isIndexed() && field.isIndexed();
+            // If successful, update the previous field entry with the updated field type
+            if (!previousField.type().equals(resolvedType) || previousField.indexedAsIs() != indexedAsIs
+                    || previousField.hasDocValues() != docValues || previousField.isIndexed() != indexed) {
+                previousField = new Field(previousField.name(), resolvedType, previousField.properties(), indexedAsIs, docValues,
+                        indexed);
+                entry[0] = previousField;
             }
             // If it does not conflict, visit it's children if it has them
             if (FieldType.isCompound(field.type())) {
@@ -32,6 +32,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -56,6 +57,11 @@ public abstract class MappingUtils {
                 "_parent", "_routing", "_index", "_size", "_timestamp", "_ttl", "_field_names", "_meta"));
     }
 
+    // types with doc values by default, returned in a form the value readers parse just like _source and holding the
+    // same values - unlike float, half_float and scaled_float whose doc values are rounded (e.g. 0.1 read as 0.10000000149)
+    private static final Set<FieldType> DOC_VALUES_TYPES = EnumSet.of(FieldType.KEYWORD, FieldType.BYTE, FieldType.SHORT,
+            FieldType.INTEGER, FieldType.LONG, FieldType.DOUBLE, FieldType.TOKEN_COUNT, FieldType.DATE, FieldType.BOOLEAN);
+
     public static void validateMapping(String fields, Mapping mapping, FieldPresenceValidation validation, Log log) {
         if (StringUtils.hasText(fields)) {
             validateMapping(StringUtils.tokenize(fields), mapping, validation, log);
@@ -147,6 +153,30 @@ public abstract class MappingUtils {
         return mapping.filter(StringUtils.tokenize(readIncludeCfg), StringUtils.tokenize(readExcludeCfg));
     }
 
+    /**
+     * @return whether all the given fields can be read from doc values - top-level keyword, integral, double, date or
+     *         boolean fields, which are returned as is (unlike nested ones, returned under their full name). Keywords
+     *         with an ignore_above (no doc value past it) or a normalizer (normalized doc values) are not, nor are the
+     *         fields mapped without doc values.
+     */
+    public static boolean readableFromDocValues(Mapping mapping, Collection<String> fields) {
+        if (mapping == null || fields.isEmpty()) {
+            return false;
+        }
+        Map<String, Field> mapped = new LinkedHashMap<String, Field>();
+        for (Field field : mapping.getFields()) {
+            mapped.put(field.name(), field);
+        }
+        for (String name : fields) {
+            Field field = mapped.get(name);
+            if (field == null || !DOC_VALUES_TYPES.contains(field.type()) || !field.indexedAsIs()
+                    || !field.hasDocValues()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static Map<String, GeoField.GeoType> geoFields(Mapping rootMapping) {
         if (rootMapping == null) {
             return Collections.emptyMap();
@@ -45,6 +45,10 @@ final class DelegatingErrorHandler implements IDeserializationErrorHandler {
         this.delegate = delegate;
     }
 
+    ErrorHandler<DeserializationFailure, byte[], ErrorCollector<byte[]>> getDelegate() {
+        return delegate;
+    }
+
     @Override
 
     public void init(Properties properties) {
@@ -29,6 +29,8 @@
 
 package org.opensearch.hadoop.serialization.handler.read.impl;
 
+import java.util.List;
+
 import org.opensearch.hadoop.OpenSearchHadoopIllegalArgumentException;
 import org.opensearch.hadoop.handler.ErrorCollector;
 import org.opensearch.hadoop.handler.ErrorHandler;
@@ -48,6 +50,17 @@ public class DeserializationHandlerLoader extends AbstractHandlerLoader<IDeseria
         super(IDeserializationErrorHandler.class);
     }
 
+    /**
+     * @return whether the given handlers abort on any error, the built in failure handler being the only one - in which
+     *         case the contents of a failed hit are never looked at
+     */
+    public static boolean abortsOnError(List<IDeserializationErrorHandler> handlers) {
+        if (handlers.size() != 1 || !(handlers.get(0) instanceof DelegatingErrorHandler)) {
+            return false;
+        }
+        return ((DelegatingErrorHandler) handlers.get(0)).getDelegate() instanceof AbortOnFailure;
+    }
+
     @Override
     protected String getHandlersPropertyName() {
         return OPENSEARCH_READ_DATA_ERROR_HANDLERS;
@@ -28,6 +28,7 @@
  */
 package org.opensearch.hadoop.util;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -79,6 +80,62 @@ public class BytesRef {
         }
     }
 
+    /**
+     * Streams the referenced bytes up to and including the first new line (think the action line of a bulk entry)
+     * without copying them.
+     */
+    public InputStream firstLine() {
+        return new InputStream() {
+            private int index = 0;
+            private int position = 0;
+            private boolean done = (list == null);
+
+            @Override
+            public int read() {
+                byte[] single = new byte[1];
+                return (read(single, 0, 1) < 0 ? -1 : single[0] & 0xff);
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                while (!done && index < list.size()) {
+                    Object ref = list.get(index);
+                    byte[] bytes;
+                    int start;
+                    int end;
+                    if (ref instanceof BytesArray) {
+                        BytesArray ba = (BytesArray) ref;
+                        bytes = ba.bytes();
+                        start = ba.offset();
+                        end = ba.offset() + ba.length();
+                    }
+                    else {
+                        bytes = (byte[]) ref;
+                        start = 0;
+                        end = bytes.length;
+                    }
+                    if (start + position >= end) {
+                        index++;
+                        position = 0;
+                        continue;
+                    }
+                    int read = 0;
+                    for (int i = start + position; i < end && read < len; i++) {
+                        b[off + read++] = bytes[i];
+                        if (bytes[i] == '\n') {
+                            done = true;
+                            break;
+                        }
+                    }
+                    position += read;
+                    return read;
+                }
+                done = true;
+                return (len == 0 ? 0 : -1);
+            }
+        };
+    }
+
     public void reset() {
         if (list != null) {
             list.clear();
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.util;
+
+/**
+ * 32-bit MurmurHash3 (x86 variant, seed 0) computed over strings the same way OpenSearch hashes
+ * routing values: each UTF-16 char is fed to the hash as two little-endian bytes.
+ */
+public abstract class MurmurHash3 {
+
+    private static final int C1 = 0xcc9e2d51;
+    private static final int C2 = 0x1b873593;
+
+    public static int hash(String routing) {
+        byte[] bytes = new byte[routing.length() * 2];
+        for (int i = 0; i < routing.length(); i++) {
+            char c = routing.charAt(i);
+            bytes[i * 2] = (byte) c;
+            bytes[i * 2 + 1] = (byte) (c >>> 8);
+        }
+        return hash(bytes, 0, bytes.length);
+    }
+
+    @SuppressWarnings("fallthrough")
+    public static int hash(byte[] data, int offset, int length) {
+        int h1 = 0;
+        int roundedEnd = offset + (length & 0xfffffffc);
+
+        for (int i = offset; i < roundedEnd; i += 4) {
+            int k1 = (data[i] & 0xff) | ((data[i + 1] & 0xff) << 8) | ((data[i + 2] & 0xff) << 16) | (data[i + 3] << 24);
+            k1 *= C1;
+            k1 = Integer.rotateLeft(k1, 15);
+            k1 *= C2;
+
+            h1 ^= k1;
+            h1 = Integer.rotateLeft(h1, 13);
+            h1 = h1 * 5 + 0xe6546b64;
+        }
+
+        // tail
+        int k1 = 0;
+        switch (length & 0x03) {
+            case 3:
+                k1 = (data[roundedEnd + 2] & 0xff) << 16;
+                // fall through
+            case 2:
+                k1 |= (data[roundedEnd + 1] & 0xff) << 8;
+                // fall through
+            case 1:
+                k1 |= (data[roundedEnd] & 0xff);
+                k1 *= C1;
+                k1 = Integer.rotateLeft(k1, 15);
+                k1 *= C2;
+                h1 ^= k1;
+                break;
+            default:
+        }
+
+        // finalization
+        h1 ^= length;
+        h1 ^= h1 >>> 16;
+        h1 *= 0x85ebca6b;
+        h1 ^= h1 >>> 13;
+        h1 *= 0xc2b2ae35;
+        h1 ^= h1 >>> 16;
+
+        return h1;
+    }
+}
@@ -48,6 +48,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 public class SettingsUtils {
 
@@ -159,6 +161,66 @@ public class SettingsUtils {
         return (StringUtils.hasText(discoveredNodes) ? StringUtils.tokenize(discoveredNodes) : declaredNodes(settings));
     }
 
+    /**
+     * Saves the (publish) address of the node holding each primary shard of the given write index.
+     */
+    public static void setWriteTargetShards(Settings settings, String index, Map<Integer, String> primaries) {
+        String[] entries = new String[primaries.size() + 1];
+        entries[0] = index;
+        int i = 1;
+        for (Map.Entry<Integer, String> entry : primaries.entrySet()) {
+            entries[i++] = entry.getKey() + "=" + entry.getValue();
+        }
+        settings.setProperty(InternalConfigurationOptions.INTERNAL_OPENSEARCH_WRITE_TARGET_SHARDS, IOUtils.serializeToBase64(entries));
+    }
+
+    /**
+     * @return the address of the node holding each primary shard of the given write index, ordered by shard, or null
+     * if they have not been discovered upfront
+     */
+    public static SortedMap<Integer, String> getWriteTargetShards(Settings settings, String index) {
+        String[] entries = IOUtils.deserializeFromBase64(
+                settings.getProperty(InternalConfigurationOptions.INTERNAL_OPENSEARCH_WRITE_TARGET_SHARDS), String[].class);
+        if (entries == null || entries.length < 2 || !entries[0].equals(index)) {
+            return null;
+        }
+        SortedMap<Integer, String> primaries = new TreeMap<Integer, String>();
+        for (int i = 1; i < entries.length; i++) {
+            int separator = entries[i].indexOf('=');
+            primaries.put(Integer.valueOf(entries[i].substring(0, separator)), entries[i].substring(separator + 1));
+        }
+        return primaries;
+    }
+
+    /**
+     * Saves the shard layout of the given write index - number of shards, routing shards and routing partition size.
+     */
+    public static void setWriteShardLayout(Settings settings, String index, int[] layout) {
+        String[] entries = new String[layout.length + 1];
+        entries[0] = index;
+        for (int i = 0; i < layout.length; i++) {
+            entries[i + 1] = String.valueOf(layout[i]);
+        }
+        settings.setProperty(InternalConfigurationOptions.INTERNAL_OPENSEARCH_WRITE_SHARD_LAYOUT, IOUtils.serializeToBase64(entries));
+    }
+
+    /**
+     * @return the shard layout of the given write index (number of shards, routing shards and routing partition size),
+     * or null if it has not been discovered upfront
+     */
+    public static int[] getWriteShardLayout(Settings settings, String index) {
+        String[] entries = IOUtils.deserializeFromBase64(
+                settings.getProperty(InternalConfigurationOptions.INTERNAL_OPENSEARCH_WRITE_SHARD_LAYOUT), String[].class);
+        if (entries == null || entries.length < 2 || !entries[0].equals(index)) {
+            return null;
+        }
+        int[] layout = new int[entries.length - 1];
+        for (int i = 0; i < layout.length; i++) {
+            layout[i] = Integer.parseInt(entries[i + 1]);
+        }
+        return layout;
+    }
+
     public static Map<String, String> aliases(String definition, boolean caseInsensitive) {
         List<String> aliases = StringUtils.tokenize(definition);
 
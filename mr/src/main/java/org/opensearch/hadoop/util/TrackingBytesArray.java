@@ -32,61 +32,53 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.BitSet;
-import java.util.LinkedList;
-import java.util.List;
+
+import org.opensearch.hadoop.OpenSearchHadoopIllegalStateException;
 
 /**
  *  Wrapper class around a {@link BytesArray} with 'awareness' around the underlying content.
  *  Considers each addition an entry and allows removal of specific entries (and by that skipping their backing content).
  *  Meant to be used as a buffer that is first filled, then emptied (in chunks) then cleaned-up.
+ *  <p>
+ *  Entries are kept in an array backed offset/length table. Removing an entry only marks it in a bitset; the table is
+ *  compacted once the entries are walked again from the start (typically when a bulk request is retried). Indices used
+ *  by the public methods always refer to the surviving entries. Accessing them in ascending order (as done when
+ *  processing a bulk response) is constant time.
  */
 public class TrackingBytesArray implements ByteSequence {
 
-    private static class Entry {
-        final int offset;
-        final int length;
-        final int initialPosition;
-
-        Entry(int offset, int length, int initialPosition) {
-            this.offset = offset;
-            this.length = length;
-            this.initialPosition = initialPosition;
-        }
-
-        @Override
-        public int hashCode() {
-            final int prime = 31;
-            int result = 1;
-            result = prime * result + length;
-            result = prime * result + offset;
-            return result;
-        }
-
-        @Override
-        public boolean equals(Object obj) {
-            if (this == obj)
-                return true;
-            if (obj == null)
-                return false;
-            if (getClass() != obj.getClass())
-                return false;
-            Entry other = (Entry) obj;
-            if (length != other.length)
-                return false;
-            if (offset != other.offset)
-                return false;
-            return true;
-        }
-    }
+    private static final int DEFAULT_ENTRIES = 16;
 
     private final BytesArray data;
+    // total number of entries added since the last reset
     private int maxEntries = 0;
+    // number of bytes of the surviving entries
     private int size = 0;
-    private List<Entry> entries = new LinkedList<TrackingBytesArray.Entry>();
+
+    // entry table - slots [0, slots) are in use, the removed ones being marked in the bitset
+    private int[] offsets;
+    private int[] lengths;
+    private int[] initialPositions;
+    private int slots = 0;
+    private final BitSet removed = new BitSet();
+    private int removedCount = 0;
+
+    // last resolved (index -> slot) pair, used to walk the surviving entries in order
+    private int cursorIndex = 0;
+    private int cursorSlot = 0;
 
     public TrackingBytesArray(BytesArray data) {
+        this(data, DEFAULT_ENTRIES);
+    }
+
+    public TrackingBytesArray(BytesArray data, int expectedEntries) {
         this.data = data;
+        int capacity = (expectedEntries > 0 ? expectedEntries : DEFAULT_ENTRIES);
+        this.offsets = new int[capacity];
+        this.lengths = new int[capacity];
+        this.initialPositions = new int[capacity];
     }
 
     public void copyFrom(BytesArray from) {
@@ -104,45 +96,102 @@ public class TrackingBytesArray implements ByteSequence {
     }
 
     public int entries() {
-        return entries.size();
+        return slots - removedCount;
     }
 
     public BitSet leftoversPosition() {
         BitSet bitSet = new BitSet(maxEntries);
-        for (Entry entry : entries) {
-            bitSet.set(entry.initialPosition);
+        for (int slot = nextSlot(0); slot < slots; slot = nextSlot(slot + 1)) {
+            bitSet.set(initialPositions[slot]);
         }
 
         return bitSet;
     }
 
     private void addEntry(int length) {
+        if (slots == offsets.length) {
+            int capacity = slots << 1;
+            offsets = Arrays.copyOf(offsets, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            initialPositions = Arrays.copyOf(initialPositions, capacity);
+        }
         // implied offset - data.size
-        entries.add(new Entry(data.size, length, entries.size()));
+        offsets[slots] = data.size;
+        lengths[slots] = length;
+        initialPositions[slots] = maxEntries++;
+        slots++;
         size += length;
-        maxEntries = size;
+    }
+
+    private int nextSlot(int slot) {
+        return (removedCount == 0 ? slot : removed.nextClearBit(slot));
+    }
+
+    private int slot(int index) {
+        if (index < 0 || index >= entries()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Entries: " + entries());
+        }
+        if (removedCount == 0) {
+            return index;
+        }
+        if (index < cursorIndex) {
+            // walking the entries again - drop the removed ones first
+            compact();
+            return index;
+        }
+        while (cursorIndex < index) {
+            cursorSlot = nextSlot(cursorSlot + 1);
+            cursorIndex++;
+        }
+        return cursorSlot;
+    }
+
+    /**
+     * Drops the removed entries from the entry table. The backing data is left untouched.
+     */
+    public void compact() {
+        if (removedCount > 0) {
+            int live = 0;
+            for (int slot = nextSlot(0); slot < slots; slot = nextSlot(slot + 1)) {
+                offsets[live] = offsets[slot];
+                lengths[live] = lengths[slot];
+                initialPositions[live] = initialPositions[slot];
+                live++;
+            }
+            slots = live;
+            removed.clear();
+            removedCount = 0;
+        }
+        cursorIndex = 0;
+        cursorSlot = 0;
     }
 
     public void remove(int index) {
-        Entry entry = entries.remove(index);
-        size -= entry.length;
+        int slot = slot(index);
+        removed.set(slot);
+        removedCount++;
+        size -= lengths[slot];
+        // the next surviving entry takes over the index
+        cursorIndex = index;
+        cursorSlot = removed.nextClearBit(slot + 1);
     }
 
     public BytesArray entry(int index) {
-        Entry entry = entries.get(index);
-        return new BytesArray(data.bytes, entry.offset, entry.length);
+        int slot = slot(index);
+        return new BytesArray(data.bytes, offsets[slot], lengths[slot]);
     }
 
     public BytesArray pop() {
-        Entry entry = entries.remove(0);
-        size -= entry.length;
-        byte[] entryData = new byte[entry.length];
-        System.arraycopy(data.bytes(), entry.offset, entryData, 0, entry.length);
-        return new BytesArray(entryData, entry.length);
+        int slot = slot(0);
+        int length = lengths[slot];
+        byte[] entryData = new byte[length];
+        System.arraycopy(data.bytes(), offsets[slot], entryData, 0, length);
+        remove(0);
+        return new BytesArray(entryData, length);
     }
 
     public int length(int index) {
-        return entries.get(index).length;
+        return lengths[slot(index)];
     }
 
     public void writeTo(OutputStream out) throws IOException {
@@ -150,8 +199,15 @@ public class TrackingBytesArray implements ByteSequence {
             return;
         }
 
-        for (Entry entry : entries) {
-            out.write(data.bytes, entry.offset, entry.length);
+        // write adjacent surviving entries in one go
+        int slot = nextSlot(0);
+        while (slot < slots) {
+            int offset = offsets[slot];
+            int end = offset + lengths[slot];
+            for (slot = nextSlot(slot + 1); slot < slots && offsets[slot] == end; slot = nextSlot(slot + 1)) {
+                end += lengths[slot];
+            }
+            out.write(data.bytes, offset, end - offset);
         }
         out.flush();
     }
@@ -161,24 +217,38 @@ public class TrackingBytesArray implements ByteSequence {
     public InputStream toInputStream() {
         if (size == 0) {
             return new ByteArrayInputStream(new byte[0]);
-        } else {
+        }
+        if (size == data.length()) {
             return data.toInputStream();
         }
+        // some entries were removed - expose only the surviving ones
+        FastByteArrayOutputStream out = new FastByteArrayOutputStream(size);
+        try {
+            writeTo(out);
+        } catch (IOException ex) {
+            // cannot happen with an in-memory stream
+            throw new OpenSearchHadoopIllegalStateException("Cannot copy tracked entries", ex);
+        }
+        return out.bytes().toInputStream();
     }
 
     public void reset() {
         size = 0;
         maxEntries = 0;
-        entries.clear();
+        slots = 0;
+        removed.clear();
+        removedCount = 0;
+        cursorIndex = 0;
+        cursorSlot = 0;
         data.reset();
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder((int) length());
-        for (Entry entry : entries) {
-            sb.append(new String(data.bytes, entry.offset, entry.length, StringUtils.UTF_8));
+        for (int slot = nextSlot(0); slot < slots; slot = nextSlot(slot + 1)) {
+            sb.append(new String(data.bytes, offsets[slot], lengths[slot], StringUtils.UTF_8));
         }
         return sb.toString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+import org.opensearch.hadoop.rest.AggregationQuery.Function;
+import org.opensearch.hadoop.rest.AggregationQuery.Metric;
+import org.opensearch.hadoop.rest.query.MatchAllQueryBuilder;
+import org.opensearch.hadoop.util.BytesArray;
+
+public class AggregationQueryTest {
+
+    private static final List<Metric> METRICS = Arrays.asList(new Metric(Function.COUNT, null),
+            new Metric(Function.COUNT, "price"), new Metric(Function.MIN, "price"), new Metric(Function.SUM, "price"));
+
+    @Test
+    public void testWithoutGrouping() throws Exception {
+        RestRepository repository = Mockito.mock(RestRepository.class);
+        RestClient client = mockClient(repository);
+        Mockito.when(client.search(Matchers.anyString(), Matchers.any(BytesArray.class))).thenReturn(json(
+                "{'hits':{'total':{'value':42,'relation':'eq'}},'aggregations':{" +
+                "'m1':{'doc_count':40},'m2':{'count':40,'min':1.5,'max':9.0,'avg':4.0,'sum':160.0}," +
+                "'m3':{'count':40,'min':1.5,'max':9.0,'avg':4.0,'sum':160.0}}}"));
+
+        AggregationQuery query = new AggregationQuery(repository, "idx", MatchAllQueryBuilder.MATCH_ALL,
+                Collections.<String>emptyList(), METRICS, 100);
+        Assert.assertTrue(query.hasNext());
+        Assert.assertArrayEquals(new Object[] { 42L, 40L, 1.5d, 160.0d }, query.next());
+        Assert.assertFalse(query.hasNext());
+        query.close();
+
+        ArgumentCaptor<String> uri = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<BytesArray> body = ArgumentCaptor.forClass(BytesArray.class);
+        Mockito.verify(client).search(uri.capture(), body.capture());
+        Assert.assertEquals("idx/_search?size=0&track_total_hits=true", uri.getValue());
+        Assert.assertEquals("{\"query\":{\"match_all\":{}},\"aggs\":{" +
+                "\"m1\":{\"filter\":{\"exists\":{\"field\":\"price\"}}}," +
+                "\"m2\":{\"stats\":{\"field\":\"price\"}},\"m3\":{\"stats\":{\"field\":\"price\"}}}}", body.getValue().toString());
+        Mockito.verify(repository).close();
+    }
+
+    @Test
+    public void testGroupsArePaged() throws Exception {
+        RestRepository repository = Mockito.mock(RestRepository.class);
+        RestClient client = mockClient(repository);
+        Mockito.when(client.search(Matchers.anyString(), Matchers.any(BytesArray.class))).thenReturn(
+                json("{'aggregations':{'groups':{'after_key':{'g0':'b','g1':2},'buckets':[" +
+                        "{'key':{'g0':'a','g1':1},'doc_count':3,'m1':{'doc_count':2},'m2':{'count':2,'min':1.0,'sum':3.0}," +
+                        "'m3':{'count':2,'min':1.0,'sum':3.0}}," +
+                        "{'key':{'g0':'b','g1':2},'doc_count':1,'m1':{'doc_count':0},'m2':{'count':0,'min':null,'sum':0.0}," +
+                        "'m3':{'count':0,'min':null,'sum':0.0}}]}}}"),
+                json("{'aggregations':{'groups':{'after_key':{'g0':null,'g1':null},'buckets':[" +
+                        "{'key':{'g0':null,'g1':null},'doc_count':5,'m1':{'doc_count':5},'m2':{'count':5,'min':2.0,'sum':10.0}," +
+                        "'m3':{'count':5,'min':2.0,'sum':10.0}}]}}}"),
+                json("{'aggregations':{'groups':{'buckets':[]}}}"));
+
+        AggregationQuery query = new AggregationQuery(repository, "idx", MatchAllQueryBuilder.MATCH_ALL,
+                Arrays.asList("category", "size"), METRICS, 2);
+        Assert.assertArrayEquals(new Object[] { "a", 1, 3L, 2L, 1.0d, 3.0d }, query.next());
+        // no value in the group means no min and no sum
+        Assert.assertArrayEquals(new Object[] { "b", 2, 1L, 0L, null, null }, query.next());
+        Assert.assertArrayEquals(new Object[] { null, null, 5L, 5L, 2.0d, 10.0d }, query.next());
+        Assert.assertFalse(query.hasNext());
+        query.close();
+
+        ArgumentCaptor<String> uri = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<BytesArray> bodies = ArgumentCaptor.forClass(BytesArray.class);
+        Mockito.verify(client, Mockito.times(3)).search(uri.capture(), bodies.capture());
+        Assert.assertEquals("idx/_search?size=0", uri.getValue());
+        String first = bodies.getAllValues().get(0).toString();
+        Assert.assertTrue(first, first.contains("\"composite\":{\"size\":2,\"sources\":[" +
+                "{\"g0\":{\"terms\":{\"field\":\"category\",\"missing_bucket\":true}}}," +
+                "{\"g1\":{\"terms\":{\"field\":\"size\",\"missing_bucket\":true}}}]}"));
+        Assert.assertTrue(first, first.contains("\"aggs\":{\"m1\":{\"filter\":{\"exists\":{\"field\":\"price\"}}}"));
+        Assert.assertTrue(bodies.getAllValues().get(1).toString().contains("\"after\":{\"g0\":\"b\",\"g1\":2}"));
+        Assert.assertTrue(bodies.getAllValues().get(2).toString().contains("\"after\":{\"g0\":null,\"g1\":null}"));
+    }
+
+    @Test
+    public void testNoGroups() throws Exception {
+        RestRepository repository = Mockito.mock(RestRepository.class);
+        RestClient client = mockClient(repository);
+        Mockito.when(client.search(Matchers.anyString(), Matchers.any(BytesArray.class)))
+                .thenReturn(json("{'aggregations':{'groups':{'buckets':[]}}}"));
+
+        AggregationQuery query = new AggregationQuery(repository, "idx", MatchAllQueryBuilder.MATCH_ALL,
+                Collections.singletonList("category"), METRICS, 10);
+        Assert.assertFalse(query.hasNext());
+        Mockito.verify(client, Mockito.times(1)).search(Matchers.anyString(), Matchers.any(BytesArray.class));
+    }
+
+    @Test
+    public void testCountOnly() throws Exception {
+        RestRepository repository = Mockito.mock(RestRepository.class);
+        RestClient client = mockClient(repository);
+        Mockito.when(client.search(Matchers.anyString(), Matchers.any(BytesArray.class)))
+                .thenReturn(json("{'hits':{'total':7}}"));
+
+        AggregationQuery query = new AggregationQuery(repository, "idx", MatchAllQueryBuilder.MATCH_ALL,
+                Collections.<String>emptyList(), Collections.singletonList(new Metric(Function.COUNT, null)), 10);
+        Assert.assertArrayEquals(new Object[] { 7L }, query.next());
+
+        ArgumentCaptor<BytesArray> body = ArgumentCaptor.forClass(BytesArray.class);
+        Mockito.verify(client).search(Matchers.anyString(), body.capture());
+        Assert.assertEquals("{\"query\":{\"match_all\":{}}}", body.getValue().toString());
+    }
+
+    private static RestClient mockClient(RestRepository repository) {
+        RestClient client = Mockito.mock(RestClient.class);
+        Mockito.doReturn(client).when(repository).getRestClient();
+        return client;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> json(String json) throws Exception {
+        return new ObjectMapper().readValue(json.replace('\'', '"'), Map.class);
+    }
+}
@@ -42,16 +42,20 @@ import org.mockito.Mockito;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
+import static org.opensearch.hadoop.cfg.ConfigurationOptions.OPENSEARCH_MAX_BYTES_PER_PARTITION;
 import static org.opensearch.hadoop.cfg.ConfigurationOptions.OPENSEARCH_RESOURCE_READ;
 import static org.opensearch.hadoop.rest.query.MatchAllQueryBuilder.MATCH_ALL;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public class FindPartitionsTest {
     private static final ObjectMapper MAPPER =
@@ -163,4 +167,61 @@ public class FindPartitionsTest {
             assertEquals(new HashSet(partitions).size(), 34);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSizedPartitions() throws IOException {
+        List<List<Map<String, Object>>> shards =
+                MAPPER.readValue(getClass().getResourceAsStream("search-shards-response.json"), ArrayList.class);
+        RestClient client = Mockito.mock(RestClient.class);
+        Settings settings = new PropertiesSettings();
+        settings.setInternalVersion(OpenSearchMajorVersion.LATEST);
+        settings.setProperty(OPENSEARCH_RESOURCE_READ, "index1,index2,index3");
+        settings.setProperty(OPENSEARCH_MAX_BYTES_PER_PARTITION, "1kb");
+
+        // no stats for index3
+        Map<String, Object> stats = new HashMap<String, Object>();
+        stats.put("index1", shardStats(15, 100));
+        stats.put("index2", shardStats(18, 5000));
+        Mockito.when(client.shardStats("index1,index2,index3")).thenReturn(stats);
+
+        List<PartitionDefinition> partitions = RestService.findSizedPartitions(client, settings, null,
+                Collections.<String, NodeInfo>emptyMap(), shards, LOGGER);
+        // index1 merged into 10 + 5 shards, 18*5 slices for index2 and index3 as is
+        assertEquals(93, partitions.size());
+        assertEquals(93, new HashSet(partitions).size());
+
+        int merged = 0;
+        long size = 0;
+        for (PartitionDefinition partition : partitions) {
+            if (partition.getIndex().equals("index1")) {
+                merged += partition.getShardIds().length;
+                assertEquals(partition.getShardIds().length * 100L, partition.getSize());
+                assertNull(partition.getSlice());
+            } else if (partition.getIndex().equals("index2")) {
+                assertEquals(1, partition.getShardIds().length);
+                assertEquals(5, partition.getSlice().max);
+                assertEquals(1000L, partition.getSize());
+            } else {
+                assertEquals(-1L, partition.getSize());
+            }
+            size += Math.max(0, partition.getSize());
+        }
+        assertEquals(15, merged);
+        assertEquals(15 * 100 + 18 * 5000, size);
+    }
+
+    private static Map<String, Object> shardStats(int shards, long size) {
+        Map<String, Object> copies = new HashMap<String, Object>();
+        for (int i = 0; i < shards; i++) {
+            copies.put(Integer.toString(i), Arrays.asList(shardCopy(false, size + 1), shardCopy(true, size)));
+        }
+        return Collections.<String, Object>singletonMap("shards", copies);
+    }
+
+    private static Map<String, Object> shardCopy(boolean primary, long size) {
+        Map<String, Object> copy = new HashMap<String, Object>();
+        copy.put("routing", Collections.singletonMap("primary", primary));
+        copy.put("store", Collections.singletonMap("size_in_bytes", size));
+        return copy;
+    }
+}
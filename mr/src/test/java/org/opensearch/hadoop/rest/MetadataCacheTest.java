@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest;
+
+import java.security.PrivilegedAction;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.security.auth.Subject;
+
+import org.junit.After;
+import org.junit.Test;
+import org.opensearch.hadoop.OpenSearchHadoopIllegalStateException;
+import org.opensearch.hadoop.cfg.PropertiesSettings;
+import org.opensearch.hadoop.cfg.Settings;
+import org.opensearch.hadoop.security.JdkUser;
+import org.opensearch.hadoop.security.JdkUserProvider;
+import org.opensearch.hadoop.security.OpenSearchToken;
+import org.opensearch.hadoop.security.UserProvider;
+import org.opensearch.hadoop.util.OpenSearchMajorVersion;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.opensearch.hadoop.cfg.ConfigurationOptions.OPENSEARCH_METADATA_CACHE_TTL;
+import static org.opensearch.hadoop.cfg.ConfigurationOptions.OPENSEARCH_NET_HTTP_AUTH_PASS;
+import static org.opensearch.hadoop.cfg.ConfigurationOptions.OPENSEARCH_NET_HTTP_AUTH_USER;
+import static org.opensearch.hadoop.cfg.ConfigurationOptions.OPENSEARCH_NET_HTTP_HEADER_PREFIX;
+import static org.opensearch.hadoop.cfg.ConfigurationOptions.OPENSEARCH_NODES;
+import static org.opensearch.hadoop.cfg.ConfigurationOptions.OPENSEARCH_SECURITY_USER_PROVIDER_CLASS;
+
+public class MetadataCacheTest {
+
+    @After
+    public void clear() {
+        MetadataCache.clear();
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        Counter counter = new Counter();
+        Settings settings = new PropertiesSettings();
+        assertEquals(1, MetadataCache.get(settings, "key", counter).intValue());
+        assertEquals(2, MetadataCache.get(settings, "key", counter).intValue());
+    }
+
+    @Test
+    public void testCachedPerClusterAndKey() {
+        Counter counter = new Counter();
+        Settings settings = new PropertiesSettings();
+        settings.setProperty(OPENSEARCH_METADATA_CACHE_TTL, "1m");
+        assertEquals(1, MetadataCache.get(settings, "key", counter).intValue());
+        assertEquals(1, MetadataCache.get(settings, "key", counter).intValue());
+        assertEquals(2, MetadataCache.get(settings, "other", counter).intValue());
+
+        Settings otherCluster = new PropertiesSettings();
+        otherCluster.setProperty(OPENSEARCH_METADATA_CACHE_TTL, "1m");
+        otherCluster.setProperty(OPENSEARCH_NODES, "otherhost");
+        assertEquals(3, MetadataCache.get(otherCluster, "key", counter).intValue());
+        assertEquals(1, MetadataCache.get(settings, "key", counter).intValue());
+    }
+
+    @Test
+    public void testMissingNotCached() {
+        final AtomicInteger calls = new AtomicInteger();
+        Callable<Boolean> exists = new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                // created after the first check
+                return calls.incrementAndGet() > 1;
+            }
+        };
+        Settings settings = new PropertiesSettings();
+        settings.setProperty(OPENSEARCH_METADATA_CACHE_TTL, "1m");
+        assertEquals(Boolean.FALSE, MetadataCache.get(settings, "exists:index", exists));
+        assertEquals(Boolean.TRUE, MetadataCache.get(settings, "exists:index", exists));
+        assertEquals(Boolean.TRUE, MetadataCache.get(settings, "exists:index", exists));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testCachedPerCredentials() {
+        Counter counter = new Counter();
+        Settings settings = new PropertiesSettings();
+        settings.setProperty(OPENSEARCH_METADATA_CACHE_TTL, "1m");
+        settings.setProperty(OPENSEARCH_NET_HTTP_AUTH_USER, "user");
+        settings.setProperty(OPENSEARCH_NET_HTTP_AUTH_PASS, "pass");
+        assertEquals(1, MetadataCache.get(settings, "key", counter).intValue());
+        assertEquals(1, MetadataCache.get(settings, "key", counter).intValue());
+
+        Settings otherPassword = settings.copy();
+        otherPassword.setProperty(OPENSEARCH_NET_HTTP_AUTH_PASS, "other");
+        assertEquals(2, MetadataCache.get(otherPassword, "key", counter).intValue());
+
+        Settings bearer = settings.copy();
+        bearer.setProperty(OPENSEARCH_NET_HTTP_HEADER_PREFIX + "Authorization", "Bearer abc");
+        assertEquals(3, MetadataCache.get(bearer, "key", counter).intValue());
+        bearer.setProperty(OPENSEARCH_NET_HTTP_HEADER_PREFIX + "Authorization", "Bearer def");
+        assertEquals(4, MetadataCache.get(bearer, "key", counter).intValue());
+    }
+
+    @Test
+    public void testCachedPerApiKey() {
+        final Counter counter = new Counter();
+        final Settings settings = new PropertiesSettings();
+        settings.setProperty(OPENSEARCH_METADATA_CACHE_TTL, "1m");
+        settings.setProperty(OPENSEARCH_SECURITY_USER_PROVIDER_CLASS, JdkUserProvider.class.getName());
+
+        PrivilegedAction<Integer> get = new PrivilegedAction<Integer>() {
+            @Override
+            public Integer run() {
+                return MetadataCache.get(settings, "key", counter);
+            }
+        };
+        assertEquals(1, Subject.doAs(subject(settings, "abc"), get).intValue());
+        assertEquals(1, Subject.doAs(subject(settings, "abc"), get).intValue());
+        assertEquals(2, Subject.doAs(subject(settings, "def"), get).intValue());
+    }
+
+    @Test
+    public void testBackgroundRunsAsUser() {
+        final Settings settings = new PropertiesSettings();
+        settings.setProperty(OPENSEARCH_SECURITY_USER_PROVIDER_CLASS, JdkUserProvider.class.getName());
+
+        String apiKey = Subject.doAs(subject(settings, "abc"), new PrivilegedAction<String>() {
+            @Override
+            public String run() {
+                return MetadataCache.await(MetadataCache.submit(settings, new Callable<String>() {
+                    @Override
+                    public String call() {
+                        // resolved on the discovery thread
+                        return UserProvider.create(settings).getUser().getAllOpenSearchTokens().iterator().next().getApiKey();
+                    }
+                }));
+            }
+        });
+        assertEquals("abc", apiKey);
+    }
+
+    @Test
+    public void testFailuresAreNotCached() {
+        Settings settings = new PropertiesSettings();
+        settings.setProperty(OPENSEARCH_METADATA_CACHE_TTL, "1m");
+        try {
+            MetadataCache.get(settings, "key", new Callable<Integer>() {
+                @Override
+                public Integer call() {
+                    throw new OpenSearchHadoopIllegalStateException("boom");
+                }
+            });
+            fail();
+        } catch (OpenSearchHadoopIllegalStateException expected) {
+            // expected
+        }
+        assertEquals(1, MetadataCache.get(settings, "key", new Counter()).intValue());
+    }
+
+    @Test
+    public void testBackgroundFailure() {
+        try {
+            MetadataCache.await(MetadataCache.submit(new PropertiesSettings(), new Callable<Object>() {
+                @Override
+                public Object call() {
+                    throw new OpenSearchHadoopIllegalStateException("boom");
+                }
+            }));
+            fail();
+        } catch (OpenSearchHadoopIllegalStateException expected) {
+            assertEquals("boom", expected.getMessage());
+        }
+        assertEquals(1, MetadataCache.await(MetadataCache.submit(new PropertiesSettings(), new Counter())).intValue());
+    }
+
+    private static Subject subject(Settings settings, String apiKey) {
+        Subject subject = new Subject();
+        new JdkUser(subject, settings).addOpenSearchToken(new OpenSearchToken("name", "id", apiKey,
+                System.currentTimeMillis() + 100000L, "cluster", OpenSearchMajorVersion.LATEST));
+        return subject;
+    }
+
+    private static class Counter implements Callable<Integer> {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public Integer call() {
+            return calls.incrementAndGet();
+        }
+    }
+}
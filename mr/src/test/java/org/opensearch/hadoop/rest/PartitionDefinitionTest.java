@@ -112,6 +112,21 @@ public class PartitionDefinitionTest {
         assertPartitionEquals(expected, def);
     }
 
+    @Test
+    public void testWritableWithShardsAndSize() throws IOException {
+        Mapping mapping = getTestMapping();
+        PropertiesSettings settings = new PropertiesSettings();
+        settings.setProperty("setting1", "value1");
+        PartitionDefinition expected = PartitionDefinition.builder(settings, mapping).build("foo", new int[] {3, 0, 7}, null,
+                new String[] {"localhost:9200", "otherhost:9200"}, 4096L);
+        BytesArray bytes = writeWritablePartition(expected);
+        PartitionDefinition def = readWritablePartition(bytes);
+        assertPartitionEquals(expected, def);
+        assertArrayEquals(new int[] {3, 0, 7}, def.getShardIds());
+        assertEquals(3, def.getShardId());
+        assertEquals(4096L, def.getSize());
+    }
+
     @Test
     public void testNonDuplicationOfConfiguration() throws IOException {
         Mapping mapping = getTestMapping();
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.opensearch.hadoop.serialization.ScrollReader;
+import org.opensearch.hadoop.serialization.ScrollReader.Scroll;
+import org.opensearch.hadoop.util.BytesArray;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+
+public class PointInTimeQueryTest {
+
+    @Test
+    public void testPagesWithSearchAfter() throws Exception {
+        Object[] first = new Object[] { "1", Collections.singletonMap("field", "a") };
+        Object[] second = new Object[] { "2", Collections.singletonMap("field", "b") };
+
+        RestRepository repository = Mockito.mock(RestRepository.class);
+        RestClient client = Mockito.mock(RestClient.class);
+        Mockito.doReturn(client).when(repository).getRestClient();
+        Mockito.doReturn("pit-1").when(client).createPointInTime(Matchers.anyString());
+
+        Scroll page1 = new Scroll("pit-2", 2, Collections.singletonList(first), 1, 0, Arrays.<Object>asList(7L));
+        Scroll page2 = new Scroll("pit-3", 2, Collections.singletonList(second), 1, 0, Arrays.<Object>asList(9L));
+        Mockito.when(repository.searchAfter(Matchers.anyString(), Matchers.any(BytesArray.class), Matchers.any(ScrollReader.class)))
+                .thenReturn(page1, page2);
+
+        SearchRequestBuilder request = new SearchRequestBuilder(false).indices("idx").size(1).pointInTime(true);
+        PointInTimeQuery query = new PointInTimeQuery(repository, request, -1, Mockito.mock(ScrollReader.class), 0);
+
+        Assert.assertTrue(query.hasNext());
+        Assert.assertSame(first, query.next());
+        Assert.assertTrue(query.hasNext());
+        Assert.assertSame(second, query.next());
+        Assert.assertFalse(query.hasNext());
+        query.close();
+
+        ArgumentCaptor<BytesArray> bodies = ArgumentCaptor.forClass(BytesArray.class);
+        Mockito.verify(repository, Mockito.times(2))
+                .searchAfter(Matchers.anyString(), bodies.capture(), Matchers.any(ScrollReader.class));
+        Assert.assertTrue(bodies.getAllValues().get(0).toString().contains("\"id\":\"pit-1\""));
+        Assert.assertFalse(bodies.getAllValues().get(0).toString().contains("search_after"));
+        Assert.assertTrue(bodies.getAllValues().get(1).toString().contains("\"id\":\"pit-2\""));
+        Assert.assertTrue(bodies.getAllValues().get(1).toString().contains("\"search_after\":[7]"));
+
+        Mockito.verify(client).deletePointInTime("pit-3");
+        Mockito.verify(client, Mockito.never()).deleteScroll(Matchers.anyString());
+        Mockito.verify(repository).close();
+    }
+
+    @Test
+    public void testEmptyPointInTime() throws Exception {
+        RestRepository repository = Mockito.mock(RestRepository.class);
+        RestClient client = Mockito.mock(RestClient.class);
+        Mockito.doReturn(client).when(repository).getRestClient();
+        Mockito.doReturn("pit-1").when(client).createPointInTime(Matchers.anyString());
+        Mockito.doReturn(new Scroll("pit-1", 0, true)).when(repository)
+                .searchAfter(Matchers.anyString(), Matchers.any(BytesArray.class), Matchers.any(ScrollReader.class));
+
+        SearchRequestBuilder request = new SearchRequestBuilder(false).indices("idx").pointInTime(true);
+        PointInTimeQuery query = new PointInTimeQuery(repository, request, -1, Mockito.mock(ScrollReader.class), 0);
+        Assert.assertFalse(query.hasNext());
+        query.close();
+        Mockito.verify(client).deletePointInTime("pit-1");
+    }
+}
@@ -31,6 +31,7 @@ package org.opensearch.hadoop.rest;
 
 import org.opensearch.hadoop.OpenSearchHadoopIllegalStateException;
 import org.opensearch.hadoop.cfg.Settings;
+import org.opensearch.hadoop.rest.bulk.BulkResponseParser;
 import org.opensearch.hadoop.rest.query.MatchAllQueryBuilder;
 import org.opensearch.hadoop.rest.stats.Stats;
 import org.opensearch.hadoop.util.BytesArray;
@@ -43,12 +44,14 @@ import org.mockito.Mockito;
 
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
@@ -91,6 +94,32 @@ public class RestClientTest {
         assertEquals("AbcDefGhiJklMnoPqrS_", id);
     }
 
+    @Test
+    public void testBulkResponseBytesCountedOnceRead() throws Exception {
+        // larger than what the parser reads upfront
+        StringBuilder items = new StringBuilder("{\"took\":3,\"errors\":true,\"items\":[" +
+                "{\"index\":{\"_index\":\"index\",\"_id\":\"0\",\"status\":429," +
+                "\"error\":{\"type\":\"rejected_execution_exception\",\"reason\":\"queue full\"}}}");
+        for (int i = 1; i < 1000; i++) {
+            items.append(",{\"index\":{\"_index\":\"index\",\"_id\":\"").append(i).append("\",\"status\":201}}");
+        }
+        String response = items.append("]}").toString();
+        DelegatingInputStream body = new DelegatingInputStream(new FastByteArrayInputStream(new BytesArray(response)));
+
+        RestClient client = new RestClient(new TestSettings(), Mockito.mock(NetworkClient.class));
+        Iterator<BulkResponseParser.Item> entries = client.parseBulkActionResponse(new SimpleResponse(200, body, "localhost:9200"));
+        int read = 0;
+        while (entries.hasNext()) {
+            entries.next();
+            read++;
+        }
+        assertEquals(1000, read);
+        assertFalse(entries.hasNext());
+
+        // counted once the items were all read - and only once
+        assertEquals(response.length(), client.stats().bytesReceived);
+    }
+
     @Test(expected = OpenSearchHadoopInvalidRequest.class)
     public void testPostTypelessDocumentFailure() throws Exception {
         String index = "index";
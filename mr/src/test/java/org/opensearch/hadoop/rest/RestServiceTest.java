@@ -29,6 +29,7 @@
 package org.opensearch.hadoop.rest;
 
 import org.opensearch.hadoop.serialization.dto.ShardInfo;
+import org.opensearch.hadoop.util.OpenSearchMajorVersion;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -169,4 +170,26 @@ public class RestServiceTest {
         List<PartitionDefinition> results = RestService.assignPartitions(pds, 6, 7);
         assertThat(results.size(), is(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSupportsPointInTime() throws Exception {
+        assertThat(RestService.supportsPointInTime(OpenSearchMajorVersion.parse("1.3.2")), is(false));
+        assertThat(RestService.supportsPointInTime(OpenSearchMajorVersion.parse("2.3.0")), is(false));
+        assertThat(RestService.supportsPointInTime(OpenSearchMajorVersion.parse("2.4.0")), is(true));
+        assertThat(RestService.supportsPointInTime(OpenSearchMajorVersion.parse("2.11.1")), is(true));
+        assertThat(RestService.supportsPointInTime(OpenSearchMajorVersion.parse("3.0.0")), is(true));
+        assertThat(RestService.supportsPointInTime(OpenSearchMajorVersion.parse("7.10.2")), is(false));
+        // no minor version to go by
+        assertThat(RestService.supportsPointInTime(OpenSearchMajorVersion.V_2_X), is(false));
+    }
+
+    @Test
+    public void testSupportsShardDoc() throws Exception {
+        assertThat(RestService.supportsShardDoc(OpenSearchMajorVersion.parse("2.11.1")), is(false));
+        assertThat(RestService.supportsShardDoc(OpenSearchMajorVersion.parse("3.2.0")), is(false));
+        assertThat(RestService.supportsShardDoc(OpenSearchMajorVersion.parse("3.3.0")), is(true));
+        assertThat(RestService.supportsShardDoc(OpenSearchMajorVersion.parse("7.10.2")), is(false));
+        // no minor version to go by
+        assertThat(RestService.supportsShardDoc(OpenSearchMajorVersion.V_3_X), is(false));
+    }
+}
@@ -29,10 +29,12 @@
 
 package org.opensearch.hadoop.rest;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.opensearch.hadoop.OpenSearchHadoopIllegalStateException;
 import org.opensearch.hadoop.rest.stats.Stats;
 import org.opensearch.hadoop.serialization.JsonUtils;
 import org.opensearch.hadoop.serialization.ScrollReader;
@@ -45,6 +47,10 @@ import org.mockito.Mockito;
 public class ScrollQueryTest {
 
     public void test(boolean firstScrollReturnsHits) throws Exception {
+        test(firstScrollReturnsHits, 0);
+    }
+
+    public void test(boolean firstScrollReturnsHits, int prefetch) throws Exception {
         RestRepository repository = mockRepository(firstScrollReturnsHits);
         ScrollReader scrollReader = Mockito.mock(ScrollReader.class);
 
@@ -52,7 +58,7 @@ public class ScrollQueryTest {
         BytesArray body = new BytesArray("{}");
         long size = 100;
 
-        ScrollQuery scrollQuery = new ScrollQuery(repository, query, body, size, scrollReader);
+        ScrollQuery scrollQuery = new ScrollQuery(repository, query, body, size, scrollReader, prefetch);
 
         Assert.assertTrue(scrollQuery.hasNext());
         Assert.assertEquals("value", JsonUtils.query("field").apply(scrollQuery.next()[1]));
@@ -74,6 +80,47 @@ public class ScrollQueryTest {
         test(true);
     }
 
+    @Test
+    public void testPrefetchWithEmptyFirstScroll() throws Exception {
+        test(false, 1);
+    }
+
+    @Test
+    public void testPrefetchWithNonEmptyFirstScroll() throws Exception {
+        test(true, 2);
+    }
+
+    @Test
+    public void testPrefetchFailure() throws Exception {
+        RestRepository repository = mockRepository(false);
+        Mockito.doThrow(new IOException("boom")).when(repository).scroll(Matchers.eq("efgh"), Matchers.any(ScrollReader.class));
+
+        ScrollQuery scrollQuery = new ScrollQuery(repository, "/index/_search?scroll=10m", new BytesArray("{}"), 100,
+                Mockito.mock(ScrollReader.class), 1);
+        try {
+            scrollQuery.hasNext();
+            Assert.fail("Expected the background scroll failure to be reported");
+        } catch (OpenSearchHadoopIllegalStateException ex) {
+            Assert.assertTrue(ex.getCause() instanceof IOException);
+        } finally {
+            scrollQuery.close();
+        }
+        Mockito.verify(repository.getRestClient()).deleteScroll("efgh");
+    }
+
+    @Test
+    public void testPrefetchCancelledOnClose() throws Exception {
+        RestRepository repository = mockRepository(true);
+        ScrollQuery scrollQuery = new ScrollQuery(repository, "/index/_search?scroll=10m", new BytesArray("{}"), 100,
+                Mockito.mock(ScrollReader.class), 1);
+        Assert.assertTrue(scrollQuery.hasNext());
+        // close without draining the scroll
+        scrollQuery.close();
+        Mockito.verify(repository).close();
+        Mockito.verify(repository.getRestClient()).deleteScroll(Matchers.anyString());
+        Assert.assertFalse(scrollQuery.hasNext());
+    }
+
     private RestRepository mockRepository(boolean firstScrollReturnsHits) throws Exception {
         Map<String, Object> data = new HashMap<String, Object>();
         data.put("field", "value");
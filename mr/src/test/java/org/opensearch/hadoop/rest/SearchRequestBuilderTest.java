@@ -28,9 +28,16 @@
  */
 package org.opensearch.hadoop.rest;
 
+import java.util.Arrays;
+
+import org.opensearch.hadoop.OpenSearchHadoopIllegalArgumentException;
+import org.opensearch.hadoop.serialization.ScrollReader;
+import org.opensearch.hadoop.util.BytesArray;
 import org.opensearch.hadoop.util.OpenSearchMajorVersion;
 import org.opensearch.hadoop.util.encoding.HttpEncodingTools;
 import org.junit.Test;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
 
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
@@ -74,4 +81,96 @@ public class SearchRequestBuilderTest {
         assertFalse(localWithPreferenceString.contains("_local"));
         assertTrue(localWithPreferenceString.contains(encodedPreferenceString));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPointInTime() {
+        SearchRequestBuilder builder = new SearchRequestBuilder(true)
+                .indices("foo")
+                .scroll(60000)
+                .size(10)
+                .shard("2")
+                .local(true)
+                .pointInTime(true);
+
+        String open = builder.assemblePointInTime();
+        assertTrue(open.startsWith("foo/_search/point_in_time?keep_alive="));
+        assertTrue(open.contains(HttpEncodingTools.encode("_shards:2|_local")));
+
+        String search = builder.assemblePointInTimeSearch();
+        assertTrue(search.startsWith("_search?size=10"));
+        assertFalse(search.contains("scroll"));
+        assertFalse(search.contains("preference"));
+
+        String body = builder.assemblePointInTimeBody("abc", Arrays.<Object>asList(42L, "x")).toString();
+        assertTrue(body.contains("\"pit\":{\"id\":\"abc\""));
+        assertTrue(body.contains("\"sort\":[{\"_doc\":\"asc\"}]"));
+        assertTrue(body.contains("\"search_after\":[42,\"x\"]"));
+        assertFalse(builder.assemblePointInTimeBody("abc", null).toString().contains("search_after"));
+    }
+
+    @Test
+    public void testPointInTimeShardDoc() {
+        SearchRequestBuilder builder = new SearchRequestBuilder(false)
+                .indices("foo")
+                .shard("0,1")
+                .pointInTime(true)
+                .shardDoc(true);
+
+        // unique across the shards of the partition
+        String body = builder.assemblePointInTimeBody("abc", null).toString();
+        assertTrue(body.contains("\"sort\":[{\"_shard_doc\":\"asc\"}]"));
+    }
+
+    @Test
+    public void testSort() {
+        SearchRequestBuilder builder = new SearchRequestBuilder(false)
+                .indices("foo")
+                .sort("ts:desc:_last,name:asc:_first");
+
+        String request = builder.toString();
+        assertFalse(request.contains("sort=_doc"));
+        assertTrue(request.contains("\"sort\":[{\"ts\":{\"order\":\"desc\",\"missing\":\"_last\"}}," +
+                "{\"name\":{\"order\":\"asc\",\"missing\":\"_first\"}}]"));
+
+        // the requested order comes first, the point in time one breaking the ties
+        String body = builder.pointInTime(true).assemblePointInTimeBody("abc", null).toString();
+        assertTrue(body.contains("\"sort\":[{\"ts\":{\"order\":\"desc\",\"missing\":\"_last\"}}," +
+                "{\"name\":{\"order\":\"asc\",\"missing\":\"_first\"}},{\"_doc\":\"asc\"}]"));
+    }
+
+    @Test
+    public void testDocValues() {
+        SearchRequestBuilder builder = new SearchRequestBuilder(false).indices("foo").fields("price,ts");
+        assertTrue(builder.toString().contains("\"_source\":[\"price\",\"ts\"]"));
+
+        String request = builder.docValues(true).toString();
+        assertTrue(request.contains("\"_source\":false,\"docvalue_fields\":[\"price\",\"ts\"]"));
+    }
+
+    @Test(expected = OpenSearchHadoopIllegalArgumentException.class)
+    public void testInvalidSort() {
+        new SearchRequestBuilder(false).sort("ts:down:_last");
+    }
+
+    @Test
+    public void testLimitWithinPageSkipsScroll() {
+        SearchRequestBuilder builder = new SearchRequestBuilder(false).indices("foo").size(100).limit(10);
+        String request = builder.toString();
+        assertTrue(request.contains("size=10"));
+        assertFalse(request.contains("scroll"));
+
+        RestRepository repository = Mockito.mock(RestRepository.class);
+        builder.build(repository, Mockito.mock(ScrollReader.class));
+        Mockito.verify(repository).searchLimit(Matchers.anyString(), Matchers.any(BytesArray.class), Matchers.eq(10L),
+                Matchers.any(ScrollReader.class));
+        Mockito.verify(repository, Mockito.never()).scanLimit(Matchers.anyString(), Matchers.any(BytesArray.class),
+                Matchers.anyLong(), Matchers.any(ScrollReader.class));
+    }
+
+    @Test
+    public void testLimitAcrossPagesOrSlicesScrolls() {
+        assertTrue(new SearchRequestBuilder(false).indices("foo").size(10).limit(100).toString().contains("scroll="));
+        assertTrue(new SearchRequestBuilder(false).indices("foo").size(100).limit(10).slice(0, 2).toString().contains("scroll="));
+        assertTrue(new SearchRequestBuilder(false).indices("foo").size(100).toString().contains("scroll="));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest.bulk;
+
+import org.opensearch.hadoop.OpenSearchHadoopIllegalArgumentException;
+import org.opensearch.hadoop.cfg.ConfigurationOptions;
+import org.opensearch.hadoop.cfg.PropertiesSettings;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class AdaptiveBatchSizeTest {
+
+    private static final int KB = 1024;
+
+    @Test
+    public void testDefaults() {
+        AdaptiveBatchSize size = new AdaptiveBatchSize(new PropertiesSettings());
+        assertEquals(1024 * KB, size.bytes());
+        assertEquals(1000, size.entries());
+        assertEquals(0, size.pause());
+    }
+
+    @Test
+    public void testInitialSizeWithinBounds() {
+        assertEquals(256 * KB, new AdaptiveBatchSize(64 * KB, 100, 256 * KB, 1024 * KB, 1000, 1000).bytes());
+        assertEquals(1024 * KB, new AdaptiveBatchSize(4096 * KB, 100, 256 * KB, 1024 * KB, 1000, 1000).bytes());
+    }
+
+    @Test
+    public void testAdditiveIncrease() {
+        AdaptiveBatchSize size = new AdaptiveBatchSize(1024 * KB, 1000, 128 * KB, 2048 * KB, 1000, 1000);
+        size.onResponse(1024 * KB, 100, 0);
+        assertEquals(1280 * KB, size.bytes());
+        assertEquals(1250, size.entries());
+
+        for (int i = 0; i < 10; i++) {
+            size.onResponse(size.bytes(), 100, 0);
+        }
+        assertEquals(2048 * KB, size.bytes());
+        assertEquals(2000, size.entries());
+    }
+
+    @Test
+    public void testSmallRequestsDoNotGrow() {
+        AdaptiveBatchSize size = new AdaptiveBatchSize(1024 * KB, 1000, 128 * KB, 2048 * KB, 1000, 1000);
+        size.onResponse(100 * KB, 100, 0);
+        assertEquals(1024 * KB, size.bytes());
+    }
+
+    @Test
+    public void testSlowRequestsShrink() {
+        AdaptiveBatchSize size = new AdaptiveBatchSize(1024 * KB, 1000, 128 * KB, 2048 * KB, 1000, 1000);
+        size.onResponse(1024 * KB, 1250, 0);
+        assertEquals(819 * KB + 204, size.bytes());
+
+        // shrinks by half at most
+        size = new AdaptiveBatchSize(1024 * KB, 1000, 128 * KB, 2048 * KB, 1000, 1000);
+        size.onResponse(1024 * KB, 60000, 0);
+        assertEquals(512 * KB, size.bytes());
+        assertEquals(500, size.entries());
+    }
+
+    @Test
+    public void testRejectionsHalveAndPause() {
+        AdaptiveBatchSize size = new AdaptiveBatchSize(1024 * KB, 1000, 300 * KB, 2048 * KB, 1000, 1000);
+        size.onResponse(1024 * KB, 10, 5);
+        assertEquals(512 * KB, size.bytes());
+        assertEquals(AdaptiveBatchSize.MIN_PAUSE, size.pause());
+
+        size.onResponse(512 * KB, 10, 1);
+        assertEquals(300 * KB, size.bytes());
+        assertEquals(2 * AdaptiveBatchSize.MIN_PAUSE, size.pause());
+
+        for (int i = 0; i < 10; i++) {
+            size.onResponse(300 * KB, 10, 1);
+        }
+        assertEquals(300 * KB, size.bytes());
+        assertEquals(1000, size.pause());
+
+        // clean requests make the pause decay
+        size.onResponse(300 * KB, 10, 0);
+        assertEquals(500, size.pause());
+        size.onResponse(300 * KB, 10, 0);
+        size.onResponse(300 * KB, 10, 0);
+        assertEquals(125, size.pause());
+        size.onResponse(300 * KB, 10, 0);
+        assertEquals(0, size.pause());
+    }
+
+    @Test
+    public void testNoEntriesLimit() {
+        AdaptiveBatchSize size = new AdaptiveBatchSize(1024 * KB, -1, 128 * KB, 2048 * KB, 1000, 1000);
+        size.onResponse(1024 * KB, 10, 1);
+        assertEquals(-1, size.entries());
+    }
+
+    @Test
+    public void testEntriesLimitNeverDropsToZero() {
+        AdaptiveBatchSize size = new AdaptiveBatchSize(1024 * KB, 2, 1, 2048 * KB, 1000, 1000);
+        for (int i = 0; i < 20; i++) {
+            size.onResponse(size.bytes(), 10, 1);
+        }
+        assertEquals(1, size.entries());
+    }
+
+    @Test(expected = OpenSearchHadoopIllegalArgumentException.class)
+    public void testInvalidBounds() {
+        PropertiesSettings settings = new PropertiesSettings();
+        settings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_SIZE_ADAPTIVE_MIN_BYTES, "2mb");
+        settings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_SIZE_ADAPTIVE_MAX_BYTES, "1mb");
+        new AdaptiveBatchSize(settings);
+    }
+
+    @Test(expected = OpenSearchHadoopIllegalArgumentException.class)
+    public void testInvalidTargetLatency() {
+        new AdaptiveBatchSize(1024 * KB, 1000, 128 * KB, 2048 * KB, 0, 1000);
+    }
+}
@@ -33,10 +33,19 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.google.common.base.Charsets;
 import org.opensearch.hadoop.OpenSearchHadoopException;
+import org.opensearch.hadoop.OpenSearchHadoopIllegalArgumentException;
 import org.opensearch.hadoop.cfg.ConfigurationOptions;
 import org.opensearch.hadoop.cfg.Settings;
 import org.opensearch.hadoop.handler.OpenSearchHadoopAbortHandlerException;
@@ -66,9 +75,12 @@ import org.junit.runner.RunWith;
 import org.junit.runners.MethodSorters;
 import org.junit.runners.Parameterized;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.mockito.stubbing.OngoingStubbing;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 @FixMethodOrder(MethodSorters.NAME_ASCENDING)
@@ -909,8 +921,285 @@ public class BulkProcessorTest {
         fail("This should fail since the retry handler returned garbage");
     }
 
+    @Test
+    public void testBulk10_BackgroundFlush() throws Exception {
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_SIZE_ENTRIES, "2");
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_WRITE_CONCURRENCY, "1");
+
+        BulkProcessor processor = getBulkProcessor(
+                generator.setInfo(resource, 56)
+                        .addSuccess("index", 201)
+                        .addRejection("index")
+                        .generate(),
+                generator.setInfo(resource, 56)
+                        .addSuccess("index", 201)
+                        .generate(),
+                generator.setInfo(resource, 56)
+                        .addSuccess("index", 201)
+                        .addSuccess("index", 201)
+                        .generate(),
+                generator.setInfo(resource, 56)
+                        .addSuccess("index", 201)
+                        .generate()
+        );
+
+        processData(processor);
+
+        processor.close();
+        Stats stats = processor.stats();
+
+        assertEquals(1, stats.bulkRetries);
+        assertEquals(1, stats.docsRetried);
+        assertEquals(5, stats.docsAccepted);
+    }
+
+    @Test(expected = OpenSearchHadoopException.class)
+    public void testBulk10_BackgroundFlushFailure() throws Exception {
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_SIZE_ENTRIES, "2");
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_WRITE_CONCURRENCY, "1");
+
+        BulkProcessor processor = getBulkProcessor(
+                generator.setInfo(resource, 56)
+                        .addSuccess("index", 201)
+                        .addFailure("index", 401, "conflict", "This data is bogus")
+                        .generate(),
+                generator.setInfo(resource, 56)
+                        .addSuccess("index", 201)
+                        .addSuccess("index", 201)
+                        .generate()
+        );
+
+        processData(processor);
+        processor.tryFlush();
+
+        fail("The aborted document in the background bulk request should have failed the processor");
+    }
+
+    @Test
+    public void testBulk10_DirtyCloseWaitsForBackgroundFlush() throws Exception {
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_SIZE_ENTRIES, "2");
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_WRITE_CONCURRENCY, "2");
+
+        final RestClient.BulkActionResponse failed = generator.setInfo(resource, 56)
+                .addSuccess("index", 201)
+                .addFailure("index", 401, "conflict", "This data is bogus")
+                .generate();
+        final RestClient.BulkActionResponse accepted = generator.setInfo(resource, 56)
+                .addSuccess("index", 201)
+                .addSuccess("index", 201)
+                .generate();
+        final CountDownLatch submitted = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicBoolean finished = new AtomicBoolean(false);
+
+        RestClient client = Mockito.mock(RestClient.class);
+        Mockito.when(client.bulk(Mockito.eq(resource), Mockito.any(TrackingBytesArray.class)))
+                .thenAnswer(new Answer<RestClient.BulkActionResponse>() {
+                    @Override
+                    public RestClient.BulkActionResponse answer(InvocationOnMock invocation) throws Throwable {
+                        // fails once both requests are submitted
+                        submitted.await(10, TimeUnit.SECONDS);
+                        return failed;
+                    }
+                })
+                .thenAnswer(new Answer<RestClient.BulkActionResponse>() {
+                    @Override
+                    public RestClient.BulkActionResponse answer(InvocationOnMock invocation) throws Throwable {
+                        started.countDown();
+                        // a request in progress does not stop on interruption
+                        long end = System.currentTimeMillis() + 200;
+                        while (System.currentTimeMillis() < end) {
+                            try {
+                                Thread.sleep(10);
+                            } catch (InterruptedException ex) {
+                                // keep going
+                            }
+                        }
+                        finished.set(true);
+                        return accepted;
+                    }
+                });
+        BulkProcessor processor = backgroundBulkProcessor(client);
+
+        processData(processor);
+        submitted.countDown();
+        try {
+            processor.tryFlush();
+            fail("The aborted document in the background bulk request should have failed the processor");
+        } catch (OpenSearchHadoopException expected) {
+            // dirty close from here on
+        }
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        processor.close();
+
+        assertTrue(finished.get());
+        Stats stats = processor.stats();
+        assertEquals(3, stats.docsAccepted);
+    }
+
+    @Test
+    public void testBulk10_ConcurrentBackgroundFlushes() throws Exception {
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_SIZE_ENTRIES, "2");
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_WRITE_CONCURRENCY, "2");
+
+        // each request completes only once the other one is on the wire as well
+        final CyclicBarrier bothInFlight = new CyclicBarrier(2);
+        final List<RestClient> senderClients = new CopyOnWriteArrayList<RestClient>();
+        RestClient pinned = acceptingClient();
+
+        BulkProcessor processor = new BulkProcessor(pinned, resource, testSettings) {
+            @Override
+            RestClient createSenderClient() {
+                RestClient client = acceptingClient();
+                Mockito.when(client.bulk(Mockito.eq(resource), Mockito.any(TrackingBytesArray.class)))
+                        .thenAnswer(new Answer<RestClient.BulkActionResponse>() {
+                            @Override
+                            public RestClient.BulkActionResponse answer(InvocationOnMock invocation) throws Throwable {
+                                bothInFlight.await(10, TimeUnit.SECONDS);
+                                return new RestClient.BulkActionResponse(Collections.<BulkResponseParser.Item>emptyIterator(), 200, 1L);
+                            }
+                        });
+                senderClients.add(client);
+                return client;
+            }
+        };
+
+        processData(processor);
+        processor.close();
+
+        // a client per request in flight, the remaining entry going through the pinned one
+        assertEquals(2, senderClients.size());
+        for (RestClient client : senderClients) {
+            Mockito.verify(client).bulk(Mockito.eq(resource), Mockito.any(TrackingBytesArray.class));
+            Mockito.verify(client).close();
+        }
+        Mockito.verify(pinned).bulk(Mockito.eq(resource), Mockito.any(TrackingBytesArray.class));
+        assertEquals(5, processor.stats().docsAccepted);
+    }
+
+    @Test
+    public void testBulk11_ShardRouting() throws Exception {
+        final RestClient pinned = acceptingClient();
+        final Map<String, RestClient> nodeClients = new HashMap<String, RestClient>();
+        Map<Integer, String> shardNodes = new HashMap<Integer, String>();
+        shardNodes.put(0, "node-0:9200");
+        shardNodes.put(1, "node-1:9200");
+        final ShardRouter router = new ShardRouter(2, 2, 1, shardNodes);
+
+        BulkProcessor processor = new BulkProcessor(pinned, resource, testSettings, router) {
+            @Override
+            RestClient createNodeClient(String node) {
+                RestClient client = acceptingClient();
+                nodeClients.put(node, client);
+                return client;
+            }
+        };
+
+        BytesRef data = new BytesRef();
+        int[] perShard = new int[2];
+        for (int i = 0; i < 6; i++) {
+            String id = "doc-" + i;
+            perShard[router.shardId(id, null)]++;
+            data.add(("{\"index\":{\"_id\":\"" + id + "\"}}\n{\"element\":" + i + "}\n").getBytes(Charsets.UTF_8));
+            processor.add(data);
+            data.reset();
+        }
+        // no id - goes through the pinned node
+        data.add(renderEntry("A"));
+        processor.add(data);
+        data.reset();
+
+        BulkResponse bulkResponse = processor.tryFlush();
+        assertEquals(7, bulkResponse.getTotalDocs());
+        assertEquals(7, bulkResponse.getDocsSent());
+        processor.close();
+
+        Mockito.verify(pinned).bulk(Mockito.eq(resource), Mockito.any(TrackingBytesArray.class));
+        for (int shard = 0; shard < 2; shard++) {
+            if (perShard[shard] > 0) {
+                RestClient client = nodeClients.get(shardNodes.get(shard));
+                Mockito.verify(client).bulk(Mockito.eq(resource), Mockito.any(TrackingBytesArray.class));
+                Mockito.verify(client).close();
+            }
+        }
+        assertEquals(7, processor.stats().docsAccepted);
+    }
+
+    @Test
+    public void testBulk12_AdaptiveBatchSize() throws Exception {
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_SIZE_ENTRIES, "4");
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_SIZE_BYTES, "4kb");
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_SIZE_ADAPTIVE, "true");
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_SIZE_ADAPTIVE_MIN_BYTES, "1kb");
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_SIZE_ADAPTIVE_MAX_BYTES, "16kb");
+
+        BulkProcessor processor = getBulkProcessor(
+                generator.setInfo(resource, 56)
+                        .addSuccess("index", 201)
+                        .addRejection("index")
+                        .addSuccess("index", 201)
+                        .addSuccess("index", 201)
+                        .generate(),
+                generator.setInfo(resource, 56)
+                        .addSuccess("index", 201)
+                        .generate(),
+                generator.setInfo(resource, 56)
+                        .addSuccess("index", 201)
+                        .addSuccess("index", 201)
+                        .generate()
+        );
+
+        // the rejection in the first (4 entries) batch halves the batch size
+        processData(processor);
+        BytesRef data = new BytesRef();
+        data.add(renderEntry("F"));
+        processor.add(data);
+
+        // hence the second batch is flushed after 2 entries
+        BulkResponse bulkResponse = processor.tryFlush();
+        assertEquals(0, bulkResponse.getTotalDocs());
+
+        processor.close();
+        Stats stats = processor.stats();
+
+        assertEquals(6, stats.docsAccepted);
+        assertEquals(1, stats.bulkRetries);
+        assertEquals(1, stats.bulkErrors(Stats.REJECTION_ERRORS));
+        assertEquals(2048, stats.bulkSizeBytes);
+        assertEquals(2, stats.bulkSizeEntries);
+    }
+
+    @Test(expected = OpenSearchHadoopIllegalArgumentException.class)
+    public void testBulk12_AdaptiveBatchSizeRequiresAutoFlush() throws Exception {
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_SIZE_ADAPTIVE, "true");
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_BATCH_FLUSH_MANUAL, "true");
+
+        getBulkProcessor();
+    }
+
+    private RestClient acceptingClient() {
+        RestClient client = Mockito.mock(RestClient.class);
+        Mockito.when(client.bulk(Mockito.eq(resource), Mockito.any(TrackingBytesArray.class)))
+                .thenReturn(new RestClient.BulkActionResponse(Collections.<BulkResponseParser.Item>emptyIterator(), 200, 1L));
+        Mockito.when(client.stats()).thenReturn(new Stats());
+        return client;
+    }
+
     private BulkProcessor getBulkProcessor(RestClient.BulkActionResponse... responses) {
-        return new BulkProcessor(mockClientResponses(responses), resource, testSettings);
+        return backgroundBulkProcessor(mockClientResponses(responses));
+    }
+
+    /**
+     * The background requests go through the given client as well - to be given the responses in order.
+     */
+    private BulkProcessor backgroundBulkProcessor(final RestClient client) {
+        return new BulkProcessor(client, resource, testSettings) {
+            @Override
+            RestClient createSenderClient() {
+                return client;
+            }
+        };
     }
 
     private RestClient mockClientResponses(RestClient.BulkActionResponse... responses) {
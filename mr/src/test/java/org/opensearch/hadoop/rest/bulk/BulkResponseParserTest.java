@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest.bulk;
+
+import java.util.Iterator;
+
+import org.opensearch.hadoop.rest.ErrorExtractor;
+import org.opensearch.hadoop.rest.OpenSearchHadoopRemoteException;
+import org.opensearch.hadoop.thirdparty.codehaus.jackson.map.ObjectMapper;
+import org.opensearch.hadoop.util.FastByteArrayInputStream;
+import org.opensearch.hadoop.util.StringUtils;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class BulkResponseParserTest {
+
+    private final BulkResponseParser parser = new BulkResponseParser(new ObjectMapper(), new ErrorExtractor());
+
+    private Iterator<BulkResponseParser.Item> parse(String json) {
+        return parser.parse(new FastByteArrayInputStream(StringUtils.toUTF(json)));
+    }
+
+    @Test
+    public void testNoErrorsSkipsItems() throws Exception {
+        Iterator<BulkResponseParser.Item> items = parse("{\"took\":3,\"errors\":false,\"items\":[" +
+                "{\"index\":{\"_index\":\"idx\",\"_id\":\"1\",\"status\":201}}," +
+                "{\"index\":{\"_index\":\"idx\",\"_id\":\"2\",\"status\":201}}]}");
+        assertFalse(items.hasNext());
+    }
+
+    @Test
+    public void testNoItems() throws Exception {
+        assertFalse(parse("{\"took\":3}").hasNext());
+    }
+
+    @Test
+    public void testItemsWithErrors() throws Exception {
+        Iterator<BulkResponseParser.Item> items = parse("{\"took\":3,\"errors\":true,\"items\":[" +
+                "{\"index\":{\"_index\":\"idx\",\"_id\":\"1\",\"_shards\":{\"total\":2,\"successful\":1,\"failed\":0},\"status\":201}}," +
+                "{\"create\":{\"_index\":\"idx\",\"_id\":\"2\",\"status\":409,\"error\":{\"type\":\"version_conflict_engine_exception\"," +
+                "\"reason\":\"document already exists\"}}}," +
+                "{\"update\":{\"_index\":\"idx\",\"_id\":\"3\",\"error\":\"legacy failure\"}}]}");
+
+        assertTrue(items.hasNext());
+        BulkResponseParser.Item item = items.next();
+        assertEquals(0, item.getPosition());
+        assertEquals(201, item.getStatus());
+        assertNull(item.getError());
+
+        assertTrue(items.hasNext());
+        item = items.next();
+        assertEquals(1, item.getPosition());
+        assertEquals(409, item.getStatus());
+        assertThat(item.getError(), instanceOf(OpenSearchHadoopRemoteException.class));
+        assertEquals("version_conflict_engine_exception", ((OpenSearchHadoopRemoteException) item.getError()).getType());
+        assertThat(item.getError().getMessage(), containsString("document already exists"));
+
+        assertTrue(items.hasNext());
+        item = items.next();
+        assertEquals(2, item.getPosition());
+        assertEquals(-1, item.getStatus());
+        assertThat(item.getError().getMessage(), containsString("legacy failure"));
+
+        assertFalse(items.hasNext());
+    }
+
+    @Test
+    public void testErrorsFlagAfterItems() throws Exception {
+        Iterator<BulkResponseParser.Item> items = parse("{\"items\":[{\"index\":{\"status\":429,\"error\":{\"type\":\"rejected\"," +
+                "\"reason\":\"busy\"}}}],\"errors\":true}");
+        assertTrue(items.hasNext());
+        assertEquals(429, items.next().getStatus());
+        assertFalse(items.hasNext());
+    }
+}
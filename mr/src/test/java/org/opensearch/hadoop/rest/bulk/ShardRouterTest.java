@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest.bulk;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.opensearch.hadoop.util.BytesArray;
+import org.opensearch.hadoop.util.BytesRef;
+import org.opensearch.hadoop.util.MurmurHash3;
+import org.opensearch.hadoop.util.StringUtils;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ShardRouterTest {
+
+    private static Map<Integer, String> nodes(int shards) {
+        Map<Integer, String> nodes = new HashMap<Integer, String>();
+        for (int i = 0; i < shards; i++) {
+            nodes.put(i, "node-" + i + ":9200");
+        }
+        return nodes;
+    }
+
+    // the header is split across several fragments, as the bulk factories assemble it
+    private static BytesRef entry(String entry) {
+        BytesRef ref = new BytesRef();
+        int split = Math.min(5, entry.length());
+        ref.add(entry.substring(0, split).getBytes(StringUtils.UTF_8));
+        ref.add(new BytesArray(entry.substring(split)));
+        return ref;
+    }
+
+    @Test
+    public void testShardId() {
+        // 5 shards default to 640 routing shards (5 * 2^7)
+        ShardRouter router = new ShardRouter(5, 640, 1, nodes(5));
+        for (String id : new String[] { "1", "abc", "hello", "été" }) {
+            int expected = Math.floorMod(MurmurHash3.hash(id), 640) / 128;
+            assertEquals(expected, router.shardId(id, null));
+            // routing takes precedence over the id
+            assertEquals(router.shardId(id, null), router.shardId("other", id));
+        }
+        assertEquals(-1, router.shardId(null, null));
+    }
+
+    @Test
+    public void testPartitionedRouting() {
+        ShardRouter router = new ShardRouter(4, 4, 2, nodes(4));
+        int offset = Math.floorMod(MurmurHash3.hash("doc"), 2);
+        assertEquals(Math.floorMod(MurmurHash3.hash("user") + offset, 4), router.shardId("doc", "user"));
+        // the id is needed to pick the partition
+        assertEquals(-1, router.shardId(null, "user"));
+    }
+
+    @Test
+    public void testTargetNode() {
+        ShardRouter router = new ShardRouter(3, 3, 1, nodes(3));
+        String expected = "node-" + router.shardId("42", null) + ":9200";
+        assertEquals(expected, router.targetNode(entry("{\"index\":{\"_id\":\"42\"}}\n{\"field\":1}\n")));
+
+        String routed = "node-" + router.shardId(null, "r1") + ":9200";
+        assertEquals(routed, router.targetNode(entry("{\"update\":{\"_id\":\"42\",\"routing\":\"r1\",\"retry_on_conflict\":3}}\n{\"doc\":{}}\n")));
+
+        // auto-generated ids are left to the server
+        assertNull(router.targetNode(entry("{\"index\":{}}\n{\"field\":1}\n")));
+        assertNull(router.targetNode(entry("not json")));
+    }
+
+    @Test
+    public void testCreate() {
+        Map<String, Object> settings = new HashMap<String, Object>();
+        settings.put("index.number_of_shards", "2");
+        Map<String, Object> metadata = new HashMap<String, Object>();
+        metadata.put("routing_num_shards", 1024);
+        metadata.put("settings", settings);
+
+        Map<Integer, String> primaries = new LinkedHashMap<Integer, String>();
+        for (int i = 0; i < 2; i++) {
+            primaries.put(i, "10.0.0." + i + ":9200");
+        }
+
+        ShardRouter router = ShardRouter.create(metadata, primaries);
+        assertEquals(2, router.getNumberOfShards());
+        int shard = Math.floorMod(MurmurHash3.hash("7"), 1024) / 512;
+        assertEquals("10.0.0." + shard + ":9200", router.targetNode(entry("{\"index\":{\"_id\":\"7\"}}\n{}\n")));
+
+        assertNull(ShardRouter.create(new HashMap<String, Object>(), primaries));
+    }
+
+    @Test
+    public void testLayout() {
+        Map<String, Object> settings = new HashMap<String, Object>();
+        settings.put("index.number_of_shards", "3");
+        settings.put("index.routing_partition_size", "2");
+        Map<String, Object> metadata = new HashMap<String, Object>();
+        metadata.put("routing_num_shards", 384);
+        metadata.put("settings", settings);
+
+        int[] layout = ShardRouter.layout(metadata);
+        assertArrayEquals(new int[] { 3, 384, 2 }, layout);
+        assertEquals(3, ShardRouter.create(layout, nodes(3)).getNumberOfShards());
+
+        assertNull(ShardRouter.layout(null));
+        assertNull(ShardRouter.create((int[]) null, nodes(3)));
+    }
+}
@@ -31,21 +31,16 @@ package org.opensearch.hadoop.rest.bulk.bwc;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 import com.google.common.base.Charsets;
+import org.opensearch.hadoop.rest.ErrorExtractor;
 import org.opensearch.hadoop.rest.Resource;
 import org.opensearch.hadoop.rest.RestClient;
 import org.opensearch.hadoop.rest.bulk.BulkOutputGenerator;
-import org.opensearch.hadoop.serialization.ParsingUtils;
-import org.opensearch.hadoop.serialization.json.JacksonJsonParser;
-import org.opensearch.hadoop.serialization.json.JsonFactory;
-import org.opensearch.hadoop.serialization.json.ObjectReader;
-import org.opensearch.hadoop.thirdparty.codehaus.jackson.JsonParser;
+import org.opensearch.hadoop.rest.bulk.BulkResponseParser;
 import org.opensearch.hadoop.thirdparty.codehaus.jackson.map.DeserializationConfig;
 import org.opensearch.hadoop.thirdparty.codehaus.jackson.map.ObjectMapper;
 import org.opensearch.hadoop.thirdparty.codehaus.jackson.map.SerializationConfig;
@@ -177,15 +172,8 @@ public abstract class BulkOutputGeneratorBase implements BulkOutputGenerator {
         sb.append("\n").append(getTail());
         byte[] bytes = sb.toString().getBytes(Charsets.UTF_8);
 
-        Iterator<Map> entries;
-
-        ObjectReader r = JsonFactory.objectReader(mapper, Map.class);
-        JsonParser parser = mapper.getJsonFactory().createJsonParser(new FastByteArrayInputStream(bytes));
-        if (ParsingUtils.seek(new JacksonJsonParser(parser), "items") == null) {
-            entries = Collections.<Map>emptyList().iterator();
-        } else {
-            entries = r.readValues(parser);
-        }
+        Iterator<BulkResponseParser.Item> entries = new BulkResponseParser(mapper, new ErrorExtractor())
+                .parse(new FastByteArrayInputStream(bytes));
 
         resource = null;
         took = 0L;
@@ -29,27 +29,41 @@
 
 package org.opensearch.hadoop.rest.commonshttp;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.UnknownHostException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocketFactory;
 
 import org.opensearch.hadoop.cfg.ConfigurationOptions;
 import org.opensearch.hadoop.cfg.Settings;
 import org.opensearch.hadoop.rest.Request;
+import org.opensearch.hadoop.rest.Response;
 import org.opensearch.hadoop.rest.SimpleRequest;
+import org.opensearch.hadoop.rest.stats.Stats;
+import org.opensearch.hadoop.rest.stats.StatsAware;
 import org.opensearch.hadoop.thirdparty.apache.commons.httpclient.ConnectTimeoutException;
 import org.opensearch.hadoop.thirdparty.apache.commons.httpclient.params.HttpConnectionParams;
 import org.opensearch.hadoop.thirdparty.apache.commons.httpclient.protocol.Protocol;
 import org.opensearch.hadoop.thirdparty.apache.commons.httpclient.protocol.ProtocolSocketFactory;
+import org.opensearch.hadoop.util.BytesArray;
+import org.opensearch.hadoop.util.IOUtils;
+import org.opensearch.hadoop.util.StringUtils;
 import org.opensearch.hadoop.util.TestSettings;
 import org.hamcrest.Matchers;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.sameInstance;
@@ -144,4 +158,140 @@ public class CommonsHttpTransportTests {
         }
         fail("Should not be able to connect to TEST_NET_1");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCompression() throws Exception {
+        final String payload = "{\"index\":{}}\n{\"field\":\"value value value value value value value value\"}\n";
+        final String reply = "{\"took\":1,\"errors\":false,\"items\":[{\"index\":{\"status\":201}},{\"index\":{\"status\":201}}]}";
+        final String[] received = new String[2];
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                received[0] = exchange.getRequestHeaders().getFirst("Content-Encoding");
+                received[1] = IOUtils.asString(new GZIPInputStream(exchange.getRequestBody()));
+
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                GZIPOutputStream gzip = new GZIPOutputStream(compressed);
+                gzip.write(StringUtils.toUTF(reply));
+                gzip.close();
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+                exchange.sendResponseHeaders(200, compressed.size());
+                exchange.getResponseBody().write(compressed.toByteArray());
+                exchange.close();
+            }
+        });
+        server.start();
+
+        try {
+            Settings testSettings = new TestSettings();
+            testSettings.setProperty(ConfigurationOptions.OPENSEARCH_HTTP_COMPRESSION, "true");
+            CommonsHttpTransport transport = new CommonsHttpTransport(testSettings,
+                    "127.0.0.1:" + server.getAddress().getPort());
+            try {
+                Response response = transport.execute(new SimpleRequest(Request.Method.POST, null, "/_bulk", null,
+                        new BytesArray(payload)));
+                assertEquals("gzip", received[0]);
+                assertEquals(payload, received[1]);
+                assertEquals(reply, IOUtils.asString(response.body()));
+
+                Stats stats = ((StatsAware) response.body()).stats();
+                assertEquals(reply.length(), stats.bytesReceived);
+                assertThat(stats.netBytesReceived, Matchers.greaterThan(0L));
+                assertThat(stats.netBytesReceived, Matchers.not(stats.bytesReceived));
+                response.body().close();
+
+                assertThat(transport.stats().netBytesSent, Matchers.greaterThan(0L));
+                assertThat(transport.stats().netBytesSent, Matchers.lessThan((long) payload.length()));
+            } finally {
+                transport.close();
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testOnlyBulkRequestsAreCompressed() throws Exception {
+        final String query = "{\"query\":{\"match_all\":{}}}";
+        final String[] received = new String[2];
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                received[0] = exchange.getRequestHeaders().getFirst("Content-Encoding");
+                received[1] = IOUtils.asString(exchange.getRequestBody());
+                byte[] reply = StringUtils.toUTF("{}");
+                exchange.sendResponseHeaders(200, reply.length);
+                exchange.getResponseBody().write(reply);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        try {
+            Settings testSettings = new TestSettings();
+            testSettings.setProperty(ConfigurationOptions.OPENSEARCH_HTTP_COMPRESSION, "true");
+            CommonsHttpTransport transport = new CommonsHttpTransport(testSettings,
+                    "127.0.0.1:" + server.getAddress().getPort());
+            try {
+                Response response = transport.execute(new SimpleRequest(Request.Method.POST, null, "/index/_search", null,
+                        new BytesArray(query)));
+                assertEquals(null, received[0]);
+                assertEquals(query, received[1]);
+                response.body().close();
+            } finally {
+                transport.close();
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testCompressionWithEmptyBody() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+                // one connection per request, to not depend on how the bodiless responses leave it
+                exchange.getResponseHeaders().add("Connection", "close");
+                if ("HEAD".equals(exchange.getRequestMethod())) {
+                    exchange.sendResponseHeaders(200, -1);
+                } else {
+                    // chunked, hence without a length known upfront
+                    exchange.sendResponseHeaders(200, 0);
+                }
+                exchange.close();
+            }
+        });
+        server.start();
+
+        try {
+            Settings testSettings = new TestSettings();
+            testSettings.setProperty(ConfigurationOptions.OPENSEARCH_HTTP_COMPRESSION, "true");
+            CommonsHttpTransport transport = new CommonsHttpTransport(testSettings,
+                    "127.0.0.1:" + server.getAddress().getPort());
+            try {
+                Response head = transport.execute(new SimpleRequest(Request.Method.HEAD, null, "/index"));
+                assertEquals(200, head.status());
+                if (head.body() != null) {
+                    assertEquals("", IOUtils.asString(head.body()));
+                    head.body().close();
+                }
+
+                Response get = transport.execute(new SimpleRequest(Request.Method.GET, null, "/index"));
+                assertEquals(200, get.status());
+                assertEquals("", IOUtils.asString(get.body()));
+                get.body().close();
+            } finally {
+                transport.close();
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -49,7 +49,7 @@ public class RandomQueryBuilders {
         if (level > MAX_LEVEL) {
             return MATCH_ALL;
         }
-        int next = rand.nextInt(7);
+        int next = rand.nextInt(11);
         switch (next) {
             case 0:
                 return randomBoolQuery(rand, level);
@@ -65,6 +65,14 @@ public class RandomQueryBuilders {
                 return randomTermQuery(rand, level);
             case 6:
                 return randomConstantScoreQuery(rand, level);
+            case 7:
+                return randomTermsQuery(rand, level);
+            case 8:
+                return randomRangeQuery(rand, level);
+            case 9:
+                return randomPrefixQuery(rand, level);
+            case 10:
+                return randomExistsQuery(rand, level);
             default:
                 throw new IllegalArgumentException();
         }
@@ -77,6 +85,38 @@ public class RandomQueryBuilders {
         return termQuery;
     }
 
+    static QueryBuilder randomTermsQuery(Random rand, int level) {
+        TermsQueryBuilder termsQuery = new TermsQueryBuilder();
+        termsQuery.field(Integer.toString(rand.nextInt()));
+        int numTerms = rand.nextInt(3) + 1;
+        for (int i = 0; i < numTerms; i++) {
+            termsQuery.term(Integer.toString(rand.nextInt()));
+        }
+        return termsQuery;
+    }
+
+    static QueryBuilder randomRangeQuery(Random rand, int level) {
+        RangeQueryBuilder rangeQuery = new RangeQueryBuilder();
+        rangeQuery.field(Integer.toString(rand.nextInt()));
+        if (rand.nextBoolean()) {
+            rangeQuery.gte(Integer.toString(rand.nextInt()));
+        } else {
+            rangeQuery.gt(Integer.toString(rand.nextInt()));
+        }
+        if (rand.nextBoolean()) {
+            rangeQuery.lte(Integer.toString(rand.nextInt()));
+        }
+        return rangeQuery;
+    }
+
+    static QueryBuilder randomPrefixQuery(Random rand, int level) {
+        return new PrefixQueryBuilder().field(Integer.toString(rand.nextInt())).prefix(Integer.toString(rand.nextInt()));
+    }
+
+    static QueryBuilder randomExistsQuery(Random rand, int level) {
+        return new ExistsQueryBuilder().field(Integer.toString(rand.nextInt()));
+    }
+
     static QueryBuilder randomFilteredQuery(Random rand, int level) {
         FilteredQueryBuilder query = new FilteredQueryBuilder();
         query.query(randomQuery(rand, level+1));
@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest.stats;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0d, histogram.getMean(), 0d);
+        assertEquals(0, histogram.percentile(99));
+        assertEquals(0, histogram.countAtOrBelow(100));
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+        assertEquals(10, histogram.getCount());
+        assertEquals(55, histogram.getTotal());
+        assertEquals(1, histogram.getMin());
+        assertEquals(10, histogram.getMax());
+        assertEquals(5.5d, histogram.getMean(), 0d);
+        assertEquals(5, histogram.percentile(50));
+        assertEquals(9, histogram.percentile(90));
+        assertEquals(10, histogram.percentile(100));
+        assertEquals(1, histogram.percentile(0));
+        assertEquals(3, histogram.countAtOrBelow(3));
+    }
+
+    @Test
+    public void testNegativeValuesAreRecordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.percentile(50));
+    }
+
+    @Test
+    public void testBucketPrecision() {
+        for (long value : new long[] { 16, 17, 31, 32, 100, 999, 1000, 1024, 65535, 123456789L }) {
+            int bucket = LatencyHistogram.bucket(value);
+            long highest = LatencyHistogram.highestValue(bucket);
+            assertTrue("value " + value + " above its bucket", value <= highest);
+            assertTrue("value " + value + " below its bucket", value > LatencyHistogram.highestValue(bucket - 1));
+            assertTrue("bucket of " + value + " too wide", (highest - value) <= value / 16);
+        }
+    }
+
+    @Test
+    public void testBucketsAreContiguous() {
+        for (long value = 0; value < 100000; value++) {
+            int bucket = LatencyHistogram.bucket(value);
+            if (value > 0) {
+                int previous = LatencyHistogram.bucket(value - 1);
+                assertTrue(bucket == previous || bucket == previous + 1);
+            }
+        }
+    }
+
+    @Test
+    public void testHugeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(1, histogram.getCount());
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+        assertEquals(Long.MAX_VALUE, histogram.percentile(50));
+    }
+
+    @Test
+    public void testPercentileIsCappedToMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1000);
+        assertEquals(1000, histogram.percentile(99));
+    }
+
+    @Test
+    public void testCountAtOrBelow() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5);
+        histogram.record(50);
+        histogram.record(500);
+        histogram.record(5000);
+        histogram.record(50000);
+        assertEquals(1, histogram.countAtOrBelow(10));
+        assertEquals(2, histogram.countAtOrBelow(100));
+        assertEquals(3, histogram.countAtOrBelow(1000));
+        assertEquals(4, histogram.countAtOrBelow(10000));
+        assertEquals(5, histogram.countAtOrBelow(100000));
+    }
+
+    @Test
+    public void testAggregate() {
+        LatencyHistogram first = new LatencyHistogram();
+        first.record(10);
+        first.record(20);
+        LatencyHistogram second = new LatencyHistogram();
+        second.record(1000);
+
+        LatencyHistogram merged = new LatencyHistogram().aggregate(first).aggregate(new LatencyHistogram()).aggregate(second);
+        assertEquals(3, merged.getCount());
+        assertEquals(1030, merged.getTotal());
+        assertEquals(10, merged.getMin());
+        assertEquals(1000, merged.getMax());
+        assertEquals(20, merged.percentile(50));
+        assertEquals(1000, merged.percentile(99));
+
+        // the sources are left untouched
+        assertEquals(2, first.getCount());
+        merged.record(1);
+        assertEquals(2, first.getCount());
+        assertEquals(1, new LatencyHistogram(second).getCount());
+    }
+}
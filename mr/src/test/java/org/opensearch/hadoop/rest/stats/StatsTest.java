@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.rest.stats;
+
+import org.opensearch.hadoop.mr.Counter;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class StatsTest {
+
+    private static Stats sample() {
+        Stats stats = new Stats();
+        stats.docsSent = 10;
+        stats.bytesSent = 2000;
+        stats.bulkTotalTime = 500;
+        stats.serializationTotalTime = 7;
+        stats.bulkLatency.record(5);
+        stats.bulkLatency.record(300);
+        stats.nodeLatency("node-1").record(5);
+        stats.recordBulkErrors("version_conflict_engine_exception", 2);
+        stats.recordBulkErrors("http_429", 1);
+        return stats;
+    }
+
+    @Test
+    public void testCopy() {
+        Stats original = sample();
+        Stats copy = new Stats(original);
+        assertEquals(7, copy.serializationTotalTime);
+        assertEquals(2, copy.bulkLatency.getCount());
+        assertEquals(1, copy.nodeLatency("node-1").getCount());
+        assertEquals(3, copy.bulkErrorsTotal());
+
+        // the distributions are not shared
+        copy.bulkLatency.record(1);
+        copy.recordBulkErrors("http_429", 1);
+        assertEquals(2, original.bulkLatency.getCount());
+        assertEquals(1, original.bulkErrors(Stats.REJECTION_ERRORS));
+    }
+
+    @Test
+    public void testAggregate() {
+        Stats other = sample();
+        other.nodeLatency("node-2").record(50);
+        other.recordBulkErrors("mapper_parsing_exception", 4);
+
+        Stats stats = sample().aggregate(other).aggregate(null);
+        assertEquals(20, stats.docsSent);
+        assertEquals(14, stats.serializationTotalTime);
+        assertEquals(4, stats.bulkLatency.getCount());
+        assertEquals(2, stats.nodeLatency("node-1").getCount());
+        assertEquals(1, stats.nodeLatency("node-2").getCount());
+        assertEquals(4, stats.bulkErrors(Stats.VERSION_CONFLICT_ERRORS));
+        assertEquals(2, stats.bulkErrors(Stats.REJECTION_ERRORS));
+        assertEquals(10, stats.bulkErrorsTotal());
+    }
+
+    @Test
+    public void testRates() {
+        Stats stats = sample();
+        assertEquals(4000d, stats.bulkBytesPerSecond(), 0d);
+        assertEquals(20d, stats.bulkDocsPerSecond(), 0d);
+        assertEquals(0d, stats.scrollDocsPerSecond(), 0d);
+    }
+
+    @Test
+    public void testCounters() {
+        Stats stats = sample();
+        stats.recordBulkErrors("mapper_parsing_exception", 4);
+        assertEquals(1, Counter.BULK_LATENCY_UNDER_10MS.get(stats));
+        assertEquals(1, Counter.BULK_LATENCY_UNDER_100MS.get(stats));
+        assertEquals(2, Counter.BULK_LATENCY_UNDER_1S.get(stats));
+        assertEquals(0, Counter.BULK_LATENCY_OVER_10S.get(stats));
+        assertEquals(1, Counter.BULK_REJECTIONS.get(stats));
+        assertEquals(2, Counter.BULK_VERSION_CONFLICTS.get(stats));
+        assertEquals(4, Counter.BULK_OTHER_ERRORS.get(stats));
+    }
+}
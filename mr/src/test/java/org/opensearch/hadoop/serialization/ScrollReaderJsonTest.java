@@ -40,6 +40,8 @@ import org.opensearch.hadoop.serialization.builder.JdkValueReader;
 import org.opensearch.hadoop.serialization.dto.mapping.FieldParser;
 import org.opensearch.hadoop.serialization.dto.mapping.MappingSet;
 import org.opensearch.hadoop.thirdparty.codehaus.jackson.map.ObjectMapper;
+import org.opensearch.hadoop.util.FastByteArrayInputStream;
+import org.opensearch.hadoop.util.StringUtils;
 import org.opensearch.hadoop.util.TestSettings;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -179,6 +181,19 @@ public class ScrollReaderJsonTest {
         }
     }
 
+    @Test
+    public void testPointInTimeSortValues() throws IOException {
+        String response = "{\"pit_id\":\"pit-2\",\"hits\":{\"total\":{\"value\":2,\"relation\":\"eq\"},\"hits\":[" +
+                "{\"_index\":\"idx\",\"_id\":\"1\",\"_score\":null,\"_source\":{\"a\":1},\"sort\":[3]}," +
+                "{\"_index\":\"idx\",\"_id\":\"2\",\"_score\":null,\"_source\":{\"a\":2},\"sort\":[\"b\",5]}]}}";
+        ScrollReader.Scroll scroll = reader.readScroll(new FastByteArrayInputStream(StringUtils.toUTF(response)));
+        assertEquals(2, scroll.getHits().size());
+        assertEquals(Arrays.<Object>asList("b", 5), scroll.getSearchAfter());
+
+        Map value = mapper.readValue(scroll.getHits().get(1)[1].toString(), Map.class);
+        assertEquals(2, value.get("a"));
+    }
+
     @Test
     public void testScrollMultiValueList() throws IOException {
         InputStream stream = getClass().getResourceAsStream(scrollData("list"));
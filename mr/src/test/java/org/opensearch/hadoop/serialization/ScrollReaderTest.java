@@ -33,6 +33,7 @@ import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -49,7 +50,9 @@ import org.opensearch.hadoop.serialization.dto.mapping.MappingSet;
 import org.opensearch.hadoop.serialization.handler.read.DeserializationErrorHandler;
 import org.opensearch.hadoop.serialization.handler.read.DeserializationFailure;
 import org.opensearch.hadoop.serialization.handler.read.impl.DeserializationHandlerLoader;
+import org.opensearch.hadoop.util.FastByteArrayInputStream;
 import org.opensearch.hadoop.util.ObjectUtils;
+import org.opensearch.hadoop.util.StringUtils;
 import org.opensearch.hadoop.util.TestSettings;
 import org.joda.time.format.ISODateTimeFormat;
 import org.junit.Test;
@@ -149,6 +152,185 @@ public class ScrollReaderTest {
         assertEquals(Short.valueOf((short) 125), value);
     }
 
+    @Test
+    public void testPointInTimeSortValues() throws IOException {
+        String response = "{\"pit_id\":\"pit-2\",\"took\":1,\"timed_out\":false,\"hits\":{\"total\":{\"value\":2,\"relation\":\"eq\"},\"hits\":[" +
+                "{\"_index\":\"idx\",\"_id\":\"1\",\"_score\":null,\"_source\":{\"a\":1},\"sort\":[3]}," +
+                "{\"_index\":\"idx\",\"_id\":\"2\",\"_score\":null,\"_source\":{\"a\":2},\"sort\":[\"x\",8589934592,true]}]}}";
+        ScrollReader.Scroll scroll = reader.read(new FastByteArrayInputStream(StringUtils.toUTF(response)));
+        assertEquals("pit-2", scroll.getScrollId());
+        assertEquals(2, scroll.getHits().size());
+        assertEquals(Arrays.<Object>asList("x", 8589934592L, true), scroll.getSearchAfter());
+    }
+
+    @Test
+    public void testPlainSearch() throws IOException {
+        String response = "{\"took\":1,\"timed_out\":false,\"hits\":{\"total\":{\"value\":5,\"relation\":\"eq\"},\"hits\":[" +
+                "{\"_index\":\"idx\",\"_id\":\"1\",\"_score\":null,\"_source\":{\"a\":1},\"sort\":[3]}," +
+                "{\"_index\":\"idx\",\"_id\":\"2\",\"_score\":null,\"_source\":{\"a\":2},\"sort\":[2]}]}}";
+        ScrollReader.Scroll scroll = reader.readSearch(new FastByteArrayInputStream(StringUtils.toUTF(response)));
+        assertNull(scroll.getScrollId());
+        assertEquals(5, scroll.getTotalHits());
+        assertEquals(2, scroll.getHits().size());
+        assertEquals("1", scroll.getHits().get(0)[0]);
+        assertNull(scroll.getSearchAfter());
+    }
+
+    @Test
+    public void testStreamedScrollMatchesBufferedOne() throws IOException {
+        ScrollReaderConfigBuilder scrollReaderConfig = getScrollReaderCfg().setResolvedMapping(getMappingSet("source").getResolvedView());
+
+        List<Object[]> buffered = new ScrollReader(scrollReaderConfig).read(getClass().getResourceAsStream(scrollData("source"))).getHits();
+        ScrollReader.Scroll streamed = new ScrollReader(scrollReaderConfig).readScroll(getClass().getResourceAsStream(scrollData("source")));
+
+        assertNotNull(streamed.getScrollId());
+        assertEquals(buffered.size(), streamed.getHits().size());
+        for (int i = 0; i < buffered.size(); i++) {
+            assertTrue(Arrays.deepEquals(buffered.get(i), streamed.getHits().get(i)));
+        }
+    }
+
+    @Test(expected = OpenSearchHadoopParsingException.class)
+    public void testStreamedScrollBreaksOnInvalidMapping() throws IOException {
+        ScrollReaderConfigBuilder scrollReaderConfig = getScrollReaderCfg().setResolvedMapping(getMappingSet("numbers-as-strings").getResolvedView());
+        new ScrollReader(scrollReaderConfig).readScroll(getClass().getResourceAsStream(scrollData("numbers-as-strings")));
+        fail("Should not be able to parse string as long");
+    }
+
+    @Test
+    public void testStreamedPointInTime() throws IOException {
+        String response = "{\"pit_id\":\"pit-2\",\"hits\":{\"total\":{\"value\":2,\"relation\":\"eq\"},\"hits\":[" +
+                "{\"_index\":\"idx\",\"_id\":\"1\",\"_score\":null,\"_source\":{\"a\":1},\"sort\":[3]}," +
+                "{\"_index\":\"idx\",\"_id\":\"2\",\"_score\":null,\"_source\":{\"a\":2},\"sort\":[5]}]}}";
+        ScrollReader.Scroll scroll = reader.readScroll(new FastByteArrayInputStream(StringUtils.toUTF(response)));
+        assertEquals(2, scroll.getHits().size());
+        assertEquals(Arrays.<Object>asList(5), scroll.getSearchAfter());
+    }
+
+    @Test
+    public void testPointInTimeSortValuesWithoutSource() throws IOException {
+        String response = "{\"pit_id\":\"pit-2\",\"hits\":{\"total\":{\"value\":1,\"relation\":\"eq\"},\"hits\":[" +
+                "{\"_index\":\"idx\",\"_id\":\"1\",\"_score\":null,\"sort\":[\"a\",3]}]}}";
+        ScrollReader.Scroll scroll = reader.readScroll(new FastByteArrayInputStream(StringUtils.toUTF(response)));
+        assertEquals(1, scroll.getHits().size());
+        assertEquals(Arrays.<Object>asList("a", 3), scroll.getSearchAfter());
+    }
+
+    @Test(expected = OpenSearchHadoopParsingException.class)
+    public void testPointInTimeWithoutSortValues() throws IOException {
+        String response = "{\"pit_id\":\"pit-2\",\"hits\":{\"total\":{\"value\":1,\"relation\":\"eq\"},\"hits\":[" +
+                "{\"_index\":\"idx\",\"_id\":\"1\",\"_score\":null,\"_source\":{\"a\":1}}]}}";
+        reader.readScroll(new FastByteArrayInputStream(StringUtils.toUTF(response)));
+    }
+
+    @Test
+    public void testStreamedScroll() throws IOException {
+        String response = "{\"pit_id\":\"pit-3\",\"hits\":{\"total\":{\"value\":2,\"relation\":\"eq\"},\"hits\":[" +
+                "{\"_index\":\"idx\",\"_id\":\"1\",\"_score\":null,\"_source\":{\"a\":1},\"sort\":[1]}," +
+                "{\"_index\":\"idx\",\"_id\":\"2\",\"_score\":null,\"_source\":{\"a\":2},\"sort\":[2]}]}}";
+        final int[] pages = new int[1];
+        ScrollReader.Scroll scroll = reader.streamScroll(new FastByteArrayInputStream(StringUtils.toUTF(response)),
+                new ScrollReader.PageListener() {
+                    @Override
+                    public void pageRead(long parseNanos) {
+                        pages[0]++;
+                    }
+                });
+
+        assertEquals("pit-3", scroll.getScrollId());
+        assertEquals(2, scroll.getTotalHits());
+        Iterator<Object[]> hits = scroll.iterator();
+        assertTrue(hits.hasNext());
+        assertEquals("1", hits.next()[0]);
+        // the second hit is not parsed yet
+        assertEquals(0, pages[0]);
+        assertFalse(scroll.isConcluded());
+
+        assertTrue(hits.hasNext());
+        assertEquals("2", hits.next()[0]);
+        assertFalse(hits.hasNext());
+        assertEquals(1, pages[0]);
+        assertEquals(2, scroll.getNumberOfHits());
+        assertEquals(Arrays.<Object>asList(2), scroll.getSearchAfter());
+
+        scroll.close();
+        assertEquals(1, pages[0]);
+    }
+
+    @Test
+    public void testStreamedScrollClosedEarly() throws IOException {
+        String response = "{\"_scroll_id\":\"abc\",\"hits\":{\"total\":2,\"hits\":[" +
+                "{\"_index\":\"idx\",\"_id\":\"1\",\"_score\":1.0,\"_source\":{\"a\":1}}," +
+                "{\"_index\":\"idx\",\"_id\":\"2\",\"_score\":1.0,\"_source\":{\"a\":2}}]}}";
+        final int[] pages = new int[1];
+        ScrollReader.Scroll scroll = reader.streamScroll(new FastByteArrayInputStream(StringUtils.toUTF(response)),
+                new ScrollReader.PageListener() {
+                    @Override
+                    public void pageRead(long parseNanos) {
+                        pages[0]++;
+                    }
+                });
+
+        Iterator<Object[]> hits = scroll.iterator();
+        assertEquals("1", hits.next()[0]);
+        scroll.close();
+        assertEquals(1, pages[0]);
+        assertFalse(hits.hasNext());
+    }
+
+    @Test
+    public void testStreamedScrollReadWholePages() throws IOException {
+        String response = "{\"_scroll_id\":\"abc\",\"hits\":{\"total\":2,\"hits\":[" +
+                "{\"_index\":\"idx\",\"_id\":\"1\",\"_score\":1.0,\"_source\":{\"a\":1}}," +
+                "{\"_index\":\"idx\",\"_id\":\"2\",\"_score\":1.0,\"_source\":{\"a\":2}}]}}";
+        final int[] pages = new int[1];
+        reader = new ScrollReader(getScrollReaderCfg().setReadWholePages(true));
+        ScrollReader.Scroll scroll = reader.streamScroll(new FastByteArrayInputStream(StringUtils.toUTF(response)),
+                new ScrollReader.PageListener() {
+                    @Override
+                    public void pageRead(long parseNanos) {
+                        pages[0]++;
+                    }
+                });
+
+        // parsed upfront
+        assertEquals(1, pages[0]);
+        assertEquals(2, scroll.getHits().size());
+        assertEquals("2", scroll.getHits().get(1)[0]);
+    }
+
+    @Test
+    public void testStreamedEmptyScroll() throws IOException {
+        String response = "{\"_scroll_id\":\"abc\",\"hits\":{\"total\":0,\"hits\":[]}}";
+        final int[] pages = new int[1];
+        ScrollReader.Scroll scroll = reader.streamScroll(new FastByteArrayInputStream(StringUtils.toUTF(response)),
+                new ScrollReader.PageListener() {
+                    @Override
+                    public void pageRead(long parseNanos) {
+                        pages[0]++;
+                    }
+                });
+
+        assertTrue(scroll.isConcluded());
+        assertFalse(scroll.iterator().hasNext());
+        assertEquals(1, pages[0]);
+    }
+
+    @Test
+    public void testDocValues() throws IOException {
+        String response = "{\"_scroll_id\":\"abc\",\"hits\":{\"total\":2,\"hits\":[" +
+                "{\"_index\":\"idx\",\"_id\":\"1\",\"_score\":1.0,\"fields\":{\"price\":[42],\"tags\":[\"a\",\"b\"]}}," +
+                "{\"_index\":\"idx\",\"_id\":\"2\",\"_score\":1.0,\"fields\":{\"price\":[7]}}]}}";
+        reader = new ScrollReader(getScrollReaderCfg().setReadDocValues(true));
+        List<Object[]> hits = reader.read(new FastByteArrayInputStream(StringUtils.toUTF(response))).getHits();
+
+        assertEquals(2, hits.size());
+        // single values are unwrapped, multiple ones kept as arrays
+        assertEquals(42, ((Map) hits.get(0)[1]).get("price"));
+        assertEquals(Arrays.asList("a", "b"), ((Map) hits.get(0)[1]).get("tags"));
+        assertEquals(7, ((Map) hits.get(1)[1]).get("price"));
+    }
+
     @Test
     public void testScrollWithSource() throws IOException {
         reader = new ScrollReader(getScrollReaderCfg());
@@ -384,6 +566,28 @@ public class ScrollReaderTest {
         assertEquals(3L, JsonUtils.query("a").get("b").get(1).get("f").get(0).apply(scroll.getHits().get(3)[1]));
     }
 
+    @Test
+    public void testFieldsResolvedOnceAcrossPages() throws IOException {
+        MappingSet mappings = getMappingSet("nested-data");
+
+        Settings testSettings = new TestSettings();
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_READ_FIELD_AS_ARRAY_INCLUDE, "a.b.d:2,a.b.f");
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_READ_FIELD_EXCLUDE, "a.b.e");
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_READ_METADATA, "" + readMetadata);
+        testSettings.setProperty(ConfigurationOptions.OPENSEARCH_READ_METADATA_FIELD, "" + metadataField);
+
+        JdkValueReader valueReader = ObjectUtils.instantiate(JdkValueReader.class.getName(), testSettings);
+        ScrollReader reader = new ScrollReader(ScrollReaderConfigBuilder.builder(valueReader, mappings.getResolvedView(), testSettings));
+
+        // the second page goes through the fields resolved by the first one
+        for (int page = 0; page < 2; page++) {
+            ScrollReader.Scroll scroll = reader.read(getClass().getResourceAsStream(scrollData("nested-data")));
+            assertEquals("howdy", JsonUtils.query("a").get("b").get(0).get("d").get(0).get(0).apply(scroll.getHits().get(2)[1]));
+            assertEquals(1L, JsonUtils.query("a").get("b").get(0).get("f").get(0).apply(scroll.getHits().get(3)[1]));
+            assertNull(JsonUtils.query("a").get("b").get(0).get("e").apply(scroll.getHits().get(3)[1]));
+        }
+    }
+
     @Test
     public void testScrollWithObjectFieldAndArrayIncludes() throws IOException {
         MappingSet mappings = getMappingSet("object-fields");
@@ -10,7 +10,9 @@
 
 package org.opensearch.hadoop.serialization.builder;
 
+import org.opensearch.hadoop.cfg.ConfigurationOptions;
 import org.opensearch.hadoop.serialization.Generator;
+import org.opensearch.hadoop.util.TestSettings;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
@@ -19,9 +21,13 @@ import java.sql.Timestamp;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.Date;
+import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class JdkValueWriterTest {
     @Test
@@ -54,4 +60,59 @@ public class JdkValueWriterTest {
         OffsetDateTime parsedDate = DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(actual, OffsetDateTime::from);
         assertEquals(123456789, parsedDate.getNano());
     }
-}
\ No newline at end of file
+
+    public static class UUIDWriter implements ValueWriter<UUID> {
+        @Override
+        public Result write(UUID object, Generator generator) {
+            generator.writeString("uuid:" + object);
+            return Result.SUCCESFUL();
+        }
+    }
+
+    @Test
+    public void testWriteUnknownType() {
+        JdkValueWriter jdkValueWriter = new JdkValueWriter();
+        UUID uuid = new UUID(1, 2);
+        Generator generator = Mockito.mock(Generator.class);
+        ValueWriter.Result result = jdkValueWriter.write(uuid, generator);
+        assertFalse(result.isSuccesful());
+        assertEquals(uuid, result.getUnknownValue());
+    }
+
+    @Test
+    public void testWriteCustomTypeFromSettings() {
+        TestSettings settings = new TestSettings();
+        settings.setProperty(ConfigurationOptions.OPENSEARCH_SERIALIZATION_WRITER_VALUE_TYPES,
+                UUID.class.getName() + ":" + UUIDWriter.class.getName());
+        JdkValueWriter jdkValueWriter = new JdkValueWriter();
+        jdkValueWriter.setSettings(settings);
+
+        UUID uuid = new UUID(1, 2);
+        Generator generator = Mockito.mock(Generator.class);
+        assertTrue(jdkValueWriter.write(Collections.singletonMap("id", uuid), generator).isSuccesful());
+        Mockito.verify(generator).writeFieldName("id");
+        Mockito.verify(generator).writeString("uuid:" + uuid);
+    }
+
+    @Test
+    public void testCustomWriterTakesPrecedence() {
+        JdkValueWriter jdkValueWriter = new JdkValueWriter();
+        jdkValueWriter.register(Number.class, new ValueWriter<Number>() {
+            @Override
+            public Result write(Number object, Generator generator) {
+                generator.writeString(object.toString());
+                return Result.SUCCESFUL();
+            }
+        });
+
+        Generator generator = Mockito.mock(Generator.class);
+        // matches subtypes as well
+        assertTrue(jdkValueWriter.write(1, generator).isSuccesful());
+        assertTrue(jdkValueWriter.write(2L, generator).isSuccesful());
+        Mockito.verify(generator).writeString("1");
+        Mockito.verify(generator).writeString("2");
+        // other types are left alone
+        assertTrue(jdkValueWriter.write("three", generator).isSuccesful());
+        Mockito.verify(generator).writeString("three");
+    }
+}
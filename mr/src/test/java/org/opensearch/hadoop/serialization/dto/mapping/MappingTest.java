@@ -31,6 +31,7 @@ package org.opensearch.hadoop.serialization.dto.mapping;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -68,6 +69,8 @@ import static org.opensearch.hadoop.serialization.FieldType.WILDCARD;
 
 import static org.opensearch.hadoop.serialization.dto.mapping.MappingUtils.findTypos;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
 
@@ -182,6 +185,63 @@ public class MappingTest {
         assertEquals(WILDCARD, props[15].type());
     }
 
+    @Test
+    public void testReadableFromDocValues() throws Exception {
+        Mapping mapping = ensureAndGet("index", "primitives", getMappingsForResource("primitives.json"));
+        // boolean, long, double, date and keyword
+        assertTrue(MappingUtils.readableFromDocValues(mapping, Arrays.asList("field01", "field05", "field07", "field09", "field12")));
+        // text
+        assertFalse(MappingUtils.readableFromDocValues(mapping, Arrays.asList("field05", "field11")));
+        // float, half float and scaled float doc values are rounded
+        assertFalse(MappingUtils.readableFromDocValues(mapping, Arrays.asList("field05", "field06")));
+        assertFalse(MappingUtils.readableFromDocValues(mapping, Arrays.asList("field05", "field13")));
+        assertFalse(MappingUtils.readableFromDocValues(mapping, Arrays.asList("field05", "field14")));
+        // unknown
+        assertFalse(MappingUtils.readableFromDocValues(mapping, Arrays.asList("field05", "field42")));
+        assertFalse(MappingUtils.readableFromDocValues(mapping, Collections.<String>emptyList()));
+    }
+
+    @Test
+    public void testKeywordsNotIndexedAsIs() throws Exception {
+        MappingSet mappings = getMappingsForResource("keyword-parameters.json");
+        Mapping mapping = ensureAndGet("index1", "data", mappings);
+        Field[] props = mapping.getFields();
+        assertEquals("plain", props[0].name());
+        assertTrue(props[0].indexedAsIs());
+        // ignore_above
+        assertEquals("truncated", props[1].name());
+        assertEquals(KEYWORD, props[1].type());
+        assertFalse(props[1].indexedAsIs());
+        // normalizer
+        assertEquals("normalized", props[2].name());
+        assertFalse(props[2].indexedAsIs());
+        assertEquals("number", props[4].name());
+        assertTrue(props[4].indexedAsIs());
+        assertTrue(props[4].hasDocValues());
+        // doc_values: false
+        assertEquals("stored", props[5].name());
+        assertFalse(props[5].hasDocValues());
+        assertTrue(props[5].isIndexed());
+        // index: false
+        assertEquals("unindexed", props[6].name());
+        assertFalse(props[6].isIndexed());
+        assertTrue(props[6].hasDocValues());
+
+        // only indexed as is in one of the indices
+        Field[] resolved = mappings.getResolvedView().getFields();
+        assertEquals("plain", resolved[0].name());
+        assertTrue(resolved[0].indexedAsIs());
+        assertEquals("partial", resolved[3].name());
+        assertFalse(resolved[3].indexedAsIs());
+
+        // no doc value past ignore_above while the normalized ones are returned
+        assertTrue(MappingUtils.readableFromDocValues(mapping, Arrays.asList("plain", "number")));
+        assertFalse(MappingUtils.readableFromDocValues(mapping, Arrays.asList("plain", "truncated")));
+        assertFalse(MappingUtils.readableFromDocValues(mapping, Arrays.asList("plain", "normalized")));
+        // no doc values at all
+        assertFalse(MappingUtils.readableFromDocValues(mapping, Arrays.asList("plain", "stored")));
+    }
+
     @Test
     public void testGeoParsingWithOptions() throws Exception {
         MappingSet mappings = getMappingsForResource("geo.json");
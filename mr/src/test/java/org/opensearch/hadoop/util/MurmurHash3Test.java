@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.hadoop.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class MurmurHash3Test {
+
+    @Test
+    public void testHash() {
+        // same values as the routing hash on the server side
+        assertEquals(0x5a0cb7c3, MurmurHash3.hash("hell"));
+        assertEquals(0xd7c31989, MurmurHash3.hash("hello"));
+        assertEquals(0x22ab2984, MurmurHash3.hash("hello w"));
+        assertEquals(0xdf0ca123, MurmurHash3.hash("hello wo"));
+        assertEquals(0xe7744d61, MurmurHash3.hash("hello wor"));
+        assertEquals(0xe07db09c, MurmurHash3.hash("The quick brown fox jumps over the lazy dog"));
+        assertEquals(0x4e63d2ad, MurmurHash3.hash("The quick brown fox jumps over the lazy cog"));
+    }
+}
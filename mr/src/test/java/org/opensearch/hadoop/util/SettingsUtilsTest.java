@@ -29,9 +29,12 @@
 package org.opensearch.hadoop.util;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.TreeMap;
 
 import org.opensearch.hadoop.cfg.PropertiesSettings;
+import org.opensearch.hadoop.cfg.Settings;
 import org.opensearch.hadoop.serialization.field.FieldFilter;
 import org.junit.Test;
 
@@ -119,4 +122,32 @@ public class SettingsUtilsTest {
         assertThat(filters.size(), equalTo(1));
         assertThat(filters.get(0), equalTo(new FieldFilter.NumberedInclude("a", 4)));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testWriteTargetShards() throws Exception {
+        PropertiesSettings settings = new PropertiesSettings();
+        assertThat(SettingsUtils.getWriteTargetShards(settings, "foo"), equalTo(null));
+
+        Map<Integer, String> primaries = new TreeMap<Integer, String>();
+        primaries.put(1, "[::1]:9200");
+        primaries.put(0, "10.0.0.1:9200");
+        SettingsUtils.setWriteTargetShards(settings, "foo", primaries);
+
+        Settings copy = new PropertiesSettings().load(settings.save());
+        assertThat(SettingsUtils.getWriteTargetShards(copy, "foo"), equalTo(primaries));
+        // only valid for the index they have been discovered for
+        assertThat(SettingsUtils.getWriteTargetShards(copy, "bar"), equalTo(null));
+    }
+
+    @Test
+    public void testWriteShardLayout() throws Exception {
+        PropertiesSettings settings = new PropertiesSettings();
+        assertThat(SettingsUtils.getWriteShardLayout(settings, "foo"), equalTo(null));
+
+        SettingsUtils.setWriteShardLayout(settings, "foo", new int[] { 5, 640, 2 });
+
+        Settings copy = new PropertiesSettings().load(settings.save());
+        assertThat(SettingsUtils.getWriteShardLayout(copy, "foo"), equalTo(new int[] { 5, 640, 2 }));
+        assertThat(SettingsUtils.getWriteShardLayout(copy, "bar"), equalTo(null));
+    }
+}
@@ -29,6 +29,7 @@
 package org.opensearch.hadoop.util;
 
 import java.io.ByteArrayOutputStream;
+import java.util.BitSet;
 
 import org.junit.After;
 import org.junit.Before;
@@ -123,4 +124,90 @@ public class TrackingBytesArrayTest {
         assertEquals(7, data.length());
         assertEquals(2, entry.length());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testRemoveWhileWalking() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            data.copyFrom(new BytesArray(Integer.toString(i)));
+        }
+        // acknowledge even entries, keep the odd ones - as done when walking a bulk response
+        int position = 0;
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Integer.toString(i), data.entry(position).toString());
+            if (i % 2 == 0) {
+                data.remove(position);
+            } else {
+                position++;
+            }
+        }
+        assertEquals(5, data.entries());
+        assertEquals(5, data.length());
+        assertEquals("13579", data.toString());
+
+        // walk again from the start
+        assertEquals("1", data.entry(0).toString());
+        assertEquals("9", data.entry(4).toString());
+        data.remove(4);
+        assertEquals("1357", data.toString());
+    }
+
+    @Test
+    public void testAddAfterRemoving() throws Exception {
+        data.copyFrom(new BytesArray("a"));
+        data.copyFrom(new BytesArray("bb"));
+        data.remove(0);
+        data.copyFrom(new BytesArray("ccc"));
+
+        assertEquals(2, data.entries());
+        assertEquals("ccc", data.entry(1).toString());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        data.writeTo(out);
+        assertEquals("bbccc", out.toString());
+    }
+
+    @Test
+    public void testLeftoversPosition() throws Exception {
+        data.copyFrom(new BytesArray("a"));
+        data.copyFrom(new BytesArray("bb"));
+        data.copyFrom(new BytesArray("ccc"));
+        data.remove(1);
+        data.copyFrom(new BytesArray("dddd"));
+
+        BitSet leftovers = data.leftoversPosition();
+        assertEquals(3, leftovers.cardinality());
+        assertTrue(leftovers.get(0));
+        assertFalse(leftovers.get(1));
+        assertTrue(leftovers.get(2));
+        assertTrue(leftovers.get(3));
+    }
+
+    @Test
+    public void testInputStreamAfterRemoving() throws Exception {
+        data.copyFrom(new BytesArray("a"));
+        data.copyFrom(new BytesArray("bb"));
+        data.copyFrom(new BytesArray("ccc"));
+        data.remove(1);
+
+        assertEquals("accc", IOUtils.asString(data.toInputStream()));
+    }
+
+    @Test
+    public void testGrowEntries() throws Exception {
+        data = new TrackingBytesArray(new BytesArray(256), 2);
+        for (int i = 0; i < 100; i++) {
+            data.copyFrom(new BytesArray("x"));
+        }
+        assertEquals(100, data.entries());
+        data.remove(99);
+        data.remove(0);
+        assertEquals(98, data.entries());
+        assertEquals(98, data.length());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testEntryOutOfBounds() throws Exception {
+        data.copyFrom(new BytesArray("a"));
+        data.remove(0);
+        data.entry(0);
+    }
+}
@@ -81,6 +81,9 @@ private[spark] abstract class AbstractOpenSearchRDD[T: ClassTag](
     cfg
   }
 
+  // created on the driver (since accumulators need to be registered), reported to by the tasks
+  private[spark] val metrics: Option[OpenSearchMetrics] = OpenSearchMetrics(sc, opensearchCfg)
+
   @transient private[spark] lazy val opensearchPartitions = {
     RestService.findPartitions(opensearchCfg, logger)
   }
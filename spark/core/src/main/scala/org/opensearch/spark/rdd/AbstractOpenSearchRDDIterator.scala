@@ -33,6 +33,7 @@ import org.apache.spark.TaskContext
 import org.apache.spark.TaskKilledException
 import org.opensearch.hadoop.cfg.Settings
 import org.opensearch.hadoop.rest.{PartitionDefinition, RestService}
+import org.opensearch.hadoop.rest.stats.Stats
 
 import java.util.Locale
 
@@ -50,6 +51,8 @@ private[spark] abstract class AbstractOpenSearchRDDIterator[T](
 
   private var initialized = false;
 
+  private var metrics: Option[OpenSearchMetrics] = None
+
   lazy val reader = {
      initialized = true
      val settings = partition.settings()
@@ -83,6 +86,11 @@ private[spark] abstract class AbstractOpenSearchRDDIterator[T](
     createValue(value)
   }
 
+  def reportTo(metrics: Option[OpenSearchMetrics]): this.type = {
+    this.metrics = metrics
+    this
+  }
+
   def closeIfNeeded(): Unit = {
     if (!closed) {
       close()
@@ -93,6 +101,7 @@ private[spark] abstract class AbstractOpenSearchRDDIterator[T](
   protected def close() = {
     if (initialized) {
       reader.close()
+      metrics.foreach(_.report(new Stats(reader.stats()).aggregate(reader.repository().stats())))
     }
   }
 
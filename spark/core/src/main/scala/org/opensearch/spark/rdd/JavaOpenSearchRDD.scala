@@ -46,7 +46,7 @@ private[spark] class JavaOpenSearchRDD[T](
   extends AbstractOpenSearchRDD[(String, T)](sc, config) {
 
   override def compute(split: Partition, context: TaskContext): JavaOpenSearchRDDIterator[T] = {
-    new JavaOpenSearchRDDIterator[T](context, split.asInstanceOf[OpenSearchPartition].opensearchPartition)
+    new JavaOpenSearchRDDIterator[T](context, split.asInstanceOf[OpenSearchPartition].opensearchPartition).reportTo(metrics)
   }
 }
 
@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.spark.rdd
+
+import JDKCollectionConvertersCompat.Converters._
+import org.apache.spark.SparkContext
+import org.apache.spark.util.LongAccumulator
+import org.opensearch.hadoop.cfg.Settings
+import org.opensearch.hadoop.mr.Counter
+import org.opensearch.hadoop.rest.stats.Stats
+
+import java.util.Locale
+
+/**
+ * Exposes the connector stats as (named) Spark accumulators, one per Hadoop {@link Counter}, so they show up
+ * per task and per stage in the Spark UI and can be read on the driver once the job completes.
+ * Created on the driver; the tasks report the stats of their repository when they complete.
+ */
+private[spark] class OpenSearchMetrics private (val accumulators: Map[Counter, LongAccumulator]) extends Serializable {
+
+  def report(stats: Stats): Unit = {
+    for ((counter, accumulator) <- accumulators) {
+      val value = counter.get(stats)
+      if (value != 0) {
+        accumulator.add(value)
+      }
+    }
+  }
+}
+
+private[spark] object OpenSearchMetrics {
+
+  def name(counter: Counter): String = "opensearch." + counter.name().toLowerCase(Locale.ROOT)
+
+  /**
+   * @return the metrics to report to, or None if they are disabled through the settings
+   */
+  def apply(sc: SparkContext, settings: Settings): Option[OpenSearchMetrics] = {
+    if (settings.getSparkMetricsAccumulators) {
+      Some(new OpenSearchMetrics(Counter.ALL.asScala.map(counter => counter -> sc.longAccumulator(name(counter))).toMap))
+    } else {
+      None
+    }
+  }
+}
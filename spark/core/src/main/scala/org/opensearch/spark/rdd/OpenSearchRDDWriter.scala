@@ -50,7 +50,8 @@ import scala.reflect.ClassTag
 
 
 private[spark] class OpenSearchRDDWriter[T: ClassTag](val serializedSettings: String,
-                                                      val runtimeMetadata: Boolean = false)
+                                                      val runtimeMetadata: Boolean = false,
+                                                      val metrics: Option[OpenSearchMetrics] = None)
   extends Serializable {
 
   @transient protected lazy val log: Log = LogFactory.getLog(this.getClass)
@@ -77,7 +78,10 @@ private[spark] class OpenSearchRDDWriter[T: ClassTag](val serializedSettings: St
     val writer = RestService.createWriter(settings, taskContext.partitionId.toLong, -1, log)
 
     val listener = new TaskCompletionListener {
-      override def onTaskCompletion(context: TaskContext): Unit = writer.close()
+      override def onTaskCompletion(context: TaskContext): Unit = {
+        writer.close()
+        metrics.foreach(_.report(writer.repository.stats()))
+      }
     }
     taskContext.addTaskCompletionListener(listener)
 
@@ -42,6 +42,7 @@ import org.opensearch.spark.cfg.SparkSettingsManager
 import org.opensearch.hadoop.cfg.PropertiesSettings
 import org.opensearch.hadoop.mr.security.HadoopUserProvider
 import org.opensearch.hadoop.rest.InitializationUtils
+import org.opensearch.hadoop.rest.RestService
 
 object OpenSearchSpark {
 
@@ -114,8 +115,11 @@ object OpenSearchSpark {
     InitializationUtils.discoverClusterInfo(config, LOG)
     InitializationUtils.checkIdForOperation(config)
     InitializationUtils.checkIndexExistence(config)
+    // spare the tasks the lookup of the target shards
+    RestService.discoverWriteTargetShards(config, LOG)
 
-    rdd.sparkContext.runJob(rdd, new OpenSearchRDDWriter(config.save(), hasMeta).write _)
+    val metrics = OpenSearchMetrics(rdd.sparkContext, config)
+    rdd.sparkContext.runJob(rdd, new OpenSearchRDDWriter(config.save(), hasMeta, metrics).write _)
   }
 
   // JSON variant
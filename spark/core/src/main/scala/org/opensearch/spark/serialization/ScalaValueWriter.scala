@@ -34,11 +34,13 @@ import org.opensearch.hadoop.OpenSearchHadoopIllegalArgumentException
 import org.opensearch.hadoop.serialization.Generator
 import org.opensearch.hadoop.serialization.builder.JdkValueWriter
 
-import scala.collection.immutable.Nil
+import scala.annotation.switch
 import scala.collection.{Map, mutable}
 
 class ScalaValueWriter(writeUnknownTypes: Boolean = false) extends JdkValueWriter(writeUnknownTypes) {
 
+  import ScalaValueWriter._
+
   /**
    * Used for tracking the serialization of nested POJOs that are treated
    * as JavaBeans. Alias for a mutable HashSet of type Any
@@ -60,16 +62,25 @@ class ScalaValueWriter(writeUnknownTypes: Boolean = false) extends JdkValueWrite
   }
 
   private def doWriteScala(value: Any, generator: Generator, parentField:String): Result = {
-    value match {
-      case null | None | () => generator.writeNull()
-      case Nil =>
-        generator.writeBeginArray(); generator.writeEndArray()
+    if (value == null) {
+      generator.writeNull()
+      return Result.SUCCESFUL()
+    }
+
+    val custom = customWriter(value.getClass)
+    if (custom != null) {
+      return custom.write(value.asInstanceOf[AnyRef], generator)
+    }
+
+    val kind: Int = KINDS.get(value.getClass)
+    (kind: @switch) match {
+      case NONE => generator.writeNull()
 
-      case Some(s: AnyRef) => return doWrite(s, generator, parentField)
+      case SOME => return doWrite(value.asInstanceOf[Some[_]].get, generator, parentField)
 
-      case m: Map[_, _] => {
+      case MAP => {
         generator.writeBeginObject()
-        for ((k, v) <- m) {
+        for ((k, v) <- value.asInstanceOf[Map[_, _]]) {
           if (shouldKeep(parentField, k.toString)) {
             val hasValue = Option(v) match {
               case Some(()) => false
@@ -89,9 +100,9 @@ class ScalaValueWriter(writeUnknownTypes: Boolean = false) extends JdkValueWrite
         generator.writeEndObject()
       }
 
-      case i: Traversable[_] => {
+      case TRAVERSABLE => {
         generator.writeBeginArray()
-        for (v <- i) {
+        for (v <- value.asInstanceOf[Traversable[_]]) {
           val result = doWrite(v, generator, parentField)
           if (!result.isSuccesful) {
             return result
@@ -100,13 +111,13 @@ class ScalaValueWriter(writeUnknownTypes: Boolean = false) extends JdkValueWrite
         generator.writeEndArray()
       }
 
-      case b: Array[Byte] => {
-        generator.writeBinary(b)
+      case BINARY => {
+        generator.writeBinary(value.asInstanceOf[Array[Byte]])
       }
 
-      case i: Array[_] => {
+      case ARRAY => {
         generator.writeBeginArray()
-        for (v <- i) {
+        for (v <- value.asInstanceOf[Array[_]]) {
           val result = doWrite(v, generator, parentField)
           if (!result.isSuccesful) {
             return result
@@ -115,7 +126,8 @@ class ScalaValueWriter(writeUnknownTypes: Boolean = false) extends JdkValueWrite
         generator.writeEndArray()
       }
 
-      case p: Product => {
+      case PRODUCT => {
+        val p = value.asInstanceOf[Product]
         // handle case class
         if (RU.isCaseClass(p)) {
           val result = doWrite(RU.caseClassValues(p), generator, parentField)
@@ -135,12 +147,12 @@ class ScalaValueWriter(writeUnknownTypes: Boolean = false) extends JdkValueWrite
         }
       }
 
-      case _ => {
-        // check if it's called by accident on a DataFrame/SchemaRDD (happens)
-        if (value.getClass().getName().startsWith("org.apache.spark.sql.")) {
-          throw new OpenSearchHadoopIllegalArgumentException("Spark SQL types are not handled through basic RDD saveToOpenSearch() calls; typically this is a mistake(as the SQL schema will be ignored). Use 'org.opensearch.spark.sql' package instead")
-        }
+      // check if it's called by accident on a DataFrame/SchemaRDD (happens)
+      case SPARK_SQL => {
+        throw new OpenSearchHadoopIllegalArgumentException("Spark SQL types are not handled through basic RDD saveToOpenSearch() calls; typically this is a mistake(as the SQL schema will be ignored). Use 'org.opensearch.spark.sql' package instead")
+      }
 
+      case _ => {
         val result = super.doWrite(value, generator, parentField)
 
         // Normal JDK types failed, try the JavaBean last. The JavaBean logic accepts just about
@@ -183,4 +195,32 @@ class ScalaValueWriter(writeUnknownTypes: Boolean = false) extends JdkValueWrite
 
     Result.SUCCESFUL()
   }
-}
\ No newline at end of file
+}
+
+private[spark] object ScalaValueWriter {
+
+  private final val NONE = 0
+  private final val SOME = 1
+  private final val MAP = 2
+  private final val TRAVERSABLE = 3
+  private final val BINARY = 4
+  private final val ARRAY = 5
+  private final val PRODUCT = 6
+  private final val SPARK_SQL = 7
+  private final val OTHER = 8
+
+  // how the values of each class are written - resolved in the order the values used to be matched
+  private val KINDS = new ClassValue[Integer] {
+    override def computeValue(clazz: Class[_]): Integer = {
+      if (clazz == None.getClass || clazz == classOf[scala.runtime.BoxedUnit]) NONE
+      else if (classOf[Some[_]].isAssignableFrom(clazz)) SOME
+      else if (classOf[Map[_, _]].isAssignableFrom(clazz)) MAP
+      else if (classOf[Traversable[_]].isAssignableFrom(clazz)) TRAVERSABLE
+      else if (clazz == classOf[Array[Byte]]) BINARY
+      else if (clazz.isArray) ARRAY
+      else if (classOf[Product].isAssignableFrom(clazz)) PRODUCT
+      else if (clazz.getName.startsWith("org.apache.spark.sql.")) SPARK_SQL
+      else OTHER
+    }
+  }
+}
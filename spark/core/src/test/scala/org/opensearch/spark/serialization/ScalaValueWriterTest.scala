@@ -31,7 +31,10 @@ package org.opensearch.spark.serialization
 import org.junit.Assert._
 import org.junit.Test
 import org.opensearch.hadoop.cfg.{ConfigurationOptions, Settings}
+import org.opensearch.hadoop.serialization.Generator
 import org.opensearch.hadoop.serialization.OpenSearchHadoopSerializationException
+import org.opensearch.hadoop.serialization.builder.ValueWriter
+import org.opensearch.hadoop.serialization.builder.ValueWriter.Result
 import org.opensearch.hadoop.serialization.json.JacksonJsonGenerator
 import org.opensearch.hadoop.util.TestSettings
 import org.opensearch.spark.serialization.testbeans.{Contact, ContactBook}
@@ -232,4 +235,26 @@ class ScalaValueWriterTest {
     assertEquals(expected, actual)
   }
 
-}
\ No newline at end of file
+  @Test
+  def testEmptySeq(): Unit = {
+    assertEquals("""{"a":[],"b":[]}""", serialize(Map("a" -> Nil, "b" -> Vector.empty)))
+  }
+
+  @Test
+  def testCustomWriter(): Unit = {
+    val out = new ByteArrayOutputStream()
+    val generator = new JacksonJsonGenerator(out)
+
+    val writer = new ScalaValueWriter()
+    writer.register(classOf[SimpleCaseClass], new ValueWriter[SimpleCaseClass] {
+      override def write(value: SimpleCaseClass, generator: Generator): Result = {
+        generator.writeString(value.s.toUpperCase)
+        Result.SUCCESFUL()
+      }
+    })
+    assertTrue(writer.write(Map("p" -> SimpleCaseClass("bar")), generator).isSuccesful)
+    generator.flush()
+
+    assertEquals("""{"p":"BAR"}""", new String(out.toByteArray))
+  }
+}
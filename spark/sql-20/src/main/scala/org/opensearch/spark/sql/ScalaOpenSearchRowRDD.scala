@@ -53,7 +53,7 @@ private[spark] class ScalaOpenSearchRowRDD(
   extends AbstractOpenSearchRDD[Row](sc, params) {
 
   override def compute(split: Partition, context: TaskContext): ScalaOpenSearchRowRDDIterator = {
-    new ScalaOpenSearchRowRDDIterator(context, split.asInstanceOf[OpenSearchPartition].opensearchPartition, schema)
+    new ScalaOpenSearchRowRDDIterator(context, split.asInstanceOf[OpenSearchPartition].opensearchPartition, schema).reportTo(metrics)
   }
 }
 
@@ -68,12 +68,7 @@ class ScalaRowValueReader extends ScalaValueReader with RowValueReader with Valu
     else {
       val rowOrd = 
       if (inArray) {
-        if (rowColumnsMap.contains(sparkRowField)) {
-            rowColumns(sparkRowField)
-        }
-        else {
-          currentArrayRowOrder
-        }
+        rowColumnsMap.getOrElse(sparkRowField, currentArrayRowOrder)
       }
       else rowColumns(sparkRowField)
 
@@ -88,12 +83,10 @@ class ScalaRowValueReader extends ScalaValueReader with RowValueReader with Valu
     if (arrayFields.contains(sparkRowField)) {
       inArray = true
       // array of objects
-      if (rowColumnsMap.contains(sparkRowField)) {
-        currentArrayRowOrder = rowColumns(sparkRowField)
-      }
-      // array of values
-      else {
-        // ignore
+      rowColumnsMap.get(sparkRowField) match {
+        case Some(rowOrder) => currentArrayRowOrder = rowOrder
+        // array of values
+        case None => // ignore
       }
     }
     else {
@@ -248,7 +248,12 @@ private[sql] case class OpenSearchRelation(parameters: Map[String, String], @tra
 
   // PrunedFilteredScan
   def buildScan(requiredColumns: Array[String], filters: Array[Filter]) = {
-    val paramWithScan = LinkedHashMap[String, String]() ++ parameters
+    new ScalaOpenSearchRowRDD(sqlContext.sparkContext, scanParameters(requiredColumns, filters), lazySchema)
+  }
+
+  // the settings of a scan over the given columns, with the (supported) filters pushed down; shared with the V2 reader
+  private[sql] def scanParameters(requiredColumns: Array[String], filters: Array[Filter]): LinkedHashMap[String, String] = {
+    val paramWithScan = LinkedHashMap[String, String]() ++= parameters
 
     var filteredColumns = requiredColumns
     
@@ -296,9 +301,11 @@ private[sql] case class OpenSearchRelation(parameters: Map[String, String], @tra
       }
     }
 
-    new ScalaOpenSearchRowRDD(sqlContext.sparkContext, paramWithScan, lazySchema)
+    paramWithScan
   }
 
+  private[sql] def isPushDown: Boolean = Utils.isPushDown(cfg)
+
   // introduced in Spark 1.6
   override def unhandledFilters(filters: Array[Filter]): Array[Filter] = {
     if (Utils.isKeepHandledFilters(cfg) || filters == null || filters.size == 0) {
@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.spark.sql
+
+import org.apache.spark.sql.catalyst.CatalystTypeConverters
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.types.StructType
+import org.opensearch.hadoop.serialization.field.FieldExtractor
+
+/**
+ * Extracts the metadata fields (id, routing, ...) out of the {@link InternalRow}s handed to the
+ * {@link InternalRowValueWriter}, returning the same (external) values as the {@link DataFrameFieldExtractor}.
+ */
+class InternalRowFieldExtractor extends DataFrameFieldExtractor {
+
+  override protected def extractField(target: AnyRef): AnyRef = {
+    target match {
+      case (_: InternalRow, _: StructType) =>
+        var obj: AnyRef = target
+        for (in <- 0 until getFieldNames.size()) {
+          val field = getFieldNames.get(in)
+          obj = obj match {
+            case (row: InternalRow, struct: StructType) => {
+              val index = struct.fieldNames.indexOf(field)
+              if (index < 0) {
+                FieldExtractor.NOT_FOUND
+              } else if (row.isNullAt(index)) {
+                null
+              } else {
+                struct.fields(index).dataType match {
+                  case nested: StructType => (row.getStruct(index, nested.size), nested)
+                  case dataType => CatalystTypeConverters.convertToScala(row.get(index, dataType), dataType).asInstanceOf[AnyRef]
+                }
+              }
+            }
+            case _ => FieldExtractor.NOT_FOUND
+          }
+        }
+
+        // Return the value or convert the row if it's a row-schema tuple
+        obj match {
+          case (row: InternalRow, struct: StructType) => CatalystTypeConverters.convertToScala(row, struct).asInstanceOf[AnyRef]
+          case any => any
+        }
+      case _ => super.extractField(target)
+    }
+  }
+}
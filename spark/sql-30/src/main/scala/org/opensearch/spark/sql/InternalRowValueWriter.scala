@@ -0,0 +1,283 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.spark.sql
+
+import org.apache.spark.sql.catalyst.CatalystTypeConverters
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.catalyst.expressions.SpecializedGetters
+import org.apache.spark.sql.catalyst.util.DateTimeUtils
+import org.apache.spark.sql.types.ArrayType
+import org.apache.spark.sql.types.BinaryType
+import org.apache.spark.sql.types.BooleanType
+import org.apache.spark.sql.types.ByteType
+import org.apache.spark.sql.types.DataType
+import org.apache.spark.sql.types.DateType
+import org.apache.spark.sql.types.DecimalType
+import org.apache.spark.sql.types.DoubleType
+import org.apache.spark.sql.types.FloatType
+import org.apache.spark.sql.types.IntegerType
+import org.apache.spark.sql.types.LongType
+import org.apache.spark.sql.types.MapType
+import org.apache.spark.sql.types.NullType
+import org.apache.spark.sql.types.ShortType
+import org.apache.spark.sql.types.StringType
+import org.apache.spark.sql.types.StructType
+import org.apache.spark.sql.types.TimestampType
+import org.apache.spark.unsafe.Platform
+import org.apache.spark.unsafe.types.UTF8String
+import org.opensearch.hadoop.cfg.ConfigurationOptions._
+import org.opensearch.hadoop.cfg.Settings
+import org.opensearch.hadoop.serialization.Generator
+import org.opensearch.hadoop.serialization.OpenSearchHadoopSerializationException
+import org.opensearch.hadoop.serialization.builder.ValueWriter.Result
+import org.opensearch.hadoop.util.StringUtils
+
+/**
+ * Writes the {@link InternalRow}s of a DataFrame as they are handed over by Spark, without converting them
+ * (through an encoder) to {@link org.apache.spark.sql.Row}s first. The schema is compiled once into one writer
+ * per column (nested structs, arrays and maps included) and strings are copied as UTF-8 bytes.
+ * The documents are the same as those of the {@link DataFrameValueWriter}, which still handles anything but
+ * (InternalRow, StructType) tuples.
+ */
+class InternalRowValueWriter(writeUnknownTypes: Boolean = false) extends DataFrameValueWriter(writeUnknownTypes) {
+
+  def this() = this(false)
+
+  private var filtering = false
+
+  // the rows of a partition share the same schema
+  private var schema: StructType = _
+  private var plan: StructWriter = _
+
+  override def setSettings(settings: Settings): Unit = {
+    super.setSettings(settings)
+    filtering = StringUtils.hasText(settings.getMappingIncludes) || StringUtils.hasText(settings.getMappingExcludes)
+  }
+
+  override def write(value: Any, generator: Generator): Result = {
+    value match {
+      case (row: InternalRow, struct: StructType) =>
+        if (!(struct eq schema)) {
+          plan = new StructWriter(struct)
+          schema = struct
+        }
+        plan.write(row, generator)
+      case _ => super.write(value, generator)
+    }
+  }
+
+  private abstract class Writer {
+    def write(data: SpecializedGetters, ordinal: Int, generator: Generator): Result
+  }
+
+  private def compile(dataType: DataType): Writer = dataType match {
+    case s: StructType => new StructWriter(s)
+    case a: ArrayType => new ArrayWriter(a)
+    case m: MapType => new MapWriter(m)
+    case BooleanType => new Writer {
+      override def write(data: SpecializedGetters, ordinal: Int, generator: Generator): Result = {
+        generator.writeBoolean(data.getBoolean(ordinal))
+        Result.SUCCESFUL()
+      }
+    }
+    case ByteType => new Writer {
+      override def write(data: SpecializedGetters, ordinal: Int, generator: Generator): Result = {
+        generator.writeNumber(data.getByte(ordinal))
+        Result.SUCCESFUL()
+      }
+    }
+    case ShortType => new Writer {
+      override def write(data: SpecializedGetters, ordinal: Int, generator: Generator): Result = {
+        generator.writeNumber(data.getShort(ordinal))
+        Result.SUCCESFUL()
+      }
+    }
+    case IntegerType => new Writer {
+      override def write(data: SpecializedGetters, ordinal: Int, generator: Generator): Result = {
+        generator.writeNumber(data.getInt(ordinal))
+        Result.SUCCESFUL()
+      }
+    }
+    case LongType => new Writer {
+      override def write(data: SpecializedGetters, ordinal: Int, generator: Generator): Result = {
+        generator.writeNumber(data.getLong(ordinal))
+        Result.SUCCESFUL()
+      }
+    }
+    case FloatType => new Writer {
+      override def write(data: SpecializedGetters, ordinal: Int, generator: Generator): Result = {
+        generator.writeNumber(data.getFloat(ordinal))
+        Result.SUCCESFUL()
+      }
+    }
+    case DoubleType => new Writer {
+      override def write(data: SpecializedGetters, ordinal: Int, generator: Generator): Result = {
+        generator.writeNumber(data.getDouble(ordinal))
+        Result.SUCCESFUL()
+      }
+    }
+    case StringType => new Writer {
+      override def write(data: SpecializedGetters, ordinal: Int, generator: Generator): Result = {
+        writeUTF8String(data.getUTF8String(ordinal), generator)
+        Result.SUCCESFUL()
+      }
+    }
+    case BinaryType => new Writer {
+      override def write(data: SpecializedGetters, ordinal: Int, generator: Generator): Result = {
+        generator.writeBinary(data.getBinary(ordinal))
+        Result.SUCCESFUL()
+      }
+    }
+    // epoch millis, as java.sql.Timestamp#getTime and java.sql.Date#getTime return them
+    case TimestampType => new Writer {
+      override def write(data: SpecializedGetters, ordinal: Int, generator: Generator): Result = {
+        generator.writeNumber(DateTimeUtils.toJavaTimestamp(data.getLong(ordinal)).getTime)
+        Result.SUCCESFUL()
+      }
+    }
+    case DateType => new Writer {
+      override def write(data: SpecializedGetters, ordinal: Int, generator: Generator): Result = {
+        generator.writeNumber(DateTimeUtils.toJavaDate(data.getInt(ordinal)).getTime)
+        Result.SUCCESFUL()
+      }
+    }
+    case NullType => new Writer {
+      override def write(data: SpecializedGetters, ordinal: Int, generator: Generator): Result = {
+        generator.writeNull()
+        Result.SUCCESFUL()
+      }
+    }
+    case _: DecimalType => new Writer {
+      override def write(data: SpecializedGetters, ordinal: Int, generator: Generator): Result =
+        throw new OpenSearchHadoopSerializationException("Decimal types are not supported by OpenSearch - consider using a different type (such as string)")
+    }
+    // anything else (user defined types, intervals) goes through its external value
+    case other => new Writer {
+      private val converter = CatalystTypeConverters.createToScalaConverter(other)
+
+      override def write(data: SpecializedGetters, ordinal: Int, generator: Generator): Result =
+        InternalRowValueWriter.super.write(other, converter(data.get(ordinal, other)), generator)
+    }
+  }
+
+  private def writeUTF8String(value: UTF8String, generator: Generator): Unit = {
+    value.getBaseObject match {
+      case bytes: Array[Byte] => generator.writeUTF8String(bytes, (value.getBaseOffset - Platform.BYTE_ARRAY_OFFSET).toInt, value.numBytes())
+      case _ => generator.writeUTF8String(value.getBytes)
+    }
+  }
+
+  private class StructWriter(schema: StructType) extends Writer {
+    private val names = schema.fieldNames
+    private val writers = schema.fields.map(field => compile(field.dataType))
+
+    def write(row: InternalRow, generator: Generator): Result = {
+      generator.writeBeginObject()
+      var i = 0
+      while (i < names.length) {
+        if (!filtering || shouldKeep(generator.getParentPath, names(i))) {
+          if (!row.isNullAt(i)) {
+            generator.writeFieldName(names(i))
+            val result = writers(i).write(row, i, generator)
+            if (!result.isSuccesful) {
+              return result
+            }
+          } else if (hasWriteNullValues) {
+            generator.writeFieldName(names(i))
+            generator.writeNull()
+          }
+        }
+        i += 1
+      }
+      generator.writeEndObject()
+      Result.SUCCESFUL()
+    }
+
+    override def write(data: SpecializedGetters, ordinal: Int, generator: Generator): Result =
+      write(data.getStruct(ordinal, names.length), generator)
+  }
+
+  private class ArrayWriter(schema: ArrayType) extends Writer {
+    private val element = compile(schema.elementType)
+
+    override def write(data: SpecializedGetters, ordinal: Int, generator: Generator): Result = {
+      val array = data.getArray(ordinal)
+      generator.writeBeginArray()
+      var i = 0
+      while (i < array.numElements()) {
+        if (array.isNullAt(i)) {
+          generator.writeNull()
+        } else {
+          val result = element.write(array, i, generator)
+          if (!result.isSuccesful) {
+            return result
+          }
+        }
+        i += 1
+      }
+      generator.writeEndArray()
+      Result.SUCCESFUL()
+    }
+  }
+
+  private class MapWriter(schema: MapType) extends Writer {
+    private val keyType = schema.keyType
+    private val keyConverter = CatalystTypeConverters.createToScalaConverter(keyType)
+    private val value = compile(schema.valueType)
+
+    override def write(data: SpecializedGetters, ordinal: Int, generator: Generator): Result = {
+      val map = data.getMap(ordinal)
+      val keys = map.keyArray()
+      val values = map.valueArray()
+      generator.writeBeginObject()
+      var i = 0
+      while (i < map.numElements()) {
+        val name = if (keyType == StringType) keys.getUTF8String(i).toString else keyConverter(keys.get(i, keyType)).toString
+        if (!filtering || shouldKeep(generator.getParentPath, name)) {
+          generator.writeFieldName(name)
+          if (values.isNullAt(i)) {
+            generator.writeNull()
+          } else {
+            val result = value.write(values, i, generator)
+            if (!result.isSuccesful) {
+              return result
+            }
+          }
+        }
+        i += 1
+      }
+      generator.writeEndObject()
+      Result.SUCCESFUL()
+    }
+  }
+}
+
+private[sql] object InternalRowValueWriter {
+
+  private val extractors = Seq(OPENSEARCH_MAPPING_DEFAULT_EXTRACTOR_CLASS, OPENSEARCH_MAPPING_ID_EXTRACTOR_CLASS,
+    OPENSEARCH_MAPPING_PARENT_EXTRACTOR_CLASS, OPENSEARCH_MAPPING_JOIN_EXTRACTOR_CLASS, OPENSEARCH_MAPPING_VERSION_EXTRACTOR_CLASS,
+    OPENSEARCH_MAPPING_ROUTING_EXTRACTOR_CLASS, OPENSEARCH_MAPPING_TTL_EXTRACTOR_CLASS, OPENSEARCH_MAPPING_TIMESTAMP_EXTRACTOR_CLASS)
+
+  /**
+   * @return whether the rows can be written as they are - custom value writers and field extractors still expect
+   *         {@link org.apache.spark.sql.Row}s
+   */
+  def supports(settings: Settings): Boolean = {
+    def isDefault(property: String, className: String): Boolean = {
+      val value = settings.getProperty(property)
+      value == null || value == className
+    }
+    !settings.getInputAsJson && isDefault(OPENSEARCH_SERIALIZATION_WRITER_VALUE_CLASS, classOf[InternalRowValueWriter].getName) &&
+      extractors.forall(isDefault(_, classOf[InternalRowFieldExtractor].getName)) &&
+      isDefault(OPENSEARCH_MAPPING_INDEX_EXTRACTOR_CLASS, OPENSEARCH_MAPPING_DEFAULT_INDEX_EXTRACTOR_CLASS) &&
+      isDefault(OPENSEARCH_MAPPING_PARAMS_EXTRACTOR_CLASS, OPENSEARCH_MAPPING_PARAMS_DEFAULT_EXTRACTOR_CLASS)
+  }
+}
@@ -33,11 +33,12 @@ import org.apache.spark.sql.types.StructType
 import org.opensearch.hadoop.serialization.{BytesConverter, JdkBytesConverter}
 import org.opensearch.hadoop.serialization.builder.ValueWriter
 import org.opensearch.hadoop.serialization.field.FieldExtractor
+import org.opensearch.spark.rdd.OpenSearchMetrics
 import org.opensearch.spark.rdd.OpenSearchRDDWriter
 
 private[spark] class OpenSearchDataFrameWriter
-  (schema: StructType, override val serializedSettings: String)
-  extends OpenSearchRDDWriter[Row](serializedSettings:String) {
+  (schema: StructType, override val serializedSettings: String, override val metrics: Option[OpenSearchMetrics] = None)
+  extends OpenSearchRDDWriter[Row](serializedSettings:String, metrics = metrics) {
 
   override protected def valueWriter: Class[_ <: ValueWriter[_]] = classOf[DataFrameValueWriter]
   override protected def bytesConverter: Class[_ <: BytesConverter] = classOf[JdkBytesConverter]
@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.spark.sql
+
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.types.StructType
+import org.opensearch.hadoop.serialization.{BytesConverter, JdkBytesConverter}
+import org.opensearch.hadoop.serialization.builder.ValueWriter
+import org.opensearch.hadoop.serialization.field.FieldExtractor
+import org.opensearch.spark.rdd.OpenSearchMetrics
+import org.opensearch.spark.rdd.OpenSearchRDDWriter
+
+/**
+ * Writes the rows of a DataFrame in their internal format, as long as {@link InternalRowValueWriter#supports}
+ * the configuration.
+ */
+private[spark] class OpenSearchInternalRowWriter
+  (schema: StructType, override val serializedSettings: String, override val metrics: Option[OpenSearchMetrics] = None)
+  extends OpenSearchRDDWriter[InternalRow](serializedSettings:String, metrics = metrics) {
+
+  override protected def valueWriter: Class[_ <: ValueWriter[_]] = classOf[InternalRowValueWriter]
+  override protected def bytesConverter: Class[_ <: BytesConverter] = classOf[JdkBytesConverter]
+  override protected def fieldExtractor: Class[_ <: FieldExtractor] = classOf[InternalRowFieldExtractor]
+
+  override protected def processData(data: Iterator[InternalRow]): Any = { (data.next, schema) }
+}
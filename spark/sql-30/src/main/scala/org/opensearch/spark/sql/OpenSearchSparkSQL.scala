@@ -37,10 +37,12 @@ import org.opensearch.hadoop.cfg.ConfigurationOptions.OPENSEARCH_QUERY
 import org.opensearch.hadoop.cfg.ConfigurationOptions.OPENSEARCH_RESOURCE_READ
 import org.opensearch.hadoop.cfg.ConfigurationOptions.OPENSEARCH_RESOURCE_WRITE
 import org.opensearch.spark.cfg.SparkSettingsManager
+import org.opensearch.spark.rdd.OpenSearchMetrics
 import org.opensearch.hadoop.OpenSearchHadoopIllegalArgumentException
 import org.opensearch.hadoop.cfg.PropertiesSettings
 import org.opensearch.hadoop.mr.security.HadoopUserProvider
 import org.opensearch.hadoop.rest.InitializationUtils
+import org.opensearch.hadoop.rest.RestService
 import org.opensearch.hadoop.util.ObjectUtils
 
 import scala.collection.JavaConverters.mapAsJavaMapConverter
@@ -109,8 +111,16 @@ object OpenSearchSparkSQL {
       InitializationUtils.discoverClusterInfo(esCfg, LOG)
       InitializationUtils.checkIdForOperation(esCfg)
       InitializationUtils.checkIndexExistence(esCfg)
+      // spare the tasks the lookup of the target shards
+      RestService.discoverWriteTargetShards(esCfg, LOG)
 
-      sparkCtx.runJob(srdd.toDF().rdd, new OpenSearchDataFrameWriter(srdd.schema, esCfg.save()).write _)
+      val metrics = OpenSearchMetrics(sparkCtx, esCfg)
+      if (InternalRowValueWriter.supports(esCfg)) {
+        // skip the conversion of the rows to external ones
+        sparkCtx.runJob(srdd.toDF().queryExecution.toRdd, new OpenSearchInternalRowWriter(srdd.schema, esCfg.save(), metrics).write _)
+      } else {
+        sparkCtx.runJob(srdd.toDF().rdd, new OpenSearchDataFrameWriter(srdd.schema, esCfg.save(), metrics).write _)
+      }
     }
   }
 }
\ No newline at end of file
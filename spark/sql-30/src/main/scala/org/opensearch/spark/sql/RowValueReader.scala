@@ -30,6 +30,9 @@ package org.opensearch.spark.sql
 
 import org.opensearch.hadoop.OpenSearchHadoopIllegalStateException
 import java.util.Collections
+import java.util.IdentityHashMap
+import java.util.{HashMap => JHashMap}
+import java.util.{Map => JMap}
 import java.util.{Set => JSet}
 import org.opensearch.hadoop.cfg.Settings
 import org.opensearch.hadoop.serialization.SettingsAware
@@ -44,6 +47,10 @@ private[sql] trait RowValueReader extends SettingsAware {
   protected var arrayFields: JSet[String] = Collections.emptySet()
   protected var sparkRowField = Utils.ROOT_LEVEL_NAME
   protected var currentFieldIsGeo = false
+  // position of each column, for each row order - computed once instead of searching the order for every field
+  private val positionTables = new IdentityHashMap[Seq[String], JMap[String, Integer]]()
+  private var lastRowOrder: Seq[String] = _
+  private var lastPositions: JMap[String, Integer] = _
   
   abstract override def setSettings(settings: Settings) = {
     super.setSettings(settings)
@@ -52,6 +59,9 @@ private[sql] trait RowValueReader extends SettingsAware {
     val rowInfo = SchemaUtils.getRowInfo(settings)
     rowColumnsMap = rowInfo._1
     arrayFields = rowInfo._2
+    positionTables.clear()
+    lastRowOrder = null
+    lastPositions = null
   }
 
   def rowColumns(currentField: String): Seq[String] = {
@@ -62,8 +72,20 @@ private[sql] trait RowValueReader extends SettingsAware {
   }
 
   def addToBuffer(esRow: ScalaOpenSearchRow, key: AnyRef, value: Any): Unit = {
-    val pos = esRow.rowOrder.indexOf(key.toString())
-    if (pos < 0 || pos >= esRow.values.size) {
+    val pos = position(esRow.rowOrder, esRow.values.size, key)
+    if (pos >= 0) {
+      esRow.values.update(pos, value)
+    }
+  }
+
+  // whether the value being read belongs to the document itself (as opposed to one of its objects)
+  protected def isRootLevel: Boolean = sparkRowField == Utils.ROOT_LEVEL_NAME
+
+  // position of the given field within a row of the given order and size, -1 if the field is to be skipped
+  protected def position(rowOrder: Seq[String], size: Int, key: AnyRef): Int = {
+    val index = positions(rowOrder).get(key.toString())
+    val pos = if (index != null) index.intValue() else -1
+    if (pos < 0 || pos >= size) {
       // geo types allow fields which are ignored - need to skip these if they are not part of the schema
       if (pos >= 0 || !currentFieldIsGeo) {
         if (key.toString().contains(".")) {
@@ -73,8 +95,29 @@ private[sql] trait RowValueReader extends SettingsAware {
           throw new OpenSearchHadoopIllegalStateException(s"Position for '$sparkRowField' not found in row; typically this is caused by a mapping inconsistency")
         }
       }
+      -1
     } else {
-      esRow.values.update(pos, value)
+      pos
+    }
+  }
+
+  // the fields of a row typically follow each other, hence the shortcut
+  private def positions(rowOrder: Seq[String]): JMap[String, Integer] = {
+    if (!(rowOrder eq lastRowOrder)) {
+      var table = positionTables.get(rowOrder)
+      if (table == null) {
+        table = new JHashMap[String, Integer](rowOrder.size * 2)
+        var i = rowOrder.size - 1
+        // the first occurrence wins
+        for (column <- rowOrder.reverseIterator) {
+          table.put(column, Integer.valueOf(i))
+          i -= 1
+        }
+        positionTables.put(rowOrder, table)
+      }
+      lastRowOrder = rowOrder
+      lastPositions = table
     }
+    lastPositions
   }
-}
\ No newline at end of file
+}
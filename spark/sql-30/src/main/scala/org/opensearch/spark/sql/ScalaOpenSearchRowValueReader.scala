@@ -68,19 +68,16 @@ class ScalaRowValueReader extends ScalaValueReader with RowValueReader with Valu
     else {
       val rowOrd = 
       if (inArray) {
-        if (rowColumnsMap.contains(sparkRowField)) {
-            rowColumns(sparkRowField)
-        }
-        else {
-          currentArrayRowOrder
-        }
+        rowColumnsMap.getOrElse(sparkRowField, currentArrayRowOrder)
       }
       else rowColumns(sparkRowField)
 
-      new ScalaOpenSearchRow(rowOrd)
+      createRow(rowOrd)
     }
   }
 
+  protected def createRow(rowOrder: Seq[String]): AnyRef = new ScalaOpenSearchRow(rowOrder)
+
   // start array
   override def createArray(typ: FieldType): AnyRef = {
 
@@ -88,12 +85,10 @@ class ScalaRowValueReader extends ScalaValueReader with RowValueReader with Valu
     if (arrayFields.contains(sparkRowField)) {
       inArray = true
       // array of objects
-      if (rowColumnsMap.contains(sparkRowField)) {
-        currentArrayRowOrder = rowColumns(sparkRowField)
-      }
-      // array of values
-      else {
-        // ignore
+      rowColumnsMap.get(sparkRowField) match {
+        case Some(rowOrder) => currentArrayRowOrder = rowOrder
+        // array of values
+        case None => // ignore
       }
     }
     else {
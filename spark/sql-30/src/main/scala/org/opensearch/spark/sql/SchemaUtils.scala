@@ -81,7 +81,7 @@ import Utils.ROW_INFO_ARRAY_PROPERTY
 import Utils.ROW_INFO_ORDER_PROPERTY
 import org.opensearch.hadoop.OpenSearchHadoopIllegalArgumentException
 import org.opensearch.hadoop.cfg.{InternalConfigurationOptions, Settings}
-import org.opensearch.hadoop.rest.{InitializationUtils, RestRepository}
+import org.opensearch.hadoop.rest.{InitializationUtils, MetadataCache, RestRepository}
 import org.opensearch.hadoop.serialization.dto.mapping.{Field, GeoField, GeoPointType, GeoShapeType, Mapping, MappingUtils}
 import org.opensearch.hadoop.serialization.field.FieldFilter
 import org.opensearch.hadoop.util.{Assert, IOUtils, SettingsUtils, StringUtils}
@@ -101,8 +101,8 @@ private[sql] object SchemaUtils {
 
     val repo = new RestRepository(cfg)
     try {
-      if (repo.resourceExists(true)) {
-        var mappingSet = repo.getMappings
+      if (MetadataCache.readResourceExists(repo, cfg)) {
+        var mappingSet = MetadataCache.mappings(repo, cfg)
         if (mappingSet == null || mappingSet.isEmpty) {
           throw new OpenSearchHadoopIllegalArgumentException(s"Cannot find mapping for ${cfg.getResourceRead} - one is required before using Spark SQL")
         }
@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.spark.sql.v2
+
+import org.apache.spark.sql.execution.vectorized.OffHeapColumnVector
+import org.apache.spark.sql.execution.vectorized.OnHeapColumnVector
+import org.apache.spark.sql.execution.vectorized.WritableColumnVector
+import org.apache.spark.sql.types.BinaryType
+import org.apache.spark.sql.types.BooleanType
+import org.apache.spark.sql.types.ByteType
+import org.apache.spark.sql.types.DataType
+import org.apache.spark.sql.types.DoubleType
+import org.apache.spark.sql.types.FloatType
+import org.apache.spark.sql.types.IntegerType
+import org.apache.spark.sql.types.LongType
+import org.apache.spark.sql.types.ShortType
+import org.apache.spark.sql.types.StringType
+import org.apache.spark.sql.types.StructType
+import org.apache.spark.sql.types.TimestampType
+import org.apache.spark.sql.vectorized.ColumnVector
+import org.apache.spark.sql.vectorized.ColumnarBatch
+import org.apache.spark.unsafe.types.UTF8String
+import org.opensearch.hadoop.OpenSearchHadoopIllegalArgumentException
+
+/**
+ * Value reader writing the top-level fields of each hit straight into the column vectors of a {@link ColumnarPage}
+ * instead of building a row per document. The page stands for the document as far as the scroll reader is
+ * concerned, hits being numbered as they are parsed.
+ */
+class ColumnarValueReader extends InternalRowValueReader {
+
+  private var page: ColumnarPage = _
+
+  private[v2] def setPage(page: ColumnarPage): Unit = {
+    this.page = page
+  }
+
+  override protected def createRow(rowOrder: Seq[String]): AnyRef = {
+    if (page != null && isRootLevel && !inArray) {
+      page.beginRow(rowOrder)
+    } else {
+      super.createRow(rowOrder)
+    }
+  }
+
+  override def addToMap(map: AnyRef, key: AnyRef, value: Any): Unit = {
+    map match {
+      case p: ColumnarPage => {
+        val pos = position(p.rowOrder, p.numColumns, key)
+        if (pos >= 0 && value != null) {
+          p.write(pos, value)
+        }
+      }
+      case _ => super.addToMap(map, key, value)
+    }
+  }
+
+  override def endDoc(): Unit = {
+    super.endDoc()
+    if (page != null) {
+      page.endRow()
+    }
+  }
+}
+
+/**
+ * Column vectors holding the hits of a scroll page, one row per hit. A hit that fails to be read (and is skipped)
+ * never ends its row, which is simply overwritten by the next one.
+ */
+private[sql] class ColumnarPage(schema: StructType, capacity: Int, offHeap: Boolean) extends AutoCloseable {
+
+  private val vectors: Array[WritableColumnVector] =
+    if (offHeap) OffHeapColumnVector.allocateColumns(capacity, schema).toArray
+    else OnHeapColumnVector.allocateColumns(capacity, schema).toArray
+  private val writers = schema.fields.map(field => ColumnarPage.writer(field.dataType))
+
+  val batch = new ColumnarBatch(vectors.map(vector => vector: ColumnVector))
+
+  private[v2] var rowOrder: Seq[String] = Nil
+  private var rows = 0
+  private var started = false
+
+  def numColumns: Int = vectors.length
+
+  def numRows: Int = rows
+
+  def reset(): Unit = {
+    vectors.foreach(_.reset())
+    rows = 0
+    started = false
+  }
+
+  private[v2] def beginRow(rowOrder: Seq[String]): ColumnarPage = {
+    this.rowOrder = rowOrder
+    for (vector <- vectors) {
+      vector.reserve(rows + 1)
+      vector.putNull(rows)
+    }
+    started = true
+    this
+  }
+
+  private[v2] def write(pos: Int, value: Any): Unit = {
+    val vector = vectors(pos)
+    vector.putNotNull(rows)
+    writers(pos)(vector, rows, value)
+  }
+
+  private[v2] def endRow(): Unit = {
+    // a hit without any source still counts
+    if (!started) {
+      beginRow(rowOrder)
+    }
+    rows += 1
+    started = false
+  }
+
+  /**
+   * @return the batch over the rows read so far
+   */
+  def toBatch: ColumnarBatch = {
+    batch.setNumRows(rows)
+    batch
+  }
+
+  override def close(): Unit = batch.close()
+}
+
+private[sql] object ColumnarPage {
+
+  /**
+   * @return whether the given columns can be read into vectors - only atomic types are, nested objects and arrays
+   *         still requiring rows
+   */
+  def supports(schema: StructType): Boolean = schema.nonEmpty && schema.fields.forall(field => field.dataType match {
+    case BooleanType | ByteType | ShortType | IntegerType | LongType | FloatType | DoubleType => true
+    case StringType | BinaryType | TimestampType => true
+    case _ => false
+  })
+
+  // from the values of the InternalRowValueReader (boxed primitives, UTF8String, timestamps as micros) to the vectors
+  private def writer(dataType: DataType): (WritableColumnVector, Int, Any) => Unit = dataType match {
+    case BooleanType => (vector, row, value) => vector.putBoolean(row, value.asInstanceOf[java.lang.Boolean].booleanValue())
+    case ByteType => (vector, row, value) => vector.putByte(row, value.asInstanceOf[Number].byteValue())
+    case ShortType => (vector, row, value) => vector.putShort(row, value.asInstanceOf[Number].shortValue())
+    case IntegerType => (vector, row, value) => vector.putInt(row, value.asInstanceOf[Number].intValue())
+    case LongType | TimestampType => (vector, row, value) => vector.putLong(row, value.asInstanceOf[Number].longValue())
+    case FloatType => (vector, row, value) => vector.putFloat(row, value.asInstanceOf[Number].floatValue())
+    case DoubleType => (vector, row, value) => vector.putDouble(row, value.asInstanceOf[Number].doubleValue())
+    case StringType => (vector, row, value) => {
+      val bytes = value match {
+        case s: UTF8String => s.getBytes
+        case other => UTF8String.fromString(other.toString).getBytes
+      }
+      vector.putByteArray(row, bytes)
+    }
+    case BinaryType => (vector, row, value) => vector.putByteArray(row, value.asInstanceOf[Array[Byte]])
+    case _ => (_, _, value) => throw new OpenSearchHadoopIllegalArgumentException(s"Cannot write [$value] of type [$dataType] into a column vector")
+  }
+}
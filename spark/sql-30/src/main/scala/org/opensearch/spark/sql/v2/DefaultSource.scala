@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.spark.sql.v2
+
+import java.util.{Map => JMap}
+
+import org.apache.spark.sql.SparkSession
+import org.apache.spark.sql.connector.catalog.Table
+import org.apache.spark.sql.connector.catalog.TableProvider
+import org.apache.spark.sql.connector.expressions.Transform
+import org.apache.spark.sql.types.StructType
+import org.apache.spark.sql.util.CaseInsensitiveStringMap
+import org.opensearch.spark.rdd.JDKCollectionConvertersCompat.Converters._
+import org.opensearch.spark.sql.DefaultSource15
+import org.opensearch.spark.sql.OpenSearchRelation
+
+/**
+ * DataSource V2 entry point, registered as {@code opensearch-v2}.
+ * Reads go through {@link OpenSearchTable}, producing Spark's internal rows directly, while writes (batch and
+ * streaming) fall back to the V1 implementation inherited from {@link DefaultSource15} since the table only
+ * advertises batch reads. Note that Spark resolves the table (hence the mapping) before falling back for streaming
+ * writes, so these require the index to exist - {@code opensearch} does not.
+ */
+class DefaultSource extends DefaultSource15 with TableProvider {
+
+  // the relation backing the inferred schema - reused when creating the table to avoid discovering the mapping twice
+  private var inferred: OpenSearchRelation = _
+
+  override def shortName(): String = "opensearch-v2"
+
+  override def inferSchema(options: CaseInsensitiveStringMap): StructType = {
+    inferred = OpenSearchRelation(params(options.asCaseSensitiveMap().asScala.toMap), SparkSession.active.sqlContext)
+    inferred.schema
+  }
+
+  override def getTable(schema: StructType, partitioning: Array[Transform], properties: JMap[String, String]): Table = {
+    val parameters = params(properties.asScala.toMap)
+    val relation = if (inferred != null && (inferred.schema eq schema) && inferred.parameters == parameters) {
+      inferred
+    } else {
+      OpenSearchRelation(parameters, SparkSession.active.sqlContext, Some(schema))
+    }
+    new OpenSearchTable(relation)
+  }
+
+  // the schema can be specified by the user (which is also how writes get the table without reading the mapping)
+  override def supportsExternalMetadata(): Boolean = true
+}
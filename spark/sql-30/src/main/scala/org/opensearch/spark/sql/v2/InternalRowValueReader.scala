@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.spark.sql.v2
+
+import java.sql.Timestamp
+
+import org.apache.spark.sql.catalyst.expressions.GenericInternalRow
+import org.apache.spark.sql.catalyst.util.ArrayBasedMapData
+import org.apache.spark.sql.catalyst.util.DateTimeUtils
+import org.apache.spark.sql.catalyst.util.GenericArrayData
+import org.apache.spark.unsafe.types.UTF8String
+import org.opensearch.hadoop.serialization.FieldType
+import org.opensearch.hadoop.serialization.Parser
+import org.opensearch.spark.sql.ScalaRowValueReader
+
+/**
+ * Row value reader producing Spark's internal (Catalyst) representation instead of external rows: rows as
+ * {@link org.apache.spark.sql.catalyst.InternalRow}, strings as {@link UTF8String}, timestamps as microseconds,
+ * arrays as {@link org.apache.spark.sql.catalyst.util.ArrayData} and the metadata as
+ * {@link org.apache.spark.sql.catalyst.util.MapData}. This spares Spark from converting each row back.
+ */
+class InternalRowValueReader extends ScalaRowValueReader {
+
+  private var arrayLevel = 0
+
+  override protected def createRow(rowOrder: Seq[String]): AnyRef = new OpenSearchInternalRow(rowOrder)
+
+  override def addToMap(map: AnyRef, key: AnyRef, value: Any): Unit = {
+    map match {
+      case row: OpenSearchInternalRow => {
+        val pos = position(row.rowOrder, row.numFields, key)
+        if (pos >= 0) {
+          row.update(pos, toMapData(value))
+        }
+      }
+      case _ => super.addToMap(map, key, value)
+    }
+  }
+
+  override def textValue(value: String, parser: Parser): AnyRef = toUTF8(super.textValue(value, parser))
+
+  override def date(value: String, parser: Parser): AnyRef = toCatalystDate(super.date(value, parser))
+
+  override def dateNanos(value: String, parser: Parser): AnyRef = toCatalystDate(super.dateNanos(value, parser))
+
+  // the row reader does not track the depth of the field context, hence the arrays being read are counted here
+  override def createArray(typ: FieldType): AnyRef = {
+    arrayLevel += 1
+    super.createArray(typ)
+  }
+
+  override def addToArray(array: AnyRef, values: java.util.List[Object]): AnyRef = {
+    val result = super.addToArray(array, values)
+    arrayLevel -= 1
+    // convert only the outer most array, so that the depth of the nested ones is still visible while reading
+    if (arrayLevel <= 0) {
+      arrayLevel = 0
+      toArrayData(result)
+    } else result
+  }
+
+  override def beginDoc(): Unit = {
+    // a hit that failed to be read might have left an array open
+    arrayLevel = 0
+    super.beginDoc()
+  }
+
+  private def toUTF8(value: AnyRef): AnyRef = value match {
+    case s: String => UTF8String.fromString(s)
+    case _ => value
+  }
+
+  private def toCatalystDate(value: AnyRef): AnyRef = value match {
+    case ts: Timestamp => Long.box(DateTimeUtils.fromJavaTimestamp(ts))
+    case _ => toUTF8(value)
+  }
+
+  private def toArrayData(value: AnyRef): AnyRef = value match {
+    case seq: scala.collection.Seq[_] => new GenericArrayData(seq.map(e => toArrayData(e.asInstanceOf[AnyRef])).toArray[Any])
+    case _ => value
+  }
+
+  // the metadata (a map of strings)
+  private def toMapData(value: Any): Any = value match {
+    case m: scala.collection.Map[_, _] => {
+      val keys = new Array[Any](m.size)
+      val values = new Array[Any](m.size)
+      var i = 0
+      for ((k, v) <- m) {
+        keys(i) = UTF8String.fromString(k.toString)
+        values(i) = if (v != null) UTF8String.fromString(v.toString) else null
+        i += 1
+      }
+      new ArrayBasedMapData(new GenericArrayData(keys), new GenericArrayData(values))
+    }
+    case _ => value
+  }
+}
+
+/**
+ * Row filled in by position as the hit is parsed (the fields of a document being in no particular order).
+ */
+private[sql] class OpenSearchInternalRow(val rowOrder: Seq[String]) extends GenericInternalRow(new Array[Any](rowOrder.size))
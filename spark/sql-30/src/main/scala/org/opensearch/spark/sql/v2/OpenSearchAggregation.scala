@@ -0,0 +1,242 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.spark.sql.v2
+
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.catalyst.expressions.GenericInternalRow
+import org.apache.spark.sql.connector.expressions.NamedReference
+import org.apache.spark.sql.connector.expressions.aggregate.AggregateFunc
+import org.apache.spark.sql.connector.expressions.aggregate.Aggregation
+import org.apache.spark.sql.connector.expressions.aggregate.Count
+import org.apache.spark.sql.connector.expressions.aggregate.CountStar
+import org.apache.spark.sql.connector.expressions.aggregate.Max
+import org.apache.spark.sql.connector.expressions.aggregate.Min
+import org.apache.spark.sql.connector.expressions.aggregate.Sum
+import org.apache.spark.sql.connector.read.Batch
+import org.apache.spark.sql.connector.read.InputPartition
+import org.apache.spark.sql.connector.read.PartitionReader
+import org.apache.spark.sql.connector.read.PartitionReaderFactory
+import org.apache.spark.sql.connector.read.Scan
+import org.apache.spark.sql.sources.Filter
+import org.apache.spark.sql.types.BooleanType
+import org.apache.spark.sql.types.ByteType
+import org.apache.spark.sql.types.DataType
+import org.apache.spark.sql.types.DoubleType
+import org.apache.spark.sql.types.FloatType
+import org.apache.spark.sql.types.IntegerType
+import org.apache.spark.sql.types.LongType
+import org.apache.spark.sql.types.ShortType
+import org.apache.spark.sql.types.StringType
+import org.apache.spark.sql.types.StructField
+import org.apache.spark.sql.types.StructType
+import org.apache.spark.sql.types.TimestampType
+import org.apache.spark.unsafe.types.UTF8String
+import org.opensearch.hadoop.cfg.PropertiesSettings
+import org.opensearch.hadoop.cfg.Settings
+import org.opensearch.hadoop.rest.AggregationQuery
+import org.opensearch.hadoop.rest.AggregationQuery.Function
+import org.opensearch.hadoop.rest.AggregationQuery.Metric
+import org.opensearch.hadoop.rest.Resource
+import org.opensearch.hadoop.rest.RestRepository
+import org.opensearch.hadoop.rest.query.QueryUtils
+import org.opensearch.hadoop.serialization.FieldType
+import org.opensearch.hadoop.serialization.dto.mapping.Field
+import org.opensearch.spark.rdd.JDKCollectionConvertersCompat.Converters._
+import org.opensearch.spark.sql.OpenSearchRelation
+
+/**
+ * Aggregates (and grouping columns) pushed down by Spark, computed by the cluster through an {@link AggregationQuery}.
+ * The schema is the one Spark expects from the scan: the grouping columns followed by one column per aggregate.
+ */
+private[sql] class PushedAggregation(val groupBy: Seq[StructField], val metrics: Seq[(Metric, StructField)]) extends Serializable {
+
+  def schema: StructType = StructType(groupBy ++ metrics.map(_._2))
+
+  override def toString: String =
+    s"[${metrics.map(_._1).mkString(", ")}] GroupBy: [${groupBy.map(_.name).mkString(", ")}]"
+}
+
+private[sql] object PushedAggregation {
+
+  private val numericTypes = Set[DataType](ByteType, ShortType, IntegerType, LongType, FloatType, DoubleType)
+  // half_float and scaled_float doc values are rounded, unlike the _source values Spark reads when not pushed down
+  private val numericFields = Set(FieldType.BYTE, FieldType.SHORT, FieldType.INTEGER, FieldType.LONG, FieldType.FLOAT,
+    FieldType.DOUBLE, FieldType.TOKEN_COUNT)
+
+  // top-level field, known to both the mapping and the schema
+  private def column(relation: OpenSearchRelation, fields: Map[String, Field], names: Array[String]): Option[(StructField, Field)] = {
+    if (names.length != 1) {
+      None
+    } else {
+      for {
+        field <- relation.schema.fields.find(_.name == names(0))
+        mapped <- fields.get(names(0))
+      } yield (field, mapped)
+    }
+  }
+
+  private def mappedFields(relation: OpenSearchRelation): Map[String, Field] =
+    relation.lazySchema.mapping.getFields.map(field => field.name() -> field).toMap
+
+  // the cluster aggregates the doc values, hence only the fields whose doc values hold the values as they are in _source
+  // (no ignore_above or normalizer on keywords) can be aggregated by it
+  private def aggregatable(column: (StructField, Field)): Boolean = column._2.hasDocValues() && column._2.indexedAsIs()
+
+  private def numeric(column: (StructField, Field)): Boolean =
+    aggregatable(column) && numericTypes.contains(column._1.dataType) && numericFields.contains(column._2.`type`())
+
+  // the cluster computes min/max/sum as doubles, hence only the columns whose values (and sums) a double holds exactly
+  // are pushed down - longs being past 2^53 and sums of integral columns overflowing it are computed by Spark instead
+  private def floating(column: (StructField, Field)): Boolean =
+    numeric(column) && (column._1.dataType == FloatType || column._1.dataType == DoubleType)
+
+  private def date(column: (StructField, Field)): Boolean =
+    aggregatable(column) && column._1.dataType == TimestampType && column._2.`type`() == FieldType.DATE
+
+  private def comparable(column: (StructField, Field)): Boolean = (numeric(column) && column._1.dataType != LongType) || date(column)
+
+  // group keys are returned as is, longs included
+  private def groupable(column: (StructField, Field)): Boolean = numeric(column) || date(column) || (aggregatable(column) &&
+    ((column._1.dataType == StringType && column._2.`type`() == FieldType.KEYWORD) ||
+      (column._1.dataType == BooleanType && column._2.`type`() == FieldType.BOOLEAN)))
+
+  /**
+   * @return whether the cluster orders the given top-level column as Spark does - which is the case for the columns it can group on,
+   *         whose doc values (that the cluster sorts on) hold the values as they are in _source. Sorting on a rounded
+   *         (half_float or scaled_float) or missing (keyword past its ignore_above) doc value would have each partition
+   *         return the wrong top n documents
+   */
+  def sortable(relation: OpenSearchRelation, name: String): Boolean =
+    column(relation, mappedFields(relation), Array(name)).exists(groupable)
+
+  /**
+   * @return the aggregation to push down or None if any of its parts cannot be computed by the cluster
+   *         (distinct aggregates, nested or non aggregatable fields such as text, etc...)
+   */
+  def apply(relation: OpenSearchRelation, aggregation: Aggregation): Option[PushedAggregation] = {
+    val fields = mappedFields(relation)
+
+    def column(ref: NamedReference): Option[(StructField, Field)] = PushedAggregation.column(relation, fields, ref.fieldNames())
+
+    def metric(function: AggregateFunc): Option[(Metric, StructField)] = function match {
+      case _: CountStar => Some((new Metric(Function.COUNT, null), StructField("count(*)", LongType, nullable = false)))
+      case count: Count if !count.isDistinct() => column(count.column()).filter(aggregatable).map { case (field, _) =>
+        (new Metric(Function.COUNT, field.name), StructField(s"count(${field.name})", LongType, nullable = false))
+      }
+      case min: Min => column(min.column()).filter(comparable).map { case (field, _) =>
+        (new Metric(Function.MIN, field.name), StructField(s"min(${field.name})", field.dataType))
+      }
+      case max: Max => column(max.column()).filter(comparable).map { case (field, _) =>
+        (new Metric(Function.MAX, field.name), StructField(s"max(${field.name})", field.dataType))
+      }
+      // same result type as Spark's own sum
+      case sum: Sum if !sum.isDistinct() => column(sum.column()).filter(floating).map { case (field, _) =>
+        (new Metric(Function.SUM, field.name), StructField(s"sum(${field.name})", DoubleType))
+      }
+      case _ => None
+    }
+
+    val groupBy = aggregation.groupByColumns().toSeq.map(ref => column(ref).filter(groupable).map(_._1))
+    val metrics = aggregation.aggregateExpressions().toSeq.map(metric)
+
+    if (groupBy.forall(_.isDefined) && metrics.forall(_.isDefined)) {
+      Some(new PushedAggregation(groupBy.flatten, metrics.flatten))
+    } else {
+      None
+    }
+  }
+}
+
+/**
+ * Scan returning the aggregated rows instead of the documents. The groups are paged through by a single task -
+ * their number being typically much smaller than the number of documents behind them.
+ */
+private[sql] class OpenSearchAggregationScan(relation: OpenSearchRelation, aggregation: PushedAggregation, filters: Array[Filter])
+  extends Scan with Batch {
+
+  override def readSchema(): StructType = aggregation.schema
+
+  override def description(): String =
+    s"OpenSearchAggregationScan [${OpenSearchTable.resource(relation)}] PushedAggregation: $aggregation, " +
+      s"PushedFilters: ${filters.mkString("[", ", ", "]")}"
+
+  override def toBatch(): Batch = this
+
+  override def planInputPartitions(): Array[InputPartition] = {
+    val settings = relation.cfg.copy()
+    settings.merge(relation.scanParameters(Array.empty, filters).asJava)
+    Array(new OpenSearchAggregationPartition(settings.save(), aggregation))
+  }
+
+  override def createReaderFactory(): PartitionReaderFactory = OpenSearchAggregationReaderFactory
+}
+
+private[sql] class OpenSearchAggregationPartition(val settings: String, val aggregation: PushedAggregation) extends InputPartition
+
+private[sql] object OpenSearchAggregationReaderFactory extends PartitionReaderFactory {
+
+  override def createReader(partition: InputPartition): PartitionReader[InternalRow] = {
+    val aggregationPartition = partition.asInstanceOf[OpenSearchAggregationPartition]
+    new OpenSearchAggregationReader(new PropertiesSettings().load(aggregationPartition.settings), aggregationPartition.aggregation)
+  }
+}
+
+private[sql] class OpenSearchAggregationReader(settings: Settings, aggregation: PushedAggregation)
+  extends PartitionReader[InternalRow] {
+
+  private val converters = aggregation.schema.fields.map(field => OpenSearchAggregationReader.converter(field.dataType))
+
+  private val query = new AggregationQuery(new RestRepository(settings), new Resource(settings, true).index(),
+    QueryUtils.parseQueryAndFilters(settings), aggregation.groupBy.map(_.name).asJava,
+    aggregation.metrics.map(_._1).asJava, settings.getScrollSize.toInt)
+
+  private var current: InternalRow = _
+
+  override def next(): Boolean = {
+    if (query.hasNext) {
+      val values = query.next()
+      val row = new Array[Any](values.length)
+      for (i <- values.indices) {
+        row(i) = if (values(i) == null) null else converters(i)(values(i))
+      }
+      current = new GenericInternalRow(row)
+      true
+    } else {
+      false
+    }
+  }
+
+  override def get(): InternalRow = current
+
+  override def close(): Unit = query.close()
+}
+
+private[sql] object OpenSearchAggregationReader {
+
+  // from the values returned by the cluster (JSON strings, numbers and booleans) to the internal Spark ones
+  def converter(dataType: DataType): AnyRef => Any = dataType match {
+    case StringType => value => UTF8String.fromString(value.toString)
+    case BooleanType => {
+      case b: java.lang.Boolean => b
+      case n: Number => n.longValue() != 0
+      case value => java.lang.Boolean.parseBoolean(value.toString)
+    }
+    case ByteType => value => value.asInstanceOf[Number].byteValue()
+    case ShortType => value => value.asInstanceOf[Number].shortValue()
+    case IntegerType => value => value.asInstanceOf[Number].intValue()
+    case LongType => value => value.asInstanceOf[Number].longValue()
+    case FloatType => value => value.asInstanceOf[Number].floatValue()
+    case DoubleType => value => value.asInstanceOf[Number].doubleValue()
+    // dates are returned as epoch millis
+    case TimestampType => value => Math.multiplyExact(value.asInstanceOf[Number].longValue(), 1000L)
+    case _ => value => value
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.spark.sql.v2
+
+import java.util.Locale
+
+import org.apache.commons.logging.Log
+import org.apache.commons.logging.LogFactory
+import org.apache.spark.TaskContext
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.connector.read.InputPartition
+import org.apache.spark.sql.connector.read.PartitionReader
+import org.apache.spark.sql.connector.read.PartitionReaderFactory
+import org.apache.spark.sql.types.StructType
+import org.apache.spark.sql.vectorized.ColumnarBatch
+import org.opensearch.hadoop.cfg.ConfigurationOptions
+import org.opensearch.hadoop.cfg.InternalConfigurationOptions
+import org.opensearch.hadoop.cfg.Settings
+import org.opensearch.hadoop.mr.security.HadoopUserProvider
+import org.opensearch.hadoop.rest.InitializationUtils
+import org.opensearch.hadoop.rest.PartitionDefinition
+import org.opensearch.hadoop.rest.RestService
+import org.opensearch.hadoop.serialization.builder.ValueReader
+import org.opensearch.spark.sql.SchemaUtils
+
+private[sql] class OpenSearchInputPartition(val definition: PartitionDefinition) extends InputPartition {
+
+  override def preferredLocations(): Array[String] = definition.getHostNames
+}
+
+/**
+ * @param columnar the schema to read into column batches (instead of rows), if any
+ */
+private[sql] class OpenSearchPartitionReaderFactory(struct: StructType, emptyRows: Boolean,
+                                                    columnar: Option[StructType] = None, offHeap: Boolean = false)
+  extends PartitionReaderFactory {
+
+  override def createReader(partition: InputPartition): PartitionReader[InternalRow] =
+    new OpenSearchPartitionReader(partition.asInstanceOf[OpenSearchInputPartition].definition, struct, emptyRows)
+
+  override def supportColumnarReads(partition: InputPartition): Boolean = columnar.isDefined
+
+  override def createColumnarReader(partition: InputPartition): PartitionReader[ColumnarBatch] =
+    new OpenSearchColumnarPartitionReader(partition.asInstanceOf[OpenSearchInputPartition].definition, struct, columnar.get, offHeap)
+}
+
+private[sql] object OpenSearchPartitionReader {
+
+  /**
+   * Prepares the reading of the given partition, the hits being built by the given value reader.
+   */
+  def createReader(definition: PartitionDefinition, settings: Settings, struct: StructType,
+                   valueReader: Class[_ <: ValueReader], log: Log): RestService.PartitionReader = {
+    settings.setProperty(ConfigurationOptions.OPENSEARCH_SERIALIZATION_READER_VALUE_CLASS, valueReader.getName)
+    InitializationUtils.setUserProviderIfNotSet(settings, classOf[HadoopUserProvider], log)
+    SchemaUtils.setRowInfo(settings, struct)
+
+    val context = TaskContext.get()
+    if (context != null && settings.getOpaqueId() != null && settings.getOpaqueId().contains("task attempt") == false) {
+      settings.setOpaqueId(String.format(Locale.ROOT, "%s, stage %s, task attempt %s", settings.getOpaqueId(),
+        context.stageId().toString, context.taskAttemptId.toString))
+    }
+    RestService.createReader(settings, definition, log)
+  }
+}
+
+/**
+ * Scrolls over a partition, handing out the {@link InternalRow}s built by the {@link InternalRowValueReader}.
+ * When no column is required (think count) the rows are empty.
+ */
+private[sql] class OpenSearchPartitionReader(definition: PartitionDefinition, struct: StructType, emptyRows: Boolean)
+  extends PartitionReader[InternalRow] {
+
+  @transient private lazy val log = LogFactory.getLog(classOf[OpenSearchPartitionReader])
+
+  private var initialized = false
+  private var current: InternalRow = _
+
+  private lazy val query = {
+    initialized = true
+    // the rows handed to Spark need to be in the internal format
+    OpenSearchPartitionReader.createReader(definition, definition.settings(), struct, classOf[InternalRowValueReader], log).scrollQuery()
+  }
+
+  override def next(): Boolean = {
+    if (query.hasNext) {
+      // drop the ID
+      val hit = query.next()
+      current = if (emptyRows) InternalRow.empty else hit(1).asInstanceOf[InternalRow]
+      true
+    } else {
+      false
+    }
+  }
+
+  override def get(): InternalRow = current
+
+  override def close(): Unit = {
+    if (initialized) {
+      query.close()
+    }
+  }
+}
+
+/**
+ * Scrolls over a partition, handing out each page as a {@link ColumnarBatch} filled in by the {@link ColumnarValueReader}
+ * while the page is parsed. The batch (and its vectors) are reused across pages.
+ */
+private[sql] class OpenSearchColumnarPartitionReader(definition: PartitionDefinition, struct: StructType, schema: StructType,
+                                                     offHeap: Boolean)
+  extends PartitionReader[ColumnarBatch] {
+
+  @transient private lazy val log = LogFactory.getLog(classOf[OpenSearchColumnarPartitionReader])
+
+  private var page: ColumnarPage = _
+  private var initialized = false
+
+  private lazy val query = {
+    initialized = true
+    val settings = definition.settings()
+    // pages are written into the (single) batch as they are parsed - reading ahead would overwrite the current one...
+    settings.setProperty(ConfigurationOptions.OPENSEARCH_SCROLL_PREFETCH, "0")
+    // ...while handing out the hits as they are parsed would leave a single one in it
+    settings.setProperty(InternalConfigurationOptions.INTERNAL_OPENSEARCH_READ_WHOLE_PAGES, "true")
+    val reader = OpenSearchPartitionReader.createReader(definition, settings, struct, classOf[ColumnarValueReader], log)
+    page = new ColumnarPage(schema, settings.getScrollSize.toInt, offHeap)
+    reader.scrollReader.getValueReader.asInstanceOf[ColumnarValueReader].setPage(page)
+    reader.scrollQuery()
+  }
+
+  override def next(): Boolean = {
+    if (page != null) {
+      page.reset()
+    }
+    // parses the next page, in full (into the vectors)...
+    if (query.hasNext) {
+      // ...whose hits are then consumed without parsing any further
+      var i = 0
+      while (i < page.numRows) {
+        query.next()
+        i += 1
+      }
+      true
+    } else {
+      false
+    }
+  }
+
+  override def get(): ColumnarBatch = page.toBatch
+
+  override def close(): Unit = {
+    if (initialized) {
+      query.close()
+      page.close()
+    }
+  }
+}
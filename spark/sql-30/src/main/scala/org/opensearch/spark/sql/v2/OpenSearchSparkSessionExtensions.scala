@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.spark.sql.v2
+
+import org.apache.spark.sql.SparkSessionExtensions
+import org.apache.spark.sql.catalyst.expressions.Ascending
+import org.apache.spark.sql.catalyst.expressions.AttributeReference
+import org.apache.spark.sql.catalyst.expressions.IntegerLiteral
+import org.apache.spark.sql.catalyst.expressions.NullsFirst
+import org.apache.spark.sql.catalyst.expressions.SortOrder
+import org.apache.spark.sql.catalyst.plans.logical.LocalLimit
+import org.apache.spark.sql.catalyst.plans.logical.LogicalPlan
+import org.apache.spark.sql.catalyst.plans.logical.Project
+import org.apache.spark.sql.catalyst.plans.logical.Sort
+import org.apache.spark.sql.catalyst.rules.Rule
+import org.apache.spark.sql.execution.datasources.v2.DataSourceV2Relation
+import org.apache.spark.sql.util.CaseInsensitiveStringMap
+import org.opensearch.hadoop.util.StringUtils
+import org.opensearch.spark.rdd.JDKCollectionConvertersCompat.Converters._
+
+/**
+ * Registers the optimizations the Spark 3.2 DataSource V2 API cannot express, through
+ * {@code spark.sql.extensions=org.opensearch.spark.sql.v2.OpenSearchSparkSessionExtensions}:
+ * <ul>
+ * <li>{@code LIMIT n} - each partition reads at most n documents, in a single search if they fit in one page</li>
+ * <li>{@code ORDER BY ... LIMIT n} - each partition reads its top n documents, sorted by the cluster</li>
+ * </ul>
+ * Only applies to reads without filters; these might not all be pushed down (and the limit has to apply after them).
+ */
+class OpenSearchSparkSessionExtensions extends (SparkSessionExtensions => Unit) {
+
+  override def apply(extensions: SparkSessionExtensions): Unit = {
+    extensions.injectOptimizerRule(_ => PushDownLimit)
+  }
+}
+
+/**
+ * Pushes the per-partition limit (and the sort order under it) into the {@link OpenSearchScan}. Spark still sorts
+ * and limits the rows returned by all partitions, so the plan itself is left as is.
+ * <p>
+ * The optimizer rules run before the scan is built (by {@code V2ScanRelationPushDown}), hence the limit and sort
+ * order are handed to the {@link OpenSearchScanBuilder} through the options of the relation.
+ */
+private[sql] object PushDownLimit extends Rule[LogicalPlan] {
+
+  val LIMIT = "opensearch.internal.spark.sql.pushdown.limit"
+  val SORT = "opensearch.internal.spark.sql.pushdown.sort"
+
+  override def apply(plan: LogicalPlan): LogicalPlan = plan transform {
+    case limit @ LocalLimit(IntegerLiteral(n), child) if n > 0 => pushDown(child, n).map(c => limit.copy(child = c)).getOrElse(limit)
+  }
+
+  private def pushDown(plan: LogicalPlan, n: Int): Option[LogicalPlan] = plan match {
+    case project @ Project(_, child) => pushDown(child, n).map(c => project.copy(child = c))
+    case sort @ Sort(order, true, child) => topN(child, order, n).map(c => sort.copy(child = c))
+    case relation @ DataSourceV2Relation(table: OpenSearchTable, _, _, _, options)
+      if table.relation.isPushDown && !options.containsKey(SORT) && limit(options).forall(_ > n) =>
+      Some(relation.copy(options = withOptions(options, Map(LIMIT -> n.toString))))
+    case _ => None
+  }
+
+  private def topN(plan: LogicalPlan, order: Seq[SortOrder], n: Int): Option[LogicalPlan] = plan match {
+    case project @ Project(_, child) => topN(child, order, n).map(c => project.copy(child = c))
+    case relation @ DataSourceV2Relation(table: OpenSearchTable, output, _, _, options)
+      if table.relation.isPushDown && !options.containsKey(SORT) && !options.containsKey(LIMIT) =>
+      val sort = order.map { sortOrder =>
+        sortOrder.child match {
+          // only columns read as is (not computed or renamed by a projection)
+          case attribute: AttributeReference if output.exists(_.exprId == attribute.exprId) &&
+            PushedAggregation.sortable(table.relation, attribute.name) =>
+            val direction = if (sortOrder.direction == Ascending) "asc" else "desc"
+            val missing = if (sortOrder.nullOrdering == NullsFirst) "_first" else "_last"
+            Some(s"${attribute.name}:$direction:$missing")
+          case _ => None
+        }
+      }
+      if (sort.forall(_.isDefined)) {
+        Some(relation.copy(options = withOptions(options, Map(LIMIT -> n.toString, SORT -> sort.flatten.mkString(StringUtils.DEFAULT_DELIMITER)))))
+      } else {
+        None
+      }
+    case _ => None
+  }
+
+  private def withOptions(options: CaseInsensitiveStringMap, pushed: Map[String, String]): CaseInsensitiveStringMap =
+    new CaseInsensitiveStringMap((options.asCaseSensitiveMap().asScala ++ pushed).asJava)
+
+  /**
+   * @return the limit pushed down through the given options, if any
+   */
+  def limit(options: CaseInsensitiveStringMap): Option[Int] = Option(options.get(LIMIT)).map(_.toInt)
+
+  /**
+   * @return the sort order pushed down through the given options, as {@code field:asc|desc:_first|_last} entries
+   */
+  def sort(options: CaseInsensitiveStringMap): Seq[String] =
+    Option(options.get(SORT)).map(StringUtils.tokenize(_).asScala.toSeq).getOrElse(Nil)
+}
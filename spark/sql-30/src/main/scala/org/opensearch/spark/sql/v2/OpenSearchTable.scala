@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.spark.sql.v2
+
+import java.util.EnumSet
+import java.util.OptionalLong
+import java.util.{Set => JSet}
+
+import org.apache.commons.logging.LogFactory
+import org.apache.spark.sql.connector.catalog.SupportsRead
+import org.apache.spark.sql.connector.catalog.Table
+import org.apache.spark.sql.connector.catalog.TableCapability
+import org.apache.spark.sql.connector.expressions.aggregate.Aggregation
+import org.apache.spark.sql.connector.read.Batch
+import org.apache.spark.sql.connector.read.InputPartition
+import org.apache.spark.sql.connector.read.PartitionReaderFactory
+import org.apache.spark.sql.connector.read.Scan
+import org.apache.spark.sql.connector.read.ScanBuilder
+import org.apache.spark.sql.connector.read.Statistics
+import org.apache.spark.sql.connector.read.SupportsPushDownAggregates
+import org.apache.spark.sql.connector.read.SupportsPushDownFilters
+import org.apache.spark.sql.connector.read.SupportsPushDownRequiredColumns
+import org.apache.spark.sql.connector.read.SupportsReportStatistics
+import org.apache.spark.sql.internal.SQLConf
+import org.apache.spark.sql.sources.Filter
+import org.apache.spark.sql.types.StructType
+import org.apache.spark.sql.util.CaseInsensitiveStringMap
+import org.opensearch.hadoop.cfg.ConfigurationOptions
+import org.opensearch.hadoop.cfg.InternalConfigurationOptions
+import org.opensearch.hadoop.mr.security.HadoopUserProvider
+import org.opensearch.hadoop.rest.InitializationUtils
+import org.opensearch.hadoop.rest.RestService
+import org.opensearch.hadoop.util.StringUtils
+import org.opensearch.spark.cfg.SparkSettingsManager
+import org.opensearch.spark.rdd.JDKCollectionConvertersCompat.Converters._
+import org.opensearch.spark.sql.OpenSearchRelation
+
+private[sql] class OpenSearchTable(val relation: OpenSearchRelation) extends Table with SupportsRead {
+
+  override def name(): String = OpenSearchTable.resource(relation)
+
+  override def schema(): StructType = relation.schema
+
+  override def capabilities(): JSet[TableCapability] = EnumSet.of(TableCapability.BATCH_READ)
+
+  // the settings are the ones the table was created with; the options only carry what PushDownLimit pushed down
+  override def newScanBuilder(options: CaseInsensitiveStringMap): ScanBuilder =
+    new OpenSearchScanBuilder(relation, PushDownLimit.limit(options), PushDownLimit.sort(options))
+}
+
+private[sql] object OpenSearchTable {
+
+  def resource(relation: OpenSearchRelation): String = relation.parameters.getOrElse(ConfigurationOptions.OPENSEARCH_RESOURCE_READ,
+    relation.parameters.getOrElse(ConfigurationOptions.OPENSEARCH_RESOURCE, ""))
+}
+
+private[sql] class OpenSearchScanBuilder(relation: OpenSearchRelation, limit: Option[Int] = None, sort: Seq[String] = Nil) extends ScanBuilder
+  with SupportsPushDownRequiredColumns with SupportsPushDownFilters with SupportsPushDownAggregates {
+
+  private var requiredSchema = relation.schema
+  private var pushed = Array.empty[Filter]
+  private var aggregation: Option[PushedAggregation] = None
+
+  // as with the V1 relation only top-level columns are pruned; nested objects are read whole
+  override def pruneColumns(requiredSchema: StructType): Unit = {
+    this.requiredSchema = StructType(requiredSchema.fieldNames.map(relation.schema(_)))
+  }
+
+  override def pushFilters(filters: Array[Filter]): Array[Filter] = {
+    if (relation.isPushDown) {
+      pushed = filters
+      relation.unhandledFilters(filters)
+    } else {
+      filters
+    }
+  }
+
+  override def pushedFilters(): Array[Filter] = pushed
+
+  // Spark only gets here if all the filters have been pushed down (and are not evaluated again)
+  override def pushAggregation(aggregation: Aggregation): Boolean = {
+    if (relation.isPushDown) {
+      this.aggregation = PushedAggregation(relation, aggregation)
+    }
+    this.aggregation.isDefined
+  }
+
+  override def build(): Scan = aggregation match {
+    case Some(pushedAggregation) => new OpenSearchAggregationScan(relation, pushedAggregation, pushed)
+    case None => new OpenSearchScan(relation, requiredSchema, pushed, limit, sort)
+  }
+}
+
+/**
+ * Scan over the index - partitioned exactly as the V1 (RDD based) reads, through {@link RestService#findPartitions}.
+ * A limit and sort order (see {@link OpenSearchSparkSessionExtensions}) apply to each partition; Spark still merges
+ * their results (and applies the limit again).
+ * When partitioning by size, the estimated size of the partitions is reported to Spark (think broadcast joins).
+ */
+private[sql] class OpenSearchScan(val relation: OpenSearchRelation, requiredSchema: StructType, filters: Array[Filter],
+                                  val limit: Option[Int] = None, val sort: Seq[String] = Nil)
+  extends Scan with Batch with SupportsReportStatistics {
+
+  @transient private lazy val log = LogFactory.getLog(classOf[OpenSearchScan])
+
+  private lazy val partitions: Array[InputPartition] = {
+    val params = relation.scanParameters(requiredSchema.fieldNames, filters)
+    // nothing to read (think count) - the hits are enough
+    if (requiredSchema.isEmpty) {
+      params += (InternalConfigurationOptions.INTERNAL_OPENSEARCH_EXCLUDE_SOURCE -> "true")
+    }
+
+    val settings = new SparkSettingsManager().load(relation.sqlContext.sparkContext.getConf).copy()
+    settings.merge(params.asJava)
+    // the user might have asked for even less
+    limit.foreach { n =>
+      val current = settings.getScrollLimit
+      settings.setProperty(ConfigurationOptions.OPENSEARCH_SCROLL_LIMIT, (if (current > 0) math.min(current, n.toLong) else n.toLong).toString)
+    }
+    if (sort.nonEmpty) {
+      settings.setProperty(InternalConfigurationOptions.INTERNAL_OPENSEARCH_READ_SORT, sort.mkString(StringUtils.DEFAULT_DELIMITER))
+    }
+    InitializationUtils.setUserProviderIfNotSet(settings, classOf[HadoopUserProvider], log)
+
+    RestService.findPartitions(settings, log).asScala.map(definition => new OpenSearchInputPartition(definition): InputPartition).toArray
+  }
+
+  override def readSchema(): StructType = requiredSchema
+
+  override def description(): String =
+    s"OpenSearchScan [${OpenSearchTable.resource(relation)}] PushedFilters: ${filters.mkString("[", ", ", "]")}, " +
+      limit.map(n => s"PushedLimit: $n, ").getOrElse("") +
+      (if (sort.nonEmpty) s"PushedSort: ${sort.mkString("[", ", ", "]")}, " else "") +
+      s"ReadSchema: ${requiredSchema.simpleString}"
+
+  override def toBatch(): Batch = this
+
+  override def planInputPartitions(): Array[InputPartition] = partitions
+
+  // only known (from the shard stats) when partitioning by size - otherwise Spark falls back to its default
+  override def estimateStatistics(): Statistics = {
+    val sizes = if (relation.cfg.getMaxBytesPerPartition != null) {
+      partitions.map(_.asInstanceOf[OpenSearchInputPartition].definition.getSize)
+    } else {
+      Array(-1L)
+    }
+    val total = if (sizes.forall(_ >= 0)) OptionalLong.of(sizes.sum) else OptionalLong.empty()
+    new Statistics {
+      override def sizeInBytes(): OptionalLong = total
+      override def numRows(): OptionalLong = OptionalLong.empty()
+    }
+  }
+
+  // the rows are laid out based on the whole (discovered) mapping, as with the V1 reads
+  override def createReaderFactory(): PartitionReaderFactory = {
+    // columns of atomic types can be read straight into vectors (allocated as Spark does for Parquet and ORC)
+    val columnar = if (relation.cfg.getDataFrameReadColumnar && ColumnarPage.supports(requiredSchema)) Some(requiredSchema) else None
+    new OpenSearchPartitionReaderFactory(relation.lazySchema.struct, requiredSchema.isEmpty, columnar, SQLConf.get.offHeapColumnVectorEnabled)
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.spark.sql
+
+import java.io.ByteArrayOutputStream
+import java.sql.Timestamp
+
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.catalyst.util.ArrayBasedMapData
+import org.apache.spark.sql.catalyst.util.DateTimeUtils
+import org.apache.spark.sql.catalyst.util.GenericArrayData
+import org.apache.spark.sql.types.ArrayType
+import org.apache.spark.sql.types.DecimalType
+import org.apache.spark.sql.types.IntegerType
+import org.apache.spark.sql.types.LongType
+import org.apache.spark.sql.types.MapType
+import org.apache.spark.sql.types.StringType
+import org.apache.spark.sql.types.StructField
+import org.apache.spark.sql.types.StructType
+import org.apache.spark.sql.types.TimestampType
+import org.apache.spark.unsafe.types.UTF8String
+import org.junit.Assert._
+import org.junit.Test
+import org.opensearch.hadoop.cfg.{ConfigurationOptions, Settings}
+import org.opensearch.hadoop.serialization.OpenSearchHadoopSerializationException
+import org.opensearch.hadoop.serialization.json.JacksonJsonGenerator
+import org.opensearch.hadoop.util.TestSettings
+
+class InternalRowValueWriterTest {
+
+  private def serialize(value: InternalRow, schema: StructType): String = serialize(value, schema, null)
+
+  private def serialize(value: InternalRow, schema: StructType, settings: Settings): String = {
+    val out = new ByteArrayOutputStream()
+    val generator = new JacksonJsonGenerator(out)
+
+    val writer = new InternalRowValueWriter()
+    if (settings != null) {
+      writer.setSettings(settings)
+    }
+    val result = writer.write((value, schema), generator)
+    if (result.isSuccesful == false) {
+      throw new OpenSearchHadoopSerializationException("Could not serialize [" + result.getUnknownValue + "]")
+    }
+    generator.flush()
+
+    new String(out.toByteArray)
+  }
+
+  private def utf8(s: String): UTF8String = UTF8String.fromString(s)
+
+  @Test
+  def testSimpleRow(): Unit = {
+    val schema = StructType(Seq(StructField("a", StringType), StructField("b", IntegerType), StructField("c", LongType)))
+    val row = InternalRow(utf8("a \"quoted\" value"), 1, 2L)
+    assertEquals("""{"a":"a \"quoted\" value","b":1,"c":2}""", serialize(row, schema))
+  }
+
+  @Test
+  def testSubstring(): Unit = {
+    // a slice of a larger buffer, as the strings of an UnsafeRow are
+    val schema = StructType(Seq(StructField("a", StringType)))
+    val row = InternalRow(UTF8String.fromBytes("prefix-value-suffix".getBytes("UTF-8"), 7, 5))
+    assertEquals("""{"a":"value"}""", serialize(row, schema))
+  }
+
+  @Test
+  def testNestedStructWithExclude(): Unit = {
+    val nested = StructType(Seq(StructField("ignoreme", StringType), StructField("keepme", StringType)))
+    val schema = StructType(Seq(StructField("skey", nested)))
+    val row = InternalRow(InternalRow(utf8("value"), utf8("value")))
+
+    val settings = new TestSettings()
+    settings.setProperty(ConfigurationOptions.OPENSEARCH_MAPPING_EXCLUDE, "skey.ignoreme")
+    assertEquals("""{"skey":{"keepme":"value"}}""", serialize(row, schema, settings))
+  }
+
+  @Test
+  def testArrayAndMap(): Unit = {
+    val schema = StructType(Seq(
+      StructField("a", ArrayType(IntegerType)),
+      StructField("m", MapType(StringType, StringType))))
+    val row = InternalRow(
+      new GenericArrayData(Array[Any](1, null, 3)),
+      ArrayBasedMapData(Array[Any](utf8("k1"), utf8("k2")), Array[Any](utf8("v1"), null)))
+    assertEquals("""{"a":[1,null,3],"m":{"k1":"v1","k2":null}}""", serialize(row, schema))
+  }
+
+  @Test
+  def testNullValues(): Unit = {
+    val schema = StructType(Seq(StructField("a", StringType), StructField("b", IntegerType)))
+    val row = InternalRow(null, 1)
+    assertEquals("""{"b":1}""", serialize(row, schema))
+
+    val settings = new TestSettings()
+    settings.setProperty(ConfigurationOptions.OPENSEARCH_SPARK_DATAFRAME_WRITE_NULL_VALUES, "true")
+    assertEquals("""{"a":null,"b":1}""", serialize(row, schema, settings))
+  }
+
+  @Test
+  def testTimestamp(): Unit = {
+    val schema = StructType(Seq(StructField("t", TimestampType)))
+    val timestamp = new Timestamp(1500000000123L)
+    val row = InternalRow(DateTimeUtils.fromJavaTimestamp(timestamp))
+    assertEquals("""{"t":1500000000123}""", serialize(row, schema))
+  }
+
+  @Test(expected = classOf[OpenSearchHadoopSerializationException])
+  def testDecimalNotSupported(): Unit = {
+    val schema = StructType(Seq(StructField("d", DecimalType(10, 2))))
+    serialize(InternalRow(org.apache.spark.sql.types.Decimal(1.5d)), schema)
+  }
+
+  @Test
+  def testSupports(): Unit = {
+    assertTrue(InternalRowValueWriter.supports(new TestSettings()))
+
+    val custom = new TestSettings()
+    custom.setProperty(ConfigurationOptions.OPENSEARCH_SERIALIZATION_WRITER_VALUE_CLASS, classOf[DataFrameValueWriter].getName)
+    assertFalse(InternalRowValueWriter.supports(custom))
+
+    val json = new TestSettings()
+    json.setProperty(ConfigurationOptions.OPENSEARCH_INPUT_JSON, "true")
+    assertFalse(InternalRowValueWriter.supports(json))
+  }
+}
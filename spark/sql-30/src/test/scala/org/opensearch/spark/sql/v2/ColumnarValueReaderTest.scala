@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.spark.sql.v2
+
+import java.io.ByteArrayInputStream
+import java.util.Collections
+import java.util.{Map => JMap}
+
+import org.apache.spark.sql.types.ArrayType
+import org.apache.spark.sql.types.StringType
+import org.apache.spark.sql.types.StructField
+import org.apache.spark.sql.types.StructType
+import org.apache.spark.unsafe.types.UTF8String
+import org.codehaus.jackson.map.ObjectMapper
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.opensearch.hadoop.cfg.InternalConfigurationOptions
+import org.opensearch.hadoop.serialization.ScrollReader
+import org.opensearch.hadoop.serialization.ScrollReaderConfigBuilder
+import org.opensearch.hadoop.serialization.dto.mapping.FieldParser
+import org.opensearch.hadoop.util.StringUtils
+import org.opensearch.hadoop.util.TestSettings
+import org.opensearch.spark.sql.SchemaUtils
+
+class ColumnarValueReaderTest {
+
+  private val mapping = """{
+    |  "index": {
+    |    "mappings": {
+    |      "properties" : {
+    |        "age" : { "type" : "integer" },
+    |        "name" : { "type" : "keyword" },
+    |        "score" : { "type" : "double" }
+    |      }
+    |    }
+    |  }
+    |}""".stripMargin
+
+  private def hits(names: String*) = names.zipWithIndex.map { case (name, i) =>
+    s"""{ "_index" : "people", "_id" : "$i", "_score" : 1.0, "_source" : { "name" : "$name", "age" : $i } }"""
+  }.mkString(s"""{ "_scroll_id" : "c2Nhbg==", "hits" : { "total" : ${names.size}, "hits" : [""", ",", "]}}")
+
+  private val hitsWithScore = """{
+    |  "_scroll_id" : "c2Nhbg==",
+    |  "hits" : {
+    |    "total" : 2,
+    |    "hits" : [
+    |      { "_index" : "people", "_id" : "1", "_score" : 1.0, "_source" : { "score" : 1.5, "name" : "kimchy", "age" : 42 } },
+    |      { "_index" : "people", "_id" : "2", "_score" : 1.0, "_source" : { "name" : "costin" } }
+    |    ]
+    |  }
+    |}""".stripMargin
+
+  @Test
+  def testReadIntoVectors(): Unit = {
+    val page = new ColumnarPage(schema, 1, false)
+    try {
+      val scroll = reader(page).read(new ByteArrayInputStream(StringUtils.toUTF(hitsWithScore)))
+      assertEquals(2, scroll.getHits.size())
+      assertEquals(2, page.numRows)
+
+      // the columns follow the schema, not the document
+      val batch = page.toBatch
+      assertEquals(2, batch.numRows())
+      assertEquals(42, batch.column(0).getInt(0))
+      assertEquals(UTF8String.fromString("kimchy"), batch.column(1).getUTF8String(0))
+      assertEquals(1.5d, batch.column(2).getDouble(0), 0.0d)
+
+      // missing fields are null
+      assertTrue(batch.column(0).isNullAt(1))
+      assertEquals(UTF8String.fromString("costin"), batch.column(1).getUTF8String(1))
+      assertTrue(batch.column(2).isNullAt(1))
+    } finally {
+      page.close()
+    }
+  }
+
+  @Test
+  def testPagesReuseVectors(): Unit = {
+    val page = new ColumnarPage(schema, 2, false)
+    try {
+      val scrollReader = reader(page)
+      scrollReader.read(new ByteArrayInputStream(StringUtils.toUTF(hits("a", "b", "c"))))
+      assertEquals(3, page.numRows)
+
+      page.reset()
+      scrollReader.read(new ByteArrayInputStream(StringUtils.toUTF(hits("d"))))
+      val batch = page.toBatch
+      assertEquals(1, batch.numRows())
+      assertEquals(UTF8String.fromString("d"), batch.column(1).getUTF8String(0))
+      assertFalse(batch.column(0).isNullAt(0))
+      assertTrue(batch.column(2).isNullAt(0))
+    } finally {
+      page.close()
+    }
+  }
+
+  @Test
+  def testWholePagesFillTheBatch(): Unit = {
+    val page = new ColumnarPage(schema, 3, false)
+    try {
+      val cfg = new TestSettings
+      cfg.setProperty(InternalConfigurationOptions.INTERNAL_OPENSEARCH_READ_WHOLE_PAGES, "true")
+      val listener = new ScrollReader.PageListener {
+        override def pageRead(parseNanos: Long): Unit = {}
+      }
+      // the page is parsed upfront, not hit by hit
+      val scroll = reader(page, cfg).streamScroll(new ByteArrayInputStream(StringUtils.toUTF(hits("a", "b", "c"))), listener)
+      assertEquals(3, page.numRows)
+
+      // consumed as the columnar partition reader does
+      val it = scroll.iterator()
+      var i = 0
+      while (i < page.numRows) {
+        it.next()
+        i += 1
+      }
+      assertFalse(it.hasNext)
+
+      val batch = page.toBatch
+      assertEquals(3, batch.numRows())
+      assertEquals(UTF8String.fromString("a"), batch.column(1).getUTF8String(0))
+      assertEquals(UTF8String.fromString("c"), batch.column(1).getUTF8String(2))
+    } finally {
+      page.close()
+    }
+  }
+
+  @Test
+  def testOnlyAtomicTypesAreSupported(): Unit = {
+    assertTrue(ColumnarPage.supports(schema))
+    assertFalse(ColumnarPage.supports(new StructType()))
+    assertFalse(ColumnarPage.supports(StructType(Seq(StructField("tags", ArrayType(StringType))))))
+    assertFalse(ColumnarPage.supports(StructType(Seq(StructField("address", StructType(Seq(StructField("city", StringType))))))))
+  }
+
+  private def resolved = FieldParser.parseTypelessMappings(new ObjectMapper().readValue(mapping, classOf[JMap[String, Object]])).getResolvedView
+
+  private def schema: StructType = SchemaUtils.convertToStruct(resolved, Collections.emptyMap(), new TestSettings)
+
+  private def reader(page: ColumnarPage): ScrollReader = reader(page, new TestSettings)
+
+  private def reader(page: ColumnarPage, cfg: TestSettings): ScrollReader = {
+    SchemaUtils.setRowInfo(cfg, schema)
+
+    val valueReader = new ColumnarValueReader
+    valueReader.setSettings(cfg)
+    valueReader.setPage(page)
+    new ScrollReader(ScrollReaderConfigBuilder.builder(valueReader, resolved, cfg))
+  }
+}
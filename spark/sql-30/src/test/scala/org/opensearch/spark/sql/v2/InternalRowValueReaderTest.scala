@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.spark.sql.v2
+
+import java.io.ByteArrayInputStream
+import java.sql.Timestamp
+import java.util.Collections
+import java.util.{Map => JMap}
+
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.catalyst.util.DateTimeUtils
+import org.apache.spark.unsafe.types.UTF8String
+import org.codehaus.jackson.map.ObjectMapper
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.opensearch.hadoop.cfg.ConfigurationOptions._
+import org.opensearch.hadoop.serialization.ScrollReader
+import org.opensearch.hadoop.serialization.ScrollReaderConfigBuilder
+import org.opensearch.hadoop.serialization.dto.mapping.FieldParser
+import org.opensearch.hadoop.util.DateUtils
+import org.opensearch.hadoop.util.StringUtils
+import org.opensearch.hadoop.util.TestSettings
+import org.opensearch.spark.sql.SchemaUtils
+
+class InternalRowValueReaderTest {
+
+  private val mapping = """{
+    |  "index": {
+    |    "mappings": {
+    |      "properties" : {
+    |        "address" : {
+    |          "properties" : {
+    |            "city" : { "type" : "keyword" },
+    |            "zip" : { "type" : "long" }
+    |          }
+    |        },
+    |        "age" : { "type" : "integer" },
+    |        "created" : { "type" : "date" },
+    |        "name" : { "type" : "keyword" },
+    |        "tags" : { "type" : "keyword" }
+    |      }
+    |    }
+    |  }
+    |}""".stripMargin
+
+  private val hits = """{
+    |  "_scroll_id" : "c2NhbjswOzE7dG90YWxfaGl0czo0Ow==",
+    |  "hits" : {
+    |    "total" : 2,
+    |    "hits" : [{
+    |      "_index" : "people", "_id" : "1", "_score" : 1.0,
+    |      "_source" : {
+    |        "address" : { "zip" : 10115, "city" : "Berlin" },
+    |        "tags" : ["a", "b"],
+    |        "created" : "2020-01-02T03:04:05.006Z",
+    |        "age" : 42,
+    |        "name" : "kimchy"
+    |      }
+    |    }, {
+    |      "_index" : "people", "_id" : "2", "_score" : 1.0,
+    |      "_source" : { "name" : "costin" }
+    |    }]
+    |  }
+    |}""".stripMargin
+
+  @Test
+  def testReadInternalRows(): Unit = {
+    val rows = read()
+    assertEquals(2, rows.size)
+
+    // the columns follow the schema, not the document
+    val row = rows(0)
+    val address = row.getStruct(0, 2)
+    assertEquals(UTF8String.fromString("Berlin"), address.getUTF8String(0))
+    assertEquals(10115L, address.getLong(1))
+    assertEquals(42, row.getInt(1))
+    val created = new Timestamp(DateUtils.parseDate("2020-01-02T03:04:05.006Z").getTimeInMillis)
+    assertEquals(DateTimeUtils.fromJavaTimestamp(created), row.getLong(2))
+    assertEquals(UTF8String.fromString("kimchy"), row.getUTF8String(3))
+    val tags = row.getArray(4)
+    assertEquals(2, tags.numElements())
+    assertEquals(UTF8String.fromString("a"), tags.getUTF8String(0))
+    assertEquals(UTF8String.fromString("b"), tags.getUTF8String(1))
+  }
+
+  @Test
+  def testMissingFieldsAreNull(): Unit = {
+    val row = read()(1)
+    assertEquals(UTF8String.fromString("costin"), row.getUTF8String(3))
+    for (i <- Seq(0, 1, 2, 4)) {
+      assertTrue(row.isNullAt(i))
+    }
+  }
+
+  private def read(): Seq[InternalRow] = {
+    val cfg = new TestSettings
+    cfg.setProperty(OPENSEARCH_READ_FIELD_AS_ARRAY_INCLUDE, "tags")
+    val resolved = FieldParser.parseTypelessMappings(new ObjectMapper().readValue(mapping, classOf[JMap[String, Object]])).getResolvedView
+    SchemaUtils.setRowInfo(cfg, SchemaUtils.convertToStruct(resolved, Collections.emptyMap(), cfg))
+
+    val valueReader = new InternalRowValueReader
+    valueReader.setSettings(cfg)
+    val reader = new ScrollReader(ScrollReaderConfigBuilder.builder(valueReader, resolved, cfg))
+    val scroll = reader.read(new ByteArrayInputStream(StringUtils.toUTF(hits)))
+
+    val result = Seq.newBuilder[InternalRow]
+    val it = scroll.getHits.iterator()
+    while (it.hasNext) {
+      result += it.next()(1).asInstanceOf[InternalRow]
+    }
+    result.result()
+  }
+}
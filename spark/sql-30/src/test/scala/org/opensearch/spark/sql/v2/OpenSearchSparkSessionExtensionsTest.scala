@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.spark.sql.v2
+
+import java.util.Arrays
+
+import org.apache.spark.sql.DataFrame
+import org.apache.spark.sql.SparkSession
+import org.apache.spark.sql.catalyst.expressions.Ascending
+import org.apache.spark.sql.catalyst.expressions.Literal
+import org.apache.spark.sql.catalyst.expressions.SortOrder
+import org.apache.spark.sql.catalyst.plans.logical.Limit
+import org.apache.spark.sql.catalyst.plans.logical.LogicalPlan
+import org.apache.spark.sql.catalyst.plans.logical.Sort
+import org.apache.spark.sql.execution.datasources.v2.DataSourceV2Relation
+import org.apache.spark.sql.execution.datasources.v2.DataSourceV2ScanRelation
+import org.apache.spark.sql.types.FloatType
+import org.apache.spark.sql.types.IntegerType
+import org.apache.spark.sql.types.StringType
+import org.apache.spark.sql.types.StructField
+import org.apache.spark.sql.types.StructType
+import org.apache.spark.sql.util.CaseInsensitiveStringMap
+import org.junit.AfterClass
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.BeforeClass
+import org.junit.Test
+import org.opensearch.hadoop.cfg.ConfigurationOptions
+import org.opensearch.hadoop.cfg.InternalConfigurationOptions
+import org.opensearch.hadoop.serialization.FieldType
+import org.opensearch.hadoop.serialization.dto.mapping.Field
+import org.opensearch.hadoop.serialization.dto.mapping.Mapping
+import org.opensearch.spark.sql.OpenSearchRelation
+import org.opensearch.spark.sql.SchemaUtils
+
+object OpenSearchSparkSessionExtensionsTest {
+
+  private var spark: SparkSession = _
+
+  @BeforeClass
+  def setup(): Unit = {
+    spark = SparkSession.builder().master("local").appName("OpenSearchSparkSessionExtensionsTest")
+      .config("spark.ui.enabled", "false")
+      .config("spark.sql.extensions", classOf[OpenSearchSparkSessionExtensions].getName)
+      .getOrCreate()
+  }
+
+  @AfterClass
+  def tearDown(): Unit = {
+    spark.stop()
+    spark = null
+  }
+}
+
+class OpenSearchSparkSessionExtensionsTest {
+
+  import OpenSearchSparkSessionExtensionsTest.spark
+
+  private val struct = StructType(Seq(StructField("name", StringType), StructField("age", IntegerType),
+    StructField("code", StringType), StructField("ratio", FloatType)))
+
+  // the cluster details (and schema) are known upfront, hence no cluster is contacted while planning
+  private val parameters = Map(ConfigurationOptions.OPENSEARCH_RESOURCE -> "people",
+    InternalConfigurationOptions.INTERNAL_OPENSEARCH_CLUSTER_NAME -> "cluster",
+    InternalConfigurationOptions.INTERNAL_OPENSEARCH_VERSION -> "2.11.0")
+
+  private def read(): DataFrame = spark.read.format(classOf[DefaultSource].getName).schema(struct).options(parameters).load()
+
+  // sorting requires the mapping as well
+  private def relation(): DataSourceV2Relation = {
+    // code has an ignore_above, hence no doc value past it
+    val mapping = new Mapping("people", null, Arrays.asList(new Field("name", FieldType.KEYWORD), new Field("age", FieldType.INTEGER),
+      new Field("code", FieldType.KEYWORD, false), new Field("ratio", FieldType.HALF_FLOAT)))
+    val relation = new OpenSearchRelation(parameters, spark.sqlContext, Some(struct)) {
+      @transient override lazy val lazySchema = SchemaUtils.Schema(mapping, struct)
+    }
+    DataSourceV2Relation.create(new OpenSearchTable(relation), None, None, CaseInsensitiveStringMap.empty())
+  }
+
+  private def scan(plan: LogicalPlan): String = {
+    val optimized = spark.sessionState.executePlan(plan).optimizedPlan
+    val scans = optimized.collect { case DataSourceV2ScanRelation(_, scan: OpenSearchScan, _) => scan.description() }
+    assertEquals(1, scans.size)
+    scans.head
+  }
+
+  @Test
+  def testLimit(): Unit = {
+    val description = scan(read().limit(5).queryExecution.logical)
+    assertTrue(description, description.contains("PushedLimit: 5,"))
+    assertFalse(description, description.contains("PushedSort"))
+  }
+
+  @Test
+  def testLimitOverProjection(): Unit = {
+    val description = scan(read().select("name").limit(5).queryExecution.logical)
+    assertTrue(description, description.contains("PushedLimit: 5,"))
+    assertTrue(description, description.contains("ReadSchema: struct<name:string>"))
+  }
+
+  @Test
+  def testSmallestLimit(): Unit = {
+    val description = scan(read().limit(5).limit(2).queryExecution.logical)
+    assertTrue(description, description.contains("PushedLimit: 2,"))
+  }
+
+  private def orderByLimit(column: String): String = {
+    val table = relation()
+    scan(Limit(Literal(3), Sort(Seq(SortOrder(table.output.find(_.name == column).get, Ascending)), true, table)))
+  }
+
+  @Test
+  def testOrderByLimit(): Unit = {
+    val description = orderByLimit("age")
+    assertTrue(description, description.contains("PushedLimit: 3,"))
+    assertTrue(description, description.contains("PushedSort: [age:asc:_first]"))
+  }
+
+  @Test
+  def testNoOrderByLimitOnKeywordWithIgnoreAbove(): Unit = {
+    val description = orderByLimit("code")
+    assertFalse(description, description.contains("PushedLimit"))
+    assertFalse(description, description.contains("PushedSort"))
+  }
+
+  @Test
+  def testNoOrderByLimitOnRoundedDocValues(): Unit = {
+    val description = orderByLimit("ratio")
+    assertFalse(description, description.contains("PushedLimit"))
+    assertFalse(description, description.contains("PushedSort"))
+  }
+
+  @Test
+  def testNoLimitWithFilters(): Unit = {
+    val description = scan(read().filter("age > 3").limit(5).queryExecution.logical)
+    assertFalse(description, description.contains("PushedLimit"))
+  }
+
+  @Test
+  def testNoLimit(): Unit = {
+    val description = scan(read().queryExecution.logical)
+    assertFalse(description, description.contains("PushedLimit"))
+  }
+}